@@ -0,0 +1,183 @@
+package com.hancomins.jsn4j;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link JsonEventReader} 구현을 위한 기본 클래스.
+ * 깊이 추적, 루트 값 종료 판단, 현재 값 보관과 타입 검사, skipChildren 을 공통으로 처리합니다.
+ * 하위 클래스는 {@link #advance()} 에서 다음 이벤트를 읽고 {@link #fieldName} / {@link #value} 를 채우면 됩니다.
+ */
+public abstract class AbstractJsonEventReader implements JsonEventReader {
+
+    private JsonEvent currentEvent;
+    private int depth;
+    private boolean done;
+    private boolean endVerified;
+
+    /** 현재 FIELD_NAME 이벤트의 키 */
+    protected String fieldName;
+    /** 현재 스칼라 이벤트의 값 */
+    protected Object value;
+
+    /**
+     * 다음 이벤트를 읽습니다. 루트 값이 끝난 뒤에는 호출되지 않습니다.
+     */
+    protected abstract JsonEvent advance();
+
+    /**
+     * 루트 값이 끝난 뒤 처음 {@link #hasNext()} 가 호출될 때 한 번 실행됩니다.
+     * 남은 입력이 있는지 검사하려면 재정의합니다.
+     */
+    protected void verifyEnd() {
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (done) {
+            if (!endVerified) {
+                endVerified = true;
+                verifyEnd();
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public JsonEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more JSON events");
+        }
+        fieldName = null;
+        value = null;
+        JsonEvent event = advance();
+        if (event == null) {
+            throw new IllegalStateException("Unexpected end of JSON input at depth " + depth);
+        }
+        switch (event) {
+            case START_OBJECT:
+            case START_ARRAY:
+                ++depth;
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                --depth;
+                done = depth == 0;
+                break;
+            case FIELD_NAME:
+                break;
+            default:
+                done = depth == 0;
+        }
+        currentEvent = event;
+        return event;
+    }
+
+    @Override
+    public JsonEvent getCurrentEvent() {
+        return currentEvent;
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public String getFieldName() {
+        checkEvent(JsonEvent.FIELD_NAME);
+        return fieldName;
+    }
+
+    @Override
+    public String getString() {
+        if (currentEvent == JsonEvent.FIELD_NAME) {
+            return fieldName;
+        }
+        checkEvent(JsonEvent.VALUE_STRING);
+        return (String) value;
+    }
+
+    @Override
+    public Number getNumber() {
+        checkEvent(JsonEvent.VALUE_NUMBER);
+        return (Number) value;
+    }
+
+    @Override
+    public boolean getBoolean() {
+        if (currentEvent == JsonEvent.VALUE_TRUE) return true;
+        if (currentEvent == JsonEvent.VALUE_FALSE) return false;
+        throw new IllegalStateException("Current event is " + currentEvent + ", not a boolean value");
+    }
+
+    @Override
+    public Object getValue() {
+        if (currentEvent == null || !currentEvent.isScalarValue()) {
+            throw new IllegalStateException("Current event is " + currentEvent + ", not a scalar value");
+        }
+        return value;
+    }
+
+    @Override
+    public void skipChildren() {
+        if (currentEvent == null || !currentEvent.isStructStart()) {
+            return;
+        }
+        JsonEvent end = skipContainer();
+        if (end != null) {
+            fieldName = null;
+            value = null;
+            --depth;
+            done = depth == 0;
+            currentEvent = end;
+            return;
+        }
+        int target = depth - 1;
+        while (depth > target) {
+            next();
+        }
+    }
+
+    /**
+     * {@link #skipChildren()} 의 빠른 경로. 현재 START_OBJECT / START_ARRAY 의 나머지를 입력 수준에서 건너뛰고
+     * 대응하는 END 이벤트를 반환합니다. 지원하지 않으면 null 을 반환하며, 이 경우 이벤트를 하나씩 읽어 건너뜁니다.
+     */
+    protected JsonEvent skipContainer() {
+        return null;
+    }
+
+    private void checkEvent(JsonEvent expected) {
+        if (currentEvent != expected) {
+            throw new IllegalStateException("Current event is " + currentEvent + ", not " + expected);
+        }
+    }
+
+    /**
+     * 숫자 토큰 문자열을 Long, Double, BigInteger, BigDecimal 중 값을 잃지 않는 타입으로 변환합니다.
+     */
+    protected static Number toNumber(String text) {
+        boolean isDouble = false;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (c == '.' || c == 'e' || c == 'E') {
+                isDouble = true;
+                break;
+            }
+        }
+        if (!isDouble) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return new BigInteger(text);
+            }
+        }
+        double parsed = Double.parseDouble(text);
+        if (Double.isInfinite(parsed)) {
+            return new BigDecimal(text);
+        }
+        return parsed;
+    }
+}
@@ -41,6 +41,27 @@ public interface ArrayContainer extends ContainerValue, Iterable<ContainerValue>
     @SuppressWarnings("unchecked")
     ArrayContainer put(Object value);
 
+    /**
+     * index 위치에 value 를 끼워 넣고, 그 자리부터의 요소를 한 칸씩 뒤로 밉니다.
+     * index 가 {@link #size()} 와 같으면 끝에 추가합니다.
+     *
+     * @throws IndexOutOfBoundsException index 가 0 보다 작거나 {@link #size()} 보다 큰 경우
+     */
+    default ArrayContainer insert(int index, Object value) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            return put(value);
+        }
+        put(get(size - 1));
+        for (int i = size - 1; i > index; i--) {
+            put(i, get(i - 1));
+        }
+        return put(index, value);
+    }
+
     default ArrayContainer putAll(Collection<?> value) {
         if (value == null) {
             return this;
@@ -112,6 +133,41 @@ public interface ArrayContainer extends ContainerValue, Iterable<ContainerValue>
         return child;
     }
 
+    /**
+     * source 의 복제본을 끝에 추가합니다. {@link CloneMode#COPY_ON_WRITE} 이면 원본의 하위 요소를 공유하는
+     * 오버레이를 추가하므로 복사 비용이 들지 않지만, 이 컨테이너가 쓰이는 동안 원본을 수정해서는 안 됩니다.
+     * {@link CloneMode#SHARE} 이면 source 를 그대로 추가합니다.
+     *
+     * @return 이 컨테이너에 들어간 복제본
+     */
+    default ObjectContainer putCopy(ObjectContainer source, CloneMode mode) {
+        if (mode == CloneMode.SHARE) {
+            put(source);
+            return getObject(size() - 1);
+        } else if (mode != CloneMode.COPY_ON_WRITE) {
+            return putCopy(source);
+        }
+        put(getContainerFactory().newCopyOnWrite(source));
+        return getObject(size() - 1);
+    }
+
+    /**
+     * source 의 복제본을 끝에 추가합니다.
+     *
+     * @return 이 컨테이너에 들어간 복제본
+     * @see #putCopy(ObjectContainer, CloneMode)
+     */
+    default ArrayContainer putCopy(ArrayContainer source, CloneMode mode) {
+        if (mode == CloneMode.SHARE) {
+            put(source);
+            return getArray(size() - 1);
+        } else if (mode != CloneMode.COPY_ON_WRITE) {
+            return putCopy(source);
+        }
+        put(getContainerFactory().newCopyOnWrite(source));
+        return getArray(size() - 1);
+    }
+
     default boolean isEmpty() {
         return size() == 0;
     }
@@ -0,0 +1,306 @@
+package com.hancomins.jsn4j;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Myers 의 O(ND) 차분 알고리즘으로 두 배열에서 순서를 유지한 채 일치하는 요소를 찾습니다.
+ * <p>
+ * 먼저 모든 요소를 구조적 해시로 정수 id 에 대응시키므로, 알고리즘 자체는 정수 비교만 합니다.
+ * 공통 접두사와 접미사를 먼저 걷어내고, 나머지는 중간 지점을 찾아 반으로 나누는 선형 공간 방식으로 처리합니다.
+ * 변경이 적은 일반적인 입력에서는 거의 선형 시간에 끝납니다.
+ *
+ * @see ContainerValues#diffArray(ArrayContainer, ArrayContainer, String)
+ */
+final class ArrayDiff {
+
+    static final String OP = "op";
+    static final String INDEX = "index";
+    static final String TO_INDEX = "toIndex";
+    static final String COUNT = "count";
+    static final String VALUES = "values";
+    static final String VALUE = "value";
+
+    static final String DELETE = "delete";
+    static final String INSERT = "insert";
+    static final String UPDATE = "update";
+
+    private ArrayDiff() {
+    }
+
+    /**
+     * 요소를 비교할 때 쓰는 키. 식별 키가 있는 객체는 그 키의 값으로, 나머지는 요소 전체로 비교합니다.
+     */
+    private static final class Key {
+        private final ContainerValue value;
+        private final boolean identity;
+        private final int hash;
+
+        Key(ContainerValue value, boolean identity) {
+            this.value = value;
+            this.identity = identity;
+            // 컨테이너는 구조적 해시를 메모해 둘 수 있으므로 직접 묻습니다.
+            int valueHash = value instanceof ObjectContainer || value instanceof ArrayContainer
+                    ? value.hashCode() : ContainerValues.hashCode(value);
+            this.hash = valueHash * 31 + (identity ? 1 : 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && identity == other.identity && ContainerValues.equals(value, other.value);
+        }
+    }
+
+    /**
+     * 식별 키 경로를 나눕니다. null 이나 빈 문자열이면 null 을 반환합니다.
+     */
+    static String[] parseIdentityPath(String identityKeyPath) {
+        if (identityKeyPath == null || identityKeyPath.isEmpty()) {
+            return null;
+        }
+        return identityKeyPath.split("\\.", -1);
+    }
+
+    /**
+     * 요소의 식별 키 값을 반환합니다. 요소가 객체가 아니거나 경로에 값이 없으면 null 입니다.
+     */
+    static ContainerValue identity(ContainerValue element, String[] identityPath) {
+        ContainerValue current = element;
+        for (String key : identityPath) {
+            if (!(current instanceof ObjectContainer)) {
+                return null;
+            }
+            current = ((ObjectContainer) current).get(key);
+        }
+        return current == null || current.isNull() ? null : current;
+    }
+
+    /**
+     * a 와 b 의 최장 공통 부분열을 구합니다.
+     *
+     * @param identityPath 객체 요소를 비교할 식별 키 경로. null 이면 요소 전체를 비교합니다
+     * @return a 의 인덱스마다 짝이 된 b 의 인덱스. 짝이 없으면 -1. 짝의 인덱스는 증가 순서입니다
+     */
+    static int[] match(ArrayContainer a, ArrayContainer b, String[] identityPath) {
+        int n = a.size();
+        int m = b.size();
+        HashMap<Key, Integer> ids = new HashMap<>();
+        int[] x = new int[n];
+        int[] y = new int[m];
+        for (int i = 0; i < n; i++) {
+            x[i] = id(ids, a.get(i), identityPath);
+        }
+        int sourceIds = ids.size();
+        boolean shared = false;
+        for (int j = 0; j < m; j++) {
+            y[j] = id(ids, b.get(j), identityPath);
+            shared |= y[j] < sourceIds;
+        }
+        int[] matches = new int[n];
+        Arrays.fill(matches, -1);
+        if (shared) {
+            diff(x, 0, n, y, 0, m, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * a 를 b 로 바꾸는 편집 구간 목록을 만듭니다.
+     *
+     * @see ContainerValues#diffArray(ArrayContainer, ArrayContainer, String)
+     */
+    static ArrayContainer hunks(ArrayContainer a, ArrayContainer b, String[] identityPath) {
+        ArrayContainer hunks = a.getContainerFactory().newArray();
+        int n = a.size();
+        int m = b.size();
+        int[] matches = match(a, b, identityPath);
+        int i = 0;
+        int j = 0;
+        while (i < n || j < m) {
+            if (i < n && matches[i] == j) {
+                if (identityPath != null && !ContainerValues.equals(a.get(i), b.get(j))) {
+                    hunk(hunks, UPDATE, i, j).put(VALUE, nullToNull(b.get(j)));
+                }
+                i++;
+                j++;
+                continue;
+            }
+            int deleteStart = i;
+            while (i < n && matches[i] < 0) {
+                i++;
+            }
+            int insertStart = j;
+            j = i < n ? matches[i] : m;
+            if (i > deleteStart) {
+                hunk(hunks, DELETE, deleteStart, insertStart).put(COUNT, (long) (i - deleteStart));
+            }
+            if (j > insertStart) {
+                ArrayContainer values = hunk(hunks, INSERT, i, insertStart).newAndPutArray(VALUES);
+                for (int k = insertStart; k < j; k++) {
+                    values.put(nullToNull(b.get(k)));
+                }
+            }
+        }
+        return hunks;
+    }
+
+    private static ObjectContainer hunk(ArrayContainer hunks, String op, int index, int toIndex) {
+        ObjectContainer hunk = hunks.newAndPutObject();
+        hunk.put(OP, op);
+        hunk.put(INDEX, (long) index);
+        hunk.put(TO_INDEX, (long) toIndex);
+        return hunk;
+    }
+
+    private static ContainerValue nullToNull(ContainerValue value) {
+        return value == null ? PrimitiveValue.NULL : value;
+    }
+
+    private static int id(HashMap<Key, Integer> ids, ContainerValue element, String[] identityPath) {
+        if (element == null) {
+            element = PrimitiveValue.NULL;
+        }
+        ContainerValue identity = identityPath == null ? null : identity(element, identityPath);
+        Key key = identity != null ? new Key(identity, true) : new Key(element, false);
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = ids.size();
+            ids.put(key, id);
+        }
+        return id;
+    }
+
+    private static void diff(int[] a, int aLo, int aHi, int[] b, int bLo, int bHi, int[] matches) {
+        while (aLo < aHi && bLo < bHi && a[aLo] == b[bLo]) {
+            matches[aLo++] = bLo++;
+        }
+        while (aLo < aHi && bLo < bHi && a[aHi - 1] == b[bHi - 1]) {
+            matches[--aHi] = --bHi;
+        }
+        if (aLo == aHi || bLo == bHi) {
+            return;
+        }
+        // 한쪽이 요소 하나뿐이면 다른 쪽에서 찾기만 하면 됩니다. (bisect 는 양쪽에 둘 이상을 가정합니다)
+        if (aHi - aLo == 1) {
+            for (int j = bLo; j < bHi; j++) {
+                if (b[j] == a[aLo]) {
+                    matches[aLo] = j;
+                    break;
+                }
+            }
+            return;
+        }
+        if (bHi - bLo == 1) {
+            for (int i = aLo; i < aHi; i++) {
+                if (a[i] == b[bLo]) {
+                    matches[i] = bLo;
+                    break;
+                }
+            }
+            return;
+        }
+        long split = bisect(a, aLo, aHi, b, bLo, bHi);
+        if (split < 0) {
+            // 공통 요소가 없습니다.
+            return;
+        }
+        int x = (int) (split >>> 32);
+        int y = (int) split;
+        diff(a, aLo, x, b, bLo, y, matches);
+        diff(a, x, aHi, b, y, bHi, matches);
+    }
+
+    /**
+     * 앞과 뒤에서 동시에 편집 경로를 넓혀 가다가 두 경로가 겹치는 지점을 찾습니다.
+     *
+     * @return 상위 32비트에 a 의 분할 위치, 하위 32비트에 b 의 분할 위치. 공통 요소가 없으면 -1
+     */
+    private static long bisect(int[] a, int aLo, int aHi, int[] b, int bLo, int bHi) {
+        int n = aHi - aLo;
+        int m = bHi - bLo;
+        int maxD = (n + m + 1) / 2;
+        int offset = maxD;
+        int length = 2 * maxD;
+        int[] forward = new int[length];
+        int[] backward = new int[length];
+        Arrays.fill(forward, -1);
+        Arrays.fill(backward, -1);
+        forward[offset + 1] = 0;
+        backward[offset + 1] = 0;
+        int delta = n - m;
+        // 차이가 홀수이면 앞쪽 경로가 먼저 뒤쪽 경로와 겹칩니다.
+        boolean front = (delta & 1) != 0;
+        int forwardStart = 0;
+        int forwardEnd = 0;
+        int backwardStart = 0;
+        int backwardEnd = 0;
+        for (int d = 0; d < maxD; d++) {
+            for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+                int kOffset = offset + k;
+                int x;
+                if (k == -d || (k != d && forward[kOffset - 1] < forward[kOffset + 1])) {
+                    x = forward[kOffset + 1];
+                } else {
+                    x = forward[kOffset - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && a[aLo + x] == b[bLo + y]) {
+                    x++;
+                    y++;
+                }
+                forward[kOffset] = x;
+                if (x > n) {
+                    forwardEnd += 2;
+                } else if (y > m) {
+                    forwardStart += 2;
+                } else if (front) {
+                    int backwardOffset = offset + delta - k;
+                    if (backwardOffset >= 0 && backwardOffset < length && backward[backwardOffset] != -1) {
+                        if (x >= n - backward[backwardOffset]) {
+                            return ((long) (aLo + x) << 32) | (bLo + y);
+                        }
+                    }
+                }
+            }
+            for (int k = -d + backwardStart; k <= d - backwardEnd; k += 2) {
+                int kOffset = offset + k;
+                int x;
+                if (k == -d || (k != d && backward[kOffset - 1] < backward[kOffset + 1])) {
+                    x = backward[kOffset + 1];
+                } else {
+                    x = backward[kOffset - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && a[aHi - 1 - x] == b[bHi - 1 - y]) {
+                    x++;
+                    y++;
+                }
+                backward[kOffset] = x;
+                if (x > n) {
+                    backwardEnd += 2;
+                } else if (y > m) {
+                    backwardStart += 2;
+                } else if (!front) {
+                    int forwardOffset = offset + delta - k;
+                    if (forwardOffset >= 0 && forwardOffset < length && forward[forwardOffset] != -1) {
+                        int forwardX = forward[forwardOffset];
+                        int forwardY = offset + forwardX - forwardOffset;
+                        if (forwardX >= n - x) {
+                            return ((long) (aLo + forwardX) << 32) | (bLo + forwardY);
+                        }
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+}
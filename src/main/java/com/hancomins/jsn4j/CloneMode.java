@@ -0,0 +1,25 @@
+package com.hancomins.jsn4j;
+
+/**
+ * 컨테이너를 복제하거나 다른 컨테이너에 복사해 넣을 때의 방식.
+ *
+ * @see ContainerValues#cloneContainer(ContainerValue, CloneMode)
+ */
+public enum CloneMode {
+    /**
+     * 모든 하위 컨테이너와 값을 즉시 복사합니다. 복제본은 원본과 완전히 독립적입니다.
+     */
+    DEEP,
+    /**
+     * 원본의 하위 요소를 공유하는 얇은 오버레이를 만들고, 쓰기가 일어난 경로의 단계만 복사합니다.
+     * 복제 비용이 트리 크기와 무관해지는 대신, 복제본을 사용하는 동안 원본을 수정해서는 안 됩니다.
+     * 오버레이를 지원하지 않는 구현체에서는 {@link #DEEP} 으로 동작합니다.
+     */
+    COPY_ON_WRITE,
+    /**
+     * 복사하지 않고 원본 인스턴스를 그대로 넣습니다. 원본과 결과가 같은 하위 컨테이너를 가리키게 되므로,
+     * 원본을 더 쓰지 않고 결과로 옮기거나 어느 쪽도 수정하지 않을 때만 사용해야 합니다.
+     * 구현체가 다른 컨테이너에 넣으면 그 구현체의 노드로 변환됩니다.
+     */
+    SHARE
+}
@@ -15,22 +15,22 @@ public interface ContainerFactory extends ContainerFactoryProvidable  {
     }
 
     default PrimitiveValue newPrimitive(Object value) {
-        return new PrimitiveValue(value);
+        return PrimitiveValue.of(value);
     }
     default PrimitiveValue newPrimitive(int value) {
-        return new PrimitiveValue(value);
+        return PrimitiveValue.of(value);
     }
     default PrimitiveValue newPrimitive(long value) {
-        return new PrimitiveValue(value);
+        return PrimitiveValue.of(value);
     }
     default PrimitiveValue newPrimitive(float value) {
         return new PrimitiveValue(value);
     }
     default PrimitiveValue newPrimitive(double value) {
-        return new PrimitiveValue(value);
+        return PrimitiveValue.of(value);
     }
     default PrimitiveValue newPrimitive(boolean value) {
-        return new PrimitiveValue(value);
+        return PrimitiveValue.of(value);
     }
 
     default PrimitiveValue newPrimitive(char value) {
@@ -40,11 +40,31 @@ public interface ContainerFactory extends ContainerFactoryProvidable  {
         return new PrimitiveValue((byte)value);
     }
     default PrimitiveValue newPrimitive(short value) {
-        return new PrimitiveValue((int)value);
+        return PrimitiveValue.of((int)value);
     }
 
 
 
+    /**
+     * source 를 {@link CloneMode#COPY_ON_WRITE} 방식으로 복제합니다.
+     * 오버레이를 지원하지 않는 구현체를 위한 기본 구현은 이 팩토리의 컨테이너로 깊은 복사를 합니다.
+     *
+     * @param source 복제할 ObjectContainer 또는 ArrayContainer. 다른 구현체의 컨테이너여도 됩니다.
+     * @return 원본의 하위 요소를 공유하다가 쓰기가 일어날 때 복사하는 복제본
+     */
+    default ContainerValue newCopyOnWrite(ContainerValue source) {
+        if (source instanceof ObjectContainer) {
+            ObjectContainer copy = newObject();
+            ContainerValues.copy(copy, source);
+            return copy;
+        } else if (source instanceof ArrayContainer) {
+            ArrayContainer copy = newArray();
+            ContainerValues.copy(copy, source);
+            return copy;
+        }
+        return ContainerValues.cloneContainer(source);
+    }
+
     ContainerParser getParser();
 
     @Override
@@ -0,0 +1,55 @@
+package com.hancomins.jsn4j;
+
+/**
+ * 트리를 만들지 않고 파싱 이벤트를 콜백으로 받는 핸들러. (SAX 방식)
+ * {@link ContainerParser#parse(java.io.InputStream, ContainerHandler)} 에 전달합니다.
+ * <p>
+ * 각 콜백은 {@link Action} 을 반환해 파싱 흐름을 제어합니다.
+ * <ul>
+ *     <li>{@link Action#CONTINUE} - 계속 진행</li>
+ *     <li>{@link Action#SKIP} - {@link #startObject()} / {@link #startArray()} 에서 반환하면 해당 컨테이너의 내용을 건너뛰며,
+ *     대응하는 end 콜백도 호출되지 않습니다. {@link #key(String)} 에서 반환하면 그 키의 값 전체를 건너뜁니다.
+ *     그 외 콜백에서는 CONTINUE 와 같습니다.</li>
+ *     <li>{@link Action#STOP} - 즉시 파싱을 중단합니다. 남은 입력은 읽지 않습니다.</li>
+ * </ul>
+ * 모든 콜백은 기본적으로 CONTINUE 를 반환하므로 필요한 것만 재정의하면 됩니다.
+ */
+public interface ContainerHandler {
+
+    enum Action {
+        CONTINUE,
+        SKIP,
+        STOP
+    }
+
+    default Action startObject() {
+        return Action.CONTINUE;
+    }
+
+    default Action endObject() {
+        return Action.CONTINUE;
+    }
+
+    default Action startArray() {
+        return Action.CONTINUE;
+    }
+
+    default Action endArray() {
+        return Action.CONTINUE;
+    }
+
+    /**
+     * 오브젝트의 키. 바로 다음 콜백이 이 키의 값입니다.
+     */
+    default Action key(String key) {
+        return Action.CONTINUE;
+    }
+
+    /**
+     * 스칼라 값
+     * @param value String, Number, Boolean 또는 null
+     */
+    default Action value(Object value) {
+        return Action.CONTINUE;
+    }
+}
@@ -0,0 +1,57 @@
+package com.hancomins.jsn4j;
+
+/**
+ * {@link JsonEventReader} 의 이벤트를 {@link ContainerHandler} 콜백으로 전달합니다.
+ * 네이티브 핸들러 구현이 없는 파서의 기본 구현에서 사용합니다.
+ */
+final class ContainerHandlerDispatcher {
+
+    private ContainerHandlerDispatcher() {
+    }
+
+    /**
+     * @return 문서를 끝까지 읽었으면 true, 핸들러가 STOP 을 반환했으면 false
+     */
+    static boolean dispatch(JsonEventReader reader, ContainerHandler handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("ContainerHandler cannot be null");
+        }
+        while (reader.hasNext()) {
+            JsonEvent event = reader.next();
+            ContainerHandler.Action action;
+            switch (event) {
+                case START_OBJECT:
+                    action = handler.startObject();
+                    if (action == ContainerHandler.Action.SKIP) {
+                        reader.skipChildren();
+                    }
+                    break;
+                case START_ARRAY:
+                    action = handler.startArray();
+                    if (action == ContainerHandler.Action.SKIP) {
+                        reader.skipChildren();
+                    }
+                    break;
+                case END_OBJECT:
+                    action = handler.endObject();
+                    break;
+                case END_ARRAY:
+                    action = handler.endArray();
+                    break;
+                case FIELD_NAME:
+                    action = handler.key(reader.getFieldName());
+                    if (action == ContainerHandler.Action.SKIP) {
+                        reader.next();
+                        reader.skipChildren();
+                    }
+                    break;
+                default:
+                    action = handler.value(reader.getValue());
+            }
+            if (action == ContainerHandler.Action.STOP) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
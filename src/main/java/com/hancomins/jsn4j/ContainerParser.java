@@ -1,10 +1,130 @@
 package com.hancomins.jsn4j;
 
+import com.hancomins.jsn4j.tool.ByteBufferInputStream;
+import com.hancomins.jsn4j.tool.MappedFileInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 public interface ContainerParser {
     ContainerValue parse(String value);
     ContainerValue parse(Reader reader);
     ContainerValue parse(InputStream input);
+
+    /**
+     * UTF-8 로 인코딩된 바이트 배열의 일부를 파싱합니다.
+     * 기본 구현은 {@link #parse(InputStream)} 에 위임하며, 바이트를 직접 다룰 수 있는 구현체는 이를 재정의합니다.
+     * @param bytes UTF-8 JSON 바이트
+     * @param offset 시작 위치
+     * @param length 파싱할 바이트 수
+     * @return 파싱 결과
+     */
+    default ContainerValue parse(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte array cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + bytes.length);
+        }
+        return parse(new ByteArrayInputStream(bytes, offset, length));
+    }
+
+    /**
+     * ByteBuffer 의 남은 바이트(position ~ limit)를 UTF-8 JSON 으로 파싱합니다.
+     * 버퍼의 position 은 변경되지 않습니다.
+     * @param buffer UTF-8 JSON 바이트를 담은 버퍼 (heap / direct 모두 가능)
+     * @return 파싱 결과
+     */
+    default ContainerValue parse(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("ByteBuffer cannot be null");
+        }
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return parse(new ByteBufferInputStream(buffer));
+    }
+
+    /**
+     * UTF-8 JSON 파일을 메모리 매핑하여 파싱합니다.
+     * 2GB 이하의 파일은 하나의 MappedByteBuffer 로 {@link #parse(ByteBuffer)} 에 전달하고,
+     * 그보다 큰 파일은 {@link MappedFileInputStream} 으로 구간을 나누어 매핑하며 {@link #parse(InputStream)} 에 전달합니다.
+     * @param path 파일 경로
+     * @return 파싱 결과
+     * @throws UncheckedIOException 파일을 열거나 매핑할 수 없는 경우
+     */
+    default ContainerValue parse(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= Integer.MAX_VALUE) {
+                return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+            return parse(new MappedFileInputStream(channel));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + path, e);
+        }
+    }
+
+    /**
+     * 문자열을 토큰 단위로 읽는 {@link JsonEventReader} 를 생성합니다.
+     * 기본 구현은 전체 트리를 파싱한 뒤 순회하므로, 스트리밍 파서를 가진 구현체는 이를 재정의합니다.
+     */
+    default JsonEventReader newEventReader(String value) {
+        return new ContainerValueEventReader(parse(value));
+    }
+
+    /**
+     * Reader 를 토큰 단위로 읽는 {@link JsonEventReader} 를 생성합니다.
+     */
+    default JsonEventReader newEventReader(Reader reader) {
+        return new ContainerValueEventReader(parse(reader));
+    }
+
+    /**
+     * UTF-8 InputStream 을 토큰 단위로 읽는 {@link JsonEventReader} 를 생성합니다.
+     */
+    default JsonEventReader newEventReader(InputStream input) {
+        return new ContainerValueEventReader(parse(input));
+    }
+
+    /**
+     * 트리를 만들지 않고 문자열을 파싱하며 이벤트를 핸들러로 전달합니다.
+     * @return 문서를 끝까지 읽었으면 true, 핸들러가 {@link ContainerHandler.Action#STOP} 을 반환했으면 false
+     */
+    default boolean parse(String value, ContainerHandler handler) {
+        try (JsonEventReader reader = newEventReader(value)) {
+            return ContainerHandlerDispatcher.dispatch(reader, handler);
+        }
+    }
+
+    /**
+     * 트리를 만들지 않고 Reader 를 파싱하며 이벤트를 핸들러로 전달합니다.
+     * @return 문서를 끝까지 읽었으면 true, 핸들러가 {@link ContainerHandler.Action#STOP} 을 반환했으면 false
+     */
+    default boolean parse(Reader reader, ContainerHandler handler) {
+        try (JsonEventReader eventReader = newEventReader(reader)) {
+            return ContainerHandlerDispatcher.dispatch(eventReader, handler);
+        }
+    }
+
+    /**
+     * 트리를 만들지 않고 UTF-8 InputStream 을 파싱하며 이벤트를 핸들러로 전달합니다.
+     * 기본 구현은 {@link #newEventReader(InputStream)} 위에서 동작하므로, 스트리밍 파서를 가진 구현체는 일정한 메모리로 처리합니다.
+     * @return 문서를 끝까지 읽었으면 true, 핸들러가 {@link ContainerHandler.Action#STOP} 을 반환했으면 false
+     */
+    default boolean parse(InputStream input, ContainerHandler handler) {
+        try (JsonEventReader reader = newEventReader(input)) {
+            return ContainerHandlerDispatcher.dispatch(reader, handler);
+        }
+    }
 }
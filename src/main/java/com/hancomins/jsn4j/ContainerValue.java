@@ -48,6 +48,16 @@ public interface ContainerValue {
 
 
 
+    /**
+     * 구조적 해시를 메모해 두었고 그 값이 아직 유효한지 확인합니다.
+     * true 이면 {@link #hashCode()} 가 트리를 순회하지 않고 {@link ContainerValues#hashCode(ContainerValue)} 와
+     * 같은 값을 반환합니다. {@link ContainerValues#equals(ContainerValue, ContainerValue)} 는 두 값 모두
+     * 메모된 해시를 가지고 있고 그 값이 다르면 순회 없이 false 를 반환합니다.
+     */
+    default boolean isHashCodeCached() {
+        return false;
+    }
+
     /**
      * 오브젝트 캐스팅 시도 (아닐 경우 예외)
      */
@@ -0,0 +1,106 @@
+package com.hancomins.jsn4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 메모리에 있는 {@link ContainerValue} 트리를 {@link JsonEventReader} 로 순회합니다.
+ * 스트리밍 파서가 없는 구현체(org.json, JSON5)의 {@link ContainerParser#newEventReader} 기본 구현에 사용됩니다.
+ */
+public class ContainerValueEventReader extends AbstractJsonEventReader {
+
+    private final ArrayDeque<Iterator<?>> stack = new ArrayDeque<>();
+    private ContainerValue root;
+    /** 키 다음에 반환할 값 */
+    private ContainerValue pendingValue;
+
+    public ContainerValueEventReader(ContainerValue root) {
+        if (root == null) {
+            throw new IllegalArgumentException("Root value cannot be null");
+        }
+        this.root = root;
+    }
+
+    @Override
+    protected JsonEvent advance() {
+        if (root != null) {
+            ContainerValue value = root;
+            root = null;
+            return enter(value);
+        }
+        if (pendingValue != null) {
+            ContainerValue value = pendingValue;
+            pendingValue = null;
+            return enter(value);
+        }
+        Iterator<?> iterator = stack.peek();
+        if (iterator == null) {
+            return null;
+        }
+        if (!iterator.hasNext()) {
+            stack.pop();
+            return iterator instanceof ObjectIterator ? JsonEvent.END_OBJECT : JsonEvent.END_ARRAY;
+        }
+        Object next = iterator.next();
+        if (iterator instanceof ObjectIterator) {
+            @SuppressWarnings("unchecked")
+            Map.Entry<String, ContainerValue> entry = (Map.Entry<String, ContainerValue>) next;
+            fieldName = entry.getKey();
+            pendingValue = entry.getValue() == null ? PrimitiveValue.NULL : entry.getValue();
+            return JsonEvent.FIELD_NAME;
+        }
+        return enter(next == null ? PrimitiveValue.NULL : (ContainerValue) next);
+    }
+
+    private JsonEvent enter(ContainerValue value) {
+        if (value.isObject()) {
+            stack.push(new ObjectIterator(value.asObject().entrySet().iterator()));
+            return JsonEvent.START_OBJECT;
+        }
+        if (value.isArray()) {
+            stack.push(value.asArray().iterator());
+            return JsonEvent.START_ARRAY;
+        }
+        Object raw = value.raw();
+        if (raw == null) {
+            return JsonEvent.VALUE_NULL;
+        }
+        if (raw instanceof Boolean) {
+            this.value = raw;
+            return (Boolean) raw ? JsonEvent.VALUE_TRUE : JsonEvent.VALUE_FALSE;
+        }
+        if (raw instanceof Number) {
+            this.value = raw;
+            return JsonEvent.VALUE_NUMBER;
+        }
+        this.value = value instanceof PrimitiveValue ? ((PrimitiveValue) value).asString() : String.valueOf(raw);
+        return JsonEvent.VALUE_STRING;
+    }
+
+    @Override
+    public void close() {
+        stack.clear();
+        root = null;
+        pendingValue = null;
+    }
+
+    /** 배열 iterator 와 구분하기 위한 표식 */
+    private static final class ObjectIterator implements Iterator<Map.Entry<String, ContainerValue>> {
+        private final Iterator<Map.Entry<String, ContainerValue>> delegate;
+
+        ObjectIterator(Iterator<Map.Entry<String, ContainerValue>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, ContainerValue> next() {
+            return delegate.next();
+        }
+    }
+}
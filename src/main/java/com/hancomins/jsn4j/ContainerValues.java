@@ -2,7 +2,12 @@ package com.hancomins.jsn4j;
 
 
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -19,10 +24,15 @@ public class ContainerValues {
         if (a == b) return true;
         if (a == null || b == null) return false;
         if (a.getValueType() != b.getValueType()) return false;
+        if (a.isHashCodeCached() && b.isHashCodeCached() && a.hashCode() != b.hashCode()) return false;
 
         switch (a.getValueType()) {
 
             case PRIMITIVE:
+                if (a instanceof NumberPrimitiveValue && b instanceof NumberPrimitiveValue) {
+                    // 박싱하지 않는 구현끼리는 raw() 를 만들지 않고 비교합니다. (이 구현의 raw 는 null 이 아닙니다)
+                    return a.equals(b);
+                }
                 return Objects.equals(a.raw(), b.raw());
             case OBJECT:
                 ObjectContainer objA = a.asObject();
@@ -45,6 +55,161 @@ public class ContainerValues {
         }
     }
 
+    /**
+     * {@link #equals(ContainerValue, ContainerValue)} 와 일관된 구조적 해시를 계산합니다.
+     * 오브젝트는 {@link java.util.Map#hashCode()} 처럼 키와 값 해시의 XOR 을 더해 순서와 무관하게,
+     * 배열은 {@link java.util.List#hashCode()} 처럼 순서대로 계산하므로 구현체가 달라도 같은 내용이면 같은 값이 나옵니다.
+     * 하위 컨테이너가 {@link ContainerValue#isHashCodeCached()} 이면 메모된 값을 사용합니다.
+     * 컨테이너 구현체의 {@code hashCode()} 는 이 메서드와 같은 값을 반환해야 합니다.
+     *
+     * @param value 해시를 계산할 값
+     * @return 구조적 해시. null 이거나 null 값이면 0
+     */
+    public static int hashCode(ContainerValue value) {
+        if (value == null) return 0;
+        switch (value.getValueType()) {
+            case OBJECT: {
+                int hash = 0;
+                for (Map.Entry<String, ContainerValue> entry : value.asObject()) {
+                    hash += Objects.hashCode(entry.getKey()) ^ childHashCode(entry.getValue());
+                }
+                return hash;
+            }
+            case ARRAY: {
+                int hash = 1;
+                for (ContainerValue item : value.asArray()) {
+                    hash = 31 * hash + childHashCode(item);
+                }
+                return hash;
+            }
+            default:
+                if (value instanceof PrimitiveValue) {
+                    return value.hashCode();
+                }
+                Object raw = value.raw();
+                return raw instanceof byte[] ? Arrays.hashCode((byte[]) raw) : Objects.hashCode(raw);
+        }
+    }
+
+    private static int childHashCode(ContainerValue value) {
+        if (value != null && value.isHashCodeCached()) {
+            return value.hashCode();
+        }
+        return hashCode(value);
+    }
+
+    /**
+     * ContainerValue 를 compact JSON 으로 직렬화했을 때의 문자 수를 추정합니다.
+     * Writer 가 출력 버퍼를 한 번에 할당할 수 있도록 트리를 한 번 순회하며, 정수는 정확한 자릿수를,
+     * 문자열은 이스케이프가 없다고 보고 길이를 계산합니다. 실수처럼 비용이 큰 값은 대표 길이로 어림합니다.
+     *
+     * @param value 추정할 값
+     * @return 예상 문자 수
+     */
+    public static long estimateSerializedSize(ContainerValue value) {
+        return estimateSerializedSize(value, 0, 0);
+    }
+
+    /**
+     * ContainerValue 를 들여쓰기하여 직렬화했을 때의 문자 수를 추정합니다.
+     * 요소마다 줄바꿈과 깊이만큼의 들여쓰기, 키 뒤의 공백 한 칸을 더합니다.
+     *
+     * @param value 추정할 값
+     * @param indentWidth 한 단계 들여쓰기 문자 수. 0 이하이면 compact 출력으로 추정합니다.
+     * @return 예상 문자 수
+     */
+    public static long estimateSerializedSize(ContainerValue value, int indentWidth) {
+        return estimateSerializedSize(value, Math.max(0, indentWidth), 0);
+    }
+
+    private static long estimateSerializedSize(ContainerValue value, int indentWidth, int depth) {
+        if (value == null || value.isNull()) {
+            return 4;
+        }
+        switch (value.getValueType()) {
+            case PRIMITIVE:
+                return estimatePrimitiveSize(value.raw());
+            case OBJECT: {
+                ObjectContainer object = value.asObject();
+                int count = 0;
+                long size = 0;
+                for (Map.Entry<String, ContainerValue> entry : object) {
+                    String key = entry.getKey();
+                    size += (key == null ? 4 : key.length() + 2) + 1;
+                    size += estimateSerializedSize(entry.getValue(), indentWidth, depth + 1);
+                    ++count;
+                }
+                return size + containerOverhead(count, indentWidth, depth, true);
+            }
+            case ARRAY: {
+                ArrayContainer array = value.asArray();
+                int count = 0;
+                long size = 0;
+                for (ContainerValue item : array) {
+                    size += estimateSerializedSize(item, indentWidth, depth + 1);
+                    ++count;
+                }
+                return size + containerOverhead(count, indentWidth, depth, false);
+            }
+            default:
+                return 4;
+        }
+    }
+
+    /**
+     * 괄호, 쉼표, 그리고 들여쓰기 출력일 때 줄바꿈과 공백의 문자 수.
+     */
+    private static long containerOverhead(int count, int indentWidth, int depth, boolean object) {
+        long size = 2 + Math.max(0, count - 1);
+        if (indentWidth > 0) {
+            long innerIndent = (long) indentWidth * (depth + 1);
+            size += count * (1 + innerIndent + (object ? 1 : 0));
+            size += 1 + (long) indentWidth * depth;
+        }
+        return size;
+    }
+
+    private static long estimatePrimitiveSize(Object raw) {
+        if (raw == null) {
+            return 4;
+        } else if (raw instanceof String) {
+            return ((String) raw).length() + 2;
+        } else if (raw instanceof Boolean) {
+            return (Boolean) raw ? 4 : 5;
+        } else if (raw instanceof Integer || raw instanceof Long || raw instanceof Short || raw instanceof Byte) {
+            return stringSize(((Number) raw).longValue());
+        } else if (raw instanceof Double) {
+            return 16;
+        } else if (raw instanceof Float) {
+            return 10;
+        } else if (raw instanceof BigInteger) {
+            return (long) (((BigInteger) raw).bitLength() * 0.30103) + 2;
+        } else if (raw instanceof BigDecimal) {
+            return ((BigDecimal) raw).precision() + 4;
+        } else if (raw instanceof Character) {
+            return 3;
+        } else if (raw instanceof byte[]) {
+            return (((byte[]) raw).length + 2) / 3 * 4 + 2;
+        }
+        return 16;
+    }
+
+    private static int stringSize(long value) {
+        int size = 1;
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                return 20;
+            }
+            value = -value;
+            size = 2;
+        }
+        while (value >= 10) {
+            value /= 10;
+            ++size;
+        }
+        return size;
+    }
+
     /**
      * 하나의 ContainerValue의 내용을 다른 ContainerValue에 복사합니다.
      *
@@ -54,6 +219,10 @@ public class ContainerValues {
      * @throws UnsupportedOperationException 값 유형에 대해 복사 작업이 지원되지 않는 경우
      */
     public static void copy(ContainerValue target, ContainerValue source) {
+        copy(target, source, CloneMode.DEEP);
+    }
+
+    private static void copy(ContainerValue target, ContainerValue source, CloneMode mode) {
         if (target == null || source == null) return;
         if (target.getValueType() != source.getValueType()) {
             throw new IllegalArgumentException("Cannot copy between different value types: "
@@ -67,7 +236,7 @@ public class ContainerValues {
                 tgtObj.clear();
                 for (String key : srcObj.keySet()) {
                     ContainerValue val = srcObj.get(key);
-                    addValue(tgtObj, key, val);
+                    addValue(tgtObj, key, val, mode);
                 }
                 break;
             case ARRAY:
@@ -76,7 +245,7 @@ public class ContainerValues {
                 tgtArr.clear();
                 for (int i = 0; i < srcArr.size(); i++) {
                     ContainerValue val = srcArr.get(i);
-                    addValue(tgtArr, val);
+                    addValue(tgtArr, val, mode);
                 }
                 break;
             default:
@@ -85,15 +254,36 @@ public class ContainerValues {
     }
 
     public static ContainerValue cloneContainer(ContainerValue source) {
-        if (source == null || source.isNull()) return new PrimitiveValue(null);
+        return cloneContainer(source, CloneMode.DEEP);
+    }
+
+    /**
+     * ContainerValue 를 지정한 방식으로 복제합니다.
+     * {@link CloneMode#COPY_ON_WRITE} 이면 원본 구현체의 {@link ContainerFactory#newCopyOnWrite(ContainerValue)} 로
+     * 오버레이를 만들며, 복제 비용은 트리 크기와 무관하고 쓰기가 일어난 경로만 복사됩니다.
+     * {@link CloneMode#SHARE} 이면 source 자신을 반환합니다.
+     *
+     * @param source 복제할 값
+     * @param mode 복제 방식
+     * @return 복제본. source 가 null 이거나 null 값이면 {@link PrimitiveValue#NULL}
+     */
+    public static ContainerValue cloneContainer(ContainerValue source, CloneMode mode) {
+        if (source == null || source.isNull()) return PrimitiveValue.NULL;
+        if (mode == CloneMode.SHARE) return source;
         switch (source.getValueType()) {
             case PRIMITIVE:
-                return new PrimitiveValue(source.raw());
+                return clonePrimitive(source, mode);
             case OBJECT:
+                if (mode == CloneMode.COPY_ON_WRITE) {
+                    return source.asObject().getContainerFactory().newCopyOnWrite(source);
+                }
                 ObjectContainer objectContainer = source.asObject().getContainerFactory().newObject();
                 ContainerValues.copy(objectContainer, source.asObject());
                 return objectContainer;
             case ARRAY:
+                if (mode == CloneMode.COPY_ON_WRITE) {
+                    return source.asArray().getContainerFactory().newCopyOnWrite(source);
+                }
                 ArrayContainer arrayContainer = source.asArray().getContainerFactory().newArray();
                 ContainerValues.copy(arrayContainer, source.asArray());
                 return arrayContainer;
@@ -103,12 +293,36 @@ public class ContainerValues {
 
     }
 
+    /**
+     * PrimitiveValue 는 불변이므로 COPY_ON_WRITE 와 SHARE 에서는 인스턴스를 그대로 공유합니다.
+     */
+    private static ContainerValue clonePrimitive(ContainerValue value, CloneMode mode) {
+        if (mode != CloneMode.DEEP && value instanceof PrimitiveValue) {
+            return value;
+        }
+        return PrimitiveValue.of(value.raw());
+    }
+
     public static ContainerValue concat(ContainerValue target, ContainerValue source) {
+        return concat(target, source, CloneMode.DEEP);
+    }
+
+    /**
+     * 두 컨테이너를 이어 붙인 새 컨테이너를 만듭니다.
+     * {@link CloneMode#COPY_ON_WRITE} 이면 결과가 입력의 하위 컨테이너를 오버레이로 공유하므로,
+     * 결과를 사용하는 동안 입력을 수정해서는 안 됩니다.
+     *
+     * @param target 앞쪽(객체의 경우 우선하는) 컨테이너
+     * @param source 뒤쪽 컨테이너
+     * @param mode 입력의 하위 컨테이너를 결과에 옮기는 방식
+     * @return 새 컨테이너
+     */
+    public static ContainerValue concat(ContainerValue target, ContainerValue source, CloneMode mode) {
         if ((target == null || target.isNull()) && (source == null || source.isNull())) {
             throw new NullPointerException("Both target and source cannot be null or null value");
         }
         if(target == source) {
-            source = ContainerValues.cloneContainer(source);
+            source = ContainerValues.cloneContainer(source, mode);
             if(source.getValueType() == ValueType.OBJECT) {
                 return source;
             }
@@ -119,10 +333,10 @@ public class ContainerValues {
         ValueType targetType = (target != null) ? target.getValueType() : null;
         ValueType sourceType = (source != null) ? source.getValueType() : null;
         if(targetType != null && sourceType == null) {
-            return ContainerValues.cloneContainer(target);
+            return ContainerValues.cloneContainer(target, mode);
         }
         else if(sourceType != null && targetType == null) {
-            return ContainerValues.cloneContainer(source);
+            return ContainerValues.cloneContainer(source, mode);
         }
         ValueType mergeableType = getValueTypeOfMergeable(targetType, sourceType);
         switch (mergeableType) {
@@ -137,8 +351,8 @@ public class ContainerValues {
                 ObjectContainer targetObject = target.asObject();
                 ObjectContainer sourceObject = source.asObject();
                 ObjectContainer resultObject = targetObject.getContainerFactory().newObject();
-                ContainerValues.merge(resultObject, sourceObject);
-                ContainerValues.merge(resultObject, targetObject);
+                ContainerValues.merge(resultObject, sourceObject, mode);
+                ContainerValues.merge(resultObject, targetObject, mode);
                 return resultObject;
             default:
                 throw new IllegalArgumentException("Unexpected value type: " + targetType);
@@ -169,6 +383,19 @@ public class ContainerValues {
      * @throws UnsupportedOperationException 값 유형에 대해 병합 작업이 지원되지 않는 경우
      */
     public static void merge(ContainerValue target, ContainerValue source) {
+        merge(target, source, CloneMode.DEEP);
+    }
+
+    /**
+     * 하나의 ContainerValue의 내용을 다른 ContainerValue에 병합합니다.
+     * {@link CloneMode#COPY_ON_WRITE} 이면 대상에 없던 하위 컨테이너를 복사하지 않고 오버레이로 넣으므로,
+     * 대상을 사용하는 동안 원본을 수정해서는 안 됩니다.
+     *
+     * @param target 병합할 대상 ContainerValue
+     * @param source 병합할 원본 ContainerValue
+     * @param mode 원본의 하위 컨테이너를 대상에 옮기는 방식
+     */
+    public static void merge(ContainerValue target, ContainerValue source, CloneMode mode) {
         if (target == null || source == null || source.isNull()) return;
         if (target.getValueType() != source.getValueType()) {
             throw new IllegalArgumentException("Cannot merge different value types: "
@@ -176,26 +403,27 @@ public class ContainerValues {
         }
 
         if(target == source) {
-            source = ContainerValues.cloneContainer(source);
+            // 자기 자신과의 병합은 키 구성이 바뀌지 않으므로, 순회용 사본은 원본을 읽어 들이는 오버레이로 충분합니다.
+            source = ContainerValues.cloneContainer(source, CloneMode.COPY_ON_WRITE);
         }
 
         switch (target.getValueType()) {
             case OBJECT:
                 ObjectContainer tgtObj = target.asObject();
                 ObjectContainer srcObj = source.asObject();
-                mergeObjectContainer(tgtObj, srcObj);
+                mergeObjectContainer(tgtObj, srcObj, mode);
                 break;
             case ARRAY:
                 ArrayContainer tgtArr = target.asArray();
                 ArrayContainer srcArr = source.asArray();
-                mergeArrayContainer(tgtArr, srcArr);
+                mergeArrayContainer(tgtArr, srcArr, mode);
                 break;
             default:
                 throw new UnsupportedOperationException("Merge not supported for type: " + target.getValueType());
         }
     }
 
-    private static void mergeArrayContainer(ArrayContainer target, ArrayContainer source) {
+    private static void mergeArrayContainer(ArrayContainer target, ArrayContainer source, CloneMode mode) {
         int targetSize = target.size();
         int sourceSize = source.size();
         int size =  Math.min(targetSize, sourceSize);
@@ -204,14 +432,14 @@ public class ContainerValues {
             if(val instanceof ObjectContainer) {
                 ContainerValue targetVal = target.get(i);
                 if(targetVal instanceof ObjectContainer) {
-                    mergeObjectContainer((ObjectContainer)targetVal, (ObjectContainer)val);
+                    mergeObjectContainer((ObjectContainer)targetVal, (ObjectContainer)val, mode);
                 } else {
                     target.put(i, val);
                 }
             } else if(val instanceof ArrayContainer) {
                 ContainerValue targetVal = target.get(i);
                 if(targetVal instanceof ArrayContainer) {
-                    mergeArrayContainer((ArrayContainer)targetVal, (ArrayContainer)val);
+                    mergeArrayContainer((ArrayContainer)targetVal, (ArrayContainer)val, mode);
                 } else {
                     target.put(i, val);
                 }
@@ -223,31 +451,161 @@ public class ContainerValues {
             for (int i = targetSize; i < sourceSize; i++) {
                 ContainerValue val = source.get(i);
                 if(val instanceof ObjectContainer) {
-                    target.putCopy((ObjectContainer)val);
+                    target.putCopy((ObjectContainer)val, mode);
                 } else if(val instanceof ArrayContainer) {
-                    target.putCopy((ArrayContainer)val);
+                    target.putCopy((ArrayContainer)val, mode);
                 } else {
-                    addValue(target, val);
+                    addValue(target, val, mode);
                 }
             }
         }
     }
 
-    private static void mergeObjectContainer(ObjectContainer target, ObjectContainer source) {
+    private static void mergeObjectContainer(ObjectContainer target, ObjectContainer source, CloneMode mode) {
         for (String key : source.keySet()) {
             ContainerValue val = source.get(key);
             if(val instanceof ObjectContainer) {
                 ContainerValue targetVal = target.get(key);
                 if(targetVal instanceof ObjectContainer) {
-                    mergeObjectContainer((ObjectContainer)targetVal, (ObjectContainer)val);
+                    mergeObjectContainer((ObjectContainer)targetVal, (ObjectContainer)val, mode);
                     continue;
                 }
             }
-            addValue(target, key, val);
+            addValue(target, key, val, mode);
         }
 
     }
 
+    /**
+     * RFC 7386 JSON Merge Patch 를 target 에 직접 적용합니다. target 에 새로 들어가는 patch 의 값은 복사합니다.
+     *
+     * @param target 패치를 적용할 값
+     * @param patch 병합 패치
+     * @return 패치가 적용된 문서
+     * @see #mergePatch(ContainerValue, ContainerValue, CloneMode)
+     */
+    public static ContainerValue mergePatch(ContainerValue target, ContainerValue patch) {
+        return mergePatch(target, patch, CloneMode.DEEP);
+    }
+
+    /**
+     * RFC 7386 JSON Merge Patch 를 target 에 직접 적용합니다.
+     * <p>
+     * patch 가 객체이면 target 을 복제하지 않고 키 단위로 고칩니다. 값이 null 인 멤버는 target 의 키를 지우고,
+     * 객체 값은 target 의 같은 키도 객체이면 재귀적으로 병합하며, 그 밖의 값(배열 포함)은 키의 값을 통째로 바꿉니다.
+     * patch 가 객체가 아니면 patch 가 결과 문서가 됩니다.
+     * <p>
+     * target 에 새로 들어가는 patch 의 하위 값은 mode 에 따라 옮깁니다. {@link CloneMode#DEEP} 은 복사하고,
+     * {@link CloneMode#COPY_ON_WRITE} 는 오버레이로 공유하며, {@link CloneMode#SHARE} 는 patch 의 인스턴스를 그대로 넣으므로
+     * 적용 후 patch 를 버릴 때 가장 빠릅니다. target 과 구현체가 다른 값은 target 의 구현체로 변환되어 들어갑니다.
+     *
+     * @param target 패치를 적용할 값. 객체가 아니면 빈 객체에 적용한 결과를 반환합니다
+     * @param patch 병합 패치
+     * @param mode patch 의 하위 값을 target 에 옮기는 방식
+     * @return 패치가 적용된 문서. target 과 patch 가 모두 객체이면 target 자신
+     */
+    public static ContainerValue mergePatch(ContainerValue target, ContainerValue patch, CloneMode mode) {
+        if (patch == null || patch.isNull()) {
+            return PrimitiveValue.NULL;
+        }
+        if (!patch.isObject()) {
+            return mergePatchReplacement(target, patch, mode);
+        }
+        ObjectContainer patchObject = patch.asObject();
+        if (target == patch) {
+            // 자기 자신을 패치로 적용하면 null 멤버만 사라집니다.
+            removeNullMembers(patchObject);
+            return target;
+        }
+        ObjectContainer targetObject;
+        if (target instanceof ObjectContainer) {
+            targetObject = (ObjectContainer) target;
+        } else if (target instanceof ArrayContainer) {
+            targetObject = ((ArrayContainer) target).getContainerFactory().newObject();
+        } else {
+            targetObject = patchObject.getContainerFactory().newObject();
+        }
+        mergePatchObject(targetObject, patchObject, mode);
+        return targetObject;
+    }
+
+    private static void mergePatchObject(ObjectContainer target, ObjectContainer patch, CloneMode mode) {
+        for (Map.Entry<String, ContainerValue> entry : patch) {
+            String key = entry.getKey();
+            ContainerValue value = entry.getValue();
+            if (value == null || value.isNull()) {
+                target.remove(key);
+                continue;
+            }
+            ContainerValue existing = target.get(key);
+            if (existing == value) {
+                if (value.isObject()) {
+                    removeNullMembers(value.asObject());
+                }
+            } else if (value.isObject()) {
+                ObjectContainer patchChild = value.asObject();
+                if (existing != null && existing.isObject()) {
+                    mergePatchObject(existing.asObject(), patchChild, mode);
+                } else if (mode == CloneMode.DEEP || hasNullMember(patchChild)) {
+                    // 새 객체에 패치를 적용하는 것이 복사와 null 제거를 한 번에 처리합니다.
+                    mergePatchObject(target.newAndPutObject(key), patchChild, mode);
+                } else {
+                    target.putCopy(key, patchChild, mode);
+                }
+            } else {
+                addValue(target, key, value, mode);
+            }
+        }
+    }
+
+    private static ContainerValue mergePatchReplacement(ContainerValue target, ContainerValue patch, CloneMode mode) {
+        if (!patch.isArray()) {
+            return clonePrimitive(patch, mode);
+        }
+        if (mode == CloneMode.SHARE) {
+            return patch;
+        }
+        ContainerFactory factory = target instanceof ContainerFactoryProvidable
+                ? ((ContainerFactoryProvidable) target).getContainerFactory()
+                : patch.asArray().getContainerFactory();
+        if (mode == CloneMode.COPY_ON_WRITE) {
+            return factory.newCopyOnWrite(patch);
+        }
+        ArrayContainer array = factory.newArray();
+        copy(array, patch);
+        return array;
+    }
+
+    private static boolean hasNullMember(ObjectContainer object) {
+        for (Map.Entry<String, ContainerValue> entry : object) {
+            ContainerValue value = entry.getValue();
+            if (value == null || value.isNull() || (value.isObject() && hasNullMember(value.asObject()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void removeNullMembers(ObjectContainer object) {
+        List<String> nullKeys = null;
+        for (Map.Entry<String, ContainerValue> entry : object) {
+            ContainerValue value = entry.getValue();
+            if (value == null || value.isNull()) {
+                if (nullKeys == null) {
+                    nullKeys = new ArrayList<>();
+                }
+                nullKeys.add(entry.getKey());
+            } else if (value.isObject()) {
+                removeNullMembers(value.asObject());
+            }
+        }
+        if (nullKeys != null) {
+            for (String key : nullKeys) {
+                object.remove(key);
+            }
+        }
+    }
+
     /**
      * 두 ContainerValue 객체의 교집합을 계산합니다.
      *
@@ -256,12 +614,25 @@ public class ContainerValues {
      * @return 두 입력 값의 교집합을 나타내는 새로운 ContainerValue
      */
     public static ContainerValue intersection(ContainerValue a, ContainerValue b) {
-        if (a == null || b == null || a.isNull() || b.isNull()) return new PrimitiveValue(null);
-        if (a.getValueType() != b.getValueType()) return new PrimitiveValue(null);
+        return intersection(a, b, CloneMode.DEEP);
+    }
+
+    /**
+     * 두 ContainerValue 객체의 교집합을 계산합니다.
+     * {@link CloneMode#COPY_ON_WRITE} 이면 결과에 들어가는 값을 복사하지 않고 공유합니다.
+     *
+     * @param a 첫 번째 ContainerValue
+     * @param b 두 번째 ContainerValue
+     * @param mode 결과에 값을 옮기는 방식
+     * @return 두 입력 값의 교집합을 나타내는 새로운 ContainerValue
+     */
+    public static ContainerValue intersection(ContainerValue a, ContainerValue b, CloneMode mode) {
+        if (a == null || b == null || a.isNull() || b.isNull()) return PrimitiveValue.NULL;
+        if (a.getValueType() != b.getValueType()) return PrimitiveValue.NULL;
 
         switch (a.getValueType()) {
             case PRIMITIVE:
-                return Objects.equals(a.raw(), b.raw()) ? new PrimitiveValue(a.raw()) : new PrimitiveValue(null);
+                return Objects.equals(a.raw(), b.raw()) ? clonePrimitive(a, mode) : PrimitiveValue.NULL;
             case OBJECT:
                 ObjectContainer objA = a.asObject();
                 ObjectContainer objB = b.asObject();
@@ -275,19 +646,19 @@ public class ContainerValues {
                             if (valA.getValueType() == valB.getValueType()) {
                                 if (valA.isObject()) {
                                     // Deep intersection for nested objects
-                                    ContainerValue intersected = intersection(valA, valB);
+                                    ContainerValue intersected = intersection(valA, valB, mode);
                                     if (intersected != null && intersected.isObject() && !intersected.asObject().isEmpty()) {
                                         result.put(key, intersected);
                                     }
                                 } else if (valA.isArray()) {
                                     // Deep intersection for nested arrays
-                                    ContainerValue intersected = intersection(valA, valB);
+                                    ContainerValue intersected = intersection(valA, valB, mode);
                                     if (intersected != null && intersected.isArray()) {
                                         result.put(key, intersected);
                                     }
                                 } else if (equals(valA, valB)) {
                                     // For primitives and equal values
-                                    addValue(result, key, valA);
+                                    addValue(result, key, valA, mode);
                                 }
                             }
                         }
@@ -307,26 +678,26 @@ public class ContainerValues {
                         if (valA.getValueType() == valB.getValueType()) {
                             if (valA.isObject()) {
                                 // Deep intersection for nested objects
-                                ContainerValue intersected = intersection(valA, valB);
+                                ContainerValue intersected = intersection(valA, valB, mode);
                                 if (intersected != null && intersected.isObject() && !intersected.asObject().isEmpty()) {
                                     resultArr.put(intersected);
                                 }
                             } else if (valA.isArray()) {
                                 // Deep intersection for nested arrays
-                                ContainerValue intersected = intersection(valA, valB);
+                                ContainerValue intersected = intersection(valA, valB, mode);
                                 if (intersected != null && intersected.isArray() && !intersected.asArray().isEmpty()) {
                                     resultArr.put(intersected);
                                 }
                             } else if (equals(valA, valB)) {
                                 // For primitives, only include if equal
-                                addValue(resultArr, valA);
+                                addValue(resultArr, valA, mode);
                             }
                         }
                     }
                 }
                 return resultArr;
             default:
-                return new PrimitiveValue(null);
+                return PrimitiveValue.NULL;
         }
     }
 
@@ -338,13 +709,26 @@ public class ContainerValues {
      * @return 두 입력 값의 차집합을 나타내는 새로운 ContainerValue
      */
     public static ContainerValue diff(ContainerValue a, ContainerValue b) {
-        if (a == null || a.isNull()) return new PrimitiveValue(null);
+        return diff(a, b, CloneMode.DEEP);
+    }
+
+    /**
+     * 두 ContainerValue 객체의 차집합을 계산합니다.
+     * {@link CloneMode#COPY_ON_WRITE} 이면 a 에만 있는 하위 컨테이너를 복사하지 않고 오버레이로 결과에 넣습니다.
+     *
+     * @param a 첫 번째 ContainerValue
+     * @param b 두 번째 ContainerValue
+     * @param mode 결과에 값을 옮기는 방식
+     * @return 두 입력 값의 차집합을 나타내는 새로운 ContainerValue
+     */
+    public static ContainerValue diff(ContainerValue a, ContainerValue b, CloneMode mode) {
+        if (a == null || a.isNull()) return PrimitiveValue.NULL;
         if (b == null || b.isNull()) return a;
         if (a.getValueType() != b.getValueType()) return a;
 
         switch (a.getValueType()) {
             case PRIMITIVE:
-                return Objects.equals(a.raw(), b.raw()) ? new PrimitiveValue(null) : new PrimitiveValue(a.raw());
+                return Objects.equals(a.raw(), b.raw()) ? PrimitiveValue.NULL : clonePrimitive(a, mode);
             case OBJECT:
                 ObjectContainer objA = a.asObject();
                 ObjectContainer objB = b.asObject();
@@ -353,7 +737,7 @@ public class ContainerValues {
                     if (!objB.containsKey(key)) {
                         // Key exists only in a
                         ContainerValue val = objA.get(key);
-                        addValue(result, key, val);
+                        addValue(result, key, val, mode);
                     } else {
                         ContainerValue valA = objA.get(key);
                         ContainerValue valB = objB.get(key);
@@ -361,20 +745,20 @@ public class ContainerValues {
                         // Deep diff for nested objects and arrays
                         if (valA != null && valB != null) {
                             if (valA.isObject() && valB.isObject()) {
-                                ContainerValue diffed = diff(valA, valB);
+                                ContainerValue diffed = diff(valA, valB, mode);
                                 if (diffed != null && diffed.isObject() && !diffed.asObject().isEmpty()) {
                                     result.put(key, diffed);
                                 }
                             } else if (valA.isArray() && valB.isArray()) {
-                                ContainerValue diffed = diff(valA, valB);
+                                ContainerValue diffed = diff(valA, valB, mode);
                                 if (diffed != null && diffed.isArray() && !diffed.asArray().isEmpty()) {
                                     result.put(key, diffed);
                                 }
                             } else if (!equals(valA, valB)) {
-                                addValue(result, key, valA);
+                                addValue(result, key, valA, mode);
                             }
                         } else if (!equals(valA, valB)) {
-                            addValue(result, key, valA);
+                            addValue(result, key, valA, mode);
                         }
                     }
                 }
@@ -392,56 +776,126 @@ public class ContainerValues {
                         if (valA.getValueType() == valB.getValueType()) {
                             if (valA.isObject()) {
                                 // Deep diff for nested objects
-                                ContainerValue diffed = diff(valA, valB);
+                                ContainerValue diffed = diff(valA, valB, mode);
                                 if (diffed != null && diffed.isObject() && !diffed.asObject().isEmpty()) {
                                     resultArr.put(diffed);
                                 }
                             } else if (valA.isArray()) {
                                 // Deep diff for nested arrays
-                                ContainerValue diffed = diff(valA, valB);
+                                ContainerValue diffed = diff(valA, valB, mode);
                                 if (diffed != null && diffed.isArray() && !diffed.asArray().isEmpty()) {
                                     resultArr.put(diffed);
                                 }
                             } else if (!equals(valA, valB)) {
                                 // For primitives, only include if different
-                                addValue(resultArr, valA);
+                                addValue(resultArr, valA, mode);
                             }
                         } else {
                             // Different types
-                            addValue(resultArr, valA);
+                            addValue(resultArr, valA, mode);
                         }
                     } else if (valA != null && valB == null) {
                         // valB is null
-                        addValue(resultArr, valA);
+                        addValue(resultArr, valA, mode);
                     }
                 }
                 // Include elements that exist only in a
                 for (int i = arrB.size(), arrASize = arrA.size(); i < arrASize; i++) {
                     ContainerValue val = arrA.get(i);
-                    addValue(resultArr, val);
+                    addValue(resultArr, val, mode);
                 }
                 return resultArr;
             default:
-                return new PrimitiveValue(null);
+                return PrimitiveValue.NULL;
         }
     }
 
+    /**
+     * a 를 b 로 바꾸는 RFC 6902 JSON Patch 를 만듭니다.
+     * 두 트리를 한 번만 순회하며, 삭제된 키의 컨테이너가 다른 키에 그대로 있으면 값을 다시 싣지 않고 {@code move} 로 표현합니다.
+     * 배열은 {@link #diffArray(ArrayContainer, ArrayContainer)} 와 같은 방식으로 일치하는 요소를 찾으므로,
+     * 앞쪽에 요소 하나를 끼워 넣어도 연산은 {@code add} 하나입니다.
+     * 결과는 {@code {"op":..., "path":..., "value":...}} 형태의 연산 객체 배열이므로 그대로 직렬화해 전송할 수 있습니다.
+     * <p>
+     * 연산의 value 에는 b 의 값을 복사하지 않고 그대로 넣습니다. 패치를 전송하기 전에 b 를 수정하면 패치도 바뀝니다.
+     *
+     * @param a 원래 값
+     * @param b 바뀐 값
+     * @return a 의 팩토리로 만든 연산 배열. 두 값이 같으면 빈 배열
+     */
+    public static ArrayContainer patch(ContainerValue a, ContainerValue b) {
+        return JsonPatch.diff(a, b);
+    }
+
+    /**
+     * RFC 6902 JSON Patch 연산을 순서대로 target 에 직접 적용합니다. target 을 복제하지 않으며,
+     * 연산의 value 도 복사하지 않고 그대로 넣습니다. ({@code copy} 연산만 대상 안의 값을 복제합니다)
+     * <p>
+     * 적용 중 오류가 나면 그 앞의 연산은 이미 반영된 상태로 남습니다.
+     *
+     * @param target 패치를 적용할 값
+     * @param operations {@link #patch(ContainerValue, ContainerValue)} 가 만든 형식의 연산 배열
+     * @return 패치가 적용된 문서. 경로가 {@code ""} 인 연산으로 문서 전체를 바꾸지 않았다면 target 자신
+     * @throws IllegalArgumentException 연산의 형식이 잘못된 경우
+     * @throws IllegalStateException 경로가 target 에 없거나 {@code test} 연산이 실패한 경우
+     */
+    public static ContainerValue applyPatch(ContainerValue target, ArrayContainer operations) {
+        return JsonPatch.apply(target, operations);
+    }
+
+    /**
+     * 두 배열의 차이를 Myers 의 O(ND) 알고리즘으로 구해 편집 구간 목록으로 반환합니다.
+     * 요소는 값 전체로 비교하므로 바뀐 요소는 삭제와 삽입으로 나타납니다.
+     *
+     * @see #diffArray(ArrayContainer, ArrayContainer, String)
+     */
+    public static ArrayContainer diffArray(ArrayContainer a, ArrayContainer b) {
+        return diffArray(a, b, null);
+    }
+
+    /**
+     * 두 배열의 차이를 Myers 의 O(ND) 알고리즘으로 구해 편집 구간 목록으로 반환합니다.
+     * <p>
+     * 인덱스가 아니라 순서를 유지하는 최장 공통 부분열로 요소를 맞추므로, 중간에 요소를 끼우거나 빼도 나머지는 일치로 남습니다.
+     * 요소를 먼저 구조적 해시로 정수 id 에 대응시키기 때문에, 변경이 적은 일반적인 입력에서는 거의 선형 시간입니다.
+     * <p>
+     * identityKeyPath 를 주면 객체 요소는 그 경로의 값(예: {@code "id"}, {@code "meta.id"})이 같을 때 같은 요소로 맞추고,
+     * 내용이 다르면 {@code update} 구간을 만듭니다. 경로에 값이 없는 요소는 값 전체로 비교합니다.
+     * <p>
+     * 각 구간은 다음 형태의 객체이며 a 의 순서대로 나옵니다. {@code index} 는 a 에서의 위치, {@code toIndex} 는 b 에서의 위치입니다.
+     * <ul>
+     *     <li>{@code {"op":"delete","index":i,"toIndex":j,"count":n}} : a 의 i 부터 n 개 삭제</li>
+     *     <li>{@code {"op":"insert","index":i,"toIndex":j,"values":[...]}} : a 의 i 앞에 b 의 j 부터의 값을 삽입</li>
+     *     <li>{@code {"op":"update","index":i,"toIndex":j,"value":v}} : 식별 키가 같은 a 의 i 를 b 의 j 로 교체</li>
+     * </ul>
+     * 구간의 값은 b 의 값을 복사하지 않고 그대로 참조합니다.
+     *
+     * @param a 원래 배열
+     * @param b 바뀐 배열
+     * @param identityKeyPath 객체 요소의 식별 키 경로. 점으로 구분하며 null 이면 값 전체로 비교합니다
+     * @return a 의 팩토리로 만든 구간 배열. 두 배열이 같으면 빈 배열
+     */
+    public static ArrayContainer diffArray(ArrayContainer a, ArrayContainer b, String identityKeyPath) {
+        return ArrayDiff.hunks(a, b, ArrayDiff.parseIdentityPath(identityKeyPath));
+    }
+
     /**
      * ArrayContainer에 값을 추가합니다.
      *
      * @param resultArr 값을 추가할 ArrayContainer
      * @param val 추가할 값
+     * @param mode 하위 컨테이너를 옮기는 방식
      */
-    private static void addValue(ArrayContainer resultArr, ContainerValue val) {
+    static void addValue(ArrayContainer resultArr, ContainerValue val, CloneMode mode) {
         if(val == null) {
-            resultArr.put(new PrimitiveValue(null));
+            resultArr.put(PrimitiveValue.NULL);
         }
         else if (val.isPrimitive()) {
-            resultArr.put(new PrimitiveValue(val.raw()));
+            resultArr.put(clonePrimitive(val, mode));
         } else if (val.isObject()) {
-            resultArr.putCopy(val.asObject());
+            resultArr.putCopy(val.asObject(), mode);
         } else if (val.isArray()) {
-            resultArr.putCopy(val.asArray());
+            resultArr.putCopy(val.asArray(), mode);
         }
     }
 
@@ -455,17 +909,18 @@ public class ContainerValues {
      * @param resultObj 값을 추가할 ObjectContainer
      * @param key 값을 추가할 키
      * @param val 추가할 값
+     * @param mode 하위 컨테이너를 옮기는 방식
      */
-    private static void addValue(ObjectContainer resultObj,String key, ContainerValue val) {
+    static void addValue(ObjectContainer resultObj,String key, ContainerValue val, CloneMode mode) {
         if(val == null) {
-            resultObj.put(key, new PrimitiveValue(null));
+            resultObj.put(key, PrimitiveValue.NULL);
         }
         else if (val.isPrimitive()) {
-            resultObj.put(key,new PrimitiveValue(val.raw()));
+            resultObj.put(key,clonePrimitive(val, mode));
         } else if (val.isObject()) {
-            resultObj.putCopy(key,val.asObject());
+            resultObj.putCopy(key,val.asObject(), mode);
         } else if (val.isArray()) {
-            resultObj.putCopy(key,val.asArray());
+            resultObj.putCopy(key,val.asArray(), mode);
         }
     }
 
@@ -2,6 +2,10 @@ package com.hancomins.jsn4j;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 public interface ContainerWriter<E extends Enum<E>> {
 
@@ -20,5 +24,41 @@ public interface ContainerWriter<E extends Enum<E>> {
     String write();
     void write(OutputStream outputStream) throws IOException;
 
+    /**
+     * 문서를 Writer 에 기록합니다. Writer 는 flush 하거나 닫지 않습니다.
+     */
+    default void write(Writer writer) throws IOException {
+        writer.write(write());
+    }
+
+    /**
+     * 문서를 Appendable 에 기록합니다. Writer 이면 {@link #write(Writer)} 를 사용합니다.
+     */
+    default void write(Appendable appendable) throws IOException {
+        if (appendable instanceof Writer) {
+            write((Writer) appendable);
+        } else {
+            appendable.append(write());
+        }
+    }
+
+    /**
+     * 문서를 UTF-8 로 ByteBuffer 에 기록합니다.
+     * 버퍼가 가득 차서 다 쓰지 못하면 false 를 반환하며, 비운(또는 새) 버퍼로 다시 호출하면 이어서 기록합니다.
+     * 문서를 모두 기록하면 true 를 반환하고 이어쓰기 상태를 초기화하므로 다음 호출은 새 문서를 기록합니다.
+     * @param buffer 기록할 버퍼. position 부터 limit 까지 채웁니다.
+     * 이어쓰기에 필요한 남은 출력은 구현체가 보관해야 하므로 기본 구현을 두지 않습니다.
+     * @return 문서를 모두 기록했으면 true, 남은 출력이 있으면 false
+     */
+    boolean write(ByteBuffer buffer) throws IOException;
+
+    /**
+     * 문서를 UTF-8 로 채널에 기록합니다. 채널은 닫지 않습니다.
+     * 블로킹 모드 채널을 대상으로 하며, 논블로킹 채널에는 {@link #write(ByteBuffer)} 로 직접 이어쓰기 합니다.
+     */
+    default void write(WritableByteChannel channel) throws IOException {
+        write(Channels.newOutputStream(channel));
+    }
+
 
 }
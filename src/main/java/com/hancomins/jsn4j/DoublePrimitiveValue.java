@@ -0,0 +1,62 @@
+package com.hancomins.jsn4j;
+
+/**
+ * double 값을 박싱하지 않고 보관하는 PrimitiveValue. {@link PrimitiveValue#of(double)} 로 생성합니다.
+ */
+final class DoublePrimitiveValue extends NumberPrimitiveValue {
+
+    private final double value;
+
+    DoublePrimitiveValue(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object raw() {
+        return value;
+    }
+
+    @Override
+    public int asInt() {
+        return (int) value;
+    }
+
+    @Override
+    public long asLong() {
+        return (long) value;
+    }
+
+    @Override
+    public float asFloat() {
+        return (float) value;
+    }
+
+    @Override
+    public double asDouble() {
+        return value;
+    }
+
+    @Override
+    public String asString() {
+        return Double.toString(value);
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return toBytes(Double.doubleToLongBits(value), 8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof DoublePrimitiveValue) {
+            // Double.equals 와 같이 비트 단위로 비교합니다. (NaN == NaN, 0.0 != -0.0)
+            return Double.doubleToLongBits(((DoublePrimitiveValue) o).value) == Double.doubleToLongBits(value);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+}
@@ -0,0 +1,61 @@
+package com.hancomins.jsn4j;
+
+/**
+ * int 값을 박싱하지 않고 보관하는 PrimitiveValue. {@link PrimitiveValue#of(int)} 로 생성합니다.
+ */
+final class IntPrimitiveValue extends NumberPrimitiveValue {
+
+    private final int value;
+
+    IntPrimitiveValue(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object raw() {
+        return value;
+    }
+
+    @Override
+    public int asInt() {
+        return value;
+    }
+
+    @Override
+    public long asLong() {
+        return value;
+    }
+
+    @Override
+    public float asFloat() {
+        return value;
+    }
+
+    @Override
+    public double asDouble() {
+        return value;
+    }
+
+    @Override
+    public String asString() {
+        return Integer.toString(value);
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return toBytes(value, 4);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof IntPrimitiveValue) {
+            return ((IntPrimitiveValue) o).value == value;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+}
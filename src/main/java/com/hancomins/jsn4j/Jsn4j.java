@@ -17,6 +17,7 @@ import java.io.Reader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.EnumMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -101,6 +102,14 @@ public class Jsn4j {
         return defaultContainerFactory.getParser().parse(reader);
     }
 
+    /**
+     * UTF-8 JSON 파일을 메모리 매핑하여 파싱합니다. 2GB 를 넘는 파일도 구간 단위로 매핑하여 처리합니다.
+     * @see ContainerParser#parse(Path)
+     */
+    public static ContainerValue parse(Path path) {
+        return defaultContainerFactory.getParser().parse(path);
+    }
+
     public static ContainerValue parse(Class<? extends ContainerFactory> factoryClass,String json) {
         //noinspection DuplicatedCode
         if (factoryClass == null) {
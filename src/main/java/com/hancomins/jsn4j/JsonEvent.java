@@ -0,0 +1,30 @@
+package com.hancomins.jsn4j;
+
+/**
+ * {@link JsonEventReader} 가 반환하는 토큰 단위 이벤트
+ */
+public enum JsonEvent {
+    START_OBJECT,
+    END_OBJECT,
+    START_ARRAY,
+    END_ARRAY,
+    /** 오브젝트의 키. 이름은 {@link JsonEventReader#getFieldName()} 으로 얻습니다. */
+    FIELD_NAME,
+    VALUE_STRING,
+    VALUE_NUMBER,
+    VALUE_TRUE,
+    VALUE_FALSE,
+    VALUE_NULL;
+
+    public boolean isStructStart() {
+        return this == START_OBJECT || this == START_ARRAY;
+    }
+
+    public boolean isStructEnd() {
+        return this == END_OBJECT || this == END_ARRAY;
+    }
+
+    public boolean isScalarValue() {
+        return this == VALUE_STRING || this == VALUE_NUMBER || this == VALUE_TRUE || this == VALUE_FALSE || this == VALUE_NULL;
+    }
+}
@@ -0,0 +1,78 @@
+package com.hancomins.jsn4j;
+
+import java.io.Closeable;
+
+/**
+ * 트리를 만들지 않고 JSON 을 토큰 단위로 읽는 pull 방식 리더.
+ * 입력 전체를 메모리에 올리지 않으므로 매우 큰 문서도 일정한 메모리로 처리할 수 있습니다.
+ * <pre>{@code
+ * try (JsonEventReader reader = parser.newEventReader(inputStream)) {
+ *     while (reader.hasNext()) {
+ *         JsonEvent event = reader.next();
+ *         if (event == JsonEvent.FIELD_NAME && "payload".equals(reader.getFieldName())) {
+ *             reader.next();
+ *             reader.skipChildren();
+ *         }
+ *     }
+ * }
+ * }</pre>
+ * 구현체는 스레드에 안전하지 않습니다.
+ */
+public interface JsonEventReader extends Closeable {
+
+    /**
+     * 읽을 이벤트가 남아 있는지 확인합니다. 루트 값이 끝나면 false 를 반환합니다.
+     */
+    boolean hasNext();
+
+    /**
+     * 다음 이벤트로 이동합니다.
+     * @return 이동한 이벤트
+     * @throws java.util.NoSuchElementException 더 이상 이벤트가 없을 경우
+     */
+    JsonEvent next();
+
+    /**
+     * 현재 이벤트. {@link #next()} 를 한 번도 호출하지 않았다면 null
+     */
+    JsonEvent getCurrentEvent();
+
+    /**
+     * 현재 중첩 깊이. START_OBJECT / START_ARRAY 이후 1 증가하고, END_OBJECT / END_ARRAY 이후 1 감소합니다.
+     */
+    int getDepth();
+
+    /**
+     * 현재 이벤트가 FIELD_NAME 일 때의 키 이름
+     */
+    String getFieldName();
+
+    /**
+     * 현재 이벤트가 VALUE_STRING 일 때의 문자열 (FIELD_NAME 이면 키 이름)
+     */
+    String getString();
+
+    /**
+     * 현재 이벤트가 VALUE_NUMBER 일 때의 숫자
+     */
+    Number getNumber();
+
+    /**
+     * 현재 이벤트가 VALUE_TRUE / VALUE_FALSE 일 때의 값
+     */
+    boolean getBoolean();
+
+    /**
+     * 현재 스칼라 값(String, Number, Boolean 또는 null)
+     */
+    Object getValue();
+
+    /**
+     * 현재 이벤트가 START_OBJECT / START_ARRAY 이면 대응하는 END 이벤트까지 건너뜁니다.
+     * 호출 후 현재 이벤트는 END_OBJECT / END_ARRAY 가 됩니다. 그 외 이벤트에서는 아무 일도 하지 않습니다.
+     */
+    void skipChildren();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,501 @@
+package com.hancomins.jsn4j;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * RFC 6902 JSON Patch 를 만들고 적용합니다.
+ * <p>
+ * 패치는 연산 객체를 담은 {@link ArrayContainer} 입니다. 각 연산은 {@code op} 와 {@code path},
+ * 그리고 연산에 따라 {@code value} 나 {@code from} 을 갖는 {@link ObjectContainer} 이므로 그대로 직렬화해 보낼 수 있습니다.
+ * 경로는 RFC 6901 JSON Pointer 형식입니다.
+ *
+ * @see ContainerValues#patch(ContainerValue, ContainerValue)
+ * @see ContainerValues#applyPatch(ContainerValue, ArrayContainer)
+ */
+final class JsonPatch {
+
+    static final String OP = "op";
+    static final String PATH = "path";
+    static final String FROM = "from";
+    static final String VALUE = "value";
+
+    static final String ADD = "add";
+    static final String REMOVE = "remove";
+    static final String REPLACE = "replace";
+    static final String MOVE = "move";
+    static final String COPY = "copy";
+    static final String TEST = "test";
+
+    private static final String[] ROOT = new String[0];
+
+    private JsonPatch() {
+    }
+
+    /**
+     * source 를 target 으로 바꾸는 연산 목록을 만듭니다. 두 트리를 한 번만 순회하며,
+     * 배열은 {@link ArrayDiff} 로 일치하는 요소를 찾아 그 사이의 바뀐 구간만 연산으로 만듭니다.
+     * 연산의 value 에는 target 의 값을 복사하지 않고 그대로 넣습니다.
+     */
+    static ArrayContainer diff(ContainerValue source, ContainerValue target) {
+        ArrayContainer operations = factoryOf(source, target).newArray();
+        diff(operations, new StringBuilder(), source, target);
+        return operations;
+    }
+
+    private static ContainerFactory factoryOf(ContainerValue source, ContainerValue target) {
+        if (source instanceof ObjectContainer || source instanceof ArrayContainer) {
+            return ((ContainerFactoryProvidable) source).getContainerFactory();
+        } else if (target instanceof ObjectContainer || target instanceof ArrayContainer) {
+            return ((ContainerFactoryProvidable) target).getContainerFactory();
+        }
+        return Jsn4j.getDefaultContainerFactory();
+    }
+
+    private static void diff(ArrayContainer operations, StringBuilder path, ContainerValue source, ContainerValue target) {
+        if (source == target) {
+            return;
+        }
+        if (source instanceof ObjectContainer && target instanceof ObjectContainer) {
+            diffObject(operations, path, (ObjectContainer) source, (ObjectContainer) target);
+        } else if (source instanceof ArrayContainer && target instanceof ArrayContainer) {
+            diffArray(operations, path, (ArrayContainer) source, (ArrayContainer) target);
+        } else if (!ContainerValues.equals(nullToNull(source), nullToNull(target))) {
+            addOperation(operations, REPLACE, path, target);
+        }
+    }
+
+    private static void diffObject(ArrayContainer operations, StringBuilder path, ObjectContainer source, ObjectContainer target) {
+        int length = path.length();
+        LinkedHashSet<String> removed = null;
+        for (Map.Entry<String, ContainerValue> entry : source) {
+            String key = entry.getKey();
+            ContainerValue value = target.get(key);
+            if (value == null && !target.containsKey(key)) {
+                if (removed == null) {
+                    removed = new LinkedHashSet<>();
+                }
+                removed.add(key);
+                continue;
+            }
+            appendToken(path, key);
+            diff(operations, path, entry.getValue(), value);
+            path.setLength(length);
+        }
+
+        // 삭제된 키의 컨테이너가 새 키에 그대로 있으면 값을 다시 보내지 않고 move 로 옮깁니다.
+        Map<Integer, List<String>> movable = null;
+        for (Map.Entry<String, ContainerValue> entry : target) {
+            String key = entry.getKey();
+            if (source.containsKey(key)) {
+                continue;
+            }
+            ContainerValue value = entry.getValue();
+            String from = null;
+            if (removed != null && isContainer(value)) {
+                if (movable == null) {
+                    movable = indexContainers(source, removed);
+                }
+                from = takeEqual(movable, source, value);
+            }
+            appendToken(path, key);
+            if (from != null) {
+                removed.remove(from);
+                ObjectContainer operation = operations.newAndPutObject();
+                operation.put(OP, MOVE);
+                operation.put(FROM, path.substring(0, length) + '/' + escape(from));
+                operation.put(PATH, path.toString());
+            } else {
+                addOperation(operations, ADD, path, value);
+            }
+            path.setLength(length);
+        }
+
+        if (removed != null) {
+            for (String key : removed) {
+                appendToken(path, key);
+                addOperation(operations, REMOVE, path, null);
+                path.setLength(length);
+            }
+        }
+    }
+
+    private static Map<Integer, List<String>> indexContainers(ObjectContainer source, Set<String> keys) {
+        Map<Integer, List<String>> index = new HashMap<>();
+        for (String key : keys) {
+            ContainerValue value = source.get(key);
+            if (isContainer(value)) {
+                index.computeIfAbsent(value.hashCode(), h -> new ArrayList<>(1)).add(key);
+            }
+        }
+        return index;
+    }
+
+    private static String takeEqual(Map<Integer, List<String>> movable, ObjectContainer source, ContainerValue value) {
+        List<String> candidates = movable.get(value.hashCode());
+        if (candidates == null) {
+            return null;
+        }
+        for (Iterator<String> iterator = candidates.iterator(); iterator.hasNext(); ) {
+            String key = iterator.next();
+            if (ContainerValues.equals(source.get(key), value)) {
+                iterator.remove();
+                return key;
+            }
+        }
+        return null;
+    }
+
+    private static void diffArray(ArrayContainer operations, StringBuilder path, ArrayContainer source, ArrayContainer target) {
+        int length = path.length();
+        int sourceSize = source.size();
+        int targetSize = target.size();
+        // 일치하는 요소는 그대로 두고, 그 사이의 구간만 고칩니다. 연산은 앞에서부터 적용되므로
+        // 현재 구간 앞부분은 이미 target 과 같고, 구간의 위치는 target 의 인덱스와 같습니다.
+        int[] matches = ArrayDiff.match(source, target, null);
+        int i = 0;
+        int j = 0;
+        while (i < sourceSize || j < targetSize) {
+            if (i < sourceSize && matches[i] == j) {
+                i++;
+                j++;
+                continue;
+            }
+            int deleteStart = i;
+            while (i < sourceSize && matches[i] < 0) {
+                i++;
+            }
+            int insertStart = j;
+            j = i < sourceSize ? matches[i] : targetSize;
+            int deletes = i - deleteStart;
+            int inserts = j - insertStart;
+            int paired = Math.min(deletes, inserts);
+            int position = insertStart;
+            // 같은 구간에서 지워지고 추가된 요소는 짝을 지어 내부만 비교합니다.
+            for (int k = 0; k < paired; k++, position++) {
+                path.append('/').append(position);
+                diff(operations, path, source.get(deleteStart + k), target.get(insertStart + k));
+                path.setLength(length);
+            }
+            for (int k = paired; k < inserts; k++, position++) {
+                path.append('/').append(position);
+                addOperation(operations, ADD, path, target.get(insertStart + k));
+                path.setLength(length);
+            }
+            path.append('/').append(position);
+            for (int k = paired; k < deletes; k++) {
+                addOperation(operations, REMOVE, path, null);
+            }
+            path.setLength(length);
+        }
+    }
+
+    private static void addOperation(ArrayContainer operations, String op, CharSequence path, ContainerValue value) {
+        ObjectContainer operation = operations.newAndPutObject();
+        operation.put(OP, op);
+        operation.put(PATH, path.toString());
+        if (!REMOVE.equals(op)) {
+            operation.put(VALUE, nullToNull(value));
+        }
+    }
+
+    private static boolean isContainer(ContainerValue value) {
+        return value instanceof ObjectContainer || value instanceof ArrayContainer;
+    }
+
+    private static ContainerValue nullToNull(ContainerValue value) {
+        return value == null ? PrimitiveValue.NULL : value;
+    }
+
+    private static void appendToken(StringBuilder path, String key) {
+        path.append('/');
+        if (key.indexOf('~') < 0 && key.indexOf('/') < 0) {
+            path.append(key);
+        } else {
+            path.append(escape(key));
+        }
+    }
+
+    private static String escape(String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * 연산을 순서대로 target 에 직접 적용하고 결과 문서를 반환합니다.
+     * 문서 전체를 바꾸는 연산(경로 "")이 없으면 target 자신이 반환됩니다.
+     */
+    static ContainerValue apply(ContainerValue target, ArrayContainer operations) {
+        ContainerValue root = target;
+        for (int i = 0, n = operations.size(); i < n; i++) {
+            ContainerValue operation = operations.get(i);
+            if (!(operation instanceof ObjectContainer)) {
+                throw new IllegalArgumentException("Patch operation #" + i + " is not an object");
+            }
+            root = apply(root, (ObjectContainer) operation, i);
+        }
+        return root;
+    }
+
+    private static ContainerValue apply(ContainerValue root, ObjectContainer operation, int index) {
+        String op = requireString(operation, OP, index);
+        String pointer = requireString(operation, PATH, index);
+        String[] path = parsePointer(pointer);
+        switch (op) {
+            case ADD:
+                return add(root, path, pointer, requireValue(operation, index));
+            case REMOVE:
+                remove(root, path, pointer);
+                return root;
+            case REPLACE:
+                return replace(root, path, pointer, requireValue(operation, index));
+            case MOVE: {
+                String fromPointer = requireString(operation, FROM, index);
+                String[] from = parsePointer(fromPointer);
+                if (Arrays.equals(from, path)) {
+                    get(root, from, fromPointer);
+                    return root;
+                }
+                if (from.length < path.length && Arrays.equals(from, Arrays.copyOf(path, from.length))) {
+                    throw new IllegalArgumentException("Patch operation #" + index + " moves '" + fromPointer
+                            + "' into its own child '" + pointer + "'");
+                }
+                return add(root, path, pointer, remove(root, from, fromPointer));
+            }
+            case COPY: {
+                String fromPointer = requireString(operation, FROM, index);
+                ContainerValue value = get(root, parsePointer(fromPointer), fromPointer);
+                return add(root, path, pointer, ContainerValues.cloneContainer(value));
+            }
+            case TEST:
+                if (!testEquals(get(root, path, pointer), requireValue(operation, index))) {
+                    throw new IllegalStateException("Test failed at '" + pointer + "'");
+                }
+                return root;
+            default:
+                throw new IllegalArgumentException("Unknown patch operation #" + index + ": " + op);
+        }
+    }
+
+    /**
+     * test 연산의 비교. RFC 6902 는 숫자를 값으로 비교하므로 Integer 와 Long, 1 과 1.0 처럼
+     * 구현마다 다르게 만들어지는 숫자 타입도 값이 같으면 같다고 봅니다. 그 밖의 값은 {@link ContainerValues#equals} 와 같습니다.
+     */
+    static boolean testEquals(ContainerValue a, ContainerValue b) {
+        a = nullToNull(a);
+        b = nullToNull(b);
+        if (a instanceof ObjectContainer && b instanceof ObjectContainer) {
+            ObjectContainer objectA = (ObjectContainer) a;
+            ObjectContainer objectB = (ObjectContainer) b;
+            if (objectA.size() != objectB.size()) {
+                return false;
+            }
+            for (Map.Entry<String, ContainerValue> entry : objectA) {
+                ContainerValue other = objectB.get(entry.getKey());
+                if (other == null && !objectB.containsKey(entry.getKey())) {
+                    return false;
+                }
+                if (!testEquals(entry.getValue(), other)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+            ArrayContainer arrayA = (ArrayContainer) a;
+            ArrayContainer arrayB = (ArrayContainer) b;
+            int size = arrayA.size();
+            if (size != arrayB.size()) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (!testEquals(arrayA.get(i), arrayB.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (a.isPrimitive() && b.isPrimitive()) {
+            Object rawA = a.raw();
+            Object rawB = b.raw();
+            if (rawA instanceof Number && rawB instanceof Number) {
+                return numberEquals((Number) rawA, (Number) rawB);
+            }
+        }
+        return ContainerValues.equals(a, b);
+    }
+
+    private static boolean numberEquals(Number a, Number b) {
+        if (isIntegral(a) && isIntegral(b)) {
+            return a.longValue() == b.longValue();
+        }
+        BigDecimal decimalA = toBigDecimal(a);
+        BigDecimal decimalB = toBigDecimal(b);
+        if (decimalA == null || decimalB == null) {
+            // NaN, Infinity
+            return Double.compare(a.doubleValue(), b.doubleValue()) == 0;
+        }
+        return decimalA.compareTo(decimalB) == 0;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        } else if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        } else if (isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        // double 의 이진 전개 대신 문자열 표현을 써서 1.1f 와 1.1 을 같은 값으로 봅니다.
+        try {
+            return new BigDecimal(number.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String requireString(ObjectContainer operation, String key, int index) {
+        ContainerValue value = operation.get(key);
+        if (value == null || value.isNull() || !(value.raw() instanceof String)) {
+            throw new IllegalArgumentException("Patch operation #" + index + " has no '" + key + "' string");
+        }
+        return (String) value.raw();
+    }
+
+    private static ContainerValue requireValue(ObjectContainer operation, int index) {
+        if (!operation.containsKey(VALUE)) {
+            throw new IllegalArgumentException("Patch operation #" + index + " has no 'value'");
+        }
+        return nullToNull(operation.get(VALUE));
+    }
+
+    static String[] parsePointer(String pointer) {
+        if (pointer.isEmpty()) {
+            return ROOT;
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new IllegalArgumentException("JSON Pointer must start with '/': " + pointer);
+        }
+        String[] tokens = pointer.substring(1).split("/", -1);
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i].indexOf('~') >= 0) {
+                tokens[i] = tokens[i].replace("~1", "/").replace("~0", "~");
+            }
+        }
+        return tokens;
+    }
+
+    private static ContainerValue get(ContainerValue root, String[] path, String pointer) {
+        ContainerValue current = root;
+        for (String token : path) {
+            current = child(current, token, pointer);
+        }
+        return current;
+    }
+
+    private static ContainerValue parent(ContainerValue root, String[] path, String pointer) {
+        ContainerValue current = root;
+        for (int i = 0; i < path.length - 1; i++) {
+            current = child(current, path[i], pointer);
+        }
+        return current;
+    }
+
+    private static ContainerValue child(ContainerValue container, String token, String pointer) {
+        if (container instanceof ObjectContainer) {
+            ObjectContainer object = (ObjectContainer) container;
+            ContainerValue value = object.get(token);
+            if (value == null && !object.containsKey(token)) {
+                throw new IllegalStateException("Path not found: '" + pointer + "'");
+            }
+            return value;
+        } else if (container instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) container;
+            return array.get(index(array, token, pointer, false));
+        }
+        throw new IllegalStateException("Path not found: '" + pointer + "'");
+    }
+
+    private static int index(ArrayContainer array, String token, String pointer, boolean allowEnd) {
+        int size = array.size();
+        if (allowEnd && token.equals("-")) {
+            return size;
+        }
+        int index = -1;
+        if (!token.isEmpty() && token.length() <= 9 && (token.length() == 1 || token.charAt(0) != '0')) {
+            index = 0;
+            for (int i = 0; i < token.length(); i++) {
+                char c = token.charAt(i);
+                if (c < '0' || c > '9') {
+                    index = -1;
+                    break;
+                }
+                index = index * 10 + (c - '0');
+            }
+        }
+        if (index < 0 || index > size || (index == size && !allowEnd)) {
+            throw new IllegalStateException("Array index out of range at '" + pointer + "'");
+        }
+        return index;
+    }
+
+    private static ContainerValue add(ContainerValue root, String[] path, String pointer, ContainerValue value) {
+        if (path.length == 0) {
+            return value;
+        }
+        ContainerValue parent = parent(root, path, pointer);
+        String last = path[path.length - 1];
+        if (parent instanceof ObjectContainer) {
+            ((ObjectContainer) parent).put(last, value);
+        } else if (parent instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) parent;
+            array.insert(index(array, last, pointer, true), value);
+        } else {
+            throw new IllegalStateException("Path not found: '" + pointer + "'");
+        }
+        return root;
+    }
+
+    private static ContainerValue remove(ContainerValue root, String[] path, String pointer) {
+        if (path.length == 0) {
+            throw new IllegalArgumentException("Cannot remove the document root");
+        }
+        ContainerValue parent = parent(root, path, pointer);
+        String last = path[path.length - 1];
+        if (parent instanceof ObjectContainer) {
+            ObjectContainer object = (ObjectContainer) parent;
+            if (!object.containsKey(last)) {
+                throw new IllegalStateException("Path not found: '" + pointer + "'");
+            }
+            return nullToNull(object.remove(last));
+        } else if (parent instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) parent;
+            return nullToNull(array.remove(index(array, last, pointer, false)));
+        }
+        throw new IllegalStateException("Path not found: '" + pointer + "'");
+    }
+
+    private static ContainerValue replace(ContainerValue root, String[] path, String pointer, ContainerValue value) {
+        if (path.length == 0) {
+            return value;
+        }
+        ContainerValue parent = parent(root, path, pointer);
+        String last = path[path.length - 1];
+        if (parent instanceof ObjectContainer) {
+            ObjectContainer object = (ObjectContainer) parent;
+            if (!object.containsKey(last)) {
+                throw new IllegalStateException("Path not found: '" + pointer + "'");
+            }
+            object.put(last, value);
+        } else if (parent instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) parent;
+            array.put(index(array, last, pointer, false), value);
+        } else {
+            throw new IllegalStateException("Path not found: '" + pointer + "'");
+        }
+        return root;
+    }
+}
@@ -0,0 +1,61 @@
+package com.hancomins.jsn4j;
+
+/**
+ * long 값을 박싱하지 않고 보관하는 PrimitiveValue. {@link PrimitiveValue#of(long)} 로 생성합니다.
+ */
+final class LongPrimitiveValue extends NumberPrimitiveValue {
+
+    private final long value;
+
+    LongPrimitiveValue(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object raw() {
+        return value;
+    }
+
+    @Override
+    public int asInt() {
+        return (int) value;
+    }
+
+    @Override
+    public long asLong() {
+        return value;
+    }
+
+    @Override
+    public float asFloat() {
+        return value;
+    }
+
+    @Override
+    public double asDouble() {
+        return value;
+    }
+
+    @Override
+    public String asString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public byte[] asByteArray() {
+        return toBytes(value, 8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof LongPrimitiveValue) {
+            return ((LongPrimitiveValue) o).value == value;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
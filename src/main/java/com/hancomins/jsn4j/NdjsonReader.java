@@ -0,0 +1,372 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.tool.MappedFileInputStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * NDJSON (JSON Lines) 를 한 줄에 하나의 {@link ContainerValue} 로 읽습니다.
+ * 각 줄은 지정한 {@link ContainerFactory} 의 파서로 UTF-8 바이트에서 바로 파싱되며, 빈 줄은 건너뜁니다.
+ * 줄 끝은 {@code \n} 과 {@code \r\n} 을 모두 허용합니다.
+ * <p>
+ * {@link #setExecutor(Executor, int)} 로 Executor 를 지정하면 줄을 병렬로 파싱합니다.
+ * 최대 window 개의 줄을 미리 읽어 최대 64 줄씩 묶어 Executor 에 넘기고, 결과는 항상 입력 순서대로 반환합니다.
+ * <p>
+ * 한 번만 순회할 수 있습니다. 인스턴스는 스레드 안전하지 않습니다.
+ * <pre>{@code
+ * try (NdjsonReader reader = new NdjsonReader(path, Jsn4j.getDefaultContainerFactory())) {
+ *     for (ContainerValue value : reader) { ... }
+ * }
+ * }</pre>
+ */
+public class NdjsonReader implements Iterable<ContainerValue>, Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /** 병렬 파싱 시 한 작업에 묶는 최대 줄 수. 줄마다 작업을 만들면 스케줄링 비용이 파싱 비용을 넘습니다. */
+    private static final int MAX_BATCH_LINES = 64;
+
+    private final InputStream input;
+    private final ContainerParser parser;
+
+    private byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private long lineNumber;
+    // 마지막으로 읽은 줄의 범위 (줄 끝 문자 제외)
+    private int lineStart;
+    private int lineEnd;
+
+    private Executor executor;
+    private int windowSize;
+    private int batchSize;
+    private final ArrayDeque<CompletableFuture<Batch>> pending = new ArrayDeque<>();
+    private Batch batch;
+    private int batchIndex;
+
+    private boolean iterated;
+    private ContainerValue nextValue;
+
+    public NdjsonReader(InputStream input) {
+        this(input, Jsn4j.getDefaultContainerFactory());
+    }
+
+    public NdjsonReader(InputStream input, ContainerFactory containerFactory) {
+        if (input == null) {
+            throw new IllegalArgumentException("InputStream cannot be null");
+        }
+        if (containerFactory == null) {
+            throw new IllegalArgumentException("ContainerFactory cannot be null");
+        }
+        this.input = input;
+        this.parser = containerFactory.getParser();
+    }
+
+    /**
+     * 파일을 메모리 매핑하여 읽습니다. ({@link MappedFileInputStream})
+     * @throws UncheckedIOException 파일을 열 수 없는 경우
+     */
+    public NdjsonReader(Path path, ContainerFactory containerFactory) {
+        this(open(path), containerFactory);
+    }
+
+    private static InputStream open(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new MappedFileInputStream(channel);
+        } catch (IOException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new UncheckedIOException("Failed to open file: " + path, e);
+        }
+    }
+
+    /**
+     * 줄을 병렬로 파싱할 Executor 를 지정합니다. 순회를 시작하기 전에 호출해야 합니다.
+     * @param executor 파싱을 실행할 Executor. null 이면 호출 스레드에서 순서대로 파싱합니다.
+     * @param windowSize 동시에 파싱 중일 수 있는 최대 줄 수. 메모리에 올라가는 줄 수의 상한이기도 합니다.
+     */
+    public void setExecutor(Executor executor, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be greater than 0");
+        }
+        if (iterated) {
+            throw new IllegalStateException("NdjsonReader is already being iterated");
+        }
+        this.executor = executor;
+        this.windowSize = windowSize;
+        this.batchSize = Math.min(MAX_BATCH_LINES, windowSize);
+    }
+
+    /**
+     * 마지막으로 읽은 줄의 번호 (1 부터 시작, 빈 줄 포함)
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public Iterator<ContainerValue> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("NdjsonReader can only be iterated once");
+        }
+        iterated = true;
+        return new Iterator<ContainerValue>() {
+            @Override
+            public boolean hasNext() {
+                if (nextValue == null) {
+                    nextValue = readNext();
+                }
+                return nextValue != null;
+            }
+
+            @Override
+            public ContainerValue next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ContainerValue value = nextValue;
+                nextValue = null;
+                return value;
+            }
+        };
+    }
+
+    /**
+     * 순서가 보장되는 순차 스트림. 스트림을 닫으면 이 리더도 닫힙니다.
+     */
+    public Stream<ContainerValue> stream() {
+        Spliterator<ContainerValue> spliterator = Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * @return 다음 값, 더 이상 없으면 null
+     */
+    private ContainerValue readNext() {
+        if (executor == null) {
+            while (nextLine()) {
+                if (!isBlank(buffer, lineStart, lineEnd)) {
+                    return parseLine(buffer, lineStart, lineEnd - lineStart, lineNumber);
+                }
+            }
+            return null;
+        }
+        while (batch == null || batchIndex == batch.count) {
+            if (batch != null && batch.error != null) {
+                RuntimeException error = batch.error;
+                batch = null;
+                throw error;
+            }
+            // 창이 찰 때까지 미리 읽어 둡니다.
+            while (pending.size() * batchSize < windowSize) {
+                if (!submitBatch()) {
+                    break;
+                }
+            }
+            CompletableFuture<Batch> head = pending.poll();
+            if (head == null) {
+                batch = null;
+                return null;
+            }
+            try {
+                batch = head.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw e;
+            }
+            batchIndex = 0;
+        }
+        ContainerValue value = batch.values[batchIndex];
+        batch.values[batchIndex++] = null;
+        return value;
+    }
+
+    /**
+     * 비어 있지 않은 줄을 최대 batchSize 개 읽어 하나의 작업으로 Executor 에 넘깁니다.
+     * 버퍼는 다음 줄을 읽을 때 재사용되므로 줄은 하나의 배열로 복사합니다.
+     * @return 넘긴 줄이 없으면 false
+     */
+    private boolean submitBatch() {
+        byte[] bytes = new byte[1024];
+        int[] ends = new int[batchSize];
+        long[] numbers = new long[batchSize];
+        int count = 0;
+        int length = 0;
+        while (count < batchSize && nextLine()) {
+            int lineLength = lineEnd - lineStart;
+            if (isBlank(buffer, lineStart, lineEnd)) {
+                continue;
+            }
+            if (length + lineLength > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + lineLength));
+            }
+            System.arraycopy(buffer, lineStart, bytes, length, lineLength);
+            length += lineLength;
+            ends[count] = length;
+            numbers[count] = lineNumber;
+            ++count;
+        }
+        if (count == 0) {
+            return false;
+        }
+        byte[] lines = bytes;
+        int lineCount = count;
+        pending.add(CompletableFuture.supplyAsync(() -> {
+            Batch result = new Batch(lineCount);
+            int start = 0;
+            try {
+                for (int i = 0; i < lineCount; i++) {
+                    result.values[i] = parseLine(lines, start, ends[i] - start, numbers[i]);
+                    result.count = i + 1;
+                    start = ends[i];
+                }
+            } catch (RuntimeException e) {
+                // 앞선 줄은 그대로 반환하고, 실패한 줄에 도달했을 때 예외를 던집니다.
+                result.error = e;
+            }
+            return result;
+        }, executor));
+        return true;
+    }
+
+    private ContainerValue parseLine(byte[] bytes, int offset, int length, long number) {
+        try {
+            return parser.parse(bytes, offset, length);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new IllegalArgumentException("Invalid JSON at line " + number + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다음 줄을 찾아 lineStart / lineEnd 에 기록합니다.
+     * @return 더 이상 줄이 없으면 false
+     */
+    private boolean nextLine() {
+        int scanFrom = pos;
+        while (true) {
+            for (int i = scanFrom; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    setLine(pos, i);
+                    pos = i + 1;
+                    return true;
+                }
+            }
+            scanFrom = limit;
+            if (eof) {
+                if (pos < limit) {
+                    setLine(pos, limit);
+                    pos = limit;
+                    return true;
+                }
+                return false;
+            }
+            int kept = limit - pos;
+            if (pos > 0) {
+                System.arraycopy(buffer, pos, buffer, 0, kept);
+                scanFrom -= pos;
+                pos = 0;
+                limit = kept;
+            }
+            if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            fill();
+        }
+    }
+
+    private void setLine(int start, int end) {
+        if (end > start && buffer[end - 1] == '\r') {
+            --end;
+        }
+        lineStart = start;
+        lineEnd = end;
+        ++lineNumber;
+    }
+
+    private void fill() {
+        try {
+            int read;
+            do {
+                read = input.read(buffer, limit, buffer.length - limit);
+            } while (read == 0);
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read NDJSON after line " + lineNumber, e);
+        }
+    }
+
+    private static boolean isBlank(byte[] bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 입력을 닫습니다. 파싱 중인 줄의 결과는 버립니다.
+     */
+    @Override
+    public void close() throws IOException {
+        for (CompletableFuture<Batch> future : pending) {
+            future.cancel(false);
+        }
+        pending.clear();
+        batch = null;
+        input.close();
+    }
+
+    private static final class Batch {
+        final ContainerValue[] values;
+        /** 파싱에 성공한 줄 수 */
+        int count;
+        /** count 번째 줄의 파싱 오류 (없으면 null) */
+        RuntimeException error;
+
+        Batch(int size) {
+            this.values = new ContainerValue[size];
+        }
+    }
+}
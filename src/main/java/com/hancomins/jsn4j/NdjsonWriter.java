@@ -0,0 +1,93 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.simple.SimpleJsonWriter;
+import com.hancomins.jsn4j.tool.StringBuilderCache;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * {@link ContainerValue} 를 한 줄에 하나씩 NDJSON (JSON Lines) 으로 씁니다.
+ * 값은 자신의 {@link ContainerWriter} 가 아니라 {@link SimpleJsonWriter#writeCompact(ContainerValue, Appendable)} 로
+ * 직렬화되므로 어떤 {@link ContainerFactory} 의 값이든 섞어 쓸 수 있고, PRETTY_PRINT 같은 옵션이나
+ * JSON5 의 주석과 같은 확장 문법 없이 항상 한 줄의 JSON 으로 기록됩니다.
+ * 줄 끝은 {@code \n} 입니다.
+ */
+public class NdjsonWriter implements Closeable, Flushable {
+
+    private final Writer writer;
+
+    /**
+     * UTF-8 로 씁니다. 출력은 버퍼링되므로 마지막에 {@link #flush()} 또는 {@link #close()} 를 호출해야 합니다.
+     */
+    public NdjsonWriter(OutputStream output) {
+        if (output == null) {
+            throw new IllegalArgumentException("OutputStream cannot be null");
+        }
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    public NdjsonWriter(Writer writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Writer cannot be null");
+        }
+        this.writer = writer;
+    }
+
+    public NdjsonWriter write(ContainerValue value) throws IOException {
+        SimpleJsonWriter.writeCompact(value, writer);
+        writer.write('\n');
+        return this;
+    }
+
+    public NdjsonWriter writeAll(Iterable<? extends ContainerValue> values) throws IOException {
+        for (ContainerValue value : values) {
+            write(value);
+        }
+        return this;
+    }
+
+    /**
+     * 스트림의 값을 만나는 순서대로 씁니다. 병렬 스트림이어도 순서는 유지됩니다.
+     */
+    public NdjsonWriter writeAll(Stream<? extends ContainerValue> values) throws IOException {
+        Iterator<? extends ContainerValue> iterator = values.iterator();
+        while (iterator.hasNext()) {
+            write(iterator.next());
+        }
+        return this;
+    }
+
+    /**
+     * 값 하나를 NDJSON 한 줄(줄 끝 문자 제외)로 직렬화합니다.
+     */
+    public static String toLine(ContainerValue value) {
+        StringBuilder sb = new StringBuilder(StringBuilderCache.capacityFor(ContainerValues.estimateSerializedSize(value)));
+        try {
+            SimpleJsonWriter.writeCompact(value, sb);
+        } catch (IOException e) {
+            // StringBuilder 는 IOException 을 던지지 않습니다.
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,45 @@
+package com.hancomins.jsn4j;
+
+/**
+ * 숫자를 박싱하지 않고 필드에 직접 보관하는 PrimitiveValue 의 공통 부모.
+ * 부모의 raw 필드는 비워 두고, {@link #raw()} 가 호출될 때마다 박싱된 값을 새로 만들어 반환합니다.
+ * 변환 결과는 같은 값을 박싱하여 {@link PrimitiveValue#PrimitiveValue(Object)} 로 감쌌을 때와 같습니다.
+ */
+abstract class NumberPrimitiveValue extends PrimitiveValue {
+
+    NumberPrimitiveValue() {
+        super();
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    public short asShort() {
+        return (short) asInt();
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return asInt() > 0;
+    }
+
+    @Override
+    public boolean asBooleanOr(boolean defaultValue) {
+        return asBoolean();
+    }
+
+    /**
+     * 값의 하위 length 바이트를 big-endian 으로 기록합니다. DataOutputStream 과 같은 순서입니다.
+     */
+    static byte[] toBytes(long bits, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = length - 1; i >= 0; i--) {
+            bytes[i] = (byte) bits;
+            bits >>>= 8;
+        }
+        return bytes;
+    }
+}
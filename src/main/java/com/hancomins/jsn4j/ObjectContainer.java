@@ -402,6 +402,41 @@ public interface ObjectContainer extends ContainerValue, Iterable<Map.Entry<Stri
         return child;
     }
 
+    /**
+     * source 의 복제본을 key 에 넣습니다. {@link CloneMode#COPY_ON_WRITE} 이면 원본의 하위 요소를 공유하는
+     * 오버레이를 넣으므로 복사 비용이 들지 않지만, 이 컨테이너가 쓰이는 동안 원본을 수정해서는 안 됩니다.
+     * {@link CloneMode#SHARE} 이면 source 를 그대로 넣습니다.
+     *
+     * @return 이 컨테이너에 들어간 복제본
+     */
+    default ObjectContainer putCopy(String key, ObjectContainer source, CloneMode mode) {
+        if (mode == CloneMode.SHARE) {
+            put(key, source);
+            return getObject(key);
+        } else if (mode != CloneMode.COPY_ON_WRITE) {
+            return putCopy(key, source);
+        }
+        put(key, getContainerFactory().newCopyOnWrite(source));
+        return getObject(key);
+    }
+
+    /**
+     * source 의 복제본을 key 에 넣습니다.
+     *
+     * @return 이 컨테이너에 들어간 복제본
+     * @see #putCopy(String, ObjectContainer, CloneMode)
+     */
+    default ArrayContainer putCopy(String key, ArrayContainer source, CloneMode mode) {
+        if (mode == CloneMode.SHARE) {
+            put(key, source);
+            return getArray(key);
+        } else if (mode != CloneMode.COPY_ON_WRITE) {
+            return putCopy(key, source);
+        }
+        put(key, getContainerFactory().newCopyOnWrite(source));
+        return getArray(key);
+    }
+
     default void merge(ObjectContainer source) {
         ContainerValues.merge(this, source);
     }
@@ -0,0 +1,393 @@
+package com.hancomins.jsn4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 최상위가 거대한 배열인 UTF-8 JSON 문서를 여러 스레드로 파싱합니다.
+ * <p>
+ * 먼저 한 번의 구조 스캔으로 최상위 요소의 경계를 찾습니다. (문자열과 중첩 깊이만 추적하며 값은 해석하지 않습니다)
+ * 이후 요소들을 약 {@link #getSplitSize()} 바이트 단위로 묶어 {@link ForkJoinPool} 에서 팩토리의 파서로 동시에 파싱하고,
+ * 결과를 입력 순서대로 팩토리의 {@link ArrayContainer} 하나에 담습니다.
+ * 따라서 결과는 {@link ContainerParser#parse(ByteBuffer)} 와 같습니다.
+ * <p>
+ * 최상위가 배열이 아니거나 입력이 {@link #getSplitSize()} 보다 작으면 파서로 한 번에 순차 파싱합니다.
+ * 파일은 1GB 구간으로 메모리 매핑하므로 2GB 를 넘는 파일도 처리할 수 있습니다.
+ */
+public class ParallelArrayParser {
+
+    /** 기본 작업 단위 크기 (256KB) */
+    public static final int DEFAULT_SPLIT_SIZE = 256 * 1024;
+
+    private static final long DEFAULT_MAPPING_SIZE = 1L << 30;
+
+    /** 배열로 접근할 수 없는 버퍼를 스캔할 때 한 번에 복사하는 크기 (64KB) */
+    private static final int DEFAULT_SCAN_BLOCK_SIZE = 64 * 1024;
+
+    private final ContainerFactory containerFactory;
+    private final ContainerParser parser;
+    private final ForkJoinPool pool;
+    private int splitSize = DEFAULT_SPLIT_SIZE;
+    private long mappingSize = DEFAULT_MAPPING_SIZE;
+    private int scanBlockSize = DEFAULT_SCAN_BLOCK_SIZE;
+
+    public ParallelArrayParser(ContainerFactory containerFactory) {
+        this(containerFactory, ForkJoinPool.commonPool());
+    }
+
+    public ParallelArrayParser(ContainerFactory containerFactory, ForkJoinPool pool) {
+        if (containerFactory == null) {
+            throw new IllegalArgumentException("ContainerFactory cannot be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        }
+        this.containerFactory = containerFactory;
+        this.parser = containerFactory.getParser();
+        this.pool = pool;
+    }
+
+    public int getSplitSize() {
+        return splitSize;
+    }
+
+    /**
+     * 한 작업이 맡는 바이트 수를 지정합니다. 이보다 작은 입력은 나누지 않고 순차 파싱합니다.
+     * 너무 작으면 작업 분배 비용이 커지고, 너무 크면 코어를 고르게 쓰지 못합니다.
+     */
+    public void setSplitSize(int splitSize) {
+        if (splitSize <= 0) {
+            throw new IllegalArgumentException("Split size must be greater than 0");
+        }
+        this.splitSize = splitSize;
+    }
+
+    /**
+     * 파일을 매핑하는 구간 크기. 테스트에서 구간 경계를 만들 때 사용합니다.
+     */
+    void setMappingSize(long mappingSize) {
+        this.mappingSize = mappingSize;
+    }
+
+    /**
+     * direct 버퍼를 스캔할 때 복사하는 블록 크기. 테스트에서 블록 경계를 만들 때 사용합니다.
+     */
+    void setScanBlockSize(int scanBlockSize) {
+        this.scanBlockSize = scanBlockSize;
+    }
+
+    public ContainerValue parse(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte array cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + bytes.length);
+        }
+        return parse(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * 버퍼의 남은 바이트(position ~ limit)를 파싱합니다. 버퍼의 position 은 변경되지 않습니다.
+     */
+    public ContainerValue parse(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("ByteBuffer cannot be null");
+        }
+        Source source = new Source(new ByteBuffer[]{buffer.slice()}, Integer.MAX_VALUE);
+        Boundaries boundaries = buffer.remaining() < splitSize ? null : scan(source, buffer.remaining(), scanBlockSize);
+        if (boundaries == null) {
+            return parser.parse(buffer);
+        }
+        return parseElements(source, boundaries);
+    }
+
+    /**
+     * 파일을 메모리 매핑하여 파싱합니다.
+     * @throws UncheckedIOException 파일을 열거나 매핑할 수 없는 경우
+     */
+    public ContainerValue parse(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        Boundaries boundaries;
+        Source source;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] chunks = new ByteBuffer[(int) ((size + mappingSize - 1) / mappingSize)];
+            for (int i = 0; i < chunks.length; i++) {
+                long position = i * mappingSize;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(mappingSize, size - position));
+            }
+            source = new Source(chunks, mappingSize);
+            boundaries = size < splitSize ? null : scan(source, size, scanBlockSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + path, e);
+        }
+        if (boundaries == null) {
+            return parser.parse(path);
+        }
+        return parseElements(source, boundaries);
+    }
+
+    private ContainerValue parseElements(Source source, Boundaries boundaries) {
+        ContainerValue[] values = new ContainerValue[boundaries.count];
+        if (values.length > 0) {
+            pool.invoke(new ParseTask(source, boundaries, values, 0, values.length));
+        }
+        ArrayContainer array = containerFactory.newArray();
+        for (ContainerValue value : values) {
+            array.put(value);
+        }
+        return array;
+    }
+
+    /**
+     * from ~ to 번째 요소를 '[' 와 ']' 로 감싸 하나의 작은 배열로 파싱하고, 그 요소들을 values 에 옮깁니다.
+     * 요소마다 파서를 호출하면 호출당 고정 비용(파서 생성 등)이 작은 요소의 파싱 비용을 넘기 때문입니다.
+     */
+    private void parseBatch(Source source, Boundaries boundaries, ContainerValue[] values, int from, int to) {
+        long start = boundaries.starts[from];
+        long end = boundaries.ends[to - 1];
+        byte[] bytes = new byte[(int) (end - start) + 2];
+        bytes[0] = '[';
+        copy(source, start, end, bytes, 1);
+        bytes[bytes.length - 1] = ']';
+        ArrayContainer batch = parser.parse(bytes, 0, bytes.length).asArray();
+        if (batch.size() != to - from) {
+            throw new IllegalStateException("Invalid array elements between position " + start + " and " + end);
+        }
+        for (int i = from; i < to; i++) {
+            values[i] = batch.get(i - from);
+        }
+    }
+
+    private static void copy(Source source, long start, long end, byte[] target, int offset) {
+        int first = (int) (start / source.chunkSize);
+        int last = (int) ((end - 1) / source.chunkSize);
+        for (int i = first; i <= last; i++) {
+            ByteBuffer slice = source.chunks[i].duplicate();
+            long base = i * source.chunkSize;
+            slice.limit((int) Math.min(slice.capacity(), end - base));
+            slice.position((int) Math.max(0, start - base));
+            int count = slice.remaining();
+            slice.get(target, offset, count);
+            offset += count;
+        }
+    }
+
+    /**
+     * 최상위 배열 요소의 경계를 찾습니다.
+     * 매핑된 파일처럼 배열로 접근할 수 없는 버퍼는 blockSize 씩 재사용하는 배열에 복사해서 스캔합니다.
+     * @return 최상위가 배열이 아니면 null
+     */
+    private static Boundaries scan(Source source, long size, int blockSize) {
+        Scanner scanner = new Scanner();
+        byte[] block = null;
+        long base = 0;
+        for (ByteBuffer chunk : source.chunks) {
+            int limit = chunk.limit();
+            boolean array = true;
+            if (chunk.hasArray()) {
+                array = scanner.scan(chunk.array(), chunk.arrayOffset(), chunk.arrayOffset() + limit, base - chunk.arrayOffset());
+            } else {
+                if (block == null) {
+                    block = new byte[(int) Math.min(blockSize, size)];
+                }
+                ByteBuffer slice = chunk.duplicate();
+                for (int offset = 0; offset < limit && array; ) {
+                    int count = Math.min(block.length, limit - offset);
+                    slice.get(block, 0, count);
+                    array = scanner.scan(block, 0, count, base + offset);
+                    offset += count;
+                }
+            }
+            if (!array) {
+                return null;
+            }
+            base += limit;
+        }
+        if (!scanner.rootSeen) {
+            return null;
+        }
+        if (!scanner.closed) {
+            throw new IllegalStateException("Unexpected EOF (position " + size + ")");
+        }
+        return scanner.boundaries;
+    }
+
+    /**
+     * 구조 스캔 상태. 요소의 범위는 첫 바이트부터 뒤따르는 ',' 또는 ']' 직전까지이며,
+     * 요소 뒤의 공백은 범위에 포함되어 파서가 건너뜁니다. 요소 내부의 문법은 요소를 파싱할 때 검사합니다.
+     */
+    private static final class Scanner {
+        final Boundaries boundaries = new Boundaries();
+        boolean inString;
+        boolean escape;
+        boolean rootSeen;
+        boolean closed;
+        int depth;
+        long elementStart = -1;
+
+        /**
+         * @param positionBase bytes[i] 의 입력 내 위치는 positionBase + i
+         * @return 최상위가 배열이 아니면 false
+         */
+        boolean scan(byte[] bytes, int from, int to, long positionBase) {
+            int i = from;
+            while (i < to) {
+                if (inString) {
+                    // 문자열 내부는 따옴표와 역슬래시만 확인합니다.
+                    while (i < to) {
+                        byte b = bytes[i++];
+                        if (escape) {
+                            escape = false;
+                        } else if (b == '\\') {
+                            escape = true;
+                        } else if (b == '"') {
+                            inString = false;
+                            break;
+                        }
+                    }
+                    continue;
+                }
+                byte b = bytes[i];
+                if (depth > 1) {
+                    // 요소 내부에서는 중첩 깊이만 추적합니다.
+                    switch (b) {
+                        case '"': inString = true; break;
+                        case '{':
+                        case '[': ++depth; break;
+                        case '}':
+                        case ']': --depth; break;
+                        default: break;
+                    }
+                } else if (!accept(b, positionBase + i)) {
+                    return false;
+                }
+                ++i;
+            }
+            return true;
+        }
+
+        boolean accept(byte b, long position) {
+            if (inString) {
+                if (escape) {
+                    escape = false;
+                } else if (b == '\\') {
+                    escape = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                return true;
+            }
+            if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                return true;
+            }
+            if (!rootSeen) {
+                if (b != '[') {
+                    return false;
+                }
+                rootSeen = true;
+                depth = 1;
+                return true;
+            }
+            if (closed) {
+                throw new IllegalStateException("Extra content after end of JSON (position " + position + ")");
+            }
+            if (depth == 1) {
+                if (b == ',' || b == ']') {
+                    if (elementStart >= 0) {
+                        boundaries.add(elementStart, position);
+                        elementStart = -1;
+                    } else if (b == ',' || boundaries.count > 0) {
+                        throw new IllegalStateException("Unexpected '" + (char) b + "' in array (position " + position + ")");
+                    }
+                    if (b == ']') {
+                        closed = true;
+                        depth = 0;
+                    }
+                    return true;
+                }
+                if (elementStart < 0) {
+                    elementStart = position;
+                }
+            }
+            if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                ++depth;
+            } else if (b == '}' || b == ']') {
+                if (depth == 1) {
+                    throw new IllegalStateException("Unexpected '" + (char) b + "' in array (position " + position + ")");
+                }
+                --depth;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 입력을 구성하는 버퍼들. 마지막을 제외한 모든 버퍼의 크기는 chunkSize 이며, 각 버퍼의 position 은 0 입니다.
+     */
+    private static final class Source {
+        final ByteBuffer[] chunks;
+        final long chunkSize;
+
+        Source(ByteBuffer[] chunks, long chunkSize) {
+            this.chunks = chunks;
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    private static final class Boundaries {
+        long[] starts = new long[1024];
+        long[] ends = new long[1024];
+        int count;
+
+        void add(long start, long end) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            ++count;
+        }
+    }
+
+    private final class ParseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Source source;
+        private final Boundaries boundaries;
+        private final ContainerValue[] values;
+        private final int from;
+        private final int to;
+
+        ParseTask(Source source, Boundaries boundaries, ContainerValue[] values, int from, int to) {
+            this.source = source;
+            this.boundaries = boundaries;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1 || boundaries.ends[to - 1] - boundaries.starts[from] <= splitSize) {
+                parseBatch(source, boundaries, values, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParseTask(source, boundaries, values, from, middle),
+                    new ParseTask(source, boundaries, values, middle, to));
+        }
+    }
+}
@@ -0,0 +1,584 @@
+package com.hancomins.jsn4j;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * {@link ContainerValues} 의 equals, diff, intersection, merge 를 여러 스레드로 수행합니다.
+ * <p>
+ * 트리를 순서대로 내려가다가 자식이 {@link #getSplitThreshold()} 개 이상인 오브젝트나 배열을 만나면,
+ * 그 키 목록이나 인덱스 범위를 반으로 나누어 {@link ForkJoinPool} 에서 동시에 처리합니다.
+ * 범위는 손자 개수까지 더한 크기가 분할 기준보다 작아질 때까지 나누므로, 자식이 큰 노드도 작업이 고르게 나뉩니다.
+ * 자식이 적은 노드는 현재 스레드에서 처리하며, 그 아래에 넓은 노드가 있으면 그곳에서 다시 나눕니다.
+ * <p>
+ * 각 노드의 자식은 한 스레드가 모두 읽은 뒤에 나누어 넘기고, 결과는 원래 키와 인덱스 순서대로 호출한 스레드에서 조립합니다.
+ * 따라서 결과는 순서가 있는 구현체의 키 순서까지 순차 버전과 같습니다. 결과에 값을 복사하거나 대상에 값을 넣는 작업도
+ * 노드마다 한 스레드에서 하므로 스레드 안전하지 않은 컨테이너도 사용할 수 있습니다.
+ * <p>
+ * 호출하는 동안 입력을 수정해서는 안 됩니다. 또한 같은 컨테이너 인스턴스가 트리의 여러 곳에 들어 있으면 동시에 읽히거나
+ * (지연 파싱, 오버레이 컨테이너는 읽을 때 내부 상태를 바꿉니다) merge 에서 동시에 수정될 수 있으므로 피해야 합니다.
+ */
+public class ParallelContainerValues {
+
+    /** 기본 분할 기준 (자식 1024 개) */
+    public static final int DEFAULT_SPLIT_THRESHOLD = 1024;
+
+    private static final Object ADD = new Object();
+
+    private final ForkJoinPool pool;
+    private int splitThreshold = DEFAULT_SPLIT_THRESHOLD;
+
+    public ParallelContainerValues() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelContainerValues(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    public int getSplitThreshold() {
+        return splitThreshold;
+    }
+
+    /**
+     * 나누어 처리할 자식 수의 기준을 지정합니다. 자식이 이보다 적은 노드는 나누지 않습니다.
+     * 너무 작으면 작업 분배 비용이 커지고, 너무 크면 코어를 고르게 쓰지 못합니다.
+     */
+    public void setSplitThreshold(int splitThreshold) {
+        if (splitThreshold <= 0) {
+            throw new IllegalArgumentException("Split threshold must be greater than 0");
+        }
+        this.splitThreshold = splitThreshold;
+    }
+
+    /**
+     * @see ContainerValues#equals(ContainerValue, ContainerValue)
+     */
+    public boolean equals(ContainerValue a, ContainerValue b) {
+        Walk walk = new Walk(CloneMode.DEEP);
+        return pool.invoke(new Call<>(() -> walk.equals(a, b)));
+    }
+
+    /**
+     * @see ContainerValues#diff(ContainerValue, ContainerValue)
+     */
+    public ContainerValue diff(ContainerValue a, ContainerValue b) {
+        return diff(a, b, CloneMode.DEEP);
+    }
+
+    /**
+     * @see ContainerValues#diff(ContainerValue, ContainerValue, CloneMode)
+     */
+    public ContainerValue diff(ContainerValue a, ContainerValue b, CloneMode mode) {
+        Walk walk = new Walk(mode);
+        return pool.invoke(new Call<>(() -> walk.diff(a, b)));
+    }
+
+    /**
+     * @see ContainerValues#intersection(ContainerValue, ContainerValue)
+     */
+    public ContainerValue intersection(ContainerValue a, ContainerValue b) {
+        return intersection(a, b, CloneMode.DEEP);
+    }
+
+    /**
+     * @see ContainerValues#intersection(ContainerValue, ContainerValue, CloneMode)
+     */
+    public ContainerValue intersection(ContainerValue a, ContainerValue b, CloneMode mode) {
+        Walk walk = new Walk(mode);
+        return pool.invoke(new Call<>(() -> walk.intersection(a, b)));
+    }
+
+    /**
+     * @see ContainerValues#merge(ContainerValue, ContainerValue)
+     */
+    public void merge(ContainerValue target, ContainerValue source) {
+        merge(target, source, CloneMode.DEEP);
+    }
+
+    /**
+     * 대상의 각 노드는 한 스레드만 수정하며, 서로 다른 하위 오브젝트끼리의 병합을 동시에 진행합니다.
+     *
+     * @throws IllegalArgumentException 대상과 원본의 값 유형이 일치하지 않는 경우
+     * @throws UnsupportedOperationException 값 유형에 대해 병합 작업이 지원되지 않는 경우
+     * @see ContainerValues#merge(ContainerValue, ContainerValue, CloneMode)
+     */
+    public void merge(ContainerValue target, ContainerValue source, CloneMode mode) {
+        if (target == null || source == null || source.isNull()) return;
+        if (target.getValueType() != source.getValueType()) {
+            throw new IllegalArgumentException("Cannot merge different value types: "
+                    + target.getValueType() + " vs " + source.getValueType());
+        }
+        if (target.getValueType() != ValueType.OBJECT && target.getValueType() != ValueType.ARRAY) {
+            throw new UnsupportedOperationException("Merge not supported for type: " + target.getValueType());
+        }
+        ContainerValue from = target == source ? ContainerValues.cloneContainer(source, CloneMode.COPY_ON_WRITE) : source;
+        Walk walk = new Walk(mode);
+        pool.invoke(new Call<>(() -> {
+            if (target.getValueType() == ValueType.OBJECT) {
+                walk.mergeObject(target.asObject(), from.asObject());
+            } else {
+                walk.mergeArray(target.asArray(), from.asArray());
+            }
+            return null;
+        }));
+    }
+
+    private static long weight(ContainerValue value) {
+        if (value instanceof ObjectContainer) {
+            return 1L + ((ObjectContainer) value).size();
+        } else if (value instanceof ArrayContainer) {
+            return 1L + ((ArrayContainer) value).size();
+        }
+        return 1L;
+    }
+
+    /**
+     * 자식 값들의 누적 크기. weights[i] 는 0 ~ i-1 번째 자식과 그 자식들의 수입니다.
+     */
+    private static long[] weights(ContainerValue[] values, int count) {
+        long[] weights = new long[count + 1];
+        for (int i = 0; i < count; i++) {
+            weights[i + 1] = weights[i] + weight(values[i]);
+        }
+        return weights;
+    }
+
+    /**
+     * 호출 한 번의 상태. 모든 메서드는 순차 버전과 같은 분기를 따르며, 넓은 노드에서만 자식을 나누어 처리합니다.
+     */
+    private final class Walk {
+        private final CloneMode mode;
+        private final int threshold = splitThreshold;
+        /** equals 에서 다른 곳을 찾으면 나머지 작업을 멈춥니다. 어느 한 곳이라도 다르면 전체 결과가 false 이기 때문입니다. */
+        private volatile boolean mismatch;
+
+        Walk(CloneMode mode) {
+            this.mode = mode;
+        }
+
+        private void invoke(long[] weights, Body body) {
+            new RangeTask(weights, threshold, body, 0, weights.length - 1).invoke();
+        }
+
+        boolean equals(ContainerValue a, ContainerValue b) {
+            if (mismatch) return false;
+            if (a == b) return true;
+            if (a == null || b == null) return false;
+            if (a.getValueType() != b.getValueType()) return false;
+            if (a.isHashCodeCached() && b.isHashCodeCached() && a.hashCode() != b.hashCode()) return false;
+
+            switch (a.getValueType()) {
+                case OBJECT:
+                    ObjectContainer objA = a.asObject();
+                    ObjectContainer objB = b.asObject();
+                    int size = objA.size();
+                    if (size != objB.size()) return false;
+                    if (size < threshold) {
+                        for (String key : objA.keySet()) {
+                            if (!equals(objA.get(key), objB.get(key))) return false;
+                        }
+                        return true;
+                    }
+                    ContainerValue[] left = new ContainerValue[size];
+                    ContainerValue[] right = new ContainerValue[size];
+                    int index = 0;
+                    for (String key : objA.keySet()) {
+                        left[index] = objA.get(key);
+                        right[index++] = objB.get(key);
+                    }
+                    return equals(left, right);
+                case ARRAY:
+                    ArrayContainer arrA = a.asArray();
+                    ArrayContainer arrB = b.asArray();
+                    int length = arrA.size();
+                    if (length != arrB.size()) return false;
+                    if (length < threshold) {
+                        for (int i = 0; i < length; i++) {
+                            if (!equals(arrA.get(i), arrB.get(i))) return false;
+                        }
+                        return true;
+                    }
+                    ContainerValue[] leftElements = new ContainerValue[length];
+                    ContainerValue[] rightElements = new ContainerValue[length];
+                    for (int i = 0; i < length; i++) {
+                        leftElements[i] = arrA.get(i);
+                        rightElements[i] = arrB.get(i);
+                    }
+                    return equals(leftElements, rightElements);
+                default:
+                    return ContainerValues.equals(a, b);
+            }
+        }
+
+        private boolean equals(ContainerValue[] left, ContainerValue[] right) {
+            invoke(weights(left, left.length), (from, to) -> {
+                for (int i = from; i < to && !mismatch; i++) {
+                    if (!equals(left[i], right[i])) {
+                        mismatch = true;
+                    }
+                }
+            });
+            return !mismatch;
+        }
+
+        ContainerValue diff(ContainerValue a, ContainerValue b) {
+            if (a == null || a.isNull()) return PrimitiveValue.NULL;
+            if (b == null || b.isNull()) return a;
+            if (a.getValueType() != b.getValueType()) return a;
+
+            switch (a.getValueType()) {
+                case OBJECT:
+                    ObjectContainer objA = a.asObject();
+                    ObjectContainer objB = b.asObject();
+                    ObjectContainer result = objA.getContainerFactory().newObject();
+                    int size = objA.size();
+                    if (size < threshold) {
+                        for (String key : objA.keySet()) {
+                            ContainerValue valA = objA.get(key);
+                            boolean inB = objB.containsKey(key);
+                            put(result, key, valA, diffMember(valA, inB, inB ? objB.get(key) : null));
+                        }
+                        return result;
+                    }
+                    String[] keys = new String[size];
+                    ContainerValue[] left = new ContainerValue[size];
+                    ContainerValue[] right = new ContainerValue[size];
+                    boolean[] inB = new boolean[size];
+                    int index = 0;
+                    for (String key : objA.keySet()) {
+                        keys[index] = key;
+                        left[index] = objA.get(key);
+                        inB[index] = objB.containsKey(key);
+                        right[index] = inB[index] ? objB.get(key) : null;
+                        index++;
+                    }
+                    Object[] outcomes = new Object[size];
+                    invoke(weights(left, left.length), (from, to) -> {
+                        for (int i = from; i < to; i++) {
+                            outcomes[i] = diffMember(left[i], inB[i], right[i]);
+                        }
+                    });
+                    for (int i = 0; i < size; i++) {
+                        put(result, keys[i], left[i], outcomes[i]);
+                    }
+                    return result;
+                case ARRAY:
+                    ArrayContainer arrA = a.asArray();
+                    ArrayContainer arrB = b.asArray();
+                    ArrayContainer resultArr = arrA.getContainerFactory().newArray();
+                    int length = Math.min(arrA.size(), arrB.size());
+                    if (length < threshold) {
+                        for (int i = 0; i < length; i++) {
+                            ContainerValue valA = arrA.get(i);
+                            put(resultArr, valA, diffElement(valA, arrB.get(i)));
+                        }
+                    } else {
+                        ContainerValue[] leftElements = new ContainerValue[length];
+                        ContainerValue[] rightElements = new ContainerValue[length];
+                        for (int i = 0; i < length; i++) {
+                            leftElements[i] = arrA.get(i);
+                            rightElements[i] = arrB.get(i);
+                        }
+                        Object[] elementOutcomes = new Object[length];
+                        invoke(weights(leftElements, leftElements.length), (from, to) -> {
+                            for (int i = from; i < to; i++) {
+                                elementOutcomes[i] = diffElement(leftElements[i], rightElements[i]);
+                            }
+                        });
+                        for (int i = 0; i < length; i++) {
+                            put(resultArr, leftElements[i], elementOutcomes[i]);
+                        }
+                    }
+                    // a 에만 있는 요소
+                    for (int i = arrB.size(), arrASize = arrA.size(); i < arrASize; i++) {
+                        ContainerValues.addValue(resultArr, arrA.get(i), mode);
+                    }
+                    return resultArr;
+                default:
+                    return ContainerValues.diff(a, b, mode);
+            }
+        }
+
+        /**
+         * @return 결과에 넣을 하위 차집합, a 의 값을 넣으라는 {@link #ADD}, 또는 넣을 것이 없으면 null
+         */
+        private Object diffMember(ContainerValue valA, boolean inB, ContainerValue valB) {
+            if (!inB) return ADD;
+            if (valA != null && valB != null) {
+                if (valA.isObject() && valB.isObject()) {
+                    ContainerValue diffed = diff(valA, valB);
+                    return diffed != null && diffed.isObject() && !diffed.asObject().isEmpty() ? diffed : null;
+                } else if (valA.isArray() && valB.isArray()) {
+                    ContainerValue diffed = diff(valA, valB);
+                    return diffed != null && diffed.isArray() && !diffed.asArray().isEmpty() ? diffed : null;
+                }
+            }
+            return ContainerValues.equals(valA, valB) ? null : ADD;
+        }
+
+        private Object diffElement(ContainerValue valA, ContainerValue valB) {
+            if (valA == null) return null;
+            if (valB == null || valA.getValueType() != valB.getValueType()) return ADD;
+            if (valA.isObject()) {
+                ContainerValue diffed = diff(valA, valB);
+                return diffed != null && diffed.isObject() && !diffed.asObject().isEmpty() ? diffed : null;
+            } else if (valA.isArray()) {
+                ContainerValue diffed = diff(valA, valB);
+                return diffed != null && diffed.isArray() && !diffed.asArray().isEmpty() ? diffed : null;
+            }
+            return ContainerValues.equals(valA, valB) ? null : ADD;
+        }
+
+        ContainerValue intersection(ContainerValue a, ContainerValue b) {
+            if (a == null || b == null || a.isNull() || b.isNull()) return PrimitiveValue.NULL;
+            if (a.getValueType() != b.getValueType()) return PrimitiveValue.NULL;
+
+            switch (a.getValueType()) {
+                case OBJECT:
+                    ObjectContainer objA = a.asObject();
+                    ObjectContainer objB = b.asObject();
+                    ObjectContainer result = objA.getContainerFactory().newObject();
+                    int size = objA.size();
+                    if (size < threshold) {
+                        for (String key : objA.keySet()) {
+                            if (objB.containsKey(key)) {
+                                ContainerValue valA = objA.get(key);
+                                put(result, key, valA, intersectMember(valA, objB.get(key), false));
+                            }
+                        }
+                        return result;
+                    }
+                    String[] keys = new String[size];
+                    ContainerValue[] left = new ContainerValue[size];
+                    ContainerValue[] right = new ContainerValue[size];
+                    int count = 0;
+                    for (String key : objA.keySet()) {
+                        if (objB.containsKey(key)) {
+                            keys[count] = key;
+                            left[count] = objA.get(key);
+                            right[count++] = objB.get(key);
+                        }
+                    }
+                    Object[] outcomes = new Object[count];
+                    invoke(weights(left, count), (from, to) -> {
+                        for (int i = from; i < to; i++) {
+                            outcomes[i] = intersectMember(left[i], right[i], false);
+                        }
+                    });
+                    for (int i = 0; i < count; i++) {
+                        put(result, keys[i], left[i], outcomes[i]);
+                    }
+                    return result;
+                case ARRAY:
+                    ArrayContainer arrA = a.asArray();
+                    ArrayContainer arrB = b.asArray();
+                    ArrayContainer resultArr = arrA.getContainerFactory().newArray();
+                    int length = Math.min(arrA.size(), arrB.size());
+                    if (length < threshold) {
+                        for (int i = 0; i < length; i++) {
+                            ContainerValue valA = arrA.get(i);
+                            put(resultArr, valA, intersectMember(valA, arrB.get(i), true));
+                        }
+                        return resultArr;
+                    }
+                    ContainerValue[] leftElements = new ContainerValue[length];
+                    ContainerValue[] rightElements = new ContainerValue[length];
+                    for (int i = 0; i < length; i++) {
+                        leftElements[i] = arrA.get(i);
+                        rightElements[i] = arrB.get(i);
+                    }
+                    Object[] elementOutcomes = new Object[length];
+                    invoke(weights(leftElements, leftElements.length), (from, to) -> {
+                        for (int i = from; i < to; i++) {
+                            elementOutcomes[i] = intersectMember(leftElements[i], rightElements[i], true);
+                        }
+                    });
+                    for (int i = 0; i < length; i++) {
+                        put(resultArr, leftElements[i], elementOutcomes[i]);
+                    }
+                    return resultArr;
+                default:
+                    return ContainerValues.intersection(a, b, mode);
+            }
+        }
+
+        /**
+         * @param element 배열 요소이면 true. 순차 버전처럼 배열 요소일 때만 빈 하위 배열을 뺍니다.
+         */
+        private Object intersectMember(ContainerValue valA, ContainerValue valB, boolean element) {
+            if (valA == null || valB == null || valA.getValueType() != valB.getValueType()) return null;
+            if (valA.isObject()) {
+                ContainerValue intersected = intersection(valA, valB);
+                return intersected != null && intersected.isObject() && !intersected.asObject().isEmpty() ? intersected : null;
+            } else if (valA.isArray()) {
+                ContainerValue intersected = intersection(valA, valB);
+                return intersected != null && intersected.isArray() && !(element && intersected.asArray().isEmpty()) ? intersected : null;
+            }
+            return ContainerValues.equals(valA, valB) ? ADD : null;
+        }
+
+        private void put(ObjectContainer result, String key, ContainerValue valA, Object outcome) {
+            if (outcome == ADD) {
+                ContainerValues.addValue(result, key, valA, mode);
+            } else if (outcome != null) {
+                result.put(key, outcome);
+            }
+        }
+
+        private void put(ArrayContainer result, ContainerValue valA, Object outcome) {
+            if (outcome == ADD) {
+                ContainerValues.addValue(result, valA, mode);
+            } else if (outcome != null) {
+                result.put(outcome);
+            }
+        }
+
+        void mergeObject(ObjectContainer target, ObjectContainer source) {
+            int size = source.size();
+            ContainerValue[] targets = size < threshold ? null : new ContainerValue[size];
+            ContainerValue[] sources = size < threshold ? null : new ContainerValue[size];
+            int count = 0;
+            for (String key : source.keySet()) {
+                ContainerValue val = source.get(key);
+                if (val instanceof ObjectContainer) {
+                    ContainerValue targetVal = target.get(key);
+                    if (targetVal instanceof ObjectContainer) {
+                        if (targets == null) {
+                            mergeObject((ObjectContainer) targetVal, (ObjectContainer) val);
+                        } else {
+                            // 대상 노드는 이 스레드만 수정하고, 하위 오브젝트의 병합만 나누어 처리합니다.
+                            targets[count] = targetVal;
+                            sources[count++] = val;
+                        }
+                        continue;
+                    }
+                }
+                ContainerValues.addValue(target, key, val, mode);
+            }
+            if (count > 0) {
+                mergeChildren(targets, sources, count);
+            }
+        }
+
+        void mergeArray(ArrayContainer target, ArrayContainer source) {
+            int targetSize = target.size();
+            int sourceSize = source.size();
+            int size = Math.min(targetSize, sourceSize);
+            ContainerValue[] targets = size < threshold ? null : new ContainerValue[size];
+            ContainerValue[] sources = size < threshold ? null : new ContainerValue[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                ContainerValue val = source.get(i);
+                if (val instanceof ObjectContainer || val instanceof ArrayContainer) {
+                    ContainerValue targetVal = target.get(i);
+                    if (val instanceof ObjectContainer ? targetVal instanceof ObjectContainer : targetVal instanceof ArrayContainer) {
+                        if (targets == null) {
+                            mergeChild(targetVal, val);
+                        } else {
+                            targets[count] = targetVal;
+                            sources[count++] = val;
+                        }
+                        continue;
+                    }
+                }
+                target.put(i, val);
+            }
+            if (count > 0) {
+                mergeChildren(targets, sources, count);
+            }
+            for (int i = targetSize; i < sourceSize; i++) {
+                ContainerValue val = source.get(i);
+                if (val instanceof ObjectContainer) {
+                    target.putCopy((ObjectContainer) val, mode);
+                } else if (val instanceof ArrayContainer) {
+                    target.putCopy((ArrayContainer) val, mode);
+                } else {
+                    ContainerValues.addValue(target, val, mode);
+                }
+            }
+        }
+
+        private void mergeChildren(ContainerValue[] targets, ContainerValue[] sources, int count) {
+            invoke(weights(sources, count), (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    mergeChild(targets[i], sources[i]);
+                }
+            });
+        }
+
+        private void mergeChild(ContainerValue target, ContainerValue source) {
+            if (source instanceof ObjectContainer) {
+                mergeObject((ObjectContainer) target, (ObjectContainer) source);
+            } else {
+                mergeArray((ArrayContainer) target, (ArrayContainer) source);
+            }
+        }
+    }
+
+    private interface Body {
+        void run(int from, int to);
+    }
+
+    /**
+     * from ~ to 번째 자식을 처리합니다. 자식과 손자의 수가 기준 이상이면 누적 크기가 반이 되는 지점에서 나눕니다.
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] weights;
+        private final int threshold;
+        private final Body body;
+        private final int from;
+        private final int to;
+
+        RangeTask(long[] weights, int threshold, Body body, int from, int to) {
+            this.weights = weights;
+            this.threshold = threshold;
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < 2 || weights[to] - weights[from] < threshold) {
+                body.run(from, to);
+                return;
+            }
+            long half = (weights[from] + weights[to]) >>> 1;
+            int low = from + 1;
+            int high = to - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (weights[middle] < half) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            invokeAll(new RangeTask(weights, threshold, body, from, low),
+                    new RangeTask(weights, threshold, body, low, to));
+        }
+    }
+
+    private static final class Call<T> extends RecursiveTask<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final Supplier<T> supplier;
+
+        Call(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        protected T compute() {
+            return supplier.get();
+        }
+    }
+}
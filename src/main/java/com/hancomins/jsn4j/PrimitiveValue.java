@@ -8,9 +8,19 @@ import java.util.Objects;
 
 public class PrimitiveValue implements ContainerValue {
 
+    /** 공유되는 true 값. PrimitiveValue 는 불변이므로 어디서나 함께 사용할 수 있습니다. */
+    public static final PrimitiveValue TRUE = new PrimitiveValue(Boolean.TRUE);
+    /** 공유되는 false 값. */
+    public static final PrimitiveValue FALSE = new PrimitiveValue(Boolean.FALSE);
+    /** 공유되는 null 값. */
+    public static final PrimitiveValue NULL = new PrimitiveValue(null);
+
     protected final Object raw;
 
-    @SuppressWarnings("unused")
+    /**
+     * raw 필드를 사용하지 않는 하위 클래스를 위한 생성자.
+     * 이 생성자를 사용하는 하위 클래스는 {@link #raw()} 와 {@link #isNull()} 을 재정의해야 합니다.
+     */
     protected PrimitiveValue() {
         this.raw = null;
     }
@@ -23,6 +33,80 @@ public class PrimitiveValue implements ContainerValue {
         }
     }
 
+    /**
+     * int 값을 박싱하지 않고 보관하는 PrimitiveValue 를 반환합니다.
+     * 작은 정수는 미리 만들어 둔 공유 인스턴스를 반환합니다. {@link #raw()} 는 Integer 를 반환합니다.
+     */
+    public static PrimitiveValue of(int value) {
+        if (value >= SmallNumberCache.LOW && value <= SmallNumberCache.HIGH) {
+            return SmallNumberCache.INTS[value - SmallNumberCache.LOW];
+        }
+        return new IntPrimitiveValue(value);
+    }
+
+    /**
+     * long 값을 박싱하지 않고 보관하는 PrimitiveValue 를 반환합니다.
+     * 작은 정수는 미리 만들어 둔 공유 인스턴스를 반환합니다. {@link #raw()} 는 Long 을 반환합니다.
+     */
+    public static PrimitiveValue of(long value) {
+        if (value >= SmallNumberCache.LOW && value <= SmallNumberCache.HIGH) {
+            return SmallNumberCache.LONGS[(int) value - SmallNumberCache.LOW];
+        }
+        return new LongPrimitiveValue(value);
+    }
+
+    /**
+     * double 값을 박싱하지 않고 보관하는 PrimitiveValue 를 반환합니다. {@link #raw()} 는 Double 을 반환합니다.
+     */
+    public static PrimitiveValue of(double value) {
+        return new DoublePrimitiveValue(value);
+    }
+
+    /**
+     * 공유 인스턴스 {@link #TRUE} 또는 {@link #FALSE} 를 반환합니다.
+     */
+    public static PrimitiveValue of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * 값의 타입에 맞는 PrimitiveValue 를 반환합니다.
+     * null 과 Boolean 은 공유 인스턴스로, Integer, Long, Double 은 박싱하지 않는 전용 구현으로 바꾸고
+     * 그 밖의 값은 {@link #PrimitiveValue(Object)} 로 감쌉니다.
+     * @throws IllegalArgumentException String, Number, Boolean, byte[] 가 아닌 값인 경우
+     */
+    public static PrimitiveValue of(Object value) {
+        if (value == null) {
+            return NULL;
+        } else if (value instanceof Integer) {
+            return of(((Integer) value).intValue());
+        } else if (value instanceof Long) {
+            return of(((Long) value).longValue());
+        } else if (value instanceof Double) {
+            return of(((Double) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            return of(((Boolean) value).booleanValue());
+        }
+        return new PrimitiveValue(value);
+    }
+
+    /**
+     * 자주 쓰이는 작은 정수에 대한 공유 인스턴스. 처음 사용될 때 초기화됩니다.
+     */
+    private static final class SmallNumberCache {
+        static final int LOW = -128;
+        static final int HIGH = 1023;
+        static final PrimitiveValue[] INTS = new PrimitiveValue[HIGH - LOW + 1];
+        static final PrimitiveValue[] LONGS = new PrimitiveValue[HIGH - LOW + 1];
+
+        static {
+            for (int i = 0; i < INTS.length; i++) {
+                INTS[i] = new IntPrimitiveValue(i + LOW);
+                LONGS[i] = new LongPrimitiveValue(i + LOW);
+            }
+        }
+    }
+
 
 
     @Override
@@ -329,14 +413,15 @@ public class PrimitiveValue implements ContainerValue {
     public boolean equals(Object o) {
         if(this == o) return true;
         if(o instanceof PrimitiveValue) {
-            o = ((PrimitiveValue)  o).raw;
+            o = ((PrimitiveValue)  o).raw();
         }
         if(o == null) return false;
-        return Objects.equals(o, this.raw);
+        return Objects.equals(o, raw());
     }
 
     @Override
     public int hashCode() {
+        Object raw = raw();
         if(raw == null) return 0;
         if(raw instanceof byte[]) {
             return Arrays.hashCode((byte[]) raw);
@@ -202,7 +202,7 @@ public class Fastjson2Array implements ArrayContainer {
     
     @Override
     public int hashCode() {
-        return jsonArray.hashCode();
+        return ContainerValues.hashCode(this);
     }
     
     /**
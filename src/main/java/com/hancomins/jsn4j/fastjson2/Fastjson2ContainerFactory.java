@@ -53,15 +53,15 @@ public class Fastjson2ContainerFactory implements ContainerFactory {
      */
     public static ContainerValue wrap(Object value) {
         if (value == null) {
-            return new PrimitiveValue(null);
+            return PrimitiveValue.NULL;
         } else if (value instanceof JSONObject) {
             return Fastjson2Object.wrap((JSONObject) value);
         } else if (value instanceof JSONArray) {
             return Fastjson2Array.wrap((JSONArray) value);
         } else if (value instanceof String || value instanceof Number || 
                    value instanceof Boolean || value instanceof byte[]) {
-            return new PrimitiveValue(value);
+            return PrimitiveValue.of(value);
         }
-        return new PrimitiveValue(value);
+        return PrimitiveValue.of(value);
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.hancomins.jsn4j.fastjson2;
+
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONReader;
+import com.hancomins.jsn4j.AbstractJsonEventReader;
+import com.hancomins.jsn4j.JsonEvent;
+
+import java.util.Arrays;
+
+/**
+ * Fastjson2 {@link JSONReader} 를 감싸는 {@link com.hancomins.jsn4j.JsonEventReader}.
+ * JSONReader 는 값 단위 API 이므로, 컨테이너 종류와 키/값 순서는 여기서 추적합니다.
+ * (JSONReader 는 값 뒤의 ',' 를 스스로 소비합니다.)
+ */
+public class Fastjson2EventReader extends AbstractJsonEventReader {
+
+    private final JSONReader reader;
+
+    /** 깊이별 컨테이너 종류: true = 오브젝트, false = 배열 */
+    private boolean[] objectStack = new boolean[16];
+    private int level;
+    private boolean afterFieldName;
+
+    public Fastjson2EventReader(JSONReader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("JSONReader cannot be null");
+        }
+        this.reader = reader;
+    }
+
+    public JSONReader getJSONReader() {
+        return reader;
+    }
+
+    @Override
+    protected JsonEvent advance() {
+        try {
+            if (level > 0 && !afterFieldName) {
+                if (objectStack[level - 1]) {
+                    if (reader.nextIfObjectEnd()) {
+                        --level;
+                        return JsonEvent.END_OBJECT;
+                    }
+                    fieldName = reader.readFieldName();
+                    if (fieldName == null) {
+                        throw new JSONException(reader.info("expected field name"));
+                    }
+                    afterFieldName = true;
+                    return JsonEvent.FIELD_NAME;
+                }
+                if (reader.nextIfArrayEnd()) {
+                    --level;
+                    return JsonEvent.END_ARRAY;
+                }
+            }
+            afterFieldName = false;
+            return readValue();
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private JsonEvent readValue() {
+        if (reader.isEnd()) {
+            return null;
+        }
+        if (reader.nextIfObjectStart()) {
+            push(true);
+            return JsonEvent.START_OBJECT;
+        }
+        if (reader.nextIfArrayStart()) {
+            push(false);
+            return JsonEvent.START_ARRAY;
+        }
+        if (reader.isString()) {
+            value = reader.readString();
+            return JsonEvent.VALUE_STRING;
+        }
+        if (reader.isNumber()) {
+            value = reader.readNumber();
+            return JsonEvent.VALUE_NUMBER;
+        }
+        if (reader.nextIfNull()) {
+            return JsonEvent.VALUE_NULL;
+        }
+        char c = reader.current();
+        if (c == 't' || c == 'f') {
+            boolean bool = reader.readBoolValue();
+            value = bool;
+            return bool ? JsonEvent.VALUE_TRUE : JsonEvent.VALUE_FALSE;
+        }
+        throw new JSONException(reader.info("unexpected token"));
+    }
+
+    private void push(boolean object) {
+        if (level == objectStack.length) {
+            objectStack = Arrays.copyOf(objectStack, level * 2);
+        }
+        objectStack[level++] = object;
+    }
+
+    @Override
+    protected void verifyEnd() {
+        if (!reader.isEnd()) {
+            throw new IllegalArgumentException("Invalid JSON: " + reader.info("input not end"));
+        }
+    }
+
+    @Override
+    public void close() {
+        reader.close();
+    }
+}
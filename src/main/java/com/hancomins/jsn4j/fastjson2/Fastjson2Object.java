@@ -192,7 +192,7 @@ public class Fastjson2Object implements ObjectContainer {
     
     @Override
     public int hashCode() {
-        return jsonObject.hashCode();
+        return ContainerValues.hashCode(this);
     }
     
     /**
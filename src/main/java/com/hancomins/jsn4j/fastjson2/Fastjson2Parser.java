@@ -2,12 +2,15 @@ package com.hancomins.jsn4j.fastjson2;
 
 import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONReader;
 import com.hancomins.jsn4j.ContainerParser;
 import com.hancomins.jsn4j.ContainerValue;
+import com.hancomins.jsn4j.JsonEventReader;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 public class Fastjson2Parser implements ContainerParser {
@@ -82,4 +85,66 @@ public class Fastjson2Parser implements ContainerParser {
             throw new IllegalArgumentException("Failed to parse JSON from input stream: " + e.getMessage(), e);
         }
     }
+    
+    @Override
+    public ContainerValue parse(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte array cannot be null");
+        }
+        
+        try (JSONReader reader = JSONReader.of(bytes, offset, length, StandardCharsets.UTF_8)) {
+            return Fastjson2ContainerFactory.wrap(readValue(reader));
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public ContainerValue parse(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("ByteBuffer cannot be null");
+        }
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        
+        // direct 버퍼는 복사 없이 JSONReader 가 직접 읽도록 넘깁니다. (원본 position 유지)
+        try (JSONReader reader = JSONReader.of(buffer.duplicate(), StandardCharsets.UTF_8)) {
+            return Fastjson2ContainerFactory.wrap(readValue(reader));
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getMessage(), e);
+        }
+    }
+    
+    private static Object readValue(JSONReader reader) {
+        Object parsed = reader.readAny();
+        if (!reader.isEnd()) {
+            throw new JSONException(reader.info("input not end"));
+        }
+        return parsed;
+    }
+    
+    @Override
+    public JsonEventReader newEventReader(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("JSON string cannot be null");
+        }
+        return new Fastjson2EventReader(JSONReader.of(value));
+    }
+    
+    @Override
+    public JsonEventReader newEventReader(Reader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+        return new Fastjson2EventReader(JSONReader.of(reader));
+    }
+    
+    @Override
+    public JsonEventReader newEventReader(InputStream input) {
+        if (input == null) {
+            throw new IllegalArgumentException("InputStream cannot be null");
+        }
+        return new Fastjson2EventReader(JSONReader.of(input, StandardCharsets.UTF_8));
+    }
 }
\ No newline at end of file
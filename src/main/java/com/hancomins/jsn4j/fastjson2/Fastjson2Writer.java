@@ -1,13 +1,19 @@
 package com.hancomins.jsn4j.fastjson2;
 
 import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONException;
 import com.alibaba.fastjson2.JSONWriter;
 import com.hancomins.jsn4j.ContainerValue;
 import com.hancomins.jsn4j.ContainerWriter;
+import com.hancomins.jsn4j.tool.AppendableWriter;
+import com.hancomins.jsn4j.tool.ByteBufferOutputStream;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -17,6 +23,7 @@ public class Fastjson2Writer implements ContainerWriter<Fastjson2WriteOption> {
     
     private final ContainerValue containerValue;
     private final Set<Fastjson2WriteOption> options;
+    private ByteBufferOutputStream pendingOutput;
     
     public Fastjson2Writer(ContainerValue containerValue) {
         this.containerValue = containerValue;
@@ -87,8 +94,62 @@ public class Fastjson2Writer implements ContainerWriter<Fastjson2WriteOption> {
     
     @Override
     public void write(OutputStream outputStream) throws IOException {
-        String json = write();
-        outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        try {
+            JSON.writeTo(outputStream, getFastjsonValue(), getFeatures());
+        } catch (JSONException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    @Override
+    public void write(Writer writer) throws IOException {
+        try (JSONWriter jsonWriter = JSONWriter.ofUTF16(getFeatures())) {
+            jsonWriter.writeAny(getFastjsonValue());
+            jsonWriter.flushTo(writer);
+        } catch (JSONException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    @Override
+    public void write(Appendable appendable) throws IOException {
+        if (appendable instanceof Writer) {
+            write((Writer) appendable);
+        } else {
+            write(new AppendableWriter(appendable));
+        }
+    }
+    
+    /**
+     * fastjson2 의 UTF-8 출력을 버퍼에 직접 기록합니다. 버퍼를 넘친 바이트는 보관했다가 다음 호출에서 이어서 기록합니다.
+     */
+    @Override
+    public boolean write(ByteBuffer buffer) throws IOException {
+        if (pendingOutput != null) {
+            if (!pendingOutput.drainTo(buffer)) {
+                return false;
+            }
+            pendingOutput = null;
+            return true;
+        }
+        ByteBufferOutputStream output = new ByteBufferOutputStream(buffer);
+        write(output);
+        if (output.hasPending()) {
+            pendingOutput = output;
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public void write(WritableByteChannel channel) throws IOException {
+        write(Channels.newOutputStream(channel));
     }
     
     /**
@@ -179,7 +179,7 @@ public class GsonArray extends AbstractGsonContainer implements ArrayContainer {
     
     @Override
     public int hashCode() {
-        return jsonArray.hashCode();
+        return ContainerValues.hashCode(this);
     }
     
     /**
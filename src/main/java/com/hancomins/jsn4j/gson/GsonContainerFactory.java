@@ -61,7 +61,7 @@ public class GsonContainerFactory implements ContainerFactory {
      */
     public static ContainerValue wrap(JsonElement element) {
         if (element == null || element.isJsonNull()) {
-            return new PrimitiveValue(null);
+            return PrimitiveValue.NULL;
         } else if (element.isJsonObject()) {
             return new GsonObject(element.getAsJsonObject());
         } else if (element.isJsonArray()) {
@@ -69,7 +69,7 @@ public class GsonContainerFactory implements ContainerFactory {
         } else if (element.isJsonPrimitive()) {
             return wrapPrimitive(element.getAsJsonPrimitive());
         }
-        return new PrimitiveValue(null);
+        return PrimitiveValue.NULL;
     }
     
     /**
@@ -77,34 +77,34 @@ public class GsonContainerFactory implements ContainerFactory {
      */
     private static PrimitiveValue wrapPrimitive(JsonPrimitive primitive) {
         if (primitive.isBoolean()) {
-            return new PrimitiveValue(primitive.getAsBoolean());
+            return PrimitiveValue.of(primitive.getAsBoolean());
         } else if (primitive.isNumber()) {
             Number number = primitive.getAsNumber();
             // Try to determine the most appropriate number type
             if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
-                return new PrimitiveValue(number.intValue());
+                return PrimitiveValue.of(number.intValue());
             } else if (number instanceof Long) {
-                return new PrimitiveValue(number.longValue());
+                return PrimitiveValue.of(number.longValue());
             } else if (number instanceof Float) {
                 return new PrimitiveValue(number.floatValue());
             } else if (number instanceof Double) {
-                return new PrimitiveValue(number.doubleValue());
+                return PrimitiveValue.of(number.doubleValue());
             } else {
                 // Check if it's actually an integer
                 double doubleValue = number.doubleValue();
                 if (doubleValue == Math.floor(doubleValue) && !Double.isInfinite(doubleValue)) {
                     if (doubleValue >= Integer.MIN_VALUE && doubleValue <= Integer.MAX_VALUE) {
-                        return new PrimitiveValue((int) doubleValue);
+                        return PrimitiveValue.of((int) doubleValue);
                     } else if (doubleValue >= Long.MIN_VALUE && doubleValue <= Long.MAX_VALUE) {
-                        return new PrimitiveValue((long) doubleValue);
+                        return PrimitiveValue.of((long) doubleValue);
                     }
                 }
-                return new PrimitiveValue(doubleValue);
+                return PrimitiveValue.of(doubleValue);
             }
         } else if (primitive.isString()) {
-            return new PrimitiveValue(primitive.getAsString());
+            return PrimitiveValue.of(primitive.getAsString());
         }
         // Fallback
-        return new PrimitiveValue(primitive.getAsString());
+        return PrimitiveValue.of(primitive.getAsString());
     }
 }
\ No newline at end of file
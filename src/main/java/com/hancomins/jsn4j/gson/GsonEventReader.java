@@ -0,0 +1,89 @@
+package com.hancomins.jsn4j.gson;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.hancomins.jsn4j.AbstractJsonEventReader;
+import com.hancomins.jsn4j.JsonEvent;
+
+import java.io.IOException;
+
+/**
+ * Gson {@link JsonReader} 를 감싸는 {@link com.hancomins.jsn4j.JsonEventReader}
+ */
+public class GsonEventReader extends AbstractJsonEventReader {
+
+    private final JsonReader reader;
+
+    public GsonEventReader(JsonReader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("JsonReader cannot be null");
+        }
+        this.reader = reader;
+    }
+
+    public JsonReader getJsonReader() {
+        return reader;
+    }
+
+    @Override
+    protected JsonEvent advance() {
+        try {
+            JsonToken token = reader.peek();
+            switch (token) {
+                case BEGIN_OBJECT:
+                    reader.beginObject();
+                    return JsonEvent.START_OBJECT;
+                case END_OBJECT:
+                    reader.endObject();
+                    return JsonEvent.END_OBJECT;
+                case BEGIN_ARRAY:
+                    reader.beginArray();
+                    return JsonEvent.START_ARRAY;
+                case END_ARRAY:
+                    reader.endArray();
+                    return JsonEvent.END_ARRAY;
+                case NAME:
+                    fieldName = reader.nextName();
+                    return JsonEvent.FIELD_NAME;
+                case STRING:
+                    value = reader.nextString();
+                    return JsonEvent.VALUE_STRING;
+                case NUMBER:
+                    value = toNumber(reader.nextString());
+                    return JsonEvent.VALUE_NUMBER;
+                case BOOLEAN:
+                    boolean bool = reader.nextBoolean();
+                    value = bool;
+                    return bool ? JsonEvent.VALUE_TRUE : JsonEvent.VALUE_FALSE;
+                case NULL:
+                    reader.nextNull();
+                    return JsonEvent.VALUE_NULL;
+                default:
+                    // END_DOCUMENT
+                    return null;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected void verifyEnd() {
+        try {
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new IllegalArgumentException("Extra content after end of JSON at " + reader.getPath());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close JSON reader: " + e.getMessage(), e);
+        }
+    }
+}
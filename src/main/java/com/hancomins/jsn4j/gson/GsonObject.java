@@ -172,6 +172,6 @@ public class GsonObject extends AbstractGsonContainer implements ObjectContainer
     
     @Override
     public int hashCode() {
-        return jsonObject.hashCode();
+        return ContainerValues.hashCode(this);
     }
 }
\ No newline at end of file
@@ -4,8 +4,10 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 import com.hancomins.jsn4j.ContainerParser;
 import com.hancomins.jsn4j.ContainerValue;
+import com.hancomins.jsn4j.JsonEventReader;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -63,4 +65,31 @@ public class GsonParser implements ContainerParser {
             throw new RuntimeException("Failed to read input stream: " + e.getMessage(), e);
         }
     }
+    
+    @Override
+    public JsonEventReader newEventReader(String json) {
+        if (json == null) {
+            throw new IllegalArgumentException("JSON string cannot be null");
+        }
+        return newEventReader(new StringReader(json));
+    }
+    
+    @Override
+    public JsonEventReader newEventReader(Reader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+        JsonReader jsonReader = new JsonReader(reader);
+        // JsonParser.parseReader 와 동일하게 lenient 모드로 읽습니다.
+        jsonReader.setLenient(true);
+        return new GsonEventReader(jsonReader);
+    }
+    
+    @Override
+    public JsonEventReader newEventReader(InputStream inputStream) {
+        if (inputStream == null) {
+            throw new IllegalArgumentException("InputStream cannot be null");
+        }
+        return newEventReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
 }
\ No newline at end of file
@@ -3,14 +3,20 @@ package com.hancomins.jsn4j.gson;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.hancomins.jsn4j.ContainerValue;
 import com.hancomins.jsn4j.ContainerWriter;
 import com.hancomins.jsn4j.ValueType;
+import com.hancomins.jsn4j.tool.ByteBufferOutputStream;
+import com.hancomins.jsn4j.tool.Utf8StreamWriter;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -21,6 +27,7 @@ public class GsonWriter implements ContainerWriter<GsonWriteOption> {
     private final ContainerValue containerValue;
     private final EnumSet<GsonWriteOption> options = EnumSet.noneOf(GsonWriteOption.class);
     private final Map<GsonWriteOption, Object> optionValues = new HashMap<>();
+    private ByteBufferOutputStream pendingOutput;
     
     public GsonWriter(ContainerValue containerValue) {
         this.containerValue = containerValue;
@@ -79,6 +86,55 @@ public class GsonWriter implements ContainerWriter<GsonWriteOption> {
         }
     }
     
+    @Override
+    public void write(Writer writer) throws IOException {
+        write((Appendable) writer);
+    }
+    
+    @Override
+    public void write(Appendable appendable) throws IOException {
+        Gson gson = buildGson();
+        JsonElement element = containerValueToJsonElement(containerValue);
+        try {
+            gson.toJson(element, appendable);
+        } catch (JsonIOException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Gson 출력을 UTF-8 로 버퍼에 직접 기록합니다. 버퍼를 넘친 바이트는 보관했다가 다음 호출에서 이어서 기록합니다.
+     */
+    @Override
+    public boolean write(ByteBuffer buffer) throws IOException {
+        if (pendingOutput != null) {
+            if (!pendingOutput.drainTo(buffer)) {
+                return false;
+            }
+            pendingOutput = null;
+            return true;
+        }
+        ByteBufferOutputStream output = new ByteBufferOutputStream(buffer);
+        Utf8StreamWriter writer = new Utf8StreamWriter(output);
+        write((Appendable) writer);
+        writer.finish();
+        if (output.hasPending()) {
+            pendingOutput = output;
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public void write(WritableByteChannel channel) throws IOException {
+        Utf8StreamWriter writer = new Utf8StreamWriter(Channels.newOutputStream(channel));
+        write((Appendable) writer);
+        writer.finish();
+    }
+    
     /**
      * 옵션에 따라 Gson 인스턴스를 구성
      */
@@ -170,7 +170,7 @@ public class JacksonArray extends AbstractJacksonContainer implements ArrayConta
     
     @Override
     public int hashCode() {
-        return node.hashCode();
+        return ContainerValues.hashCode(this);
     }
     
     /**
@@ -66,35 +66,35 @@ public class JacksonContainerFactory implements ContainerFactory {
      */
     public static ContainerValue wrap(JsonNode node, ObjectMapper mapper) {
         if (node == null || node.isNull()) {
-            return new PrimitiveValue(null);
+            return PrimitiveValue.NULL;
         } else if (node.isObject()) {
             return JacksonObject.wrap((ObjectNode) node, mapper);
         } else if (node.isArray()) {
             return JacksonArray.wrap((ArrayNode) node, mapper);
         } else if (node.isTextual()) {
-            return new PrimitiveValue(node.textValue());
+            return PrimitiveValue.of(node.textValue());
         } else if (node.isNumber()) {
             if (node.isInt()) {
-                return new PrimitiveValue(node.intValue());
+                return PrimitiveValue.of(node.intValue());
             } else if (node.isLong()) {
-                return new PrimitiveValue(node.longValue());
+                return PrimitiveValue.of(node.longValue());
             } else if (node.isFloat()) {
                 return new PrimitiveValue(node.floatValue());
             } else if (node.isDouble()) {
-                return new PrimitiveValue(node.doubleValue());
+                return PrimitiveValue.of(node.doubleValue());
             } else {
-                return new PrimitiveValue(node.numberValue());
+                return PrimitiveValue.of(node.numberValue());
             }
         } else if (node.isBoolean()) {
-            return new PrimitiveValue(node.booleanValue());
+            return PrimitiveValue.of(node.booleanValue());
         } else if (node.isBinary()) {
             try {
-                return new PrimitiveValue(node.binaryValue());
+                return PrimitiveValue.of(node.binaryValue());
             } catch (IOException e) {
                 throw new RuntimeException("Failed to extract binary value", e);
             }
         }
-        return new PrimitiveValue(null);
+        return PrimitiveValue.NULL;
     }
     
     /**
@@ -0,0 +1,94 @@
+package com.hancomins.jsn4j.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hancomins.jsn4j.AbstractJsonEventReader;
+import com.hancomins.jsn4j.JsonEvent;
+
+import java.io.IOException;
+
+/**
+ * Jackson {@link JsonParser} 를 감싸는 {@link com.hancomins.jsn4j.JsonEventReader}
+ */
+public class JacksonEventReader extends AbstractJsonEventReader {
+
+    private final JsonParser parser;
+
+    public JacksonEventReader(JsonParser parser) {
+        if (parser == null) {
+            throw new IllegalArgumentException("JsonParser cannot be null");
+        }
+        this.parser = parser;
+    }
+
+    public JsonParser getJsonParser() {
+        return parser;
+    }
+
+    @Override
+    protected JsonEvent advance() {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            switch (token) {
+                case START_OBJECT: return JsonEvent.START_OBJECT;
+                case END_OBJECT: return JsonEvent.END_OBJECT;
+                case START_ARRAY: return JsonEvent.START_ARRAY;
+                case END_ARRAY: return JsonEvent.END_ARRAY;
+                case FIELD_NAME:
+                    fieldName = parser.getCurrentName();
+                    return JsonEvent.FIELD_NAME;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    value = parser.getNumberValue();
+                    return JsonEvent.VALUE_NUMBER;
+                case VALUE_TRUE:
+                    value = Boolean.TRUE;
+                    return JsonEvent.VALUE_TRUE;
+                case VALUE_FALSE:
+                    value = Boolean.FALSE;
+                    return JsonEvent.VALUE_FALSE;
+                case VALUE_NULL:
+                    return JsonEvent.VALUE_NULL;
+                default:
+                    // VALUE_STRING, VALUE_EMBEDDED_OBJECT
+                    value = parser.getText();
+                    return JsonEvent.VALUE_STRING;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read JSON: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected JsonEvent skipContainer() {
+        try {
+            parser.skipChildren();
+            return parser.currentToken() == JsonToken.END_OBJECT ? JsonEvent.END_OBJECT : JsonEvent.END_ARRAY;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read JSON: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected void verifyEnd() {
+        try {
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("Extra content after end of JSON at " + parser.getCurrentLocation());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read JSON: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to close JSON parser: " + e.getMessage(), e);
+        }
+    }
+}
@@ -173,6 +173,6 @@ public class JacksonObject extends AbstractJacksonContainer implements ObjectCon
     
     @Override
     public int hashCode() {
-        return node.hashCode();
+        return ContainerValues.hashCode(this);
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hancomins.jsn4j.ContainerParser;
 import com.hancomins.jsn4j.ContainerValue;
+import com.hancomins.jsn4j.JsonEventReader;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -59,4 +60,54 @@ public class JacksonParser implements ContainerParser {
             throw new IllegalArgumentException("Failed to parse JSON from input stream: " + e.getMessage(), e);
         }
     }
+    
+    @Override
+    public ContainerValue parse(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte array cannot be null");
+        }
+        
+        try {
+            JsonNode node = mapper.readTree(bytes, offset, length);
+            return JacksonContainerFactory.wrap(node, mapper);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to parse JSON from byte array: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public JsonEventReader newEventReader(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("JSON string cannot be null");
+        }
+        try {
+            return new JacksonEventReader(mapper.getFactory().createParser(value));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to create JSON parser: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public JsonEventReader newEventReader(Reader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Reader cannot be null");
+        }
+        try {
+            return new JacksonEventReader(mapper.getFactory().createParser(reader));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to create JSON parser: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public JsonEventReader newEventReader(InputStream input) {
+        if (input == null) {
+            throw new IllegalArgumentException("InputStream cannot be null");
+        }
+        try {
+            return new JacksonEventReader(mapper.getFactory().createParser(input));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to create JSON parser: " + e.getMessage(), e);
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.hancomins.jsn4j.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -7,9 +8,16 @@ import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.hancomins.jsn4j.ContainerValue;
 import com.hancomins.jsn4j.ContainerWriter;
+import com.hancomins.jsn4j.tool.AppendableWriter;
+import com.hancomins.jsn4j.tool.ByteBufferOutputStream;
+import com.hancomins.jsn4j.tool.Utf8StreamWriter;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.EnumSet;
 import java.util.Set;
 
@@ -18,6 +26,7 @@ public class JacksonWriter implements ContainerWriter<JacksonWriteOption> {
     private final ContainerValue containerValue;
     private final ObjectMapper mapper;
     private final Set<JacksonWriteOption> options;
+    private ByteBufferOutputStream pendingOutput;
     
     public JacksonWriter(ContainerValue containerValue, ObjectMapper mapper) {
         this.containerValue = containerValue;
@@ -93,6 +102,52 @@ public class JacksonWriter implements ContainerWriter<JacksonWriteOption> {
         writer.writeValue(outputStream, node);
     }
     
+    @Override
+    public void write(Writer writer) throws IOException {
+        createWriter().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(writer, getJsonNode());
+    }
+    
+    @Override
+    public void write(Appendable appendable) throws IOException {
+        if (appendable instanceof Writer) {
+            write((Writer) appendable);
+        } else {
+            write(new AppendableWriter(appendable));
+        }
+    }
+    
+    /**
+     * Jackson 생성기의 문자 출력을 UTF-8 로 인코딩하며 버퍼에 직접 기록합니다. write() 와 같은 바이트를 만들기 위해
+     * 보조 평면 문자를 유니코드 이스케이프로 바꾸는 Jackson 의 UTF-8 생성기 대신 문자 기반 생성기를 사용합니다.
+     * 버퍼를 넘친 바이트는 보관했다가 다음 호출에서 이어서 기록합니다.
+     */
+    @Override
+    public boolean write(ByteBuffer buffer) throws IOException {
+        if (pendingOutput != null) {
+            if (!pendingOutput.drainTo(buffer)) {
+                return false;
+            }
+            pendingOutput = null;
+            return true;
+        }
+        ByteBufferOutputStream output = new ByteBufferOutputStream(buffer);
+        Utf8StreamWriter writer = new Utf8StreamWriter(output);
+        write((Writer) writer);
+        writer.finish();
+        if (output.hasPending()) {
+            pendingOutput = output;
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public void write(WritableByteChannel channel) throws IOException {
+        Utf8StreamWriter writer = new Utf8StreamWriter(Channels.newOutputStream(channel));
+        write((Writer) writer);
+        writer.finish();
+    }
+    
     /**
      * 현재 옵션에 따른 ObjectWriter 생성
      */
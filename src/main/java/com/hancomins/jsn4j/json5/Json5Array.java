@@ -202,7 +202,7 @@ public class Json5Array implements ArrayContainer {
     
     @Override
     public int hashCode() {
-        return json5Array.hashCode();
+        return ContainerValues.hashCode(this);
     }
     
     /**
@@ -53,15 +53,15 @@ public class Json5ContainerFactory implements ContainerFactory {
      */
     public static ContainerValue wrap(Object value) {
         if (value == null) {
-            return new PrimitiveValue(null);
+            return PrimitiveValue.NULL;
         } else if (value instanceof JSON5Object) {
             return Json5Object.wrap((JSON5Object) value);
         } else if (value instanceof JSON5Array) {
             return Json5Array.wrap((JSON5Array) value);
         } else if (value instanceof String || value instanceof Number || 
                    value instanceof Boolean || value instanceof byte[]) {
-            return new PrimitiveValue(value);
+            return PrimitiveValue.of(value);
         }
-        return new PrimitiveValue(value);
+        return PrimitiveValue.of(value);
     }
 }
\ No newline at end of file
@@ -192,7 +192,7 @@ public class Json5Object implements ObjectContainer {
     
     @Override
     public int hashCode() {
-        return json5Object.hashCode();
+        return ContainerValues.hashCode(this);
     }
     
     /**
@@ -4,10 +4,15 @@ import com.hancomins.json5.JSON5Array;
 import com.hancomins.json5.JSON5Object;
 import com.hancomins.jsn4j.ContainerValue;
 import com.hancomins.jsn4j.ContainerWriter;
+import com.hancomins.jsn4j.tool.ByteBufferOutputStream;
+import com.hancomins.jsn4j.tool.Utf8StreamWriter;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
@@ -16,6 +21,7 @@ public class Json5Writer implements ContainerWriter<Json5WriteOption> {
     
     private final ContainerValue containerValue;
     private final Set<Json5WriteOption> options;
+    private ByteBufferOutputStream pendingOutput;
     
     public Json5Writer(ContainerValue containerValue) {
         this.containerValue = containerValue;
@@ -93,10 +99,51 @@ public class Json5Writer implements ContainerWriter<Json5WriteOption> {
         }
     }
     
+    /**
+     * JSON5 라이브러리는 문자열 출력만 제공하므로 write() 결과를 고정 크기 버퍼에서 UTF-8 로 인코딩하여 나누어 기록합니다.
+     * 문서 크기만큼의 byte[] 사본은 만들지 않습니다. OutputStream 은 flush 하거나 닫지 않습니다.
+     */
     @Override
     public void write(OutputStream outputStream) throws IOException {
-        String json = write();
-        outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        Utf8StreamWriter writer = new Utf8StreamWriter(outputStream);
+        writer.write(write());
+        writer.finish();
+    }
+    
+    @Override
+    public void write(Writer writer) throws IOException {
+        writer.write(write());
+    }
+    
+    @Override
+    public void write(Appendable appendable) throws IOException {
+        appendable.append(write());
+    }
+    
+    /**
+     * write() 결과를 UTF-8 로 인코딩하며 버퍼에 기록합니다. 버퍼를 넘친 바이트는 보관했다가 다음 호출에서 이어서 기록합니다.
+     */
+    @Override
+    public boolean write(ByteBuffer buffer) throws IOException {
+        if (pendingOutput != null) {
+            if (!pendingOutput.drainTo(buffer)) {
+                return false;
+            }
+            pendingOutput = null;
+            return true;
+        }
+        ByteBufferOutputStream output = new ByteBufferOutputStream(buffer);
+        write(output);
+        if (output.hasPending()) {
+            pendingOutput = output;
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public void write(WritableByteChannel channel) throws IOException {
+        write(Channels.newOutputStream(channel));
     }
     
     /**
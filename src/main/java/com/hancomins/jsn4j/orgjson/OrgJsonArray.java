@@ -206,7 +206,7 @@ public class OrgJsonArray implements ArrayContainer {
     
     @Override
     public int hashCode() {
-        return jsonArray.toString().hashCode();
+        return ContainerValues.hashCode(this);
     }
     
     /**
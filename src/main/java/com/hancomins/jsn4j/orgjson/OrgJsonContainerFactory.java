@@ -53,15 +53,15 @@ public class OrgJsonContainerFactory implements ContainerFactory {
      */
     public static ContainerValue wrap(Object value) {
         if (value == null || value == JSONObject.NULL) {
-            return new PrimitiveValue(null);
+            return PrimitiveValue.NULL;
         } else if (value instanceof JSONObject) {
             return OrgJsonObject.wrap((JSONObject) value);
         } else if (value instanceof JSONArray) {
             return OrgJsonArray.wrap((JSONArray) value);
         } else if (value instanceof String || value instanceof Number || 
                    value instanceof Boolean || value instanceof byte[]) {
-            return new PrimitiveValue(value);
+            return PrimitiveValue.of(value);
         }
-        return new PrimitiveValue(value);
+        return PrimitiveValue.of(value);
     }
 }
\ No newline at end of file
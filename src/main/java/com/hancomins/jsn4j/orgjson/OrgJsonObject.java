@@ -196,7 +196,7 @@ public class OrgJsonObject implements ObjectContainer {
     
     @Override
     public int hashCode() {
-        return jsonObject.toString().hashCode();
+        return ContainerValues.hashCode(this);
     }
     
     /**
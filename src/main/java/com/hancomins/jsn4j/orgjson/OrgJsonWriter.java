@@ -1,13 +1,20 @@
 package com.hancomins.jsn4j.orgjson;
 
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import com.hancomins.jsn4j.ContainerValue;
 import com.hancomins.jsn4j.ContainerWriter;
+import com.hancomins.jsn4j.tool.AppendableWriter;
+import com.hancomins.jsn4j.tool.ByteBufferOutputStream;
+import com.hancomins.jsn4j.tool.Utf8StreamWriter;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
@@ -17,6 +24,7 @@ public class OrgJsonWriter implements ContainerWriter<OrgJsonWriteOption> {
     private final ContainerValue containerValue;
     private final Set<OrgJsonWriteOption> options;
     private int indentSize = 4; // 기본 들여쓰기 크기
+    private ByteBufferOutputStream pendingOutput;
     
     public OrgJsonWriter(ContainerValue containerValue) {
         this.containerValue = containerValue;
@@ -94,10 +102,72 @@ public class OrgJsonWriter implements ContainerWriter<OrgJsonWriteOption> {
         return jsonValue.toString();
     }
     
+    /**
+     * org.json 의 {@code write(Writer, int, int)} 로 출력을 UTF-8 바이트 버퍼에 직접 기록합니다.
+     * 문서 전체를 String 으로 만들지 않으므로 출력 크기와 관계없이 사용하는 메모리가 일정합니다.
+     * OutputStream 은 flush 하거나 닫지 않습니다.
+     */
     @Override
     public void write(OutputStream outputStream) throws IOException {
-        String json = write();
-        outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        Utf8StreamWriter writer = new Utf8StreamWriter(outputStream);
+        write((Writer) writer);
+        writer.finish();
+    }
+    
+    @Override
+    public void write(Writer writer) throws IOException {
+        Object jsonValue = getOrgJsonValue();
+        int indentFactor = options.contains(OrgJsonWriteOption.PRETTY_PRINT) ||
+                options.contains(OrgJsonWriteOption.INDENT_OUTPUT) ? indentSize : 0;
+        try {
+            if (jsonValue instanceof JSONObject) {
+                ((JSONObject) jsonValue).write(writer, indentFactor, 0);
+            } else if (jsonValue instanceof JSONArray) {
+                ((JSONArray) jsonValue).write(writer, indentFactor, 0);
+            } else {
+                writer.write(String.valueOf(jsonValue));
+            }
+        } catch (JSONException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    @Override
+    public void write(Appendable appendable) throws IOException {
+        if (appendable instanceof Writer) {
+            write((Writer) appendable);
+        } else {
+            write(new AppendableWriter(appendable));
+        }
+    }
+    
+    /**
+     * org.json 의 출력을 UTF-8 로 버퍼에 직접 기록합니다. 버퍼를 넘친 바이트는 보관했다가 다음 호출에서 이어서 기록합니다.
+     */
+    @Override
+    public boolean write(ByteBuffer buffer) throws IOException {
+        if (pendingOutput != null) {
+            if (!pendingOutput.drainTo(buffer)) {
+                return false;
+            }
+            pendingOutput = null;
+            return true;
+        }
+        ByteBufferOutputStream output = new ByteBufferOutputStream(buffer);
+        write(output);
+        if (output.hasPending()) {
+            pendingOutput = output;
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public void write(WritableByteChannel channel) throws IOException {
+        write(Channels.newOutputStream(channel));
     }
     
     /**
@@ -0,0 +1,131 @@
+package com.hancomins.jsn4j.simple;
+
+import java.util.Arrays;
+
+/**
+ * Token-level operations shared by the char based {@link JsonTokenizer}
+ * and the UTF-8 byte based {@link Utf8JsonTokenizer}.
+ * {@link SimpleJsonParser} only talks to this type, so both input paths build identical trees.
+ */
+public abstract class AbstractJsonTokenizer {
+
+    public abstract void skipWhitespace();
+
+    public abstract char peek();
+
+    public abstract char next();
+
+    public abstract void expect(char expected);
+
+    public abstract boolean isEOF();
+
+    public abstract String readString();
+
+    /**
+     * Reads an object key. Keys without escape sequences are resolved through the cache
+     * straight from the buffer, so a repeated key does not allocate a new String.
+     * @param keyCache cache to look the key up in, or null to read it like any other string
+     */
+    public abstract String readKey(KeyCache keyCache);
+
+    public abstract Number readNumber();
+
+    public abstract boolean matchLiteral(String literal);
+
+    public abstract String positionInfo();
+
+    /**
+     * Skips a string token without decoding it.
+     */
+    protected abstract void skipString();
+
+    /**
+     * Skips a number token without converting it.
+     */
+    protected abstract void skipNumber();
+
+    /**
+     * Returns the buffer index of the next character. Only meaningful for in-memory input,
+     * where the whole document is the buffer and never moves.
+     */
+    protected abstract int position();
+
+    /**
+     * Moves to a buffer index previously returned by {@link #position()}. In-memory input only.
+     */
+    protected abstract void seek(int position);
+
+    /**
+     * Skips the next value, including nested containers, without building any String or Number.
+     */
+    public void skipValue() {
+        skipWhitespace();
+        char c = peek();
+        if (c == '{' || c == '[') {
+            next();
+            skipContainer(c == '{');
+        } else {
+            skipScalar();
+        }
+    }
+
+    /**
+     * Skips the rest of a container whose opening bracket was already consumed, up to and including
+     * the matching closing bracket. Only bracket nesting is checked inside the skipped content.
+     * @param object true if the open container is an object, false if it is an array
+     */
+    public void skipContainer(boolean object) {
+        boolean[] stack = new boolean[8];
+        stack[0] = object;
+        int depth = 1;
+        while (depth > 0) {
+            skipWhitespace();
+            char c = peek();
+            switch (c) {
+                case '{':
+                case '[':
+                    next();
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    stack[depth++] = c == '{';
+                    break;
+                case '}':
+                case ']':
+                    if (stack[depth - 1] != (c == '}')) {
+                        throw new IllegalStateException("Unexpected '" + c + "' " + positionInfo());
+                    }
+                    next();
+                    --depth;
+                    break;
+                case ',':
+                case ':':
+                    next();
+                    break;
+                default:
+                    skipScalar();
+            }
+        }
+    }
+
+    private void skipScalar() {
+        char c = peek();
+        if (c == '"') {
+            skipString();
+        } else if (Character.isDigit(c) || c == '-') {
+            skipNumber();
+        } else if (!matchLiteral("true") && !matchLiteral("false") && !matchLiteral("null")) {
+            throw new IllegalArgumentException("Unexpected token " + positionInfo());
+        }
+    }
+
+    static boolean isHexDigit(int c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    static int hexValue(int c) {
+        if (c <= '9') return c - '0';
+        if (c <= 'F') return c - 'A' + 10;
+        return c - 'a' + 10;
+    }
+}
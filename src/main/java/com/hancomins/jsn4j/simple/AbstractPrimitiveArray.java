@@ -0,0 +1,263 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class for arrays that keep homogeneous elements in a primitive array.
+ * Elements are handed out as {@link PrimitiveValue} instances created on access. As soon as a value
+ * of another type is stored, the elements are copied into a {@link SimpleArray} once and every
+ * operation is delegated to it from then on.
+ */
+abstract class AbstractPrimitiveArray extends AbstractSimpleContainer implements ArrayContainer {
+
+    /** generic representation after a fallback; null while the primitive array is in use */
+    SimpleArray generic;
+    int size;
+
+    /**
+     * @return true if the raw value can be stored in the primitive array without changing its type
+     */
+    abstract boolean accepts(Object raw);
+
+    /** Stores an accepted raw value at index, which is less than the capacity. */
+    abstract void store(int index, Object raw);
+
+    abstract ContainerValue element(int index);
+
+    abstract int capacity();
+
+    abstract void resize(int capacity);
+
+    /** Moves the elements after index one position down. */
+    abstract void shiftDown(int index);
+
+    /** Moves the elements from index one position up. The capacity must be larger than the size. */
+    abstract void shiftUp(int index);
+
+    @Override
+    boolean tracksMutations() {
+        return true;
+    }
+
+    /**
+     * Returns whether the elements are still held in the primitive array.
+     * False once a value of another type has been stored.
+     */
+    public boolean isPrimitiveBacked() {
+        return generic == null;
+    }
+
+    /**
+     * Returns the container that actually holds the elements: this array, or the SimpleArray it fell back to.
+     */
+    ArrayContainer unwrap() {
+        return generic == null ? this : generic;
+    }
+
+    void ensureCapacity(int minCapacity) {
+        int capacity = capacity();
+        if (minCapacity > capacity) {
+            resize(Math.max(minCapacity, Math.max(8, capacity + (capacity >> 1))));
+        }
+    }
+
+    void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Copies the elements into a SimpleArray and releases the primitive array.
+     */
+    SimpleArray fallback() {
+        SimpleArray array = new SimpleArray();
+        for (int i = 0; i < size; i++) {
+            array.put(element(i));
+        }
+        generic = array;
+        size = 0;
+        resize(0);
+        return array;
+    }
+
+    private static Object rawOf(Object value) {
+        if (value instanceof PrimitiveValue) {
+            return ((PrimitiveValue) value).raw();
+        }
+        return value instanceof ContainerValue ? null : value;
+    }
+
+    @Override
+    public ArrayContainer put(int index, Object value) {
+        mutated();
+        if (generic == null && index >= 0 && index <= size) {
+            Object raw = rawOf(value);
+            if (accepts(raw)) {
+                if (index == size) {
+                    ensureCapacity(size + 1);
+                    ++size;
+                }
+                store(index, raw);
+                return this;
+            }
+        }
+        SimpleArray array = generic == null ? fallback() : generic;
+        array.put(index, value);
+        return this;
+    }
+
+    @Override
+    public ArrayContainer put(Object value) {
+        mutated();
+        if (generic == null) {
+            Object raw = rawOf(value);
+            if (accepts(raw)) {
+                ensureCapacity(size + 1);
+                store(size++, raw);
+                return this;
+            }
+        }
+        SimpleArray array = generic == null ? fallback() : generic;
+        array.put(value);
+        return this;
+    }
+
+    @Override
+    public ArrayContainer insert(int index, Object value) {
+        int count = size();
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        mutated();
+        if (generic == null) {
+            Object raw = rawOf(value);
+            if (accepts(raw)) {
+                ensureCapacity(size + 1);
+                shiftUp(index);
+                ++size;
+                store(index, raw);
+                return this;
+            }
+        }
+        SimpleArray array = generic == null ? fallback() : generic;
+        array.insert(index, value);
+        return this;
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject() {
+        mutated();
+        SimpleArray array = generic == null ? fallback() : generic;
+        return array.newAndPutObject();
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray() {
+        mutated();
+        SimpleArray array = generic == null ? fallback() : generic;
+        return array.newAndPutArray();
+    }
+
+    @Override
+    public int size() {
+        return generic == null ? size : generic.size();
+    }
+
+    @Override
+    public ContainerValue remove(int index) {
+        mutated();
+        if (generic != null) {
+            return generic.remove(index);
+        }
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        ContainerValue value = element(index);
+        shiftDown(index);
+        --size;
+        return value;
+    }
+
+    @Override
+    public ContainerValue get(int index) {
+        if (generic != null) {
+            return generic.get(index);
+        }
+        checkIndex(index);
+        return element(index);
+    }
+
+    /**
+     * Removes all elements. An array that fell back to the generic representation
+     * goes back to the primitive array.
+     */
+    @Override
+    public void clear() {
+        mutated();
+        generic = null;
+        size = 0;
+        resize(0);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public Iterator<ContainerValue> iterator() {
+        if (generic != null) {
+            Iterator<ContainerValue> iterator = generic.iterator();
+            // removing through the generic array's iterator would not reach this array's memo
+            return new Iterator<ContainerValue>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public ContainerValue next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    mutated();
+                    iterator.remove();
+                }
+            };
+        }
+        return new Iterator<ContainerValue>() {
+            private int cursor;
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public ContainerValue next() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+                last = cursor++;
+                return get(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                AbstractPrimitiveArray.this.remove(last);
+                cursor = last;
+                last = -1;
+            }
+        };
+    }
+}
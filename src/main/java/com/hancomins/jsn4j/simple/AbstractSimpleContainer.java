@@ -4,6 +4,7 @@ import com.hancomins.jsn4j.*;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Abstract base class for Simple implementation containers.
@@ -11,6 +12,21 @@ import java.util.Map;
  */
 abstract class AbstractSimpleContainer implements ContainerValue, ContainerFactoryProvidable {
     private SimpleJsonWriter jsonWriter;
+
+    /*
+     * Memoized structural hash. A container that tracks its mutations keeps the hash only while every
+     * nested container is tracked as well and was stored in this container alone, so that any change
+     * below reaches this memo through the parent links. A valid memo implies valid memos in all nested
+     * containers, which lets invalidation stop at the first container that is already invalid.
+     * The memo is a single field, like String.hash, so that a thread reading a container hashed by another
+     * thread sees either no memo or the complete one. A container whose hash equals NO_HASH is not memoized.
+     */
+    private static final int NO_HASH = Integer.MIN_VALUE;
+    private int hash = NO_HASH;
+    /** the container this one was stored in, while it is stored in exactly one */
+    private AbstractSimpleContainer parent;
+    /** set once this container was stored in a second container */
+    private boolean shared;
     
     @Override
     public ContainerWriter<? extends Enum<?>> getWriter() {
@@ -32,6 +48,137 @@ abstract class AbstractSimpleContainer implements ContainerValue, ContainerFacto
         return ContainerValues.equals(this, (ContainerValue) o);
     }
     
+    /**
+     * Returns the structural hash of {@link ContainerValues#hashCode(ContainerValue)}. Containers that
+     * track their mutations memoize it until they or a nested container change.
+     */
+    @Override
+    public int hashCode() {
+        int memo = hash;
+        if (memo != NO_HASH) {
+            return memo;
+        }
+        boolean cacheable = tracksMutations();
+        int result;
+        if (getValueType() == ValueType.OBJECT) {
+            result = 0;
+            for (Map.Entry<String, ContainerValue> entry : readEntries()) {
+                ContainerValue value = entry.getValue();
+                result += Objects.hashCode(entry.getKey()) ^ childHashCode(value);
+                cacheable = cacheable && isCovered(value);
+            }
+        } else {
+            result = 1;
+            for (ContainerValue value : (ArrayContainer) this) {
+                result = 31 * result + childHashCode(value);
+                cacheable = cacheable && isCovered(value);
+            }
+        }
+        if (cacheable) {
+            hash = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the entries of an object container for reading inside this package. Implementations that wrap
+     * the entries they hand out, so that {@link Map.Entry#setValue} keeps the memo in sync, return the
+     * unwrapped entries here; callers must not modify them.
+     */
+    Iterable<Map.Entry<String, ContainerValue>> readEntries() {
+        return (ObjectContainer) this;
+    }
+
+    private static int childHashCode(ContainerValue value) {
+        // Simple containers are asked directly so that they memoize their own hash on the way.
+        return value instanceof AbstractSimpleContainer ? value.hashCode() : ContainerValues.hashCode(value);
+    }
+
+    /**
+     * Returns whether a change of value is guaranteed to invalidate this container's memo.
+     */
+    private boolean isCovered(ContainerValue value) {
+        if (value instanceof AbstractSimpleContainer) {
+            AbstractSimpleContainer child = (AbstractSimpleContainer) value;
+            return child.isImmutable() || (child.hash != NO_HASH && child.parent == this);
+        }
+        return !(value instanceof ObjectContainer) && !(value instanceof ArrayContainer);
+    }
+
+    @Override
+    public boolean isHashCodeCached() {
+        return hash != NO_HASH;
+    }
+
+    /**
+     * Returns true if every change to this container goes through a method that calls {@link #mutated()}.
+     * Only such containers memoize their hash.
+     */
+    boolean tracksMutations() {
+        return false;
+    }
+
+    /**
+     * Returns true for containers whose content never changes, which may be shared freely
+     * without affecting the memo of the containers holding them.
+     */
+    boolean isImmutable() {
+        return false;
+    }
+
+    /**
+     * Invalidates the memoized hash of this container and of the containers it is stored in.
+     * Must be called by every mutation of a container that {@link #tracksMutations() tracks mutations}.
+     */
+    final void mutated() {
+        for (AbstractSimpleContainer container = this; container != null && container.hash != NO_HASH; container = container.parent) {
+            container.hash = NO_HASH;
+        }
+    }
+
+    /**
+     * Records that value was stored in this container and returns it.
+     * A container stored in a second place is no longer linked to either parent.
+     * Containers that do not track mutations are never linked, since they may be shared between threads.
+     */
+    final ContainerValue adopt(ContainerValue value) {
+        if (value instanceof AbstractSimpleContainer && ((AbstractSimpleContainer) value).tracksMutations()) {
+            AbstractSimpleContainer child = (AbstractSimpleContainer) value;
+            if (child.parent == null && !child.shared) {
+                child.parent = this;
+            } else if (child.parent != this) {
+                if (child.parent != null) {
+                    // the old parent's memo relied on receiving changes of this child
+                    child.parent.mutated();
+                }
+                child.parent = null;
+                child.shared = true;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Records that value was removed from this container.
+     */
+    final void release(ContainerValue value) {
+        if (value instanceof AbstractSimpleContainer && ((AbstractSimpleContainer) value).parent == this) {
+            ((AbstractSimpleContainer) value).parent = null;
+        }
+    }
+
+    /**
+     * Links value to this container when it is moved here from a container that is discarded.
+     */
+    final void transfer(ContainerValue value) {
+        if (value instanceof AbstractSimpleContainer && ((AbstractSimpleContainer) value).tracksMutations()) {
+            AbstractSimpleContainer child = (AbstractSimpleContainer) value;
+            if (!child.shared) {
+                child.parent = this;
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return getWriter().write();
@@ -54,7 +201,7 @@ abstract class AbstractSimpleContainer implements ContainerValue, ContainerFacto
         } else if (value instanceof Map) {
             return ContainerValues.mapToObjectContainer(this, (Map<?, ?>) value);
         } else {
-            return new PrimitiveValue(value);
+            return PrimitiveValue.of(value);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.Arrays;
+
+/**
+ * {@link ArrayContainer} that stores boolean elements in a {@code boolean[]}.
+ * Elements are handed out as the shared {@link PrimitiveValue#TRUE} and {@link PrimitiveValue#FALSE},
+ * so reading never allocates. Storing a value of any other type copies the elements into a
+ * {@link SimpleArray} representation which is used from then on.
+ * Not thread-safe.
+ */
+public class BooleanArray extends AbstractPrimitiveArray {
+
+    private static final boolean[] EMPTY = new boolean[0];
+
+    private boolean[] values;
+
+    public BooleanArray() {
+        this.values = EMPTY;
+    }
+
+    /**
+     * @param initialCapacity number of elements to allocate room for
+     */
+    public BooleanArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+        }
+        this.values = initialCapacity == 0 ? EMPTY : new boolean[initialCapacity];
+    }
+
+    /**
+     * Creates an array holding a copy of the given values.
+     */
+    public BooleanArray(boolean[] values) {
+        this.values = values.length == 0 ? EMPTY : values.clone();
+        this.size = values.length;
+    }
+
+    @Override
+    boolean accepts(Object raw) {
+        return raw instanceof Boolean;
+    }
+
+    @Override
+    void store(int index, Object raw) {
+        values[index] = (Boolean) raw;
+    }
+
+    @Override
+    ContainerValue element(int index) {
+        return PrimitiveValue.of(values[index]);
+    }
+
+    @Override
+    int capacity() {
+        return values.length;
+    }
+
+    @Override
+    void resize(int capacity) {
+        values = capacity == 0 ? EMPTY : Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void shiftDown(int index) {
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+    }
+
+    @Override
+    void shiftUp(int index) {
+        System.arraycopy(values, index, values, index + 1, size - index);
+    }
+
+    @Override
+    public ArrayContainer put(boolean value) {
+        mutated();
+        if (generic != null) {
+            generic.put(value);
+            return this;
+        }
+        ensureCapacity(size + 1);
+        values[size++] = value;
+        return this;
+    }
+
+    @Override
+    public ArrayContainer put(int index, boolean value) {
+        mutated();
+        if (generic != null || index < 0 || index > size) {
+            return put(index, (Object) value);
+        }
+        if (index == size) {
+            ensureCapacity(size + 1);
+            ++size;
+        }
+        values[index] = value;
+        return this;
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        if (generic != null) {
+            return generic.getBoolean(index);
+        }
+        checkIndex(index);
+        return values[index];
+    }
+
+    @Override
+    public boolean getBoolean(int index, boolean defaultValue) {
+        if (generic != null) {
+            return generic.getBoolean(index, defaultValue);
+        }
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Returns the elements as a new {@code boolean[]}. Elements of another type are converted with
+     * {@link PrimitiveValue#asBoolean()} once the array has fallen back to the generic representation.
+     */
+    public boolean[] toBooleanArray() {
+        if (generic == null) {
+            return Arrays.copyOf(values, size);
+        }
+        boolean[] result = new boolean[generic.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = generic.getBoolean(i);
+        }
+        return result;
+    }
+}
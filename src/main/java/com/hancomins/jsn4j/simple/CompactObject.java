@@ -0,0 +1,391 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.*;
+
+/**
+ * Insertion-ordered {@link ObjectContainer} that keeps its members in two parallel arrays.
+ * Up to {@value #LINEAR_SCAN_LIMIT} members a lookup is a linear scan that compares the cached
+ * String hash codes first; past that an open-addressing table of positions is built and kept in
+ * step with the arrays. A small object costs two short arrays instead of a HashMap, its table
+ * and one node per entry, and iteration always follows insertion order.
+ * <p>
+ * Replacing the value of an existing key keeps its position. Removal shifts the following members
+ * down, so it is linear in the size of the object. Not thread-safe.
+ */
+public class CompactObject extends AbstractSimpleContainer implements ObjectContainer {
+
+    static final int LINEAR_SCAN_LIMIT = 8;
+
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final ContainerValue[] EMPTY_VALUES = new ContainerValue[0];
+
+    private String[] keys;
+    private ContainerValue[] values;
+    private int size;
+    /** open-addressing table holding position + 1, 0 for an empty slot; null while the object is small */
+    private int[] index;
+
+    public CompactObject() {
+        this.keys = EMPTY_KEYS;
+        this.values = EMPTY_VALUES;
+    }
+
+    /**
+     * @param initialCapacity number of members to allocate room for
+     */
+    public CompactObject(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+        }
+        this.keys = initialCapacity == 0 ? EMPTY_KEYS : new String[initialCapacity];
+        this.values = initialCapacity == 0 ? EMPTY_VALUES : new ContainerValue[initialCapacity];
+    }
+
+    @Override
+    boolean tracksMutations() {
+        return true;
+    }
+
+    private static int hash(String key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(String key) {
+        return index == null ? scan(key) : probe(key);
+    }
+
+    private int scan(String key) {
+        String[] keys = this.keys;
+        int size = this.size;
+        if (key == null) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == null) return i;
+            }
+            return -1;
+        }
+        int hash = key.hashCode();
+        for (int i = 0; i < size; i++) {
+            String candidate = keys[i];
+            // Keys taken from the parser's KeyCache or from constants are often the very same instance
+            if (candidate == key || (candidate != null && candidate.hashCode() == hash && candidate.equals(key))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int probe(String key) {
+        int[] index = this.index;
+        int mask = index.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            int position = index[slot] - 1;
+            if (position < 0) {
+                return -1;
+            }
+            String candidate = keys[position];
+            if (candidate == key || (key != null && key.equals(candidate))) {
+                return position;
+            }
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= keys.length) {
+            return;
+        }
+        int capacity = Math.max(minCapacity, Math.max(4, keys.length + (keys.length >> 1)));
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    private void rebuildIndex() {
+        if (size <= LINEAR_SCAN_LIMIT) {
+            index = null;
+            return;
+        }
+        int capacity = Integer.highestOneBit(size * 2 - 1) << 1;
+        int[] table = new int[Math.max(capacity, 32)];
+        for (int i = 0; i < size; i++) {
+            insertIndex(table, keys[i], i);
+        }
+        index = table;
+    }
+
+    private static void insertIndex(int[] table, String key, int position) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = position + 1;
+    }
+
+    private void append(String key, ContainerValue value) {
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        values[size] = value;
+        ++size;
+        if (index != null && size * 2 <= index.length) {
+            insertIndex(index, key, size - 1);
+        } else if (size > LINEAR_SCAN_LIMIT) {
+            rebuildIndex();
+        }
+    }
+
+    private ContainerValue removeAt(int position) {
+        ContainerValue old = values[position];
+        int moved = size - position - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, position + 1, keys, position, moved);
+            System.arraycopy(values, position + 1, values, position, moved);
+        }
+        --size;
+        keys[size] = null;
+        values[size] = null;
+        if (index != null) {
+            rebuildIndex();
+        }
+        release(old);
+        mutated();
+        return old;
+    }
+
+    private void set(String key, ContainerValue value) {
+        adopt(value);
+        int position = indexOf(key);
+        if (position >= 0) {
+            ContainerValue old = values[position];
+            values[position] = value;
+            if (old != value) {
+                release(old);
+            }
+        } else {
+            append(key, value);
+        }
+        mutated();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ObjectContainer put(String key, Object value) {
+        set(key, convertValue(value));
+        return this;
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject(String key) {
+        CompactObject newObject = new CompactObject();
+        set(key, newObject);
+        return newObject;
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray(String key) {
+        SimpleArray array = new SimpleArray();
+        set(key, array);
+        return array;
+    }
+
+    @Override
+    public ObjectContainer put(String key, ContainerValue value) {
+        set(key, value);
+        return this;
+    }
+
+    @Override
+    public ContainerValue remove(String key) {
+        int position = indexOf(key);
+        return position < 0 ? null : removeAt(position);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public void putAll(Map<String, ?> map) {
+        ensureCapacity(size + map.size());
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, ContainerValue>> entrySet() {
+        return new AbstractSet<Map.Entry<String, ContainerValue>>() {
+            @Override
+            public Iterator<Map.Entry<String, ContainerValue>> iterator() {
+                return CompactObject.this.iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new MemberIterator<String>() {
+                    @Override
+                    String element(int position) {
+                        return keys[position];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return (o == null || o instanceof String) && indexOf((String) o) >= 0;
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                if (!contains(o)) {
+                    return false;
+                }
+                CompactObject.this.remove((String) o);
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public ContainerValue get(String key) {
+        int position = indexOf(key);
+        return position < 0 ? null : values[position];
+    }
+
+    @Override
+    public boolean has(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            release(values[i]);
+        }
+        mutated();
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        index = null;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, ContainerValue>> iterator() {
+        return new MemberIterator<Map.Entry<String, ContainerValue>>() {
+            @Override
+            Map.Entry<String, ContainerValue> element(int position) {
+                return new Member(keys[position], values[position]);
+            }
+        };
+    }
+
+    private abstract class MemberIterator<T> implements Iterator<T> {
+        private int cursor;
+        private int last = -1;
+
+        abstract T element(int position);
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            last = cursor++;
+            return element(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(last);
+            cursor = last;
+            last = -1;
+        }
+    }
+
+    /**
+     * Entry handed out by iteration. {@link #setValue} writes through to the object by key.
+     */
+    private final class Member implements Map.Entry<String, ContainerValue> {
+        private final String key;
+        private ContainerValue value;
+
+        Member(String key, ContainerValue value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public ContainerValue getValue() {
+            return value;
+        }
+
+        @Override
+        public ContainerValue setValue(ContainerValue value) {
+            ContainerValue old = this.value;
+            set(key, value);
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, other.getKey()) && Objects.equals(value, other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Thread-safe {@link ArrayContainer} with copy-on-write semantics, backed by a {@link CopyOnWriteArrayList}.
+ * <p>
+ * Reads never block. Every write copies the element array under a lock, so this container suits
+ * arrays that are read far more often than they are changed; use {@link #putAll(Collection)} to add
+ * many elements with a single copy. Iterators and serialization work on the snapshot taken when they
+ * started: they never throw {@link ConcurrentModificationException} and do not see later writes.
+ * The iterator does not support {@code remove()}. Nested containers created through this array are
+ * concurrent as well, and objects and arrays of other implementations are copied into concurrent
+ * containers when they are stored.
+ */
+public class ConcurrentArray extends AbstractSimpleContainer implements ArrayContainer {
+
+    private final CopyOnWriteArrayList<ContainerValue> values;
+
+    public ConcurrentArray() {
+        this.values = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Creates an array that holds the given values, copying them once.
+     */
+    ConcurrentArray(Collection<ContainerValue> values) {
+        this.values = new CopyOnWriteArrayList<>(values);
+    }
+
+    @Override
+    public ContainerFactory getContainerFactory() {
+        return ConcurrentContainerFactory.getInstance();
+    }
+
+    @Override
+    public ArrayContainer put(int index, Object value) {
+        ContainerValue converted = convertValue(value);
+        // Padding is computed from the size read here, so every other size-changing write takes this lock too.
+        synchronized (values) {
+            if (index < values.size()) {
+                values.set(index, converted);
+            } else {
+                List<ContainerValue> padding = new ArrayList<>(index + 1 - values.size());
+                for (int i = values.size(); i < index; i++) {
+                    padding.add(null);
+                }
+                padding.add(converted);
+                values.addAll(padding);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public ArrayContainer put(Object value) {
+        ContainerValue converted = convertValue(value);
+        synchronized (values) {
+            values.add(converted);
+        }
+        return this;
+    }
+
+    @Override
+    public ArrayContainer putAll(Collection<?> value) {
+        if (value == null) {
+            return this;
+        }
+        List<ContainerValue> converted = new ArrayList<>(value.size());
+        for (Object item : value) {
+            converted.add(convertValue(item));
+        }
+        synchronized (values) {
+            values.addAll(converted);
+        }
+        return this;
+    }
+
+    @Override
+    public ArrayContainer putAll(ArrayContainer arrayContainer) {
+        if (arrayContainer == null) {
+            return this;
+        }
+        List<ContainerValue> converted = new ArrayList<>(arrayContainer.size());
+        for (ContainerValue item : arrayContainer) {
+            converted.add(ConcurrentContainerFactory.toConcurrent(item));
+        }
+        synchronized (values) {
+            values.addAll(converted);
+        }
+        return this;
+    }
+
+    @Override
+    public ArrayContainer insert(int index, Object value) {
+        ContainerValue converted = convertValue(value);
+        synchronized (values) {
+            if (index < 0 || index > values.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.size());
+            }
+            values.add(index, converted);
+        }
+        return this;
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject() {
+        ConcurrentObject object = new ConcurrentObject();
+        synchronized (values) {
+            values.add(object);
+        }
+        return object;
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray() {
+        ConcurrentArray array = new ConcurrentArray();
+        synchronized (values) {
+            values.add(array);
+        }
+        return array;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public ContainerValue remove(int index) {
+        synchronized (values) {
+            if (index < 0 || index >= values.size()) {
+                return null;
+            }
+            return values.remove(index);
+        }
+    }
+
+    @Override
+    public ContainerValue get(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public void clear() {
+        // put(int, Object) and remove(int) check the size under this lock, so clearing must not run in between.
+        synchronized (values) {
+            values.clear();
+        }
+    }
+
+    @Override
+    protected ContainerValue convertValue(Object value) {
+        return ConcurrentContainerFactory.toConcurrent(super.convertValue(value));
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public Iterator<ContainerValue> iterator() {
+        return values.iterator();
+    }
+}
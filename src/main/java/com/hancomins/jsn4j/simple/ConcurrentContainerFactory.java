@@ -0,0 +1,73 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Factory for the thread-safe {@link ConcurrentObject} and {@link ConcurrentArray} containers.
+ * The parser reads JSON with the Simple parser and builds the tree from concurrent containers,
+ * so a parsed document can be shared between threads as is.
+ * <p>
+ * Not bound to a {@link JsonLibrary}; register it with {@link Jsn4j#registerContainerFactory(ContainerFactory)}
+ * to look it up by its module name.
+ */
+public class ConcurrentContainerFactory implements ContainerFactory {
+
+    private final static ConcurrentContainerFactory instance = new ConcurrentContainerFactory();
+
+    private final static String NAME = "concurrent";
+    private final SimpleJsonParser parser = new SimpleJsonParser(true);
+
+    public static ConcurrentContainerFactory getInstance() {
+        return instance;
+    }
+
+    @Override
+    public String getJsn4jModuleName() {
+        return NAME;
+    }
+
+    @Override
+    public ObjectContainer newObject() {
+        return new ConcurrentObject();
+    }
+
+    @Override
+    public ArrayContainer newArray() {
+        return new ConcurrentArray();
+    }
+
+    @Override
+    public ContainerParser getParser() {
+        return parser;
+    }
+
+    /**
+     * Returns value as a member of a concurrent tree. Objects and arrays of any other implementation
+     * are copied into {@link ConcurrentObject} and {@link ConcurrentArray} recursively; concurrent
+     * containers and primitives are returned as is.
+     */
+    static ContainerValue toConcurrent(ContainerValue value) {
+        if (value instanceof ConcurrentObject || value instanceof ConcurrentArray) {
+            return value;
+        } else if (value instanceof ObjectContainer) {
+            ConcurrentObject object = new ConcurrentObject();
+            for (Map.Entry<String, ContainerValue> entry : (ObjectContainer) value) {
+                object.put(entry.getKey(), entry.getValue());
+            }
+            return object;
+        } else if (value instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) value;
+            // one copy for the whole array instead of one per element
+            List<ContainerValue> values = new ArrayList<>(array.size());
+            for (ContainerValue item : array) {
+                values.add(toConcurrent(item));
+            }
+            return new ConcurrentArray(values);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,177 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe {@link ObjectContainer} backed by a {@link ConcurrentHashMap}.
+ * <p>
+ * Single operations are atomic and reads never block. Iteration, {@link #keySet()}, {@link #entrySet()}
+ * and serialization are weakly consistent: they never throw {@link ConcurrentModificationException},
+ * visit every key at most once and see every entry that was not changed during the iteration.
+ * Containers created through this object ({@link #newAndPutObject(String)}, Maps and Collections passed
+ * to {@link #put(String, Object)}) are concurrent as well, and objects and arrays of other implementations
+ * are copied into concurrent containers when they are stored, so a whole tree can be shared without an
+ * external lock. Use {@link #computeObjectIfAbsent(String)} or {@link #putIfAbsent(String, Object)}
+ * when several threads may create the same member.
+ * <p>
+ * Keys must not be null. Iteration order is unspecified.
+ */
+public class ConcurrentObject extends AbstractSimpleContainer implements ObjectContainer {
+
+    private final ConcurrentHashMap<String, ContainerValue> objectMap;
+
+    public ConcurrentObject() {
+        this.objectMap = new ConcurrentHashMap<>();
+    }
+
+    public ConcurrentObject(int initialCapacity) {
+        this.objectMap = new ConcurrentHashMap<>(initialCapacity);
+    }
+
+    private static String checkKey(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("ConcurrentObject does not support null keys");
+        }
+        return key;
+    }
+
+    @Override
+    public ContainerFactory getContainerFactory() {
+        return ConcurrentContainerFactory.getInstance();
+    }
+
+    @Override
+    public int size() {
+        return objectMap.size();
+    }
+
+    @Override
+    public ObjectContainer put(String key, Object value) {
+        objectMap.put(checkKey(key), convertValue(value));
+        return this;
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject(String key) {
+        ConcurrentObject object = new ConcurrentObject();
+        objectMap.put(checkKey(key), object);
+        return object;
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray(String key) {
+        ConcurrentArray array = new ConcurrentArray();
+        objectMap.put(checkKey(key), array);
+        return array;
+    }
+
+    @Override
+    public ObjectContainer put(String key, ContainerValue value) {
+        objectMap.put(checkKey(key), value == null ? PrimitiveValue.NULL : ConcurrentContainerFactory.toConcurrent(value));
+        return this;
+    }
+
+    /**
+     * Stores value only if key is absent, as a single atomic operation.
+     */
+    @Override
+    public ObjectContainer putIfAbsent(String key, Object value) {
+        objectMap.putIfAbsent(checkKey(key), convertValue(value));
+        return this;
+    }
+
+    /**
+     * Replaces the value only if key is present, as a single atomic operation.
+     */
+    @Override
+    public ObjectContainer putIfPresent(String key, Object value) {
+        ContainerValue converted = convertValue(value);
+        objectMap.computeIfPresent(checkKey(key), (k, old) -> converted);
+        return this;
+    }
+
+    /**
+     * Returns the object stored under key, atomically creating an empty one if key is absent.
+     * Threads racing on the same key all get the same instance.
+     * @throws IllegalStateException if key holds a value that is not an object
+     */
+    public ObjectContainer computeObjectIfAbsent(String key) {
+        ContainerValue value = objectMap.computeIfAbsent(checkKey(key), k -> new ConcurrentObject());
+        if (!(value instanceof ObjectContainer)) {
+            throw new IllegalStateException("Value of key '" + key + "' is not an object: " + value.getValueType());
+        }
+        return (ObjectContainer) value;
+    }
+
+    /**
+     * Returns the array stored under key, atomically creating an empty one if key is absent.
+     * @throws IllegalStateException if key holds a value that is not an array
+     */
+    public ArrayContainer computeArrayIfAbsent(String key) {
+        ContainerValue value = objectMap.computeIfAbsent(checkKey(key), k -> new ConcurrentArray());
+        if (!(value instanceof ArrayContainer)) {
+            throw new IllegalStateException("Value of key '" + key + "' is not an array: " + value.getValueType());
+        }
+        return (ArrayContainer) value;
+    }
+
+    @Override
+    public ContainerValue remove(String key) {
+        return key == null ? null : objectMap.remove(key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return key != null && objectMap.containsKey(key);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> map) {
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, ContainerValue>> entrySet() {
+        return objectMap.entrySet();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return objectMap.keySet();
+    }
+
+    @Override
+    public ContainerValue get(String key) {
+        return key == null ? null : objectMap.get(key);
+    }
+
+    @Override
+    public boolean has(String key) {
+        return containsKey(key);
+    }
+
+    @Override
+    public void clear() {
+        objectMap.clear();
+    }
+
+    @Override
+    protected ContainerValue convertValue(Object value) {
+        return ConcurrentContainerFactory.toConcurrent(super.convertValue(value));
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, ContainerValue>> iterator() {
+        return objectMap.entrySet().iterator();
+    }
+}
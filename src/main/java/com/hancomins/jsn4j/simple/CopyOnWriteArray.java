@@ -0,0 +1,162 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Copy-on-write clone of an {@link ArrayContainer}. Works like {@link CopyOnWriteObject}:
+ * reads go to the source, nested containers are handed out as cached overlays, and the first
+ * write to this level copies its element list once.
+ * <p>
+ * The source must not be modified while the clone is in use.
+ */
+final class CopyOnWriteArray extends AbstractSimpleContainer implements ArrayContainer {
+
+    /** pristine source; null once this level has been copied */
+    private ArrayContainer source;
+    /** elements of this level after the first write */
+    private ArrayList<ContainerValue> own;
+    /** overlays of nested containers by index, handed out while this level is still pristine */
+    private ContainerValue[] children;
+
+    CopyOnWriteArray(ArrayContainer source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns whether this level still reads through to the source.
+     */
+    boolean isPristine() {
+        return own == null;
+    }
+
+    private ContainerValue view(int index, ContainerValue value) {
+        if (!(value instanceof ObjectContainer) && !(value instanceof ArrayContainer)) {
+            return value;
+        }
+        if (children == null) {
+            children = new ContainerValue[source.size()];
+        }
+        ContainerValue child = children[index];
+        if (child == null) {
+            child = CopyOnWriteObject.wrap(value);
+            children[index] = child;
+        }
+        return child;
+    }
+
+    private ArrayList<ContainerValue> own() {
+        if (own == null) {
+            int size = source.size();
+            ArrayList<ContainerValue> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(view(i, source.get(i)));
+            }
+            own = values;
+            children = null;
+            source = null;
+        }
+        return own;
+    }
+
+    @Override
+    public ArrayContainer put(int index, Object value) {
+        ArrayList<ContainerValue> values = own();
+        if (index + 1 > values.size()) {
+            values.ensureCapacity(index + 1);
+            while (values.size() < index + 1) {
+                values.add(null);
+            }
+        }
+        values.set(index, convertValue(value));
+        return this;
+    }
+
+    @Override
+    public ArrayContainer put(Object value) {
+        own().add(convertValue(value));
+        return this;
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject() {
+        SimpleObject object = new SimpleObject();
+        own().add(object);
+        return object;
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray() {
+        SimpleArray array = new SimpleArray();
+        own().add(array);
+        return array;
+    }
+
+    @Override
+    public int size() {
+        return own != null ? own.size() : source.size();
+    }
+
+    @Override
+    public ContainerValue remove(int index) {
+        if (index < 0 || index >= size()) {
+            return null;
+        }
+        return own().remove(index);
+    }
+
+    @Override
+    public ContainerValue get(int index) {
+        return own != null ? own.get(index) : view(index, source.get(index));
+    }
+
+    @Override
+    public void clear() {
+        own = new ArrayList<>();
+        children = null;
+        source = null;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public Iterator<ContainerValue> iterator() {
+        if (own != null) {
+            return own.iterator();
+        }
+        return new Iterator<ContainerValue>() {
+            private int cursor;
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public ContainerValue next() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+                last = cursor++;
+                return get(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                CopyOnWriteArray.this.remove(last);
+                cursor = last;
+                last = -1;
+            }
+        };
+    }
+}
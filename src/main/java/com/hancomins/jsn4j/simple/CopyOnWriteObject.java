@@ -0,0 +1,266 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.*;
+
+/**
+ * Copy-on-write clone of an {@link ObjectContainer}, created by
+ * {@link ContainerValues#cloneContainer(ContainerValue, CloneMode)} with {@link CloneMode#COPY_ON_WRITE}.
+ * <p>
+ * Until the first write, reads go straight to the source. Nested containers are handed out as
+ * overlays of their own, created on first access and cached, so a write deep in the tree copies
+ * only the levels on its path. The first write to this level copies its entry table once and
+ * drops the reference to the source.
+ * <p>
+ * The source is never modified through the clone, but it must not be modified while the clone is in use.
+ */
+final class CopyOnWriteObject extends AbstractSimpleContainer implements ObjectContainer {
+
+    /** pristine source; null once this level has been copied */
+    private ObjectContainer source;
+    /** entries of this level after the first write */
+    private LinkedHashMap<String, ContainerValue> own;
+    /** overlays of nested containers handed out while this level is still pristine */
+    private HashMap<String, ContainerValue> children;
+
+    CopyOnWriteObject(ObjectContainer source) {
+        this.source = source;
+    }
+
+    static ContainerValue wrap(ContainerValue value) {
+        if (value instanceof ObjectContainer) {
+            return new CopyOnWriteObject((ObjectContainer) value);
+        } else if (value instanceof ArrayContainer) {
+            return new CopyOnWriteArray((ArrayContainer) value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns whether this level still reads through to the source.
+     */
+    boolean isPristine() {
+        return own == null;
+    }
+
+    private ContainerValue view(String key, ContainerValue value) {
+        if (!(value instanceof ObjectContainer) && !(value instanceof ArrayContainer)) {
+            return value;
+        }
+        if (children == null) {
+            children = new HashMap<>();
+        }
+        ContainerValue child = children.get(key);
+        if (child == null) {
+            child = wrap(value);
+            children.put(key, child);
+        }
+        return child;
+    }
+
+    private Map<String, ContainerValue> own() {
+        if (own == null) {
+            LinkedHashMap<String, ContainerValue> entries = new LinkedHashMap<>(Math.max(16, (int) (source.size() / 0.75f) + 1));
+            for (Map.Entry<String, ContainerValue> entry : source) {
+                entries.put(entry.getKey(), view(entry.getKey(), entry.getValue()));
+            }
+            own = entries;
+            children = null;
+            source = null;
+        }
+        return own;
+    }
+
+    @Override
+    public int size() {
+        return own != null ? own.size() : source.size();
+    }
+
+    @Override
+    public ObjectContainer put(String key, Object value) {
+        own().put(key, convertValue(value));
+        return this;
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject(String key) {
+        SimpleObject object = new SimpleObject();
+        own().put(key, object);
+        return object;
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray(String key) {
+        SimpleArray array = new SimpleArray();
+        own().put(key, array);
+        return array;
+    }
+
+    @Override
+    public ObjectContainer put(String key, ContainerValue value) {
+        own().put(key, value);
+        return this;
+    }
+
+    @Override
+    public ContainerValue remove(String key) {
+        if (own == null && !source.containsKey(key)) {
+            return null;
+        }
+        return own().remove(key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return own != null ? own.containsKey(key) : source.containsKey(key);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> map) {
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, ContainerValue>> entrySet() {
+        if (own != null) {
+            return own.entrySet();
+        }
+        return new AbstractSet<Map.Entry<String, ContainerValue>>() {
+            @Override
+            public Iterator<Map.Entry<String, ContainerValue>> iterator() {
+                return CopyOnWriteObject.this.iterator();
+            }
+
+            @Override
+            public int size() {
+                return CopyOnWriteObject.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (own != null) {
+            return own.keySet();
+        }
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                Iterator<Map.Entry<String, ContainerValue>> entries = CopyOnWriteObject.this.iterator();
+                return new Iterator<String>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        return entries.next().getKey();
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CopyOnWriteObject.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof String && containsKey((String) o);
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                if (!contains(o)) {
+                    return false;
+                }
+                CopyOnWriteObject.this.remove((String) o);
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public ContainerValue get(String key) {
+        return own != null ? own.get(key) : view(key, source.get(key));
+    }
+
+    @Override
+    public boolean has(String key) {
+        return containsKey(key);
+    }
+
+    @Override
+    public void clear() {
+        own = new LinkedHashMap<>();
+        children = null;
+        source = null;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, ContainerValue>> iterator() {
+        if (own != null) {
+            return own.entrySet().iterator();
+        }
+        return new PristineIterator(source.iterator());
+    }
+
+    /**
+     * Iterates the source keys. If a write copies this level during the iteration,
+     * the remaining values are read from the copy so that they stay connected to this container.
+     */
+    private final class PristineIterator implements Iterator<Map.Entry<String, ContainerValue>> {
+        private final Iterator<Map.Entry<String, ContainerValue>> sourceIterator;
+        private String lastKey;
+        private boolean removable;
+
+        PristineIterator(Iterator<Map.Entry<String, ContainerValue>> sourceIterator) {
+            this.sourceIterator = sourceIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return sourceIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, ContainerValue> next() {
+            Map.Entry<String, ContainerValue> entry = sourceIterator.next();
+            String key = entry.getKey();
+            lastKey = key;
+            removable = true;
+            ContainerValue value = own != null ? own.get(key) : view(key, entry.getValue());
+            return new AbstractMap.SimpleEntry<String, ContainerValue>(key, value) {
+                @Override
+                public ContainerValue setValue(ContainerValue newValue) {
+                    ContainerValue old = super.setValue(newValue);
+                    put(key, newValue);
+                    return old;
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (!removable) {
+                throw new IllegalStateException();
+            }
+            CopyOnWriteObject.this.remove(lastKey);
+            removable = false;
+        }
+    }
+}
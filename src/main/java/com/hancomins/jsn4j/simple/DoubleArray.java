@@ -0,0 +1,155 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.Arrays;
+
+/**
+ * {@link ArrayContainer} that stores floating-point elements in a {@code double[]}.
+ * Elements are {@link Double} values, as produced by {@link SimpleJsonParser} for decimal literals,
+ * and {@link #getDouble(int)}, {@link #getLong(int)} and {@link #getInt(int)} read them without allocating.
+ * Storing a value of any other type, including a {@link Float} or {@link Long}, copies the elements into a
+ * {@link SimpleArray} representation which is used from then on.
+ * Not thread-safe.
+ */
+public class DoubleArray extends AbstractPrimitiveArray {
+
+    private static final double[] EMPTY = new double[0];
+
+    private double[] values;
+
+    public DoubleArray() {
+        this.values = EMPTY;
+    }
+
+    /**
+     * @param initialCapacity number of elements to allocate room for
+     */
+    public DoubleArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+        }
+        this.values = initialCapacity == 0 ? EMPTY : new double[initialCapacity];
+    }
+
+    /**
+     * Creates an array holding a copy of the given values.
+     */
+    public DoubleArray(double[] values) {
+        this.values = values.length == 0 ? EMPTY : values.clone();
+        this.size = values.length;
+    }
+
+    @Override
+    boolean accepts(Object raw) {
+        return raw instanceof Double;
+    }
+
+    @Override
+    void store(int index, Object raw) {
+        values[index] = (Double) raw;
+    }
+
+    @Override
+    ContainerValue element(int index) {
+        return PrimitiveValue.of(values[index]);
+    }
+
+    @Override
+    int capacity() {
+        return values.length;
+    }
+
+    @Override
+    void resize(int capacity) {
+        values = capacity == 0 ? EMPTY : Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void shiftDown(int index) {
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+    }
+
+    @Override
+    void shiftUp(int index) {
+        System.arraycopy(values, index, values, index + 1, size - index);
+    }
+
+    @Override
+    public ArrayContainer put(double value) {
+        mutated();
+        if (generic != null) {
+            generic.put(value);
+            return this;
+        }
+        ensureCapacity(size + 1);
+        values[size++] = value;
+        return this;
+    }
+
+    @Override
+    public ArrayContainer put(int index, double value) {
+        mutated();
+        if (generic != null || index < 0 || index > size) {
+            return put(index, (Object) value);
+        }
+        if (index == size) {
+            ensureCapacity(size + 1);
+            ++size;
+        }
+        values[index] = value;
+        return this;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        if (generic != null) {
+            return generic.getDouble(index);
+        }
+        checkIndex(index);
+        return values[index];
+    }
+
+    @Override
+    public double getDouble(int index, double defaultValue) {
+        if (generic != null) {
+            return generic.getDouble(index, defaultValue);
+        }
+        checkIndex(index);
+        double value = values[index];
+        return Double.isNaN(value) ? defaultValue : value;
+    }
+
+    @Override
+    public long getLong(int index) {
+        if (generic != null) {
+            return generic.getLong(index);
+        }
+        checkIndex(index);
+        return (long) values[index];
+    }
+
+    @Override
+    public int getInt(int index) {
+        if (generic != null) {
+            return generic.getInt(index);
+        }
+        checkIndex(index);
+        return (int) values[index];
+    }
+
+    /**
+     * Returns the elements as a new {@code double[]}. Elements of another type are converted with
+     * {@link PrimitiveValue#asDouble()} once the array has fallen back to the generic representation.
+     */
+    public double[] toDoubleArray() {
+        if (generic == null) {
+            return Arrays.copyOf(values, size);
+        }
+        double[] result = new double[generic.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = generic.getDouble(i);
+        }
+        return result;
+    }
+}
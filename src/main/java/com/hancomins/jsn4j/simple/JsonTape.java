@@ -0,0 +1,229 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.ContainerValue;
+import com.hancomins.jsn4j.PrimitiveValue;
+
+import java.util.Arrays;
+
+/**
+ * Structural index of an in-memory JSON document, in the spirit of simdjson's tape.
+ * <p>
+ * A single pass over the input records every value as one long: its type in the high word and
+ * its offset in the input in the low word. Objects and arrays take a second long holding the
+ * member count (high word) and the tape index just past their last member (low word), so a whole
+ * subtree is skipped in constant time. An object member is a key entry followed by its value entry.
+ * <p>
+ * Strings and numbers are only delimited during the pass, not decoded. {@link LazyObject} and
+ * {@link LazyArray} decode them from the input when they are first accessed, so a malformed
+ * string or number is reported on access rather than by the pass itself.
+ */
+final class JsonTape {
+    static final int OBJECT = 1;
+    static final int ARRAY = 2;
+    static final int STRING = 3;
+    static final int NUMBER = 4;
+    static final int TRUE = 5;
+    static final int FALSE = 6;
+    static final int NULL = 7;
+
+    private final char[] chars;
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final KeyCache keyCache;
+
+    private long[] tape = new long[64];
+    private int size;
+
+    private JsonTape(char[] chars, byte[] bytes, int offset, int length, KeyCache keyCache) {
+        this.chars = chars;
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.keyCache = keyCache;
+    }
+
+    static ContainerValue parse(char[] chars, KeyCache keyCache) {
+        return new JsonTape(chars, null, 0, chars.length, keyCache).build();
+    }
+
+    static ContainerValue parse(byte[] bytes, int offset, int length, KeyCache keyCache) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + bytes.length);
+        }
+        return new JsonTape(null, bytes, offset, length, keyCache).build();
+    }
+
+    private ContainerValue build() {
+        AbstractJsonTokenizer tokenizer = newTokenizer();
+        tokenizer.skipWhitespace();
+        scanValue(tokenizer);
+        tokenizer.skipWhitespace();
+        if (!tokenizer.isEOF()) {
+            throw new IllegalStateException("Extra content after end of JSON " + tokenizer.positionInfo());
+        }
+        tape = Arrays.copyOf(tape, size);
+        return value(0);
+    }
+
+    private void scanValue(AbstractJsonTokenizer tokenizer) {
+        tokenizer.skipWhitespace();
+        char c = tokenizer.peek();
+        int position = tokenizer.position();
+        if (c == '{') {
+            scanObject(tokenizer, append(OBJECT, position));
+        } else if (c == '[') {
+            scanArray(tokenizer, append(ARRAY, position));
+        } else if (c == '"') {
+            append(STRING, position);
+            tokenizer.skipString();
+        } else if (Character.isDigit(c) || c == '-') {
+            append(NUMBER, position);
+            tokenizer.skipNumber();
+        } else if (tokenizer.matchLiteral("true")) {
+            append(TRUE, position);
+        } else if (tokenizer.matchLiteral("false")) {
+            append(FALSE, position);
+        } else if (tokenizer.matchLiteral("null")) {
+            append(NULL, position);
+        } else {
+            throw new IllegalArgumentException("Unexpected token " + tokenizer.positionInfo());
+        }
+    }
+
+    private void scanObject(AbstractJsonTokenizer tokenizer, int index) {
+        append(0, 0);
+        tokenizer.expect('{');
+        int count = 0;
+        tokenizer.skipWhitespace();
+        if (tokenizer.peek() == '}') {
+            tokenizer.expect('}');
+        } else {
+            while (true) {
+                tokenizer.skipWhitespace();
+                append(STRING, tokenizer.position());
+                tokenizer.skipString();
+                tokenizer.skipWhitespace();
+                tokenizer.expect(':');
+                scanValue(tokenizer);
+                ++count;
+                tokenizer.skipWhitespace();
+                char next = tokenizer.peek();
+                if (next == ',') {
+                    tokenizer.expect(',');
+                } else if (next == '}') {
+                    tokenizer.expect('}');
+                    break;
+                } else {
+                    throw new IllegalStateException("Expected ',' or '}' in object " + tokenizer.positionInfo());
+                }
+            }
+        }
+        tape[index + 1] = pack(count, size);
+    }
+
+    private void scanArray(AbstractJsonTokenizer tokenizer, int index) {
+        append(0, 0);
+        tokenizer.expect('[');
+        int count = 0;
+        tokenizer.skipWhitespace();
+        if (tokenizer.peek() == ']') {
+            tokenizer.expect(']');
+        } else {
+            while (true) {
+                scanValue(tokenizer);
+                ++count;
+                tokenizer.skipWhitespace();
+                char next = tokenizer.peek();
+                if (next == ',') {
+                    tokenizer.expect(',');
+                } else if (next == ']') {
+                    tokenizer.expect(']');
+                    break;
+                } else {
+                    throw new IllegalStateException("Expected ',' or ']' in array " + tokenizer.positionInfo());
+                }
+            }
+        }
+        tape[index + 1] = pack(count, size);
+    }
+
+    private int append(int high, int low) {
+        if (size == tape.length) {
+            tape = Arrays.copyOf(tape, size * 2);
+        }
+        tape[size] = pack(high, low);
+        return size++;
+    }
+
+    private static long pack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    int type(int index) {
+        return (int) (tape[index] >>> 32);
+    }
+
+    /**
+     * Number of members of the object or array at {@code index}.
+     */
+    int count(int index) {
+        return (int) (tape[index + 1] >>> 32);
+    }
+
+    /**
+     * Index of the first member (or first key) of the object or array at {@code index}.
+     */
+    static int firstChild(int index) {
+        return index + 2;
+    }
+
+    /**
+     * Index of the entry following the value at {@code index}, skipping its subtree.
+     */
+    int next(int index) {
+        int type = type(index);
+        return type == OBJECT || type == ARRAY ? (int) tape[index + 1] : index + 1;
+    }
+
+    /**
+     * Creates a tokenizer over the input. Tokenizers are cheap and never shared, so views
+     * may be read independently of each other.
+     */
+    AbstractJsonTokenizer newTokenizer() {
+        return chars != null ? new JsonTokenizer(chars) : new Utf8JsonTokenizer(bytes, offset, length);
+    }
+
+    String readKey(AbstractJsonTokenizer tokenizer, int index) {
+        tokenizer.seek((int) tape[index]);
+        return tokenizer.readKey(keyCache);
+    }
+
+    /**
+     * Decodes the value at {@code index}. Objects and arrays become views over this tape.
+     */
+    ContainerValue value(int index) {
+        switch (type(index)) {
+            case OBJECT:
+                return new LazyObject(this, index);
+            case ARRAY:
+                return new LazyArray(this, index);
+            case STRING: {
+                AbstractJsonTokenizer tokenizer = newTokenizer();
+                tokenizer.seek((int) tape[index]);
+                return PrimitiveValue.of(tokenizer.readString());
+            }
+            case NUMBER: {
+                AbstractJsonTokenizer tokenizer = newTokenizer();
+                tokenizer.seek((int) tape[index]);
+                return PrimitiveValue.of(tokenizer.readNumber());
+            }
+            case TRUE:
+                return PrimitiveValue.TRUE;
+            case FALSE:
+                return PrimitiveValue.FALSE;
+            default:
+                return PrimitiveValue.NULL;
+        }
+    }
+}
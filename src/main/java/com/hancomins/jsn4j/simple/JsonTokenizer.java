@@ -3,187 +3,441 @@ package com.hancomins.jsn4j.simple;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Block-buffered JSON tokenizer.
+ * Characters are pulled from the {@link Reader} in bulk into an internal char[] buffer,
+ * and every token is scanned directly from that buffer. Line and column are not tracked
+ * per character; they are recomputed from the buffer only when {@link #positionInfo()} is called.
+ */
+public class JsonTokenizer extends AbstractJsonTokenizer {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
 
-public class JsonTokenizer {
     private final Reader reader;
-    private int current = -2; // -2 = not read, -1 = EOF
-    private int position = 0;
-    private int line = 1;
-    private int column = 0;
+    private char[] buffer;
+    private int pos = 0;
+    private int limit = 0;
+    private boolean eof;
+    /** Start of the token being scanned. Characters from here on survive a refill. (-1 = none) */
+    private int mark = -1;
+
+    // Bookkeeping for characters already discarded from the buffer (used only by positionInfo)
+    private long bufferOffset = 0;
+    private int discardedLines = 0;
+    private long discardedLineStart = 0;
+
+    private StringBuilder scratch;
+
+    // Number accumulators used by readNumber
+    private long mantissa;
+    private int significantDigits;
+    private int exponent;
+    /** A non-zero digit was dropped beyond the 18 accumulated ones */
+    private boolean truncated;
 
     public JsonTokenizer(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    public JsonTokenizer(Reader reader, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than 0");
+        }
         this.reader = reader;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Tokenizes an in-memory string. The whole string becomes the buffer, so no refill ever happens.
+     */
+    public JsonTokenizer(String value) {
+        this(value.toCharArray());
     }
 
+    /**
+     * Tokenizes an in-memory char array. The array is used as the buffer as is (no copy).
+     */
+    JsonTokenizer(char[] chars) {
+        this.reader = null;
+        this.buffer = chars;
+        this.limit = chars.length;
+        this.eof = true;
+    }
+
+    @Override
     public void skipWhitespace() {
-        while (!isEOF()) {
-            char c = peek();
-            if (!Character.isWhitespace(c)) break;
-            next();
+        while (true) {
+            if (pos >= limit && !fill()) {
+                return;
+            }
+            char c = buffer[pos];
+            if (c > ' ' && c < 0x80) {
+                return;
+            }
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t' && !Character.isWhitespace(c)) {
+                return;
+            }
+            ++pos;
         }
     }
 
+    @Override
     public char peek() {
-        if (current == -2) {
-            current = read();
-        }
-        if (current == -1) {
+        if (pos >= limit && !fill()) {
             throw new IllegalStateException("Unexpected EOF " + positionInfo());
         }
-        return (char) current;
+        return buffer[pos];
     }
 
+    @Override
     public char next() {
-        if (current == -2) {
-            current = read();
+        if (pos >= limit && !fill()) {
+            throw new IllegalStateException("Unexpected EOF " + positionInfo());
         }
-        char c = (char) current;
-        current = read();
-        return c;
+        return buffer[pos++];
     }
 
+    @Override
     public void expect(char expected) {
         char c = next();
         if (c != expected) {
+            --pos;
             throw new IllegalStateException("Expected '" + expected + "', got '" + c + "' " + positionInfo());
         }
     }
 
+    @Override
     public boolean isEOF() {
-        if (current == -2) {
-            current = read();
-        }
-        return current == -1;
+        return pos >= limit && !fill();
     }
 
+    @Override
     public String readString() {
+        return readString(null);
+    }
+
+    @Override
+    public String readKey(KeyCache keyCache) {
+        return readString(keyCache);
+    }
+
+    private String readString(KeyCache keyCache) {
         expect('\"');
-        StringBuilder sb = new StringBuilder();
+        // Fast path: no escape sequence, the string is cut straight out of the buffer.
+        mark = pos;
+        int hash = 0;
         while (true) {
-            if (isEOF()) {
+            if (pos >= limit && !fill()) {
+                mark = -1;
                 throw new IllegalStateException("Unexpected EOF while reading string " + positionInfo());
             }
-            char c = next();
-            if (c == '\"') break;
+            char c = buffer[pos];
+            if (c == '\"') {
+                String result = keyCache == null
+                        ? new String(buffer, mark, pos - mark)
+                        : keyCache.get(buffer, mark, pos - mark, hash);
+                ++pos;
+                mark = -1;
+                return result;
+            }
             if (c == '\\') {
-                if (isEOF()) {
-                    throw new IllegalStateException("Unexpected EOF while reading escape sequence " + positionInfo());
+                // Escaped strings are rare as keys and bypass the cache
+                break;
+            }
+            hash = 31 * hash + c;
+            ++pos;
+        }
+        StringBuilder sb = scratch();
+        sb.append(buffer, mark, pos - mark);
+        mark = -1;
+        return readEscapedString(sb);
+    }
+
+    private String readEscapedString(StringBuilder sb) {
+        while (true) {
+            if (pos >= limit && !fill()) {
+                throw new IllegalStateException("Unexpected EOF while reading string " + positionInfo());
+            }
+            char c = buffer[pos++];
+            if (c == '\"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                int runStart = pos - 1;
+                while (pos < limit) {
+                    c = buffer[pos];
+                    if (c == '\"' || c == '\\') break;
+                    ++pos;
+                }
+                sb.append(buffer, runStart, pos - runStart);
+                continue;
+            }
+            if (pos >= limit && !fill()) {
+                throw new IllegalStateException("Unexpected EOF while reading escape sequence " + positionInfo());
+            }
+            char esc = buffer[pos++];
+            switch (esc) {
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case '\"': sb.append('\"'); break;
+                case '\\': sb.append('\\'); break;
+                case '/': sb.append('/'); break;
+                case 'u':
+                    sb.append(readUnicodeEscape());
+                    break;
+                default: throw new IllegalStateException("Invalid escape: \\\\" + esc + " " + positionInfo());
+            }
+        }
+    }
+
+    private char readUnicodeEscape() {
+        int codePoint = 0;
+        mark = pos;
+        try {
+            for (int i = 0; i < 4; i++) {
+                if (pos >= limit && !fill()) {
+                    throw new IllegalStateException("Unexpected EOF in unicode escape sequence " + positionInfo());
                 }
-                char esc = next();
-                switch (esc) {
-                    case 'b': sb.append('\b'); break;
-                    case 'f': sb.append('\f'); break;
-                    case 'n': sb.append('\n'); break;
-                    case 'r': sb.append('\r'); break;
-                    case 't': sb.append('\t'); break;
-                    case '\"': sb.append('\"'); break;
-                    case '\\': sb.append('\\'); break;
-                    case '/': sb.append('/'); break;
-                    case 'u': 
-                        // Unicode escape sequence
-                        StringBuilder unicode = new StringBuilder();
-                        for (int i = 0; i < 4; i++) {
-                            if (isEOF()) {
-                                throw new IllegalStateException("Unexpected EOF in unicode escape sequence " + positionInfo());
-                            }
-                            char hex = next();
-                            if (!isHexDigit(hex)) {
-                                throw new IllegalStateException("Invalid unicode escape sequence: \\\\u" + unicode + hex + " " + positionInfo());
-                            }
-                            unicode.append(hex);
-                        }
-                        int codePoint = Integer.parseInt(unicode.toString(), 16);
-                        sb.append((char) codePoint);
-                        break;
-                    default: throw new IllegalStateException("Invalid escape: \\\\" + esc + " " + positionInfo());
+                char hex = buffer[pos++];
+                if (!isHexDigit(hex)) {
+                    String read = new String(buffer, mark, pos - mark);
+                    throw new IllegalStateException("Invalid unicode escape sequence: \\\\u" + read + " " + positionInfo());
                 }
-            } else {
-                sb.append(c);
+                codePoint = (codePoint << 4) | hexValue(hex);
             }
+        } finally {
+            mark = -1;
         }
-        return sb.toString();
+        return (char) codePoint;
     }
 
+    @Override
     public Number readNumber() {
-        StringBuilder sb = new StringBuilder();
-        boolean isDouble = false;
-        
-        // Sign
-        if (peek() == '-') sb.append(next());
-        
-        // Integer part
-        if (!isEOF() && Character.isDigit(peek())) {
-            while (!isEOF() && Character.isDigit(peek())) {
-                sb.append(next());
+        mark = pos;
+        try {
+            // Sign
+            boolean negative = false;
+            if (peek() == '-') {
+                negative = true;
+                ++pos;
             }
-        } else {
-            throw new IllegalStateException("Expected digit " + positionInfo());
-        }
-        
-        // Decimal part
-        if (!isEOF() && peek() == '.') {
-            isDouble = true;
-            sb.append(next());
-            if (!isEOF() && Character.isDigit(peek())) {
-                while (!isEOF() && Character.isDigit(peek())) {
-                    sb.append(next());
+            mantissa = 0;
+            significantDigits = 0;
+            exponent = 0;
+            truncated = false;
+
+            // Integer part
+            if (!accumulateDigits(false)) {
+                throw new IllegalStateException("Expected digit " + positionInfo());
+            }
+
+            // Decimal part
+            boolean isDouble = false;
+            if (!isEOF() && buffer[pos] == '.') {
+                isDouble = true;
+                ++pos;
+                if (!accumulateDigits(true)) {
+                    throw new IllegalStateException("Expected digit after decimal point " + positionInfo());
+                }
+            }
+
+            // Exponent part
+            if (!isEOF() && (buffer[pos] == 'e' || buffer[pos] == 'E')) {
+                isDouble = true;
+                ++pos;
+                boolean negativeExponent = false;
+                if (!isEOF() && (buffer[pos] == '+' || buffer[pos] == '-')) {
+                    negativeExponent = buffer[pos] == '-';
+                    ++pos;
+                }
+                int explicitExponent = 0;
+                boolean found = false;
+                while (pos < limit || fill()) {
+                    char c = buffer[pos];
+                    if (c < '0' || c > '9') break;
+                    if (explicitExponent < NumberDecoder.MAX_EXPONENT) {
+                        explicitExponent = explicitExponent * 10 + (c - '0');
+                    }
+                    ++pos;
+                    found = true;
+                }
+                if (!found) {
+                    throw new IllegalStateException("Expected digit in exponent " + positionInfo());
                 }
+                exponent += negativeExponent ? -explicitExponent : explicitExponent;
+            }
+
+            if (!isDouble) {
+                if (!truncated && exponent == 0) {
+                    return negative ? -mantissa : mantissa;
+                }
+            } else if (!truncated) {
+                Double value = NumberDecoder.fastDouble(negative, mantissa, exponent);
+                if (value != null) {
+                    return value;
+                }
+            }
+            // Hard case: more than 18 significant digits, or outside the exact double range
+            return NumberDecoder.parse(new String(buffer, mark, pos - mark), isDouble);
+        } finally {
+            mark = -1;
+        }
+    }
+
+    /**
+     * Scans a run of ASCII digits, accumulating up to {@link NumberDecoder#MAX_MANTISSA_DIGITS}
+     * significant digits into {@link #mantissa} and adjusting {@link #exponent} for the rest.
+     * @param fraction whether the digits follow the decimal point
+     * @return false if no digit was found at the current position
+     */
+    private boolean accumulateDigits(boolean fraction) {
+        boolean found = false;
+        while (pos < limit || fill()) {
+            char c = buffer[pos];
+            if (c < '0' || c > '9') break;
+            int digit = c - '0';
+            if (significantDigits < NumberDecoder.MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0) ++significantDigits;
+                if (fraction) --exponent;
             } else {
-                throw new IllegalStateException("Expected digit after decimal point " + positionInfo());
+                if (digit != 0) truncated = true;
+                if (!fraction) ++exponent;
             }
+            ++pos;
+            found = true;
         }
-        
-        // Exponent part
-        if (!isEOF() && (peek() == 'e' || peek() == 'E')) {
-            isDouble = true;
-            sb.append(next());
-            if (!isEOF() && (peek() == '+' || peek() == '-')) {
-                sb.append(next());
+        return found;
+    }
+
+    @Override
+    protected int position() {
+        return pos;
+    }
+
+    @Override
+    protected void seek(int position) {
+        pos = position;
+    }
+
+    @Override
+    protected void skipString() {
+        expect('\"');
+        while (true) {
+            if (pos >= limit && !fill()) {
+                throw new IllegalStateException("Unexpected EOF while reading string " + positionInfo());
             }
-            if (!isEOF() && Character.isDigit(peek())) {
-                while (!isEOF() && Character.isDigit(peek())) {
-                    sb.append(next());
+            char c = buffer[pos++];
+            if (c == '\"') {
+                return;
+            }
+            if (c == '\\') {
+                // The escaped character never ends the string; unicode escape digits are skipped as plain characters
+                if (pos >= limit && !fill()) {
+                    throw new IllegalStateException("Unexpected EOF while reading escape sequence " + positionInfo());
                 }
-            } else {
-                throw new IllegalStateException("Expected digit in exponent " + positionInfo());
+                ++pos;
             }
         }
-        
-        return isDouble ? Double.parseDouble(sb.toString()) : Long.parseLong(sb.toString());
     }
 
+    @Override
+    protected void skipNumber() {
+        if (peek() == '-') ++pos;
+        while (pos < limit || fill()) {
+            char c = buffer[pos];
+            if ((c < '0' || c > '9') && c != '.' && c != 'e' && c != 'E' && c != '+' && c != '-') break;
+            ++pos;
+        }
+    }
+
+    @Override
     public boolean matchLiteral(String literal) {
         skipWhitespace();
         for (int i = 0; i < literal.length(); i++) {
             if (peek() != literal.charAt(i)) {
                 return false;
             }
-            next();
+            ++pos;
         }
         return true;
     }
 
+    @Override
     public String positionInfo() {
+        int line = discardedLines + 1;
+        long lineStart = discardedLineStart;
+        int end = Math.min(pos, limit);
+        for (int i = 0; i < end; i++) {
+            if (buffer[i] == '\n') {
+                ++line;
+                lineStart = bufferOffset + i + 1;
+            }
+        }
+        long position = bufferOffset + pos;
+        long column = position - lineStart + 1;
         return "at line " + line + ", column " + column + " (position " + position + ")";
     }
 
-    private int read() {
+    /**
+     * Reads the next block from the reader.
+     * Characters before the current position (or before {@link #mark}) are discarded first;
+     * the buffer grows only when a single token does not fit in it.
+     * @return false if no more characters are available
+     */
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+        int keepFrom = mark >= 0 ? mark : pos;
+        if (keepFrom > 0) {
+            discard(keepFrom);
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
         try {
-            int c = reader.read();
-            position++;
-            if (c == '\n') {
-                line++;
-                column = 0;
-            } else if (c != -1) {
-                column++;
-            }
-            return c;
+            int read;
+            do {
+                read = reader.read(buffer, limit, buffer.length - limit);
+            } while (read == 0);
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            limit += read;
+            return true;
         } catch (IOException e) {
             throw new RuntimeException("IO error at " + positionInfo(), e);
         }
     }
-    
-    private boolean isHexDigit(char c) {
-        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+
+    private void discard(int count) {
+        for (int i = 0; i < count; i++) {
+            if (buffer[i] == '\n') {
+                ++discardedLines;
+                discardedLineStart = bufferOffset + i + 1;
+            }
+        }
+        System.arraycopy(buffer, count, buffer, 0, limit - count);
+        limit -= count;
+        pos -= count;
+        if (mark >= 0) {
+            mark -= count;
+        }
+        bufferOffset += count;
+    }
+
+    private StringBuilder scratch() {
+        if (scratch == null) {
+            scratch = new StringBuilder(64);
+        } else {
+            scratch.setLength(0);
+        }
+        return scratch;
     }
 }
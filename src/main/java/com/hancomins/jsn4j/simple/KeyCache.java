@@ -0,0 +1,179 @@
+package com.hancomins.jsn4j.simple;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of object keys for {@link SimpleJsonParser}.
+ * Keys are looked up straight from the tokenizer buffer by hash and length, so a repeated key
+ * costs a hash and a compare instead of a new String. The cache is a direct-mapped table:
+ * a colliding key simply replaces the previous entry, which keeps the size fixed and the lookup branch-light.
+ * <p>
+ * One instance may be shared by several threads. Entries are immutable and published through
+ * plain array stores; a lost update only costs a miss.
+ */
+public class KeyCache {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_KEY_LENGTH = 64;
+
+    private final Entry[] table;
+    private final int mask;
+    private final int maxKeyLength;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public KeyCache() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_KEY_LENGTH);
+    }
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     * @param maxKeyLength keys longer than this (in chars, or bytes for UTF-8 input) are never cached
+     */
+    public KeyCache(int capacity, int maxKeyLength) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+        if (maxKeyLength <= 0) {
+            throw new IllegalArgumentException("Max key length must be greater than 0");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.table = new Entry[size];
+        this.mask = size - 1;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    public int getCapacity() {
+        return table.length;
+    }
+
+    public int getMaxKeyLength() {
+        return maxKeyLength;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return hits / (hits + misses), or 0 when nothing was looked up yet
+     */
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    public void clear() {
+        Arrays.fill(table, null);
+    }
+
+    /**
+     * Returns the key for {@code chars[offset, offset + length)}.
+     * @param hash the {@link String#hashCode()} of the key, computed while scanning
+     */
+    String get(char[] chars, int offset, int length, int hash) {
+        if (length > maxKeyLength) {
+            return new String(chars, offset, length);
+        }
+        int slot = spread(hash) & mask;
+        Entry entry = table[slot];
+        if (entry != null && entry.hash == hash && matches(entry.key, chars, offset, length)) {
+            hits.increment();
+            return entry.key;
+        }
+        misses.increment();
+        String key = new String(chars, offset, length);
+        table[slot] = new Entry(hash, key, null);
+        return key;
+    }
+
+    /**
+     * Returns the key for the UTF-8 bytes {@code bytes[offset, offset + length)}.
+     * @param hash the byte hash (31 * h + b) of the key, computed while scanning;
+     *             for ASCII keys this equals {@link String#hashCode()}
+     * @param ascii whether every byte of the key is ASCII
+     */
+    String get(byte[] bytes, int offset, int length, int hash, boolean ascii) {
+        if (length > maxKeyLength) {
+            return Utf8JsonTokenizer.decode(bytes, offset, length, ascii);
+        }
+        int slot = spread(hash) & mask;
+        Entry entry = table[slot];
+        if (entry != null && entry.hash == hash && matches(entry, bytes, offset, length, ascii)) {
+            hits.increment();
+            return entry.key;
+        }
+        misses.increment();
+        String key = Utf8JsonTokenizer.decode(bytes, offset, length, ascii);
+        table[slot] = new Entry(hash, key, ascii ? null : Arrays.copyOfRange(bytes, offset, offset + length));
+        return key;
+    }
+
+    private static boolean matches(String key, char[] chars, int offset, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(Entry entry, byte[] bytes, int offset, int length, boolean ascii) {
+        if (!ascii) {
+            byte[] utf8 = entry.utf8;
+            if (utf8 == null || utf8.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (utf8[i] != bytes[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        String key = entry.key;
+        if (entry.utf8 != null || key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+        final int hash;
+        final String key;
+        /** UTF-8 form of a non-ASCII key read from bytes, null otherwise */
+        final byte[] utf8;
+
+        Entry(int hash, String key, byte[] utf8) {
+            this.hash = hash;
+            this.key = key;
+            this.utf8 = utf8;
+        }
+    }
+}
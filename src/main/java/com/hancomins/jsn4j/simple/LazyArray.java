@@ -0,0 +1,126 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.ArrayContainer;
+import com.hancomins.jsn4j.ContainerValue;
+import com.hancomins.jsn4j.ObjectContainer;
+
+import java.util.Iterator;
+
+/**
+ * {@link SimpleArray} view over a {@link JsonTape}, returned by {@link SimpleJsonParser#parseLazy(String)}.
+ * The size is known without decoding anything and each element is decoded on its first access.
+ * Iteration or any modification first copies all elements into the underlying list,
+ * after which the array behaves exactly like a {@link SimpleArray}.
+ */
+final class LazyArray extends SimpleArray {
+
+    /** null once the elements were copied into the list */
+    private JsonTape tape;
+    private final int index;
+    private int[] elementIndexes;
+    private ContainerValue[] values;
+
+    LazyArray(JsonTape tape, int index) {
+        this.tape = tape;
+        this.index = index;
+    }
+
+    private void indexElements() {
+        if (elementIndexes != null) {
+            return;
+        }
+        int count = tape.count(index);
+        int[] elementIndexes = new int[count];
+        int entry = JsonTape.firstChild(index);
+        for (int i = 0; i < count; i++) {
+            elementIndexes[i] = entry;
+            entry = tape.next(entry);
+        }
+        this.values = new ContainerValue[count];
+        this.elementIndexes = elementIndexes;
+    }
+
+    private ContainerValue valueAt(int i) {
+        ContainerValue value = values[i];
+        if (value == null) {
+            value = tape.value(elementIndexes[i]);
+            values[i] = value;
+        }
+        return value;
+    }
+
+    private void materialize() {
+        if (tape == null) {
+            return;
+        }
+        indexElements();
+        for (int i = 0; i < values.length; i++) {
+            super.put((Object) valueAt(i));
+        }
+        tape = null;
+        elementIndexes = null;
+        values = null;
+    }
+
+    @Override
+    public int size() {
+        return tape == null ? super.size() : tape.count(index);
+    }
+
+    @Override
+    public ContainerValue get(int index) {
+        if (tape == null) {
+            return super.get(index);
+        }
+        int size = tape.count(this.index);
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        indexElements();
+        return valueAt(index);
+    }
+
+    @Override
+    public ArrayContainer put(int index, Object value) {
+        materialize();
+        return super.put(index, value);
+    }
+
+    @Override
+    public ArrayContainer put(Object value) {
+        materialize();
+        return super.put(value);
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject() {
+        materialize();
+        return super.newAndPutObject();
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray() {
+        materialize();
+        return super.newAndPutArray();
+    }
+
+    @Override
+    public ContainerValue remove(int index) {
+        materialize();
+        return super.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        tape = null;
+        elementIndexes = null;
+        values = null;
+        super.clear();
+    }
+
+    @Override
+    public Iterator<ContainerValue> iterator() {
+        materialize();
+        return super.iterator();
+    }
+}
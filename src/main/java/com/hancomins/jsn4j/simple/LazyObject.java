@@ -0,0 +1,183 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.ArrayContainer;
+import com.hancomins.jsn4j.ContainerValue;
+import com.hancomins.jsn4j.ObjectContainer;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link SimpleObject} view over a {@link JsonTape}, returned by {@link SimpleJsonParser#parseLazy(String)}.
+ * Keys are decoded on the first lookup and each value on its first access; a value is decoded once
+ * and the same instance is returned afterwards. Iteration or any modification first copies all
+ * members into the underlying map, after which the object behaves exactly like a {@link SimpleObject}.
+ */
+final class LazyObject extends SimpleObject {
+
+    /** null once the members were copied into the map */
+    private JsonTape tape;
+    private final int index;
+    private String[] keys;
+    private int[] valueIndexes;
+    private ContainerValue[] values;
+    private int distinctSize = -1;
+
+    LazyObject(JsonTape tape, int index) {
+        this.tape = tape;
+        this.index = index;
+    }
+
+    private void indexKeys() {
+        if (keys != null) {
+            return;
+        }
+        int count = tape.count(index);
+        String[] keys = new String[count];
+        int[] valueIndexes = new int[count];
+        AbstractJsonTokenizer tokenizer = tape.newTokenizer();
+        int entry = JsonTape.firstChild(index);
+        for (int i = 0; i < count; i++) {
+            keys[i] = tape.readKey(tokenizer, entry);
+            valueIndexes[i] = entry + 1;
+            entry = tape.next(entry + 1);
+        }
+        this.values = new ContainerValue[count];
+        this.valueIndexes = valueIndexes;
+        this.keys = keys;
+    }
+
+    private int find(String key) {
+        if (key == null) {
+            return -1;
+        }
+        indexKeys();
+        int hash = key.hashCode();
+        // A duplicated key keeps its last value, as the map built by SimpleJsonParser does
+        for (int i = keys.length - 1; i >= 0; i--) {
+            String candidate = keys[i];
+            if (candidate.hashCode() == hash && candidate.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private ContainerValue valueAt(int i) {
+        ContainerValue value = values[i];
+        if (value == null) {
+            value = tape.value(valueIndexes[i]);
+            values[i] = value;
+        }
+        return value;
+    }
+
+    private void materialize() {
+        if (tape == null) {
+            return;
+        }
+        indexKeys();
+        for (int i = 0; i < keys.length; i++) {
+            super.put(keys[i], valueAt(i));
+        }
+        tape = null;
+        keys = null;
+        valueIndexes = null;
+        values = null;
+    }
+
+    @Override
+    public int size() {
+        if (tape == null) {
+            return super.size();
+        }
+        if (distinctSize < 0) {
+            indexKeys();
+            int size = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (find(keys[i]) == i) {
+                    ++size;
+                }
+            }
+            distinctSize = size;
+        }
+        return distinctSize;
+    }
+
+    @Override
+    public ContainerValue get(String key) {
+        if (tape == null) {
+            return super.get(key);
+        }
+        int i = find(key);
+        return i < 0 ? null : valueAt(i);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return tape == null ? super.containsKey(key) : find(key) >= 0;
+    }
+
+    @Override
+    public boolean has(String key) {
+        return containsKey(key);
+    }
+
+    @Override
+    public ObjectContainer put(String key, Object value) {
+        materialize();
+        return super.put(key, value);
+    }
+
+    @Override
+    public ObjectContainer put(String key, ContainerValue value) {
+        materialize();
+        return super.put(key, value);
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject(String key) {
+        materialize();
+        return super.newAndPutObject(key);
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray(String key) {
+        materialize();
+        return super.newAndPutArray(key);
+    }
+
+    @Override
+    public ContainerValue remove(String key) {
+        materialize();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        tape = null;
+        keys = null;
+        valueIndexes = null;
+        values = null;
+        super.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<String, ContainerValue>> entrySet() {
+        materialize();
+        return super.entrySet();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        materialize();
+        return super.keySet();
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, ContainerValue>> iterator() {
+        materialize();
+        return super.iterator();
+    }
+}
@@ -0,0 +1,155 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.Arrays;
+
+/**
+ * {@link ArrayContainer} that stores integral elements in a {@code long[]}.
+ * Elements are {@link Long} values, as produced by {@link SimpleJsonParser} for integer literals,
+ * and {@link #getLong(int)}, {@link #getInt(int)} and {@link #getDouble(int)} read them without allocating.
+ * Storing a value of any other type, including an {@link Integer}, copies the elements into a
+ * {@link SimpleArray} representation which is used from then on.
+ * Not thread-safe.
+ */
+public class LongArray extends AbstractPrimitiveArray {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] values;
+
+    public LongArray() {
+        this.values = EMPTY;
+    }
+
+    /**
+     * @param initialCapacity number of elements to allocate room for
+     */
+    public LongArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+        }
+        this.values = initialCapacity == 0 ? EMPTY : new long[initialCapacity];
+    }
+
+    /**
+     * Creates an array holding a copy of the given values.
+     */
+    public LongArray(long[] values) {
+        this.values = values.length == 0 ? EMPTY : values.clone();
+        this.size = values.length;
+    }
+
+    @Override
+    boolean accepts(Object raw) {
+        return raw instanceof Long;
+    }
+
+    @Override
+    void store(int index, Object raw) {
+        values[index] = (Long) raw;
+    }
+
+    @Override
+    ContainerValue element(int index) {
+        return PrimitiveValue.of(values[index]);
+    }
+
+    @Override
+    int capacity() {
+        return values.length;
+    }
+
+    @Override
+    void resize(int capacity) {
+        values = capacity == 0 ? EMPTY : Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void shiftDown(int index) {
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+    }
+
+    @Override
+    void shiftUp(int index) {
+        System.arraycopy(values, index, values, index + 1, size - index);
+    }
+
+    @Override
+    public ArrayContainer put(long value) {
+        mutated();
+        if (generic != null) {
+            generic.put(value);
+            return this;
+        }
+        ensureCapacity(size + 1);
+        values[size++] = value;
+        return this;
+    }
+
+    @Override
+    public ArrayContainer put(int index, long value) {
+        mutated();
+        if (generic != null || index < 0 || index > size) {
+            return put(index, (Object) value);
+        }
+        if (index == size) {
+            ensureCapacity(size + 1);
+            ++size;
+        }
+        values[index] = value;
+        return this;
+    }
+
+    @Override
+    public long getLong(int index) {
+        if (generic != null) {
+            return generic.getLong(index);
+        }
+        checkIndex(index);
+        return values[index];
+    }
+
+    @Override
+    public long getLong(int index, long defaultValue) {
+        if (generic != null) {
+            return generic.getLong(index, defaultValue);
+        }
+        checkIndex(index);
+        long value = values[index];
+        return value != Long.MIN_VALUE ? value : defaultValue;
+    }
+
+    @Override
+    public int getInt(int index) {
+        if (generic != null) {
+            return generic.getInt(index);
+        }
+        checkIndex(index);
+        return (int) values[index];
+    }
+
+    @Override
+    public double getDouble(int index) {
+        if (generic != null) {
+            return generic.getDouble(index);
+        }
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Returns the elements as a new {@code long[]}. Elements of another type are converted with
+     * {@link PrimitiveValue#asLong()} once the array has fallen back to the generic representation.
+     */
+    public long[] toLongArray() {
+        if (generic == null) {
+            return Arrays.copyOf(values, size);
+        }
+        long[] result = new long[generic.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = generic.getLong(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+package com.hancomins.jsn4j.simple;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Number conversion shared by the tokenizers.
+ * The tokenizers accumulate up to {@link #MAX_MANTISSA_DIGITS} significant digits into a long
+ * while scanning, together with a decimal exponent. Most numbers are converted from those two
+ * values without any allocation; only the rare hard cases fall back to parsing the token text.
+ */
+final class NumberDecoder {
+
+    /** 18 decimal digits always fit in a long. */
+    static final int MAX_MANTISSA_DIGITS = 18;
+
+    /** Exponents beyond this are clamped while scanning; they overflow or underflow anyway. */
+    static final int MAX_EXPONENT = 100_000;
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final long[] LONG_POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L
+    };
+
+    private NumberDecoder() {
+    }
+
+    /**
+     * Clinger's fast path: when the mantissa is exactly representable as a double (below 2^53)
+     * and the power of ten is too, a single IEEE multiplication or division is correctly rounded.
+     * @return the exact value, or null when the fast path does not apply
+     */
+    static Double fastDouble(boolean negative, long mantissa, int exponent) {
+        if (mantissa >= MAX_EXACT_MANTISSA) {
+            return null;
+        }
+        double value;
+        if (mantissa == 0 || exponent == 0) {
+            value = mantissa;
+        } else if (exponent > 0) {
+            if (exponent > 22) {
+                // 123e30 -> 123000000e22 as long as the shifted mantissa stays exact
+                int shift = exponent - 22;
+                if (shift >= LONG_POWERS_OF_TEN.length) {
+                    return null;
+                }
+                long shifted = mantissa * LONG_POWERS_OF_TEN[shift];
+                if (shifted >= MAX_EXACT_MANTISSA || shifted / LONG_POWERS_OF_TEN[shift] != mantissa) {
+                    return null;
+                }
+                value = shifted * 1e22;
+            } else {
+                value = mantissa * POWERS_OF_TEN[exponent];
+            }
+        } else {
+            if (exponent < -22) {
+                return null;
+            }
+            value = mantissa / POWERS_OF_TEN[-exponent];
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Slow path for numbers the scanner could not convert on its own:
+     * integers with more than 18 significant digits and doubles outside the fast path.
+     * Integers beyond the long range become {@link BigInteger}, doubles beyond the double range become {@link BigDecimal}.
+     */
+    static Number parse(String text, boolean isDouble) {
+        if (!isDouble) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException ignored) {
+                // out of long range
+                return new BigInteger(text);
+            }
+        }
+        double value = Double.parseDouble(text);
+        if (Double.isInfinite(value)) {
+            return new BigDecimal(text);
+        }
+        return value;
+    }
+}
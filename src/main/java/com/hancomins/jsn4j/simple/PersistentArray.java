@@ -0,0 +1,323 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.*;
+
+import static com.hancomins.jsn4j.simple.PersistentObject.BITS;
+import static com.hancomins.jsn4j.simple.PersistentObject.MASK;
+
+/**
+ * Immutable {@link ArrayContainer} backed by a 32-way persistent vector trie with a tail block.
+ * {@link #with(int, Object)} and {@link #plus(Object)} return a new version that shares every block
+ * off the path to the changed index. Reads and updates touch O(log32 n) nodes, and appends usually touch only the tail.
+ * <p>
+ * {@link #freeze(ArrayContainer)} and {@link SimpleArray#freeze()} convert a mutable tree once;
+ * {@link #thaw()} turns a version back into a mutable {@link SimpleArray}. All mutating methods of
+ * {@link ArrayContainer} throw {@link UnsupportedOperationException}. Instances are safe to share between threads.
+ */
+public final class PersistentArray extends AbstractSimpleContainer implements ArrayContainer {
+
+    private static final int WIDTH = 1 << BITS;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final Object[] EMPTY_TAIL = new Object[0];
+
+    public static final PersistentArray EMPTY = new PersistentArray(0, BITS, EMPTY_NODE, EMPTY_TAIL);
+
+    private final int size;
+    /** level of the root node: the number of index bits below it */
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+    /** structural hash, 0 until computed */
+    private int cachedHash;
+
+    private PersistentArray(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns an immutable deep copy of the source. A PersistentArray is returned as is.
+     */
+    public static PersistentArray freeze(ArrayContainer source) {
+        if (source instanceof PersistentArray) {
+            return (PersistentArray) source;
+        }
+        Object[] values = new Object[source.size()];
+        int count = 0;
+        for (ContainerValue value : source) {
+            values[count++] = PersistentObject.freezeValue(value);
+        }
+        return build(values, count);
+    }
+
+    static PersistentArray of(Collection<?> source) {
+        Object[] values = new Object[source.size()];
+        int count = 0;
+        for (Object value : source) {
+            values[count++] = PersistentObject.freezeValue(value);
+        }
+        return build(values, count);
+    }
+
+    /**
+     * Builds the trie bottom-up from already frozen values, giving the same shape as appending them one by one.
+     */
+    private static PersistentArray build(Object[] values, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        int tailOffset = tailOffset(count);
+        Object[] tail = Arrays.copyOfRange(values, tailOffset, count);
+        if (tailOffset == 0) {
+            return new PersistentArray(count, BITS, EMPTY_NODE, tail);
+        }
+        Object[] nodes = new Object[tailOffset >>> BITS];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = Arrays.copyOfRange(values, i << BITS, (i + 1) << BITS);
+        }
+        int shift = BITS;
+        while (true) {
+            Object[] parents = new Object[(nodes.length + WIDTH - 1) >>> BITS];
+            for (int i = 0; i < parents.length; i++) {
+                Object[] parent = new Object[WIDTH];
+                System.arraycopy(nodes, i << BITS, parent, 0, Math.min(WIDTH, nodes.length - (i << BITS)));
+                parents[i] = parent;
+            }
+            if (parents.length == 1) {
+                return new PersistentArray(count, shift, (Object[]) parents[0], tail);
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] blockFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns a version with value appended.
+     * @param value a ContainerValue, Map, Collection or primitive; mutable containers are frozen first
+     */
+    public PersistentArray plus(Object value) {
+        ContainerValue frozen = PersistentObject.freezeValue(value);
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = frozen;
+            return new PersistentArray(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentArray(size + 1, newShift, newRoot, new Object[] {frozen});
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        Object[] inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            inserted = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+        result[subIndex] = inserted;
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] result = new Object[WIDTH];
+        result[0] = newPath(level - BITS, node);
+        return result;
+    }
+
+    /**
+     * Returns a version in which index holds value. An index equal to the size appends.
+     * Returns this instance if index already holds the same value instance.
+     * @throws IndexOutOfBoundsException if index is negative or greater than the size
+     */
+    public PersistentArray with(int index, Object value) {
+        if (index == size) {
+            return plus(value);
+        }
+        checkIndex(index);
+        ContainerValue frozen = PersistentObject.freezeValue(value);
+        if (blockFor(index)[index & MASK] == frozen) {
+            return this;
+        }
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = frozen;
+            return new PersistentArray(size, shift, root, newTail);
+        }
+        return new PersistentArray(size, shift, assoc(shift, root, index, frozen), tail);
+    }
+
+    private static Object[] assoc(int level, Object[] node, int index, Object value) {
+        Object[] result = node.clone();
+        if (level == 0) {
+            result[index & MASK] = value;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result[subIndex] = assoc(level - BITS, (Object[]) node[subIndex], index, value);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a version without the element at index. Following elements move down by one, so unlike
+     * {@link #with(int, Object)} this rebuilds the array in O(n).
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public PersistentArray without(int index) {
+        checkIndex(index);
+        Object[] values = new Object[size - 1];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (i != index) {
+                values[count++] = blockFor(i)[i & MASK];
+            }
+        }
+        return build(values, count);
+    }
+
+    /**
+     * Returns a mutable deep copy. Nested persistent containers become SimpleObject and SimpleArray.
+     */
+    public SimpleArray thaw() {
+        SimpleArray result = new SimpleArray();
+        for (ContainerValue value : this) {
+            result.put(PersistentObject.thawValue(value));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the structural hash, computed on first use. Racing threads compute the same value.
+     */
+    @Override
+    public int hashCode() {
+        int h = cachedHash;
+        if (h == 0) {
+            h = super.hashCode();
+            cachedHash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean isHashCodeCached() {
+        return cachedHash != 0;
+    }
+
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ContainerValue get(int index) {
+        checkIndex(index);
+        return (ContainerValue) blockFor(index)[index & MASK];
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public Iterator<ContainerValue> iterator() {
+        return new Iterator<ContainerValue>() {
+            private int index;
+            private Object[] block;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public ContainerValue next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0 || block == null) {
+                    block = blockFor(index);
+                }
+                return (ContainerValue) block[index++ & MASK];
+            }
+        };
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("PersistentArray is immutable. Use with(), plus(), without() or thaw()");
+    }
+
+    @Override
+    public ArrayContainer put(int index, Object value) {
+        throw immutable();
+    }
+
+    @Override
+    public ArrayContainer put(Object value) {
+        throw immutable();
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject() {
+        throw immutable();
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray() {
+        throw immutable();
+    }
+
+    @Override
+    public ContainerValue remove(int index) {
+        throw immutable();
+    }
+
+    @Override
+    public void clear() {
+        throw immutable();
+    }
+}
@@ -0,0 +1,514 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+
+import java.util.*;
+
+/**
+ * Immutable {@link ObjectContainer} backed by a hash array mapped trie.
+ * {@link #with(String, Object)} and {@link #without(String)} return a new version that shares every
+ * node off the path to the changed key, so deriving a modified copy of a large document costs
+ * O(log32 n) new nodes per change instead of a deep copy. Nested objects and arrays are
+ * {@link PersistentObject} and {@link PersistentArray} instances and are shared between versions the same way.
+ * <p>
+ * {@link #freeze(ObjectContainer)} and {@link SimpleObject#freeze()} convert a mutable tree once;
+ * {@link #thaw()} turns a version back into a mutable {@link SimpleObject}. All mutating methods of
+ * {@link ObjectContainer} throw {@link UnsupportedOperationException}. Iteration order follows the key hashes.
+ * Instances are safe to share between threads.
+ */
+public final class PersistentObject extends AbstractSimpleContainer implements ObjectContainer {
+
+    public static final PersistentObject EMPTY = new PersistentObject(null, 0);
+
+    static final int BITS = 5;
+    static final int MASK = (1 << BITS) - 1;
+
+    /** placed in the key slot of a node array when the value slot holds a child node */
+    private static final Object CHILD = new Object();
+
+    private final Node root;
+    private final int size;
+    /** structural hash, 0 until computed */
+    private int cachedHash;
+
+    private PersistentObject(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns an immutable deep copy of the source. A PersistentObject is returned as is.
+     */
+    public static PersistentObject freeze(ObjectContainer source) {
+        if (source instanceof PersistentObject) {
+            return (PersistentObject) source;
+        }
+        PersistentObject result = EMPTY;
+        for (Map.Entry<String, ContainerValue> entry : source) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Converts a value so that it can be stored in a persistent container: mutable containers, maps
+     * and collections are frozen, null becomes {@link PrimitiveValue#NULL}.
+     */
+    static ContainerValue freezeValue(Object value) {
+        if (value == null) {
+            return PrimitiveValue.NULL;
+        } else if (value instanceof PersistentObject || value instanceof PersistentArray || value instanceof PrimitiveValue) {
+            return (ContainerValue) value;
+        } else if (value instanceof ObjectContainer) {
+            return freeze((ObjectContainer) value);
+        } else if (value instanceof ArrayContainer) {
+            return PersistentArray.freeze((ArrayContainer) value);
+        } else if (value instanceof ContainerValue) {
+            return PrimitiveValue.of(((ContainerValue) value).raw());
+        } else if (value instanceof Map) {
+            PersistentObject result = EMPTY;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                result = result.with(entry.getKey() == null ? null : entry.getKey().toString(), entry.getValue());
+            }
+            return result;
+        } else if (value instanceof Collection) {
+            return PersistentArray.of((Collection<?>) value);
+        }
+        return PrimitiveValue.of(value);
+    }
+
+    static ContainerValue thawValue(ContainerValue value) {
+        if (value instanceof PersistentObject) {
+            return ((PersistentObject) value).thaw();
+        } else if (value instanceof PersistentArray) {
+            return ((PersistentArray) value).thaw();
+        }
+        return value;
+    }
+
+    private static int hash(String key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns a version in which key maps to value. Returns this instance if key already maps to the same value instance.
+     * @param value a ContainerValue, Map, Collection or primitive; mutable containers are frozen first
+     */
+    public PersistentObject with(String key, Object value) {
+        ContainerValue frozen = freezeValue(value);
+        boolean[] added = new boolean[1];
+        Node node = root == null ? BitmapNode.EMPTY : root;
+        Node newRoot = node.with(hash(key), 0, key, frozen, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentObject(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a version without key, or this instance if key is absent.
+     */
+    public PersistentObject without(String key) {
+        if (root == null) {
+            return this;
+        }
+        Node newRoot = root.without(hash(key), 0, key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? EMPTY : new PersistentObject(newRoot, size - 1);
+    }
+
+    /**
+     * Returns a mutable deep copy. Nested persistent containers become SimpleObject and SimpleArray.
+     */
+    public SimpleObject thaw() {
+        SimpleObject result = new SimpleObject();
+        for (Map.Entry<String, ContainerValue> entry : this) {
+            result.put(entry.getKey(), thawValue(entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the structural hash, computed on first use. Racing threads compute the same value.
+     */
+    @Override
+    public int hashCode() {
+        int h = cachedHash;
+        if (h == 0) {
+            h = super.hashCode();
+            cachedHash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean isHashCodeCached() {
+        return cachedHash != 0;
+    }
+
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ContainerValue get(String key) {
+        return root == null ? null : root.find(hash(key), 0, key);
+    }
+
+    @Override
+    public boolean has(String key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, ContainerValue>> iterator() {
+        return new EntryIterator(root);
+    }
+
+    @Override
+    public Set<Map.Entry<String, ContainerValue>> entrySet() {
+        return new AbstractSet<Map.Entry<String, ContainerValue>>() {
+            @Override
+            public Iterator<Map.Entry<String, ContainerValue>> iterator() {
+                return new EntryIterator(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                EntryIterator entries = new EntryIterator(root);
+                return new Iterator<String>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        return entries.next().getKey();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return (o == null || o instanceof String) && containsKey((String) o);
+            }
+        };
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("PersistentObject is immutable. Use with(), without() or thaw()");
+    }
+
+    @Override
+    public ObjectContainer put(String key, Object value) {
+        throw immutable();
+    }
+
+    @Override
+    public ObjectContainer put(String key, ContainerValue value) {
+        throw immutable();
+    }
+
+    @Override
+    public ObjectContainer newAndPutObject(String key) {
+        throw immutable();
+    }
+
+    @Override
+    public ArrayContainer newAndPutArray(String key) {
+        throw immutable();
+    }
+
+    @Override
+    public ContainerValue remove(String key) {
+        throw immutable();
+    }
+
+    @Override
+    public void putAll(Map<String, ?> map) {
+        throw immutable();
+    }
+
+    @Override
+    public void clear() {
+        throw immutable();
+    }
+
+    private static Object[] cloneAndSet(Object[] array, int index, Object value) {
+        Object[] result = array.clone();
+        result[index] = value;
+        return result;
+    }
+
+    private static Object[] removePair(Object[] array, int index) {
+        Object[] result = new Object[array.length - 2];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 2, result, index, array.length - index - 2);
+        return result;
+    }
+
+    /**
+     * Trie node. {@link #array} holds key/value pairs; a pair whose key is {@link #CHILD} holds a child node.
+     * Nodes are never modified after construction.
+     */
+    private abstract static class Node {
+        final Object[] array;
+
+        Node(Object[] array) {
+            this.array = array;
+        }
+
+        abstract ContainerValue find(int hash, int shift, String key);
+
+        abstract Node with(int hash, int shift, String key, ContainerValue value, boolean[] added);
+
+        /** @return this if key is absent, null if the node became empty */
+        abstract Node without(int hash, int shift, String key);
+
+        boolean isSinglePair() {
+            return array.length == 2 && array[0] != CHILD;
+        }
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        /** bit i is set when slot i of the 32 possible slots is present in the array */
+        final int bitmap;
+
+        BitmapNode(int bitmap, Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int pairIndex(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1)) << 1;
+        }
+
+        @Override
+        ContainerValue find(int hash, int shift, String key) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int i = pairIndex(bit);
+            Object k = array[i];
+            if (k == CHILD) {
+                return ((Node) array[i + 1]).find(hash, shift + BITS, key);
+            }
+            return Objects.equals(k, key) ? (ContainerValue) array[i + 1] : null;
+        }
+
+        @Override
+        Node with(int hash, int shift, String key, ContainerValue value, boolean[] added) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int i = pairIndex(bit);
+            if ((bitmap & bit) == 0) {
+                added[0] = true;
+                Object[] result = new Object[array.length + 2];
+                System.arraycopy(array, 0, result, 0, i);
+                result[i] = key;
+                result[i + 1] = value;
+                System.arraycopy(array, i, result, i + 2, array.length - i);
+                return new BitmapNode(bitmap | bit, result);
+            }
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == CHILD) {
+                Node child = (Node) v;
+                Node newChild = child.with(hash, shift + BITS, key, value, added);
+                return newChild == child ? this : new BitmapNode(bitmap, cloneAndSet(array, i + 1, newChild));
+            }
+            if (Objects.equals(k, key)) {
+                return v == value ? this : new BitmapNode(bitmap, cloneAndSet(array, i + 1, value));
+            }
+            added[0] = true;
+            Object[] result = array.clone();
+            result[i] = CHILD;
+            result[i + 1] = createNode(shift + BITS, (String) k, (ContainerValue) v, hash, key, value);
+            return new BitmapNode(bitmap, result);
+        }
+
+        @Override
+        Node without(int hash, int shift, String key) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = pairIndex(bit);
+            Object k = array[i];
+            if (k == CHILD) {
+                Node child = (Node) array[i + 1];
+                Node newChild = child.without(hash, shift + BITS, key);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    if (newChild.isSinglePair()) {
+                        // Pull a lone remaining pair up so that the trie stays as shallow as after inserts
+                        Object[] result = array.clone();
+                        result[i] = newChild.array[0];
+                        result[i + 1] = newChild.array[1];
+                        return new BitmapNode(bitmap, result);
+                    }
+                    return new BitmapNode(bitmap, cloneAndSet(array, i + 1, newChild));
+                }
+            } else if (!Objects.equals(k, key)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            return new BitmapNode(bitmap ^ bit, removePair(array, i));
+        }
+
+        private static Node createNode(int shift, String key1, ContainerValue value1, int hash2, String key2, ContainerValue value2) {
+            int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+            }
+            boolean[] added = new boolean[1];
+            return EMPTY.with(hash1, shift, key1, value1, added).with(hash2, shift, key2, value2, added);
+        }
+    }
+
+    /**
+     * Keys whose spread hashes are equal in all 32 bits.
+     */
+    private static final class CollisionNode extends Node {
+        final int hash;
+
+        CollisionNode(int hash, Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int indexOf(String key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (Objects.equals(array[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        ContainerValue find(int hash, int shift, String key) {
+            if (hash != this.hash) {
+                return null;
+            }
+            int i = indexOf(key);
+            return i < 0 ? null : (ContainerValue) array[i + 1];
+        }
+
+        @Override
+        Node with(int hash, int shift, String key, ContainerValue value, boolean[] added) {
+            if (hash != this.hash) {
+                BitmapNode parent = new BitmapNode(1 << ((this.hash >>> shift) & MASK), new Object[] {CHILD, this});
+                return parent.with(hash, shift, key, value, added);
+            }
+            int i = indexOf(key);
+            if (i >= 0) {
+                return array[i + 1] == value ? this : new CollisionNode(hash, cloneAndSet(array, i + 1, value));
+            }
+            added[0] = true;
+            Object[] result = Arrays.copyOf(array, array.length + 2);
+            result[array.length] = key;
+            result[array.length + 1] = value;
+            return new CollisionNode(hash, result);
+        }
+
+        @Override
+        Node without(int hash, int shift, String key) {
+            int i = hash == this.hash ? indexOf(key) : -1;
+            if (i < 0) {
+                return this;
+            }
+            return array.length == 2 ? null : new CollisionNode(hash, removePair(array, i));
+        }
+    }
+
+    private static final class EntryIterator implements Iterator<Map.Entry<String, ContainerValue>> {
+        // 7 levels of 5 bits cover the 32-bit hash, plus one collision level
+        private final Object[][] arrays = new Object[9][];
+        private final int[] positions = new int[9];
+        private int depth = -1;
+        private Map.Entry<String, ContainerValue> next;
+
+        EntryIterator(Node root) {
+            if (root != null) {
+                arrays[0] = root.array;
+                depth = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && depth >= 0) {
+                Object[] array = arrays[depth];
+                int position = positions[depth];
+                if (position >= array.length) {
+                    arrays[depth--] = null;
+                    continue;
+                }
+                positions[depth] = position + 2;
+                if (array[position] == CHILD) {
+                    ++depth;
+                    arrays[depth] = ((Node) array[position + 1]).array;
+                    positions[depth] = 0;
+                } else {
+                    next = new AbstractMap.SimpleImmutableEntry<>((String) array[position], (ContainerValue) array[position + 1]);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, ContainerValue> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<String, ContainerValue> entry = next;
+            next = null;
+            return entry;
+        }
+    }
+}
@@ -16,13 +16,27 @@ public class SimpleArray extends AbstractSimpleContainer implements ArrayContain
         if(!containerValue.isArray()) {
             throw new IllegalArgumentException("Invalid JSON array: " + jsonArray);
         }
-        this.values = new ArrayList<>( ((SimpleArray)containerValue.asArray()).values);
+        ArrayContainer parsed = containerValue.asArray();
+        this.values = parsed instanceof SimpleArray ? new ArrayList<>(((SimpleArray) parsed).values) : new ArrayList<>(parsed.toList());
+        for (ContainerValue value : values) {
+            transfer(value);
+        }
+    }
+
+    @Override
+    boolean tracksMutations() {
+        return true;
     }
 
     @Override
     public ArrayContainer put(int index, Object value) {
         ensure(index + 1);
-        values.set(index, convertValue(value));
+        ContainerValue converted = convertValue(value);
+        ContainerValue old = values.set(index, adopt(converted));
+        if (old != converted) {
+            release(old);
+        }
+        mutated();
         return this;
     }
 
@@ -39,21 +53,34 @@ public class SimpleArray extends AbstractSimpleContainer implements ArrayContain
 
     @Override
     public ArrayContainer put(Object value) {
-        values.add(convertValue(value));
+        values.add(adopt(convertValue(value)));
+        mutated();
+        return this;
+    }
+
+    @Override
+    public ArrayContainer insert(int index, Object value) {
+        if (index < 0 || index > values.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.size());
+        }
+        values.add(index, adopt(convertValue(value)));
+        mutated();
         return this;
     }
 
     @Override
     public ObjectContainer newAndPutObject() {
         SimpleObject object = new SimpleObject();
-        values.add(object);
+        values.add(adopt(object));
+        mutated();
         return object;
     }
 
     @Override
     public ArrayContainer newAndPutArray() {
         SimpleArray array = new SimpleArray();
-        values.add(array);
+        values.add(adopt(array));
+        mutated();
         return array;
     }
 
@@ -67,8 +94,9 @@ public class SimpleArray extends AbstractSimpleContainer implements ArrayContain
         if(index < 0 || index >= values.size()) {
             return null;
         }
-        ContainerValue value = values.get(index);
-        values.remove(index);
+        ContainerValue value = values.remove(index);
+        release(value);
+        mutated();
         return value;
     }
 
@@ -79,7 +107,11 @@ public class SimpleArray extends AbstractSimpleContainer implements ArrayContain
 
     @Override
     public void clear() {
+        for (ContainerValue value : values) {
+            release(value);
+        }
         values.clear();
+        mutated();
     }
 
     @Override
@@ -89,8 +121,35 @@ public class SimpleArray extends AbstractSimpleContainer implements ArrayContain
 
     @Override
     public Iterator<ContainerValue> iterator() {
-        return values.iterator();
-    }
+        Iterator<ContainerValue> iterator = values.iterator();
+        return new Iterator<ContainerValue>() {
+            private ContainerValue last;
 
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public ContainerValue next() {
+                last = iterator.next();
+                return last;
+            }
 
+            @Override
+            public void remove() {
+                iterator.remove();
+                release(last);
+                mutated();
+            }
+        };
+    }
+
+    /**
+     * Returns an immutable deep copy of this array that later copies can share structure with.
+     * @see PersistentArray#thaw()
+     */
+    public PersistentArray freeze() {
+        return PersistentArray.freeze(this);
+    }
 }
@@ -28,6 +28,20 @@ public class SimpleJsonContainerFactory implements ContainerFactory {
         return new SimpleArray();
     }
 
+    /**
+     * Returns an overlay that reads through to source and copies only the levels that are written.
+     * Works for any ObjectContainer or ArrayContainer, not only Simple ones.
+     */
+    @Override
+    public ContainerValue newCopyOnWrite(ContainerValue source) {
+        if (source instanceof ObjectContainer) {
+            return new CopyOnWriteObject((ObjectContainer) source);
+        } else if (source instanceof ArrayContainer) {
+            return new CopyOnWriteArray((ArrayContainer) source);
+        }
+        return ContainerValues.cloneContainer(source);
+    }
+
 
     @Override
     public ContainerParser getParser() {
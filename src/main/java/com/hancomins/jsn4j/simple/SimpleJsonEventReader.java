@@ -0,0 +1,150 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.AbstractJsonEventReader;
+import com.hancomins.jsn4j.JsonEvent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * {@link com.hancomins.jsn4j.JsonEventReader} backed by the simple tokenizers.
+ * Follows exactly the grammar of {@link SimpleJsonParser}, one token per event,
+ * so memory use depends only on nesting depth and the longest token.
+ */
+public class SimpleJsonEventReader extends AbstractJsonEventReader {
+
+    private final AbstractJsonTokenizer tokenizer;
+    private final Closeable source;
+    private final KeyCache keyCache;
+
+    /** Container kind per nesting level: true = object, false = array */
+    private boolean[] objectStack = new boolean[16];
+    private int level;
+    /** No element has been read yet in the innermost container */
+    private boolean first;
+    /** A FIELD_NAME was just returned; the next event is its value */
+    private boolean afterFieldName;
+
+    SimpleJsonEventReader(AbstractJsonTokenizer tokenizer, Closeable source, KeyCache keyCache) {
+        this.tokenizer = tokenizer;
+        this.source = source;
+        this.keyCache = keyCache;
+    }
+
+    @Override
+    protected JsonEvent advance() {
+        tokenizer.skipWhitespace();
+        if (level == 0 || afterFieldName) {
+            afterFieldName = false;
+            return readValue();
+        }
+        char c = tokenizer.peek();
+        if (objectStack[level - 1]) {
+            if (c == '}') {
+                tokenizer.expect('}');
+                return pop(JsonEvent.END_OBJECT);
+            }
+            if (!first) {
+                if (c != ',') {
+                    throw new IllegalStateException("Expected ',' or '}' in object " + tokenizer.positionInfo());
+                }
+                tokenizer.expect(',');
+                tokenizer.skipWhitespace();
+            }
+            first = false;
+            fieldName = tokenizer.readKey(keyCache);
+            tokenizer.skipWhitespace();
+            tokenizer.expect(':');
+            afterFieldName = true;
+            return JsonEvent.FIELD_NAME;
+        }
+        if (c == ']') {
+            tokenizer.expect(']');
+            return pop(JsonEvent.END_ARRAY);
+        }
+        if (!first) {
+            if (c != ',') {
+                throw new IllegalStateException("Expected ',' or ']' in array " + tokenizer.positionInfo());
+            }
+            tokenizer.expect(',');
+        }
+        first = false;
+        return readValue();
+    }
+
+    private JsonEvent readValue() {
+        tokenizer.skipWhitespace();
+        char c = tokenizer.peek();
+        if (c == '{') {
+            tokenizer.expect('{');
+            return push(true, JsonEvent.START_OBJECT);
+        }
+        if (c == '[') {
+            tokenizer.expect('[');
+            return push(false, JsonEvent.START_ARRAY);
+        }
+        if (c == '"') {
+            value = tokenizer.readString();
+            return JsonEvent.VALUE_STRING;
+        }
+        if (Character.isDigit(c) || c == '-') {
+            value = tokenizer.readNumber();
+            return JsonEvent.VALUE_NUMBER;
+        }
+        if (tokenizer.matchLiteral("true")) {
+            value = Boolean.TRUE;
+            return JsonEvent.VALUE_TRUE;
+        }
+        if (tokenizer.matchLiteral("false")) {
+            value = Boolean.FALSE;
+            return JsonEvent.VALUE_FALSE;
+        }
+        if (tokenizer.matchLiteral("null")) {
+            return JsonEvent.VALUE_NULL;
+        }
+        throw new IllegalArgumentException("Unexpected token " + tokenizer.positionInfo());
+    }
+
+    private JsonEvent push(boolean object, JsonEvent event) {
+        if (level == objectStack.length) {
+            objectStack = Arrays.copyOf(objectStack, level * 2);
+        }
+        objectStack[level++] = object;
+        first = true;
+        return event;
+    }
+
+    private JsonEvent pop(JsonEvent event) {
+        --level;
+        first = false;
+        return event;
+    }
+
+    @Override
+    protected JsonEvent skipContainer() {
+        boolean object = objectStack[level - 1];
+        tokenizer.skipContainer(object);
+        return pop(object ? JsonEvent.END_OBJECT : JsonEvent.END_ARRAY);
+    }
+
+    @Override
+    protected void verifyEnd() {
+        tokenizer.skipWhitespace();
+        if (!tokenizer.isEOF()) {
+            throw new IllegalStateException("Extra content after end of JSON " + tokenizer.positionInfo());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (source == null) {
+            return;
+        }
+        try {
+            source.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close JSON source: " + e.getMessage(), e);
+        }
+    }
+}
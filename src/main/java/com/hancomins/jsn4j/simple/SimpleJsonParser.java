@@ -1,15 +1,83 @@
 package com.hancomins.jsn4j.simple;
 
 import com.hancomins.jsn4j.*;
+import com.hancomins.jsn4j.tool.ByteBufferInputStream;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 public class SimpleJsonParser implements ContainerParser {
 
+    private KeyCache keyCache = new KeyCache();
+    private boolean compactObjects;
+    private boolean primitiveArrays = true;
+    /** builds ConcurrentObject and ConcurrentArray; set for the parser of {@link ConcurrentContainerFactory} */
+    private final boolean concurrent;
+
+    public SimpleJsonParser() {
+        this(false);
+    }
+
+    SimpleJsonParser(boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    /**
+     * Returns the cache used to deduplicate object keys, or null if key caching is disabled.
+     * Hit statistics are available from the returned cache.
+     */
+    public KeyCache getKeyCache() {
+        return keyCache;
+    }
+
+    /**
+     * Sets the cache used to deduplicate object keys. A cache may be shared between parsers.
+     * @param keyCache the cache to use, or null to disable key caching
+     */
+    public void setKeyCache(KeyCache keyCache) {
+        this.keyCache = keyCache;
+    }
+
+    /**
+     * Returns whether {@link #parse} builds objects as {@link CompactObject}.
+     */
+    public boolean isCompactObjects() {
+        return compactObjects;
+    }
+
+    /**
+     * Makes {@link #parse} build objects as insertion-ordered {@link CompactObject} instead of
+     * HashMap-backed {@link SimpleObject}. Worth enabling for documents made of many small objects.
+     * Lazy parsing is not affected.
+     * @param compactObjects true to build CompactObject instances
+     */
+    public void setCompactObjects(boolean compactObjects) {
+        this.compactObjects = compactObjects;
+    }
+
+    /**
+     * Returns whether {@link #parse} stores arrays of integers, decimals or booleans in
+     * {@link LongArray}, {@link DoubleArray} or {@link BooleanArray}. Enabled by default.
+     */
+    public boolean isPrimitiveArrays() {
+        return primitiveArrays;
+    }
+
+    /**
+     * Makes {@link #parse} store an array whose elements are all integers, all decimals or all booleans
+     * in a {@code long[]}, {@code double[]} or {@code boolean[]} backed container. Arrays that turn out
+     * to be mixed are returned as {@link SimpleArray}. Lazy parsing is not affected.
+     * @param primitiveArrays false to always build SimpleArray instances
+     */
+    public void setPrimitiveArrays(boolean primitiveArrays) {
+        this.primitiveArrays = primitiveArrays;
+    }
+
     @Override
     public ContainerValue parse(String value) {
-        return parse(new StringReader(value));
+        return parse(new JsonTokenizer(value));
     }
 
 
@@ -17,7 +85,10 @@ public class SimpleJsonParser implements ContainerParser {
 
     @Override
     public ContainerValue parse(Reader reader) {
-        JsonTokenizer tokenizer = new JsonTokenizer(reader);
+        return parse(new JsonTokenizer(reader));
+    }
+
+    private ContainerValue parse(AbstractJsonTokenizer tokenizer) {
         tokenizer.skipWhitespace();
         ContainerValue value = parseValue(tokenizer);
         tokenizer.skipWhitespace();
@@ -29,73 +100,347 @@ public class SimpleJsonParser implements ContainerParser {
 
     @Override
     public ContainerValue parse(InputStream input) {
-        return parse(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return parse(new Utf8JsonTokenizer(input));
+    }
+
+    @Override
+    public ContainerValue parse(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte array cannot be null");
+        }
+        return parse(new Utf8JsonTokenizer(bytes, offset, length));
+    }
+
+    @Override
+    public ContainerValue parse(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("ByteBuffer cannot be null");
+        }
+        if (buffer.hasArray()) {
+            return parse(new Utf8JsonTokenizer(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()));
+        }
+        return parse(new Utf8JsonTokenizer(new ByteBufferInputStream(buffer)));
+    }
+
+    /**
+     * Parses the string lazily. A single structural pass indexes the document into a compact tape,
+     * and the returned objects and arrays decode keys and values only when they are accessed.
+     * This pays off when only a few fields of a large document are read; iterating or modifying
+     * a container decodes it fully, after which it behaves like a regular {@link SimpleObject} or {@link SimpleArray}.
+     * <p>
+     * Structural errors are reported by this method; a malformed string or number is reported
+     * when that value is accessed. The returned containers keep the input in memory while any
+     * part of them is still lazy, and like other containers they are not safe for concurrent use.
+     */
+    public ContainerValue parseLazy(String value) {
+        return JsonTape.parse(value.toCharArray(), keyCache);
+    }
+
+    /**
+     * Parses a slice of UTF-8 bytes lazily. See {@link #parseLazy(String)}.
+     * The array is referenced, not copied, so it must not be modified while the result is in use.
+     */
+    public ContainerValue parseLazy(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Byte array cannot be null");
+        }
+        return JsonTape.parse(bytes, offset, length, keyCache);
+    }
+
+    /**
+     * Reads the whole UTF-8 stream into memory and parses it lazily. See {@link #parseLazy(String)}.
+     */
+    public ContainerValue parseLazy(InputStream input) {
+        byte[] bytes = new byte[8192];
+        int length = 0;
+        try {
+            int read;
+            while ((read = input.read(bytes, length, bytes.length - length)) >= 0) {
+                length += read;
+                if (length == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("IO error while reading JSON", e);
+        }
+        return JsonTape.parse(bytes, 0, length, keyCache);
     }
 
-    private ContainerValue parseValue(JsonTokenizer tokenizer) {
+    @Override
+    public JsonEventReader newEventReader(String value) {
+        return new SimpleJsonEventReader(new JsonTokenizer(value), null, keyCache);
+    }
+
+    @Override
+    public JsonEventReader newEventReader(Reader reader) {
+        return new SimpleJsonEventReader(new JsonTokenizer(reader), reader, keyCache);
+    }
+
+    @Override
+    public JsonEventReader newEventReader(InputStream input) {
+        return new SimpleJsonEventReader(new Utf8JsonTokenizer(input), input, keyCache);
+    }
+
+    @Override
+    public boolean parse(String value, ContainerHandler handler) {
+        return parse(new JsonTokenizer(value), handler);
+    }
+
+    @Override
+    public boolean parse(Reader reader, ContainerHandler handler) {
+        return parse(new JsonTokenizer(reader), handler);
+    }
+
+    @Override
+    public boolean parse(InputStream input, ContainerHandler handler) {
+        return parse(new Utf8JsonTokenizer(input), handler);
+    }
+
+    /**
+     * Drives the handler straight from the tokenizer. Skipped values are scanned
+     * without building any String or Number.
+     */
+    private boolean parse(AbstractJsonTokenizer tokenizer, ContainerHandler handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("ContainerHandler cannot be null");
+        }
+        tokenizer.skipWhitespace();
+        if (!dispatchValue(tokenizer, handler)) {
+            return false;
+        }
+        tokenizer.skipWhitespace();
+        if (!tokenizer.isEOF()) {
+            throw new IllegalStateException("Extra content after end of JSON " + tokenizer.positionInfo());
+        }
+        return true;
+    }
+
+    /**
+     * @return false if the handler asked to stop
+     */
+    private boolean dispatchValue(AbstractJsonTokenizer tokenizer, ContainerHandler handler) {
         tokenizer.skipWhitespace();
         char c = tokenizer.peek();
-        if (c == '{') return parseObject(tokenizer);
-        if (c == '[') return parseArray(tokenizer);
-        if (c == '"') return new PrimitiveValue(tokenizer.readString());
-        if (Character.isDigit(c) || c == '-') return new PrimitiveValue(tokenizer.readNumber());
-        if (tokenizer.matchLiteral("true")) return new PrimitiveValue(true);
-        if (tokenizer.matchLiteral("false")) return new PrimitiveValue(false);
-        if (tokenizer.matchLiteral("null")) return new PrimitiveValue(null);
-        throw new IllegalArgumentException("Unexpected token " + tokenizer.positionInfo());
+        ContainerHandler.Action action;
+        if (c == '{') {
+            tokenizer.expect('{');
+            action = handler.startObject();
+            if (action == ContainerHandler.Action.SKIP) {
+                tokenizer.skipContainer(true);
+                return true;
+            }
+            return action != ContainerHandler.Action.STOP && dispatchObject(tokenizer, handler);
+        }
+        if (c == '[') {
+            tokenizer.expect('[');
+            action = handler.startArray();
+            if (action == ContainerHandler.Action.SKIP) {
+                tokenizer.skipContainer(false);
+                return true;
+            }
+            return action != ContainerHandler.Action.STOP && dispatchArray(tokenizer, handler);
+        }
+        if (c == '"') action = handler.value(tokenizer.readString());
+        else if (Character.isDigit(c) || c == '-') action = handler.value(tokenizer.readNumber());
+        else if (tokenizer.matchLiteral("true")) action = handler.value(Boolean.TRUE);
+        else if (tokenizer.matchLiteral("false")) action = handler.value(Boolean.FALSE);
+        else if (tokenizer.matchLiteral("null")) action = handler.value(null);
+        else throw new IllegalArgumentException("Unexpected token " + tokenizer.positionInfo());
+        return action != ContainerHandler.Action.STOP;
     }
 
-    private ObjectContainer parseObject(JsonTokenizer tokenizer) {
-        tokenizer.expect('{');
-        SimpleObject obj = new SimpleObject();
+    private boolean dispatchObject(AbstractJsonTokenizer tokenizer, ContainerHandler handler) {
         tokenizer.skipWhitespace();
         if (tokenizer.peek() == '}') {
             tokenizer.expect('}');
-            return obj;
+            return handler.endObject() != ContainerHandler.Action.STOP;
         }
         while (true) {
             tokenizer.skipWhitespace();
-            String key = tokenizer.readString();
+            String key = tokenizer.readKey(keyCache);
             tokenizer.skipWhitespace();
             tokenizer.expect(':');
-            ContainerValue value = parseValue(tokenizer);
-            obj.put(key, value);
+            ContainerHandler.Action action = handler.key(key);
+            if (action == ContainerHandler.Action.STOP) {
+                return false;
+            }
+            if (action == ContainerHandler.Action.SKIP) {
+                tokenizer.skipValue();
+            } else if (!dispatchValue(tokenizer, handler)) {
+                return false;
+            }
             tokenizer.skipWhitespace();
             char next = tokenizer.peek();
             if (next == ',') {
                 tokenizer.expect(',');
             } else if (next == '}') {
                 tokenizer.expect('}');
-                break;
+                return handler.endObject() != ContainerHandler.Action.STOP;
             } else {
                 throw new IllegalStateException("Expected ',' or '}' in object " + tokenizer.positionInfo());
             }
         }
-        return obj;
     }
 
-    private ArrayContainer parseArray(JsonTokenizer tokenizer) {
-        tokenizer.expect('[');
-        SimpleArray arr = new SimpleArray();
+    private boolean dispatchArray(AbstractJsonTokenizer tokenizer, ContainerHandler handler) {
         tokenizer.skipWhitespace();
         if (tokenizer.peek() == ']') {
             tokenizer.expect(']');
-            return arr;
+            return handler.endArray() != ContainerHandler.Action.STOP;
         }
         while (true) {
-            ContainerValue value = parseValue(tokenizer);
-            arr.put(value);
+            if (!dispatchValue(tokenizer, handler)) {
+                return false;
+            }
             tokenizer.skipWhitespace();
             char next = tokenizer.peek();
             if (next == ',') {
                 tokenizer.expect(',');
             } else if (next == ']') {
                 tokenizer.expect(']');
-                break;
+                return handler.endArray() != ContainerHandler.Action.STOP;
             } else {
                 throw new IllegalStateException("Expected ',' or ']' in array " + tokenizer.positionInfo());
             }
         }
+    }
+
+    private ContainerValue parseValue(AbstractJsonTokenizer tokenizer) {
+        tokenizer.skipWhitespace();
+        char c = tokenizer.peek();
+        if (c == '{') return parseObject(tokenizer);
+        if (c == '[') return parseArray(tokenizer);
+        if (c == '"') return PrimitiveValue.of(tokenizer.readString());
+        if (Character.isDigit(c) || c == '-') return PrimitiveValue.of(tokenizer.readNumber());
+        if (tokenizer.matchLiteral("true")) return PrimitiveValue.TRUE;
+        if (tokenizer.matchLiteral("false")) return PrimitiveValue.FALSE;
+        if (tokenizer.matchLiteral("null")) return PrimitiveValue.NULL;
+        throw new IllegalArgumentException("Unexpected token " + tokenizer.positionInfo());
+    }
+
+    private ObjectContainer parseObject(AbstractJsonTokenizer tokenizer) {
+        tokenizer.expect('{');
+        ObjectContainer obj = concurrent ? new ConcurrentObject() : compactObjects ? new CompactObject() : new SimpleObject();
+        tokenizer.skipWhitespace();
+        if (tokenizer.peek() == '}') {
+            tokenizer.expect('}');
+            return obj;
+        }
+        while (true) {
+            tokenizer.skipWhitespace();
+            String key = tokenizer.readKey(keyCache);
+            tokenizer.skipWhitespace();
+            tokenizer.expect(':');
+            ContainerValue value = parseValue(tokenizer);
+            obj.put(key, value);
+            tokenizer.skipWhitespace();
+            char next = tokenizer.peek();
+            if (next == ',') {
+                tokenizer.expect(',');
+            } else if (next == '}') {
+                tokenizer.expect('}');
+                break;
+            } else {
+                throw new IllegalStateException("Expected ',' or '}' in object " + tokenizer.positionInfo());
+            }
+        }
+        return obj;
+    }
+
+    private ArrayContainer parseArray(AbstractJsonTokenizer tokenizer) {
+        tokenizer.expect('[');
+        tokenizer.skipWhitespace();
+        char c = tokenizer.peek();
+        if (concurrent) {
+            return parseConcurrentArray(tokenizer, c);
+        }
+        if (c == ']') {
+            tokenizer.expect(']');
+            return new SimpleArray();
+        }
+        if (primitiveArrays && (Character.isDigit(c) || c == '-' || c == 't' || c == 'f')) {
+            return parsePrimitiveArray(tokenizer);
+        }
+        SimpleArray arr = new SimpleArray();
+        do {
+            arr.put(parseValue(tokenizer));
+        } while (nextArrayElement(tokenizer));
         return arr;
     }
+
+    /**
+     * Collects the elements first and creates the ConcurrentArray with a single copy,
+     * since every append to a copy-on-write array copies it.
+     */
+    private ArrayContainer parseConcurrentArray(AbstractJsonTokenizer tokenizer, char first) {
+        if (first == ']') {
+            tokenizer.expect(']');
+            return new ConcurrentArray();
+        }
+        ArrayList<ContainerValue> values = new ArrayList<>();
+        do {
+            values.add(parseValue(tokenizer));
+        } while (nextArrayElement(tokenizer));
+        return new ConcurrentArray(values);
+    }
+
+    /**
+     * Parses an array whose first element is a number or a boolean. Numbers and booleans are read
+     * without wrapping them in a PrimitiveValue while the array stays homogeneous.
+     */
+    private ArrayContainer parsePrimitiveArray(AbstractJsonTokenizer tokenizer) {
+        Object first = readScalar(tokenizer);
+        AbstractPrimitiveArray arr;
+        if (first instanceof Long) {
+            arr = new LongArray();
+        } else if (first instanceof Double) {
+            arr = new DoubleArray();
+        } else if (first instanceof Boolean) {
+            arr = new BooleanArray();
+        } else {
+            SimpleArray generic = new SimpleArray();
+            generic.put(first == null ? parseValue(tokenizer) : PrimitiveValue.of(first));
+            while (nextArrayElement(tokenizer)) {
+                generic.put(parseValue(tokenizer));
+            }
+            return generic;
+        }
+        arr.put(first);
+        while (nextArrayElement(tokenizer)) {
+            tokenizer.skipWhitespace();
+            Object scalar = arr.isPrimitiveBacked() ? readScalar(tokenizer) : null;
+            arr.put(scalar != null ? scalar : parseValue(tokenizer));
+        }
+        return arr.unwrap();
+    }
+
+    /**
+     * Reads a number or a boolean literal at the current position.
+     * @return the value, or null without consuming anything if there is no number or boolean
+     */
+    private static Object readScalar(AbstractJsonTokenizer tokenizer) {
+        char c = tokenizer.peek();
+        if (Character.isDigit(c) || c == '-') return tokenizer.readNumber();
+        if (c == 't' && tokenizer.matchLiteral("true")) return Boolean.TRUE;
+        if (c == 'f' && tokenizer.matchLiteral("false")) return Boolean.FALSE;
+        return null;
+    }
+
+    /**
+     * Consumes the separator after an array element.
+     * @return true if another element follows, false if the array was closed
+     */
+    private static boolean nextArrayElement(AbstractJsonTokenizer tokenizer) {
+        tokenizer.skipWhitespace();
+        char next = tokenizer.peek();
+        if (next == ',') {
+            tokenizer.expect(',');
+            return true;
+        } else if (next == ']') {
+            tokenizer.expect(']');
+            return false;
+        }
+        throw new IllegalStateException("Expected ',' or ']' in array " + tokenizer.positionInfo());
+    }
 }
@@ -1,10 +1,19 @@
 package com.hancomins.jsn4j.simple;
 
 import com.hancomins.jsn4j.*;
+import com.hancomins.jsn4j.tool.ByteBufferOutputStream;
+import com.hancomins.jsn4j.tool.JsonStringEscaper;
+import com.hancomins.jsn4j.tool.StringBuilderCache;
+import com.hancomins.jsn4j.tool.Utf8StreamWriter;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
@@ -15,6 +24,7 @@ public class SimpleJsonWriter implements ContainerWriter<SimpleJsonWriteOption>
     private boolean isPrettyPrint = false;
     private int indent = 0;
     private final ContainerValue containerValue;
+    private ResumableEncoder resumableEncoder;
 
     SimpleJsonWriter(ContainerValue containerValue) {
         this.containerValue = containerValue;
@@ -77,128 +87,309 @@ public class SimpleJsonWriter implements ContainerWriter<SimpleJsonWriteOption>
         if(isPrettyPrint) {
             return prettyPrint(containerValue, indent);
         }
-        StringBuilder sb = new StringBuilder();
-        write(containerValue, sb);
+        StringBuilder sb = new StringBuilder(StringBuilderCache.capacityFor(ContainerValues.estimateSerializedSize(containerValue)));
+        try {
+            write(containerValue, sb);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
+        }
         return sb.toString();
     }
 
+    /**
+     * Streams the document to the given output stream as UTF-8.
+     * Characters are encoded straight into a fixed-size byte buffer that is flushed to the stream
+     * whenever it fills up, so no String or byte[] copy of the whole document is ever built.
+     * The stream is neither flushed nor closed.
+     */
     @Override
     public void write(OutputStream outputStream) throws IOException {
-        String json = write();
-        outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        Utf8StreamWriter writer = new Utf8StreamWriter(outputStream);
+        if (isPrettyPrint) {
+            prettyPrint(containerValue, writer, 0);
+        } else {
+            write(containerValue, writer);
+        }
+        writer.finish();
+    }
 
+    @Override
+    public void write(Writer writer) throws IOException {
+        write((Appendable) writer);
+    }
+
+    @Override
+    public void write(Appendable appendable) throws IOException {
+        if (isPrettyPrint) {
+            prettyPrint(containerValue, appendable, 0);
+        } else {
+            write(containerValue, appendable);
+        }
+    }
+
+    /**
+     * Writes the document to the buffer as UTF-8, one token at a time.
+     * When the buffer fills up the writer stops at the current token and returns false;
+     * calling again with a drained buffer resumes where it stopped. Only the part of a single
+     * token that did not fit is held between calls, never the rest of the document.
+     * The resume state is bound to this writer instance and is reset once the document is complete.
+     */
+    @Override
+    public boolean write(ByteBuffer buffer) throws IOException {
+        if (resumableEncoder == null) {
+            resumableEncoder = new ResumableEncoder(containerValue, isPrettyPrint);
+        }
+        if (resumableEncoder.encode(buffer)) {
+            resumableEncoder = null;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void write(WritableByteChannel channel) throws IOException {
+        write(Channels.newOutputStream(channel));
     }
 
     public static String prettyPrint(ContainerValue value, int indent) {
-        StringBuilder sb = new StringBuilder();
-        prettyPrint(value, sb, 0);
+        StringBuilder sb = new StringBuilder(StringBuilderCache.capacityFor(ContainerValues.estimateSerializedSize(value, 2)));
+        try {
+            prettyPrint(value, sb, 0);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
+        }
         return sb.toString();
     }
 
+    /**
+     * Writes the value as compact JSON with no line breaks, regardless of the writer options of its own
+     * {@link ContainerFactory}. Containers of any implementation are walked through the
+     * {@link ObjectContainer} and {@link ArrayContainer} interfaces.
+     */
+    public static void writeCompact(ContainerValue value, Appendable out) throws IOException {
+        write(value, out);
+    }
+
     // --- Compact writer ---
-    private static void write(ContainerValue value, StringBuilder sb) {
+    private static void write(ContainerValue value, Appendable out) throws IOException {
         if (value == null || value.isNull()) {
-            sb.append("null");
+            out.append("null");
         } else if (value.isPrimitive()) {
-            writePrimitive((PrimitiveValue) value, sb);
+            writePrimitive((PrimitiveValue) value, out);
         } else if (value.isObject()) {
-            writeObject((ObjectContainer) value, sb);
+            writeObject((ObjectContainer) value, out);
         } else if (value.isArray()) {
-            writeArray((ArrayContainer) value, sb);
+            writeArray((ArrayContainer) value, out);
         } else {
-            sb.append("null");
+            out.append("null");
         }
     }
 
-    private static void writePrimitive(PrimitiveValue value, StringBuilder sb) {
+    private static void writePrimitive(PrimitiveValue value, Appendable out) throws IOException {
         Object raw = value.raw();
         if (raw == null) {
-            sb.append("null");
+            out.append("null");
         } else if (raw instanceof String || raw instanceof Character) {
-            sb.append('"').append(escape(String.valueOf(raw))).append('"');
+            writeString(String.valueOf(raw), out);
         } else if (raw instanceof Boolean || raw instanceof Number) {
-            sb.append(raw.toString());
+            out.append(raw.toString());
         } else {
-            sb.append('"').append(escape(String.valueOf(raw))).append('"');
+            writeString(String.valueOf(raw), out);
         }
     }
 
-    private static void writeObject(ObjectContainer obj, StringBuilder sb) {
-        sb.append("{");
-        Iterator<Map.Entry<String, ContainerValue>> it = obj.iterator();
+    private static void writeObject(ObjectContainer obj, Appendable out) throws IOException {
+        out.append('{');
+        Iterator<Map.Entry<String, ContainerValue>> it = entries(obj);
         boolean first = true;
         while (it.hasNext()) {
-            if (!first) sb.append(",");
+            if (!first) out.append(',');
             Map.Entry<String, ContainerValue> entry = it.next();
-            sb.append('"').append(escape(entry.getKey())).append('"');
-            sb.append(":");
-            write(entry.getValue(), sb);
+            writeKey(entry.getKey(), out);
+            out.append(':');
+            write(entry.getValue(), out);
             first = false;
         }
-        sb.append("}");
+        out.append('}');
+    }
+
+    /**
+     * Iterates the members without the per-entry wrapper that Simple objects hand out to outside callers.
+     */
+    private static Iterator<Map.Entry<String, ContainerValue>> entries(ObjectContainer obj) {
+        if (obj instanceof AbstractSimpleContainer) {
+            return ((AbstractSimpleContainer) obj).readEntries().iterator();
+        }
+        return obj.iterator();
     }
 
-    private static void writeArray(ArrayContainer arr, StringBuilder sb) {
-        sb.append("[");
+    private static void writeArray(ArrayContainer arr, Appendable out) throws IOException {
+        out.append('[');
         Iterator<ContainerValue> it = arr.iterator();
         boolean first = true;
         while (it.hasNext()) {
-            if (!first) sb.append(",");
-            write(it.next(), sb);
+            if (!first) out.append(',');
+            write(it.next(), out);
             first = false;
         }
-        sb.append("]");
+        out.append(']');
     }
 
     // --- Pretty printer ---
-    private static void prettyPrint(ContainerValue value, StringBuilder sb, int indent) {
+    private static void prettyPrint(ContainerValue value, Appendable out, int indent) throws IOException {
         if (value == null || value.isNull()) {
-            sb.append("null");
+            out.append("null");
         } else if (value.isPrimitive()) {
-            writePrimitive((PrimitiveValue) value, sb);
+            writePrimitive((PrimitiveValue) value, out);
         } else if (value.isObject()) {
-            sb.append("{\n");
-            Iterator<Map.Entry<String, ContainerValue>> it = ((ObjectContainer) value).iterator();
+            out.append("{\n");
+            Iterator<Map.Entry<String, ContainerValue>> it = entries((ObjectContainer) value);
             boolean first = true;
             while (it.hasNext()) {
-                if (!first) sb.append(",\n");
-                indent(sb, indent + 1);
+                if (!first) out.append(",\n");
+                indent(out, indent + 1);
                 Map.Entry<String, ContainerValue> entry = it.next();
-                sb.append('"').append(escape(entry.getKey())).append('"').append(": ");
-                prettyPrint(entry.getValue(), sb, indent + 1);
+                writeKey(entry.getKey(), out);
+                out.append(": ");
+                prettyPrint(entry.getValue(), out, indent + 1);
                 first = false;
             }
-            sb.append("\n");
-            indent(sb, indent);
-            sb.append("}");
+            out.append("\n");
+            indent(out, indent);
+            out.append('}');
         } else if (value.isArray()) {
-            sb.append("[\n");
+            out.append("[\n");
             Iterator<ContainerValue> it = ((ArrayContainer) value).iterator();
             boolean first = true;
             while (it.hasNext()) {
-                if (!first) sb.append(",\n");
-                indent(sb, indent + 1);
-                prettyPrint(it.next(), sb, indent + 1);
+                if (!first) out.append(",\n");
+                indent(out, indent + 1);
+                prettyPrint(it.next(), out, indent + 1);
                 first = false;
             }
-            sb.append("\n");
-            indent(sb, indent);
-            sb.append("]");
+            out.append("\n");
+            indent(out, indent);
+            out.append(']');
+        }
+    }
+
+    private static void indent(Appendable out, int indent) throws IOException {
+        for (int i = 0; i < indent; i++) out.append("  "); // 2-space indent
+    }
+
+    // --- Resumable writer ---
+    private static final class Frame {
+        final Iterator<?> iterator;
+        final boolean object;
+        boolean first = true;
+
+        Frame(Iterator<?> iterator, boolean object) {
+            this.iterator = iterator;
+            this.object = object;
+        }
+    }
+
+    /**
+     * Iterative form of the compact and pretty writers above. Each step emits one token into a small
+     * UTF-8 buffer; bytes that do not fit the caller's ByteBuffer are kept in a spill buffer.
+     */
+    private static final class ResumableEncoder {
+        private final ContainerValue root;
+        private final boolean pretty;
+        private final ByteBufferOutputStream output = new ByteBufferOutputStream(null);
+        private final Utf8StreamWriter writer = new Utf8StreamWriter(output, 1024);
+        private final ArrayDeque<Frame> stack = new ArrayDeque<>();
+        private boolean started;
+
+        ResumableEncoder(ContainerValue root, boolean pretty) {
+            this.root = root;
+            this.pretty = pretty;
+        }
+
+        boolean encode(ByteBuffer buffer) throws IOException {
+            if (!output.drainTo(buffer)) {
+                return false;
+            }
+            while (true) {
+                if (!started) {
+                    started = true;
+                    writeValue(root);
+                } else if (stack.isEmpty()) {
+                    writer.finish();
+                    return !output.hasPending();
+                } else {
+                    step(stack.peek());
+                }
+                if (output.hasPending()) {
+                    return false;
+                }
+                if (writer.bufferedSize() >= output.remaining()) {
+                    writer.flushBuffer();
+                    if (output.hasPending()) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        private void step(Frame frame) throws IOException {
+            int depth = stack.size();
+            if (!frame.iterator.hasNext()) {
+                stack.pop();
+                if (pretty) {
+                    writer.append('\n');
+                    indent(writer, depth - 1);
+                }
+                writer.append(frame.object ? '}' : ']');
+                return;
+            }
+            if (!frame.first) {
+                writer.append(pretty ? ",\n" : ",");
+            }
+            frame.first = false;
+            if (pretty) {
+                indent(writer, depth);
+            }
+            if (frame.object) {
+                @SuppressWarnings("unchecked")
+                Map.Entry<String, ContainerValue> entry = (Map.Entry<String, ContainerValue>) frame.iterator.next();
+                writeKey(entry.getKey(), writer);
+                writer.append(pretty ? ": " : ":");
+                writeValue(entry.getValue());
+            } else {
+                writeValue((ContainerValue) frame.iterator.next());
+            }
+        }
+
+        private void writeValue(ContainerValue value) throws IOException {
+            if (value == null || value.isNull()) {
+                writer.append("null");
+            } else if (value.isPrimitive()) {
+                writePrimitive((PrimitiveValue) value, writer);
+            } else if (value.isObject()) {
+                writer.append(pretty ? "{\n" : "{");
+                stack.push(new Frame(entries((ObjectContainer) value), true));
+            } else if (value.isArray()) {
+                writer.append(pretty ? "[\n" : "[");
+                stack.push(new Frame(((ArrayContainer) value).iterator(), false));
+            } else if (!pretty) {
+                writer.append("null");
+            }
         }
     }
 
-    private static void indent(StringBuilder sb, int indent) {
-        for (int i = 0; i < indent; i++) sb.append("  "); // 2-space indent
+    private static void writeString(String value, Appendable out) throws IOException {
+        out.append('"');
+        JsonStringEscaper.appendEscaped(out, value, false);
+        out.append('"');
     }
 
-    private static String escape(String s) {
-        return s.replace("\\", "\\\\")
-                .replace("\"", "\\\"")
-                .replace("\b", "\\b")
-                .replace("\f", "\\f")
-                .replace("\n", "\\n")
-                .replace("\r", "\\r")
-                .replace("\t", "\\t");
+    private static void writeKey(String key, Appendable out) throws IOException {
+        out.append('"');
+        JsonStringEscaper.appendEscapedKey(out, key, false);
+        out.append('"');
     }
 
     @Override
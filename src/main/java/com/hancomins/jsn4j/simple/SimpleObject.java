@@ -26,10 +26,24 @@ public class SimpleObject extends AbstractSimpleContainer implements ObjectConta
         for (Map.Entry<String, ContainerValue> entry : source.objectMap.entrySet()) {
             //noinspection UseBulkOperation
             this.objectMap.put(entry.getKey(), entry.getValue());
+            transfer(entry.getValue());
         }
     }
 
 
+    @Override
+    boolean tracksMutations() {
+        return true;
+    }
+
+    private void store(String key, ContainerValue value) {
+        ContainerValue old = objectMap.put(key, adopt(value));
+        if (old != value) {
+            release(old);
+        }
+        mutated();
+    }
+
     @Override
     public int size() {
         return objectMap.size();
@@ -37,33 +51,39 @@ public class SimpleObject extends AbstractSimpleContainer implements ObjectConta
 
     @Override
     public ObjectContainer put(String key, Object value) {
-        objectMap.put(key, convertValue(value));
+        store(key, convertValue(value));
         return this;
     }
 
     @Override
     public ObjectContainer newAndPutObject(String key) {
         SimpleObject newObject = new SimpleObject();
-        objectMap.put(key, newObject);
+        store(key, newObject);
         return newObject;
     }
 
     @Override
     public ArrayContainer newAndPutArray(String key) {
         SimpleArray array = new SimpleArray();
-        objectMap.put(key, array);
+        store(key, array);
         return array;
     }
 
     @Override
     public ObjectContainer put(String key, ContainerValue value) {
-        objectMap.put(key, value);
+        store(key, value);
         return this;
     }
 
     @Override
     public ContainerValue remove(String key) {
-        return objectMap.remove(key);
+        if (!objectMap.containsKey(key)) {
+            return null;
+        }
+        ContainerValue value = objectMap.remove(key);
+        release(value);
+        mutated();
+        return value;
     }
 
     @Override
@@ -84,12 +104,83 @@ public class SimpleObject extends AbstractSimpleContainer implements ObjectConta
 
     @Override
     public Set<Map.Entry<String, ContainerValue>> entrySet() {
-        return objectMap.entrySet();
+        return new AbstractSet<Map.Entry<String, ContainerValue>>() {
+            @Override
+            public Iterator<Map.Entry<String, ContainerValue>> iterator() {
+                return SimpleObject.this.iterator();
+            }
+
+            @Override
+            public int size() {
+                return objectMap.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return objectMap.entrySet().contains(o);
+            }
+
+            @Override
+            public void clear() {
+                SimpleObject.this.clear();
+            }
+        };
     }
 
     @Override
     public Set<String> keySet() {
-        return objectMap.keySet();
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                // keys are immutable, so no entry wrapper is needed
+                Iterator<Map.Entry<String, ContainerValue>> entries = objectMap.entrySet().iterator();
+                return new Iterator<String>() {
+                    private Map.Entry<String, ContainerValue> last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        last = entries.next();
+                        return last.getKey();
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                        release(last.getValue());
+                        mutated();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return objectMap.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return objectMap.containsKey(o);
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                if (!objectMap.containsKey(o)) {
+                    return false;
+                }
+                SimpleObject.this.remove((String) o);
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                SimpleObject.this.clear();
+            }
+        };
     }
 
 
@@ -105,7 +196,11 @@ public class SimpleObject extends AbstractSimpleContainer implements ObjectConta
 
     @Override
     public void clear() {
+        for (ContainerValue value : objectMap.values()) {
+            release(value);
+        }
         this.objectMap.clear();
+        mutated();
     }
 
     @Override
@@ -115,8 +210,86 @@ public class SimpleObject extends AbstractSimpleContainer implements ObjectConta
 
     @Override
     public Iterator<Map.Entry<String, ContainerValue>> iterator() {
-        return objectMap.entrySet().iterator();
+        Iterator<Map.Entry<String, ContainerValue>> entries = objectMap.entrySet().iterator();
+        return new Iterator<Map.Entry<String, ContainerValue>>() {
+            private Map.Entry<String, ContainerValue> last;
+
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public Map.Entry<String, ContainerValue> next() {
+                last = entries.next();
+                return new Member(last);
+            }
+
+            @Override
+            public void remove() {
+                entries.remove();
+                release(last.getValue());
+                mutated();
+            }
+        };
+    }
+
+    @Override
+    Iterable<Map.Entry<String, ContainerValue>> readEntries() {
+        return objectMap.entrySet();
     }
 
+    /**
+     * Entry handed out by iteration. {@link #setValue} writes through and keeps the memoized hash in sync.
+     */
+    private final class Member implements Map.Entry<String, ContainerValue> {
+        private final Map.Entry<String, ContainerValue> entry;
+
+        Member(Map.Entry<String, ContainerValue> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public ContainerValue getValue() {
+            return entry.getValue();
+        }
 
+        @Override
+        public ContainerValue setValue(ContainerValue value) {
+            ContainerValue old = entry.setValue(adopt(value));
+            if (old != value) {
+                release(old);
+            }
+            mutated();
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return entry.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return entry.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return entry.toString();
+        }
+    }
+
+    /**
+     * Returns an immutable deep copy of this object that later copies can share structure with.
+     * @see PersistentObject#thaw()
+     */
+    public PersistentObject freeze() {
+        return PersistentObject.freeze(this);
+    }
 }
@@ -0,0 +1,542 @@
+package com.hancomins.jsn4j.simple;
+
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * JSON tokenizer that works directly on UTF-8 bytes.
+ * Structural characters, literals and numbers are all ASCII, so they are matched byte by byte
+ * without any decoding. Only string contents are decoded: pure ASCII strings are copied
+ * straight out of the buffer, everything else goes through the JDK UTF-8 decoder in one call.
+ * Line, column and position reported by {@link #positionInfo()} are counted in bytes.
+ */
+public class Utf8JsonTokenizer extends AbstractJsonTokenizer {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final InputStream input;
+    private byte[] buffer;
+    /** First valid index of the buffer (non-zero only when tokenizing a slice of a caller's array). */
+    private final int start;
+    private int pos;
+    private int limit;
+    private boolean eof;
+    /** Start of the token being scanned. Bytes from here on survive a refill. (-1 = none) */
+    private int mark = -1;
+
+    // Bookkeeping for bytes already discarded from the buffer (used only by positionInfo)
+    private long bufferOffset = 0;
+    private int discardedLines = 0;
+    private long discardedLineStart = 0;
+
+    private StringBuilder scratch;
+
+    // Number accumulators used by readNumber
+    private long mantissa;
+    private int significantDigits;
+    private int exponent;
+    /** A non-zero digit was dropped beyond the 18 accumulated ones */
+    private boolean truncated;
+
+    public Utf8JsonTokenizer(InputStream input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    public Utf8JsonTokenizer(InputStream input, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than 0");
+        }
+        this.input = input;
+        this.buffer = new byte[bufferSize];
+        this.start = 0;
+    }
+
+    /**
+     * Tokenizes a slice of an in-memory byte array. The array is used as the buffer as is (no copy).
+     */
+    public Utf8JsonTokenizer(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + bytes.length);
+        }
+        this.input = null;
+        this.buffer = bytes;
+        this.start = offset;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.eof = true;
+    }
+
+    @Override
+    public void skipWhitespace() {
+        while (true) {
+            if (pos >= limit && !fill()) {
+                return;
+            }
+            int b = buffer[pos];
+            if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                ++pos;
+                continue;
+            }
+            if (b > ' ') {
+                return;
+            }
+            if (b >= 0) {
+                if (!Character.isWhitespace(b)) {
+                    return;
+                }
+                ++pos;
+                continue;
+            }
+            // Non-ASCII: only a handful of Unicode space characters qualify
+            int length = sequenceLength(b);
+            if (!ensure(length) || !Character.isWhitespace(decodeAt(pos, length))) {
+                return;
+            }
+            pos += length;
+        }
+    }
+
+    @Override
+    public char peek() {
+        if (pos >= limit && !fill()) {
+            throw new IllegalStateException("Unexpected EOF " + positionInfo());
+        }
+        int b = buffer[pos];
+        if (b >= 0) {
+            return (char) b;
+        }
+        int length = sequenceLength(b);
+        if (!ensure(length)) {
+            return '\uFFFD';
+        }
+        int codePoint = decodeAt(pos, length);
+        return Character.isBmpCodePoint(codePoint) ? (char) codePoint : Character.highSurrogate(codePoint);
+    }
+
+    @Override
+    public char next() {
+        char c = peek();
+        int b = buffer[pos];
+        pos += b >= 0 ? 1 : Math.min(sequenceLength(b), limit - pos);
+        return c;
+    }
+
+    @Override
+    public void expect(char expected) {
+        char c = peek();
+        if (c != expected) {
+            throw new IllegalStateException("Expected '" + expected + "', got '" + c + "' " + positionInfo());
+        }
+        // Every expected character is ASCII, i.e. a single byte
+        ++pos;
+    }
+
+    @Override
+    public boolean isEOF() {
+        return pos >= limit && !fill();
+    }
+
+    @Override
+    public String readString() {
+        return readString(null);
+    }
+
+    @Override
+    public String readKey(KeyCache keyCache) {
+        return readString(keyCache);
+    }
+
+    private String readString(KeyCache keyCache) {
+        expect('\"');
+        mark = pos;
+        int bits = 0;
+        int hash = 0;
+        while (true) {
+            if (pos >= limit && !fill()) {
+                mark = -1;
+                throw new IllegalStateException("Unexpected EOF while reading string " + positionInfo());
+            }
+            byte b = buffer[pos];
+            if (b == '\"') {
+                String result = keyCache == null
+                        ? decode(buffer, mark, pos - mark, bits >= 0)
+                        : keyCache.get(buffer, mark, pos - mark, hash, bits >= 0);
+                ++pos;
+                mark = -1;
+                return result;
+            }
+            if (b == '\\') {
+                // Escaped strings are rare as keys and bypass the cache
+                break;
+            }
+            bits |= b;
+            hash = 31 * hash + b;
+            ++pos;
+        }
+        StringBuilder sb = scratch();
+        append(sb, mark, pos - mark, bits >= 0);
+        mark = -1;
+        return readEscapedString(sb);
+    }
+
+    private String readEscapedString(StringBuilder sb) {
+        while (true) {
+            if (pos >= limit && !fill()) {
+                throw new IllegalStateException("Unexpected EOF while reading string " + positionInfo());
+            }
+            byte b = buffer[pos];
+            if (b == '\"') {
+                ++pos;
+                return sb.toString();
+            }
+            if (b != '\\') {
+                // A run of plain bytes up to the next quote or backslash. Both are ASCII,
+                // so a multi-byte sequence is never cut in half.
+                mark = pos;
+                int bits = 0;
+                while (pos < limit || fill()) {
+                    b = buffer[pos];
+                    if (b == '\"' || b == '\\') break;
+                    bits |= b;
+                    ++pos;
+                }
+                append(sb, mark, pos - mark, bits >= 0);
+                mark = -1;
+                continue;
+            }
+            ++pos;
+            if (pos >= limit && !fill()) {
+                throw new IllegalStateException("Unexpected EOF while reading escape sequence " + positionInfo());
+            }
+            byte esc = buffer[pos++];
+            switch (esc) {
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case '\"': sb.append('\"'); break;
+                case '\\': sb.append('\\'); break;
+                case '/': sb.append('/'); break;
+                case 'u':
+                    sb.append(readUnicodeEscape());
+                    break;
+                default:
+                    --pos;
+                    throw new IllegalStateException("Invalid escape: \\\\" + next() + " " + positionInfo());
+            }
+        }
+    }
+
+    private char readUnicodeEscape() {
+        int codePoint = 0;
+        mark = pos;
+        try {
+            for (int i = 0; i < 4; i++) {
+                if (pos >= limit && !fill()) {
+                    throw new IllegalStateException("Unexpected EOF in unicode escape sequence " + positionInfo());
+                }
+                byte hex = buffer[pos++];
+                if (!isHexDigit(hex)) {
+                    String read = new String(buffer, mark, pos - mark, StandardCharsets.UTF_8);
+                    throw new IllegalStateException("Invalid unicode escape sequence: \\\\u" + read + " " + positionInfo());
+                }
+                codePoint = (codePoint << 4) | hexValue(hex);
+            }
+        } finally {
+            mark = -1;
+        }
+        return (char) codePoint;
+    }
+
+    @Override
+    public Number readNumber() {
+        mark = pos;
+        try {
+            // Sign
+            boolean negative = false;
+            if (peek() == '-') {
+                negative = true;
+                ++pos;
+            }
+            mantissa = 0;
+            significantDigits = 0;
+            exponent = 0;
+            truncated = false;
+
+            // Integer part
+            if (!accumulateDigits(false)) {
+                throw new IllegalStateException("Expected digit " + positionInfo());
+            }
+
+            // Decimal part
+            boolean isDouble = false;
+            if (!isEOF() && buffer[pos] == '.') {
+                isDouble = true;
+                ++pos;
+                if (!accumulateDigits(true)) {
+                    throw new IllegalStateException("Expected digit after decimal point " + positionInfo());
+                }
+            }
+
+            // Exponent part
+            if (!isEOF() && (buffer[pos] == 'e' || buffer[pos] == 'E')) {
+                isDouble = true;
+                ++pos;
+                boolean negativeExponent = false;
+                if (!isEOF() && (buffer[pos] == '+' || buffer[pos] == '-')) {
+                    negativeExponent = buffer[pos] == '-';
+                    ++pos;
+                }
+                int explicitExponent = 0;
+                boolean found = false;
+                while (pos < limit || fill()) {
+                    byte b = buffer[pos];
+                    if (b < '0' || b > '9') break;
+                    if (explicitExponent < NumberDecoder.MAX_EXPONENT) {
+                        explicitExponent = explicitExponent * 10 + (b - '0');
+                    }
+                    ++pos;
+                    found = true;
+                }
+                if (!found) {
+                    throw new IllegalStateException("Expected digit in exponent " + positionInfo());
+                }
+                exponent += negativeExponent ? -explicitExponent : explicitExponent;
+            }
+
+            if (!isDouble) {
+                if (!truncated && exponent == 0) {
+                    return negative ? -mantissa : mantissa;
+                }
+            } else if (!truncated) {
+                Double value = NumberDecoder.fastDouble(negative, mantissa, exponent);
+                if (value != null) {
+                    return value;
+                }
+            }
+            // Hard case: more than 18 significant digits, or outside the exact double range
+            return NumberDecoder.parse(new String(buffer, mark, pos - mark, StandardCharsets.ISO_8859_1), isDouble);
+        } finally {
+            mark = -1;
+        }
+    }
+
+    /**
+     * Scans a run of ASCII digits, accumulating up to {@link NumberDecoder#MAX_MANTISSA_DIGITS}
+     * significant digits into {@link #mantissa} and adjusting {@link #exponent} for the rest.
+     * @param fraction whether the digits follow the decimal point
+     * @return false if no digit was found at the current position
+     */
+    private boolean accumulateDigits(boolean fraction) {
+        boolean found = false;
+        while (pos < limit || fill()) {
+            byte b = buffer[pos];
+            if (b < '0' || b > '9') break;
+            int digit = b - '0';
+            if (significantDigits < NumberDecoder.MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0) ++significantDigits;
+                if (fraction) --exponent;
+            } else {
+                if (digit != 0) truncated = true;
+                if (!fraction) ++exponent;
+            }
+            ++pos;
+            found = true;
+        }
+        return found;
+    }
+
+    @Override
+    protected int position() {
+        return pos;
+    }
+
+    @Override
+    protected void seek(int position) {
+        pos = position;
+    }
+
+    @Override
+    protected void skipString() {
+        expect('\"');
+        while (true) {
+            if (pos >= limit && !fill()) {
+                throw new IllegalStateException("Unexpected EOF while reading string " + positionInfo());
+            }
+            byte b = buffer[pos++];
+            if (b == '\"') {
+                return;
+            }
+            if (b == '\\') {
+                // The escaped character never ends the string; unicode escape digits are skipped as plain characters
+                if (pos >= limit && !fill()) {
+                    throw new IllegalStateException("Unexpected EOF while reading escape sequence " + positionInfo());
+                }
+                ++pos;
+            }
+        }
+    }
+
+    @Override
+    protected void skipNumber() {
+        if (peek() == '-') ++pos;
+        while (pos < limit || fill()) {
+            byte b = buffer[pos];
+            if ((b < '0' || b > '9') && b != '.' && b != 'e' && b != 'E' && b != '+' && b != '-') break;
+            ++pos;
+        }
+    }
+
+    @Override
+    public boolean matchLiteral(String literal) {
+        skipWhitespace();
+        for (int i = 0; i < literal.length(); i++) {
+            if (peek() != literal.charAt(i)) {
+                return false;
+            }
+            ++pos;
+        }
+        return true;
+    }
+
+    @Override
+    public String positionInfo() {
+        int line = discardedLines + 1;
+        long lineStart = discardedLineStart;
+        int end = Math.min(pos, limit);
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == '\n') {
+                ++line;
+                lineStart = bufferOffset + i - start + 1;
+            }
+        }
+        long position = bufferOffset + pos - start;
+        long column = position - lineStart + 1;
+        return "at line " + line + ", column " + column + " (position " + position + ")";
+    }
+
+    static String decode(byte[] bytes, int offset, int length, boolean ascii) {
+        // ISO-8859-1 is a plain byte-to-char copy, which is exactly right for ASCII
+        return new String(bytes, offset, length, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    }
+
+    private void append(StringBuilder sb, int offset, int length, boolean ascii) {
+        if (!ascii) {
+            sb.append(decode(buffer, offset, length, false));
+            return;
+        }
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            sb.append((char) buffer[i]);
+        }
+    }
+
+    /**
+     * Decodes the code point of a multi-byte sequence at the given index.
+     * Malformed sequences decode to U+FFFD.
+     */
+    private int decodeAt(int index, int length) {
+        int b0 = buffer[index] & 0xFF;
+        switch (length) {
+            case 2:
+                return isContinuation(index + 1)
+                        ? ((b0 & 0x1F) << 6) | (buffer[index + 1] & 0x3F)
+                        : 0xFFFD;
+            case 3:
+                return isContinuation(index + 1) && isContinuation(index + 2)
+                        ? ((b0 & 0x0F) << 12) | ((buffer[index + 1] & 0x3F) << 6) | (buffer[index + 2] & 0x3F)
+                        : 0xFFFD;
+            case 4:
+                return isContinuation(index + 1) && isContinuation(index + 2) && isContinuation(index + 3)
+                        ? ((b0 & 0x07) << 18) | ((buffer[index + 1] & 0x3F) << 12) | ((buffer[index + 2] & 0x3F) << 6) | (buffer[index + 3] & 0x3F)
+                        : 0xFFFD;
+            default:
+                return 0xFFFD;
+        }
+    }
+
+    private boolean isContinuation(int index) {
+        return (buffer[index] & 0xC0) == 0x80;
+    }
+
+    private static int sequenceLength(int leadByte) {
+        if ((leadByte & 0xE0) == 0xC0) return 2;
+        if ((leadByte & 0xF0) == 0xE0) return 3;
+        if ((leadByte & 0xF8) == 0xF0) return 4;
+        return 1;
+    }
+
+    /**
+     * Makes sure at least {@code count} bytes are available from the current position.
+     */
+    private boolean ensure(int count) {
+        while (limit - pos < count) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next block from the stream.
+     * Bytes before the current position (or before {@link #mark}) are discarded first;
+     * the buffer grows only when a single token does not fit in it.
+     * @return false if no more bytes are available
+     */
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+        int keepFrom = mark >= 0 ? mark : pos;
+        if (keepFrom > 0) {
+            discard(keepFrom);
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        try {
+            int read;
+            do {
+                read = input.read(buffer, limit, buffer.length - limit);
+            } while (read == 0);
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            limit += read;
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException("IO error at " + positionInfo(), e);
+        }
+    }
+
+    private void discard(int count) {
+        for (int i = 0; i < count; i++) {
+            if (buffer[i] == '\n') {
+                ++discardedLines;
+                discardedLineStart = bufferOffset + i + 1;
+            }
+        }
+        System.arraycopy(buffer, count, buffer, 0, limit - count);
+        limit -= count;
+        pos -= count;
+        if (mark >= 0) {
+            mark -= count;
+        }
+        bufferOffset += count;
+    }
+
+    private StringBuilder scratch() {
+        if (scratch == null) {
+            scratch = new StringBuilder(64);
+        } else {
+            scratch.setLength(0);
+        }
+        return scratch;
+    }
+}
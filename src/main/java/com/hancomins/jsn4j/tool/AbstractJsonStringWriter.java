@@ -1,7 +1,10 @@
 package com.hancomins.jsn4j.tool;
 
 import com.hancomins.jsn4j.ContainerValue;
+import com.hancomins.jsn4j.ContainerValues;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Base64;
 
 /**
@@ -25,6 +28,17 @@ public abstract class AbstractJsonStringWriter<T extends AbstractJsonStringWrite
         this.builder.append(openChar);
     }
     
+    /**
+     * 예상 크기만큼 용량을 확보한 캐시된 StringBuilder를 사용하여 Writer를 생성합니다.
+     * @param openChar 시작 문자 ('{' 또는 '[')
+     * @param expectedSize 예상 출력 문자 수
+     */
+    protected AbstractJsonStringWriter(char openChar, long expectedSize) {
+        this.builder = StringBuilderCache.acquire(expectedSize);
+        this.ownsBuilder = true;
+        this.builder.append(openChar);
+    }
+    
     /**
      * 외부에서 제공한 StringBuilder를 사용하여 Writer를 생성합니다.
      * @param builder 사용할 StringBuilder
@@ -198,9 +212,14 @@ public abstract class AbstractJsonStringWriter<T extends AbstractJsonStringWrite
                 builder.append(raw);
             }
         } else {
-            // ContainerValue의 Writer를 사용하여 JSON 문자열 생성
-            String json = value.getWriter().write();
-            builder.append(json);
+            // 예상 크기만큼 용량을 확보한 뒤 ContainerValue의 Writer로 builder에 직접 기록
+            builder.ensureCapacity(builder.length() + StringBuilderCache.capacityFor(ContainerValues.estimateSerializedSize(value)));
+            try {
+                value.getWriter().write(builder);
+            } catch (IOException e) {
+                // StringBuilder는 IOException을 던지지 않음
+                throw new UncheckedIOException(e);
+            }
         }
     }
     
@@ -214,26 +233,21 @@ public abstract class AbstractJsonStringWriter<T extends AbstractJsonStringWrite
         }
         
         builder.append('"');
-        for (int i = 0; i < value.length(); i++) {
-            char c = value.charAt(i);
-            switch (c) {
-                case '"': builder.append("\\\""); break;
-                case '\\': builder.append("\\\\"); break;
-                case '/': builder.append("\\/"); break;
-                case '\b': builder.append("\\b"); break;
-                case '\f': builder.append("\\f"); break;
-                case '\n': builder.append("\\n"); break;
-                case '\r': builder.append("\\r"); break;
-                case '\t': builder.append("\\t"); break;
-                default:
-                    if (c < 0x20) {
-                        builder.append(String.format("\\u%04x", (int) c));
-                    } else {
-                        builder.append(c);
-                    }
-            }
+        JsonStringEscaper.appendEscaped(builder, value, true);
+        builder.append('"');
+    }
+    
+    /**
+     * 키를 이스케이프하여 추가합니다. 이스케이프가 필요 없다고 확인된 키 인스턴스는 다시 검사하지 않습니다.
+     */
+    protected void appendKeyString(String key) {
+        if (key == null) {
+            builder.append("null");
+            return;
         }
         builder.append('"');
+        JsonStringEscaper.appendEscapedKey(builder, key, true);
+        builder.append('"');
     }
     
     /**
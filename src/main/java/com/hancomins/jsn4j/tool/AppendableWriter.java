@@ -0,0 +1,67 @@
+package com.hancomins.jsn4j.tool;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Appendable 을 Writer 로 감싸는 어댑터.
+ * Writer 만 받는 라이브러리 직렬화기의 출력을 StringBuilder 등 임의의 Appendable 로 바로 보낼 때 사용합니다.
+ * close 와 flush 는 대상이 Closeable/Flushable 이어도 전달하지 않습니다.
+ */
+public class AppendableWriter extends Writer {
+
+    private final Appendable appendable;
+
+    public AppendableWriter(Appendable appendable) {
+        if (appendable == null) {
+            throw new IllegalArgumentException("Appendable cannot be null");
+        }
+        this.appendable = appendable;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        appendable.append((char) c);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(chars, offset, length);
+        } else {
+            appendable.append(CharBuffer.wrap(chars, offset, length));
+        }
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        appendable.append(str, offset, offset + length);
+    }
+
+    @Override
+    public Writer append(CharSequence csq) throws IOException {
+        appendable.append(csq);
+        return this;
+    }
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) throws IOException {
+        appendable.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Writer append(char c) throws IOException {
+        appendable.append(c);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+}
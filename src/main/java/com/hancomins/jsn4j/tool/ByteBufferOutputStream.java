@@ -0,0 +1,97 @@
+package com.hancomins.jsn4j.tool;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 대상 ByteBuffer 에 바이트를 기록하고, 대상이 가득 차면 넘치는 바이트를 내부 버퍼에 보관하는 OutputStream.
+ * ContainerWriter 의 이어쓰기({@code write(ByteBuffer)}) 상태로 사용하며,
+ * 보관된 바이트는 {@link #drainTo(ByteBuffer)} 로 다음 버퍼에 순서대로 옮깁니다.
+ */
+public class ByteBufferOutputStream extends OutputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private ByteBuffer target;
+    private byte[] pending = EMPTY;
+    private int pendingStart;
+    private int pendingEnd;
+
+    /**
+     * @param target 처음 기록할 ByteBuffer. null 이면 모든 바이트를 보관합니다.
+     */
+    public ByteBufferOutputStream(ByteBuffer target) {
+        this.target = target;
+    }
+
+    @Override
+    public void write(int b) {
+        if (pendingStart == pendingEnd && target != null && target.hasRemaining()) {
+            target.put((byte) b);
+            return;
+        }
+        ensurePending(1);
+        pending[pendingEnd++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (pendingStart == pendingEnd && target != null) {
+            int count = Math.min(len, target.remaining());
+            target.put(b, off, count);
+            off += count;
+            len -= count;
+        }
+        if (len > 0) {
+            ensurePending(len);
+            System.arraycopy(b, off, pending, pendingEnd, len);
+            pendingEnd += len;
+        }
+    }
+
+    private void ensurePending(int length) {
+        if (pendingEnd + length <= pending.length) {
+            return;
+        }
+        int size = pendingEnd - pendingStart;
+        byte[] buffer = pending;
+        if (size + length > pending.length) {
+            buffer = new byte[Math.max(size + length, Math.max(256, pending.length * 2))];
+        }
+        System.arraycopy(pending, pendingStart, buffer, 0, size);
+        pending = buffer;
+        pendingStart = 0;
+        pendingEnd = size;
+    }
+
+    /**
+     * 보관된 바이트를 주어진 버퍼로 옮기고, 이후의 쓰기 대상을 이 버퍼로 바꿉니다.
+     * @return 보관된 바이트를 모두 옮겼으면 true
+     */
+    public boolean drainTo(ByteBuffer target) {
+        this.target = target;
+        int count = Math.min(pendingEnd - pendingStart, target.remaining());
+        target.put(pending, pendingStart, count);
+        pendingStart += count;
+        if (pendingStart == pendingEnd) {
+            pendingStart = 0;
+            pendingEnd = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 대상 버퍼에 들어가지 못하고 보관 중인 바이트가 있는지 반환합니다.
+     */
+    public boolean hasPending() {
+        return pendingStart != pendingEnd;
+    }
+
+    /**
+     * 보관 중인 바이트 없이 대상 버퍼에 바로 기록할 수 있는 바이트 수를 반환합니다.
+     */
+    public int remaining() {
+        return pendingStart != pendingEnd || target == null ? 0 : target.remaining();
+    }
+}
@@ -23,6 +23,14 @@ public class JsonArrayStringWriter extends AbstractJsonStringWriter<JsonArrayStr
         super('[');
     }
     
+    /**
+     * 예상 출력 크기만큼 용량을 미리 확보한 캐시된 StringBuilder를 사용하여 Writer를 생성합니다.
+     * @param expectedSize 예상 출력 문자 수 (예: ContainerValues.estimateSerializedSize 의 결과)
+     */
+    public JsonArrayStringWriter(long expectedSize) {
+        super('[', expectedSize);
+    }
+    
     /**
      * 외부에서 제공한 StringBuilder를 사용하여 Writer를 생성합니다.
      * @param builder 사용할 StringBuilder
@@ -24,6 +24,14 @@ public class JsonObjectStringWriter extends AbstractJsonStringWriter<JsonObjectS
 
     }
     
+    /**
+     * 예상 출력 크기만큼 용량을 미리 확보한 캐시된 StringBuilder를 사용하여 Writer를 생성합니다.
+     * @param expectedSize 예상 출력 문자 수 (예: ContainerValues.estimateSerializedSize 의 결과)
+     */
+    public JsonObjectStringWriter(long expectedSize) {
+        super('{', expectedSize);
+    }
+    
     /**
      * 외부에서 제공한 StringBuilder를 사용하여 Writer를 생성합니다.
      * @param builder 사용할 StringBuilder
@@ -248,7 +256,7 @@ public class JsonObjectStringWriter extends AbstractJsonStringWriter<JsonObjectS
     // 내부 헬퍼 메서드들
     
     private void appendKey(String key) {
-        appendString(key);
+        appendKeyString(key);
         builder.append(':');
     }
     
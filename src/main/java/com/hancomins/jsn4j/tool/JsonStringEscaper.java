@@ -0,0 +1,159 @@
+package com.hancomins.jsn4j.tool;
+
+import java.io.IOException;
+
+/**
+ * 표 기반 JSON 문자열 이스케이프.
+ * ASCII 128 자에 대한 치환 문자열 표로 이스케이프 여부를 한 번의 배열 조회로 판단하고,
+ * 이스케이프가 필요 없는 구간은 {@code append(CharSequence, start, end)} 로 한 번에 추가합니다.
+ * 0x80 이상의 문자는 그대로 기록합니다.
+ * <p>
+ * 키처럼 같은 String 인스턴스가 반복해서 기록되는 경우를 위해, 이스케이프가 필요 없다고 확인된 키를
+ * String 의 해시로 찾는 고정 크기 direct-mapped 표에 기억합니다. 인스턴스 동일성(==)으로 비교하므로
+ * 같은 내용의 다른 String 은 다시 검사됩니다. 여러 스레드가 함께 사용해도 되며, 경합으로 잃는 갱신은 캐시 미스일 뿐입니다.
+ */
+public final class JsonStringEscaper {
+
+    private static final String[] ESCAPES = new String[128];
+    private static final String[] ESCAPES_WITH_SLASH = new String[128];
+
+    private static final int SAFE_KEY_CACHE_SIZE = 1024;
+    private static final int SAFE_KEY_CACHE_MASK = SAFE_KEY_CACHE_SIZE - 1;
+    private static final String[] SAFE_KEY_CACHE = new String[SAFE_KEY_CACHE_SIZE];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = String.format("\\u%04x", c);
+        }
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+        System.arraycopy(ESCAPES, 0, ESCAPES_WITH_SLASH, 0, ESCAPES.length);
+        ESCAPES_WITH_SLASH['/'] = "\\/";
+    }
+
+    private JsonStringEscaper() {
+    }
+
+    /**
+     * 이스케이프가 필요한 첫 문자의 위치를 반환합니다.
+     * @param escapeSlash '/' 도 이스케이프 대상으로 볼지 여부
+     * @return 이스케이프가 필요 없으면 -1
+     */
+    public static int indexOfEscape(String value, boolean escapeSlash) {
+        return indexOfEscape(value, 0, escapeSlash ? ESCAPES_WITH_SLASH : ESCAPES);
+    }
+
+    private static int indexOfEscape(String value, int from, String[] table) {
+        for (int i = from, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 128 && table[c] != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 값을 이스케이프하여 추가합니다. 따옴표는 추가하지 않습니다.
+     * @param escapeSlash '/' 를 "\/" 로 기록할지 여부
+     */
+    public static void appendEscaped(StringBuilder builder, String value, boolean escapeSlash) {
+        String[] table = escapeSlash ? ESCAPES_WITH_SLASH : ESCAPES;
+        int index = indexOfEscape(value, 0, table);
+        if (index < 0) {
+            builder.append(value);
+            return;
+        }
+        int length = value.length();
+        int start = 0;
+        while (index >= 0) {
+            if (index > start) {
+                builder.append(value, start, index);
+            }
+            builder.append(table[value.charAt(index)]);
+            start = index + 1;
+            index = indexOfEscape(value, start, table);
+        }
+        if (start < length) {
+            builder.append(value, start, length);
+        }
+    }
+
+    /**
+     * 값을 이스케이프하여 추가합니다. 따옴표는 추가하지 않습니다.
+     * StringBuilder 이면 {@link #appendEscaped(StringBuilder, String, boolean)} 를 사용합니다.
+     * @param escapeSlash '/' 를 "\/" 로 기록할지 여부
+     */
+    public static void appendEscaped(Appendable out, String value, boolean escapeSlash) throws IOException {
+        if (out instanceof StringBuilder) {
+            appendEscaped((StringBuilder) out, value, escapeSlash);
+            return;
+        }
+        String[] table = escapeSlash ? ESCAPES_WITH_SLASH : ESCAPES;
+        int index = indexOfEscape(value, 0, table);
+        if (index < 0) {
+            out.append(value);
+            return;
+        }
+        int length = value.length();
+        int start = 0;
+        while (index >= 0) {
+            if (index > start) {
+                out.append(value, start, index);
+            }
+            out.append(table[value.charAt(index)]);
+            start = index + 1;
+            index = indexOfEscape(value, start, table);
+        }
+        if (start < length) {
+            out.append(value, start, length);
+        }
+    }
+
+    /**
+     * 키를 이스케이프하여 추가합니다. 따옴표는 추가하지 않습니다.
+     * 이스케이프가 필요 없다고 기억된 String 인스턴스는 검사 없이 바로 추가합니다.
+     * @param escapeSlash '/' 를 "\/" 로 기록할지 여부
+     */
+    public static void appendEscapedKey(StringBuilder builder, String key, boolean escapeSlash) {
+        if (isKnownSafeKey(key)) {
+            builder.append(key);
+        } else {
+            appendEscaped(builder, key, escapeSlash);
+        }
+    }
+
+    /**
+     * 키를 이스케이프하여 추가합니다. 따옴표는 추가하지 않습니다.
+     * 이스케이프가 필요 없다고 기억된 String 인스턴스는 검사 없이 바로 추가합니다.
+     * @param escapeSlash '/' 를 "\/" 로 기록할지 여부
+     */
+    public static void appendEscapedKey(Appendable out, String key, boolean escapeSlash) throws IOException {
+        if (isKnownSafeKey(key)) {
+            out.append(key);
+        } else {
+            appendEscaped(out, key, escapeSlash);
+        }
+    }
+
+    /**
+     * 키가 이스케이프 없이 기록될 수 있는지 확인합니다.
+     * '/' 까지 포함한 엄격한 기준으로 안전한 키만 기억하므로 두 표 모두에서 유효합니다.
+     */
+    private static boolean isKnownSafeKey(String key) {
+        int slot = key.hashCode() & SAFE_KEY_CACHE_MASK;
+        if (SAFE_KEY_CACHE[slot] == key) {
+            return true;
+        }
+        if (indexOfEscape(key, 0, ESCAPES_WITH_SLASH) < 0) {
+            SAFE_KEY_CACHE[slot] = key;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,117 @@
+package com.hancomins.jsn4j.tool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 파일을 일정 크기의 구간으로 나누어 메모리 매핑하며 읽는 InputStream.
+ * 하나의 MappedByteBuffer 로는 2GB 를 넘는 파일을 매핑할 수 없으므로, 현재 구간을 다 읽으면 다음 구간을 매핑합니다.
+ * 읽기는 페이지 캐시에서 직접 이루어지므로 FileInputStream 의 read 시스템 콜과 중간 복사가 없습니다.
+ * <p>
+ * {@link #close()} 는 채널을 닫습니다. 이미 매핑된 구간은 GC 될 때 해제됩니다.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    /** 기본 매핑 구간 크기 (1GB) */
+    public static final long DEFAULT_CHUNK_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long chunkSize;
+    /** 다음에 매핑할 구간의 파일 내 위치 */
+    private long nextChunk;
+    private MappedByteBuffer buffer;
+
+    public MappedFileInputStream(FileChannel channel) throws IOException {
+        this(channel, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param channel 읽을 파일 채널. 채널의 현재 position 과 관계없이 파일의 처음부터 읽습니다.
+     * @param chunkSize 한 번에 매핑할 바이트 수 (1 ~ Integer.MAX_VALUE)
+     */
+    public MappedFileInputStream(FileChannel channel, long chunkSize) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("FileChannel cannot be null");
+        }
+        if (chunkSize <= 0 || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + Integer.MAX_VALUE);
+        }
+        this.channel = channel;
+        this.size = channel.size();
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 현재 구간을 다 읽었으면 다음 구간을 매핑합니다.
+     * @return 더 읽을 바이트가 없으면 false
+     */
+    private boolean ensureChunk() throws IOException {
+        if (buffer != null && buffer.hasRemaining()) {
+            return true;
+        }
+        if (nextChunk >= size) {
+            return false;
+        }
+        long length = Math.min(chunkSize, size - nextChunk);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, nextChunk, length);
+        nextChunk += length;
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return ensureChunk() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureChunk()) {
+            return -1;
+        }
+        int count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        long position = position();
+        long target = Math.min(size, position + n);
+        if (buffer != null && target <= nextChunk) {
+            buffer.position(buffer.position() + (int) (target - position));
+        } else {
+            // 건너뛴 구간은 매핑하지 않고, 다음 읽기에서 target 부터 매핑합니다.
+            buffer = null;
+            nextChunk = target;
+        }
+        return target - position;
+    }
+
+    @Override
+    public int available() {
+        long remaining = size - position();
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 파일 내 현재 읽기 위치
+     */
+    public long position() {
+        return buffer == null ? nextChunk : nextChunk - buffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+}
@@ -14,6 +14,7 @@ public class StringBuilderCache {
     
     private static volatile boolean cacheEnabled = true;
     private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_ARRAY_CAPACITY = Integer.MAX_VALUE - 8;
     private static int MAX_CACHE_SIZE = 32;
     private static int MAX_BUILDER_SIZE = 1024 * 1024; // 1MB
 
@@ -62,6 +63,32 @@ public class StringBuilderCache {
         return sb;
     }
     
+    /**
+     * 캐시에서 StringBuilder를 가져오고, 예상 크기만큼의 용량을 미리 확보합니다.
+     * 출력 크기를 알고 있으면 버퍼가 여러 번 두 배로 늘어나며 복사되는 것을 피할 수 있습니다.
+     * @param expectedSize 예상 문자 수 (예: ContainerValues.estimateSerializedSize 의 결과)
+     * @return 사용 가능한 StringBuilder 인스턴스
+     */
+    public static StringBuilder acquire(long expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        if (!cacheEnabled) {
+            return new StringBuilder(capacity);
+        }
+        StringBuilder sb = acquire();
+        sb.ensureCapacity(capacity);
+        return sb;
+    }
+
+    /**
+     * 예상 문자 수에 이스케이프 등을 위한 여유(1/16)를 더한 StringBuilder 용량을 반환합니다.
+     * @param expectedSize 예상 문자 수
+     * @return 할당할 용량. 최소 INITIAL_CAPACITY, 최대 배열 한계 이하
+     */
+    public static int capacityFor(long expectedSize) {
+        long capacity = expectedSize + (expectedSize >>> 4);
+        return (int) Math.max(INITIAL_CAPACITY, Math.min(capacity, MAX_ARRAY_CAPACITY));
+    }
+
     /**
      * 사용이 끝난 StringBuilder를 캐시에 반환합니다.
      * @param sb 반환할 StringBuilder
@@ -0,0 +1,222 @@
+package com.hancomins.jsn4j.tool;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * 문자를 UTF-8 로 직접 인코딩하여 고정 크기 바이트 버퍼에 쌓고, 버퍼가 가득 차면 OutputStream 으로 내보내는 Writer.
+ * 문서 전체를 String 이나 byte[] 로 만들지 않으므로 출력 크기와 관계없이 사용하는 메모리가 일정합니다.
+ * 동기화하지 않으므로 하나의 스레드에서만 사용해야 합니다.
+ * 짝이 없는 서로게이트 문자는 {@link String#getBytes(java.nio.charset.Charset)} 와 같이 '?' 로 기록됩니다.
+ */
+public class Utf8StreamWriter extends Writer {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final OutputStream outputStream;
+    private final byte[] buffer;
+    private int count;
+    // 이전 호출에서 끝난 high surrogate. 없으면 0
+    private char pendingHighSurrogate;
+
+    public Utf8StreamWriter(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    public Utf8StreamWriter(OutputStream outputStream, int bufferSize) {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("OutputStream cannot be null");
+        }
+        if (bufferSize < 4) {
+            throw new IllegalArgumentException("Buffer size must be at least 4 bytes");
+        }
+        this.outputStream = outputStream;
+        this.buffer = new byte[bufferSize];
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (c < 0x80 && pendingHighSurrogate == 0) {
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+            buffer[count++] = (byte) c;
+            return;
+        }
+        encode((char) c);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            if (pendingHighSurrogate == 0) {
+                // ASCII 구간은 버퍼에 바로 복사합니다.
+                int room = buffer.length - count;
+                int limit = Math.min(end, i + room);
+                byte[] buf = buffer;
+                int pos = count;
+                char c;
+                while (i < limit && (c = chars[i]) < 0x80) {
+                    buf[pos++] = (byte) c;
+                    ++i;
+                }
+                count = pos;
+                if (i == end) {
+                    return;
+                }
+                if (i == limit) {
+                    flushBuffer();
+                    continue;
+                }
+            }
+            encode(chars[i++]);
+        }
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            if (pendingHighSurrogate == 0) {
+                int room = buffer.length - count;
+                int limit = Math.min(end, i + room);
+                byte[] buf = buffer;
+                int pos = count;
+                char c;
+                while (i < limit && (c = str.charAt(i)) < 0x80) {
+                    buf[pos++] = (byte) c;
+                    ++i;
+                }
+                count = pos;
+                if (i == end) {
+                    return;
+                }
+                if (i == limit) {
+                    flushBuffer();
+                    continue;
+                }
+            }
+            encode(str.charAt(i++));
+        }
+    }
+
+    @Override
+    public void write(String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    @Override
+    public Utf8StreamWriter append(CharSequence csq) throws IOException {
+        String str = String.valueOf(csq);
+        write(str, 0, str.length());
+        return this;
+    }
+
+    @Override
+    public Utf8StreamWriter append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null) {
+            csq = "null";
+        }
+        if (csq instanceof String) {
+            write((String) csq, start, end - start);
+        } else {
+            for (int i = start; i < end; i++) {
+                write(csq.charAt(i));
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Utf8StreamWriter append(char c) throws IOException {
+        write(c);
+        return this;
+    }
+
+    private void encode(char c) throws IOException {
+        if (buffer.length - count < 4) {
+            flushBuffer();
+        }
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            buffer[count++] = '?';
+            encode(c);
+            return;
+        }
+        if (c < 0x80) {
+            buffer[count++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[count++] = (byte) (0xC0 | (c >> 6));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[count++] = '?';
+        } else {
+            buffer[count++] = (byte) (0xE0 | (c >> 12));
+            buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    /**
+     * 아직 OutputStream 으로 내보내지 않고 버퍼에 쌓여 있는 바이트 수를 반환합니다.
+     */
+    public int bufferedSize() {
+        return count;
+    }
+
+    /**
+     * 버퍼에 쌓인 바이트를 OutputStream 으로 내보냅니다. OutputStream 의 flush 는 호출하지 않습니다.
+     * 끝나지 않은 high surrogate 는 다음 문자를 기다리기 위해 버퍼에 남겨 둡니다.
+     */
+    public void flushBuffer() throws IOException {
+        if (count > 0) {
+            outputStream.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    /**
+     * 짝이 맞지 않은 채 남은 high surrogate 를 '?' 로 기록하고 버퍼를 OutputStream 으로 내보냅니다.
+     * 하나의 문서 쓰기가 끝났을 때 호출합니다. OutputStream 은 닫거나 flush 하지 않습니다.
+     */
+    public void finish() throws IOException {
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+            buffer[count++] = '?';
+        }
+        flushBuffer();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            outputStream.close();
+        }
+    }
+}
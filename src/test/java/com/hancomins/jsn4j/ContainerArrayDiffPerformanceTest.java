@@ -0,0 +1,76 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.simple.SimpleArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * 10 만 개 객체 배열의 앞에 요소 하나를 넣거나 곳곳을 조금 고쳤을 때,
+ * 인덱스로 비교하는 ContainerValues.diff 와 Myers 기반 diffArray / patch 의 시간과 결과 크기를 비교합니다.
+ */
+public class ContainerArrayDiffPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int SIZE = 100_000;
+
+    private static SimpleArray items(int from, int count) {
+        SimpleArray array = new SimpleArray();
+        for (int i = from; i < from + count; i++) {
+            array.newAndPutObject().put("id", (long) i).put("name", "item-" + i).put("price", i * 10L);
+        }
+        return array;
+    }
+
+    private static SimpleArray scattered(Random random) {
+        SimpleArray array = items(0, SIZE);
+        for (int i = 0; i < SIZE / 100; i++) {
+            int index = random.nextInt(array.size());
+            switch (i % 3) {
+                case 0:
+                    array.remove(index);
+                    break;
+                case 1:
+                    array.insert(index, items(SIZE + i, 1).get(0));
+                    break;
+                default:
+                    array.getObject(index).put("price", -1L);
+            }
+        }
+        return array;
+    }
+
+    private static void compare(String label, SimpleArray a, SimpleArray b) {
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            ContainerValue diff = ContainerValues.diff(a, b);
+            long diffNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            ArrayContainer hunks = ContainerValues.diffArray(a, b, "id");
+            long hunkNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            ArrayContainer operations = ContainerValues.patch(a, b);
+            long patchNanos = System.nanoTime() - start;
+
+            System.out.printf("%-22s diff: %7.1f ms, %8d bytes | diffArray: %7.1f ms, %7d bytes | patch: %7.1f ms, %7d bytes%n",
+                    label, diffNanos / 1e6, diff.toString().length(), hunkNanos / 1e6, hunks.toString().length(),
+                    patchNanos / 1e6, operations.toString().length());
+        }
+    }
+
+    @Test
+    public void arrayDiff() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        SimpleArray base = items(0, SIZE);
+        SimpleArray shifted = items(-1, 1);
+        shifted.putAll(items(0, SIZE));
+        compare("insert at front", base, shifted);
+        compare("1% scattered edits", base, scattered(new Random(1)));
+    }
+}
@@ -0,0 +1,155 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleArray;
+import com.hancomins.jsn4j.simple.SimpleObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Myers 알고리즘 기반 배열 차분 테스트
+ */
+public class ContainerArrayDiffTest {
+
+    /**
+     * 구간을 a 에 순서대로 적용해 b 를 만듭니다.
+     */
+    private static SimpleArray applyHunks(ArrayContainer a, ArrayContainer hunks) {
+        SimpleArray result = new SimpleArray();
+        int next = 0;
+        for (ContainerValue value : hunks) {
+            ObjectContainer hunk = value.asObject();
+            int index = hunk.getInt("index");
+            while (next < index) {
+                result.put(a.get(next++));
+            }
+            switch (hunk.getString("op")) {
+                case "delete":
+                    next += hunk.getInt("count");
+                    break;
+                case "insert":
+                    assertEquals(result.size(), hunk.getInt("toIndex"));
+                    for (ContainerValue inserted : hunk.getArray("values")) {
+                        result.put(inserted);
+                    }
+                    break;
+                case "update":
+                    assertEquals(result.size(), hunk.getInt("toIndex"));
+                    result.put(hunk.get("value"));
+                    next++;
+                    break;
+                default:
+                    fail("unknown hunk " + hunk);
+            }
+        }
+        while (next < a.size()) {
+            result.put(a.get(next++));
+        }
+        return result;
+    }
+
+    private static int lcsLength(long[] a, long[] b) {
+        int[][] table = new int[a.length + 1][b.length + 1];
+        for (int i = a.length - 1; i >= 0; i--) {
+            for (int j = b.length - 1; j >= 0; j--) {
+                table[i][j] = a[i] == b[j] ? table[i + 1][j + 1] + 1 : Math.max(table[i + 1][j], table[i][j + 1]);
+            }
+        }
+        return table[0][0];
+    }
+
+    private static int unchanged(ArrayContainer a, ArrayContainer hunks) {
+        int removed = 0;
+        for (ContainerValue value : hunks) {
+            if (value.asObject().getString("op").equals("delete")) {
+                removed += value.asObject().getInt("count");
+            }
+        }
+        return a.size() - removed;
+    }
+
+    @Test
+    public void testRandomArraysAreMinimal() {
+        Random random = new Random(7);
+        for (int round = 0; round < 500; round++) {
+            long[] x = new long[random.nextInt(40)];
+            long[] y = new long[random.nextInt(40)];
+            int alphabet = 1 + random.nextInt(6);
+            SimpleArray a = new SimpleArray();
+            SimpleArray b = new SimpleArray();
+            for (int i = 0; i < x.length; i++) {
+                x[i] = random.nextInt(alphabet);
+                a.put(x[i]);
+            }
+            for (int i = 0; i < y.length; i++) {
+                y[i] = random.nextInt(alphabet);
+                b.put(y[i]);
+            }
+            ArrayContainer hunks = ContainerValues.diffArray(a, b);
+            assertEquals(b, applyHunks(a, hunks), hunks.toString());
+            assertEquals(lcsLength(x, y), unchanged(a, hunks), a + " -> " + b);
+
+            ContainerValue patched = ContainerValues.applyPatch(new SimpleArray(a.toString()), ContainerValues.patch(a, b));
+            assertEquals(b, patched);
+        }
+    }
+
+    @Test
+    public void testInsertAtFrontOfLargeArray() {
+        SimpleArray a = new SimpleArray();
+        SimpleArray b = new SimpleArray();
+        b.newAndPutObject().put("id", -1L);
+        for (int i = 0; i < 100_000; i++) {
+            a.newAndPutObject().put("id", (long) i).put("name", "item" + i);
+            b.newAndPutObject().put("id", (long) i).put("name", "item" + i);
+        }
+        ArrayContainer hunks = ContainerValues.diffArray(a, b);
+        assertEquals(1, hunks.size());
+        assertEquals(new SimpleObject("{\"op\":\"insert\",\"index\":0,\"toIndex\":0,\"values\":[{\"id\":-1}]}"), hunks.get(0));
+
+        ArrayContainer operations = ContainerValues.patch(a, b);
+        assertEquals(1, operations.size());
+        assertEquals("/0", operations.getObject(0).getString("path"));
+        assertTrue(ContainerValues.diffArray(a, new SimpleArray(a.toString())).isEmpty());
+    }
+
+    @Test
+    public void testIdentityKeyProducesUpdates() {
+        SimpleArray a = new SimpleArray("[{\"id\":1,\"v\":\"a\"},{\"id\":2,\"v\":\"b\"},{\"id\":3,\"v\":\"c\"},\"plain\"]");
+        SimpleArray b = new SimpleArray("[{\"id\":2,\"v\":\"B\"},{\"id\":3,\"v\":\"c\"},{\"id\":4,\"v\":\"d\"},\"plain\"]");
+
+        ArrayContainer byValue = ContainerValues.diffArray(a, b);
+        assertEquals(b, applyHunks(a, byValue));
+        for (ContainerValue hunk : byValue) {
+            assertNotEquals("update", hunk.asObject().getString("op"));
+        }
+
+        ArrayContainer byId = ContainerValues.diffArray(a, b, "id");
+        assertEquals(new SimpleArray("["
+                + "{\"op\":\"delete\",\"index\":0,\"toIndex\":0,\"count\":1},"
+                + "{\"op\":\"update\",\"index\":1,\"toIndex\":0,\"value\":{\"id\":2,\"v\":\"B\"}},"
+                + "{\"op\":\"insert\",\"index\":3,\"toIndex\":2,\"values\":[{\"id\":4,\"v\":\"d\"}]}"
+                + "]"), byId);
+        assertEquals(b, applyHunks(a, byId));
+
+        SimpleArray nested = new SimpleArray("[{\"meta\":{\"id\":\"x\"},\"n\":1},{\"meta\":{\"id\":\"y\"},\"n\":2}]");
+        SimpleArray nestedChanged = new SimpleArray("[{\"meta\":{\"id\":\"y\"},\"n\":3}]");
+        ArrayContainer nestedHunks = ContainerValues.diffArray(nested, nestedChanged, "meta.id");
+        assertEquals(2, nestedHunks.size());
+        assertEquals("update", nestedHunks.getObject(1).getString("op"));
+    }
+
+    @Test
+    public void testAcrossImplementations() {
+        ArrayContainer jackson = JacksonContainerFactory.getInstance().newArray();
+        jackson.put(1L).put("two").newAndPutObject().put("k", true);
+        SimpleArray simple = new SimpleArray("[0,1,\"two\",{\"k\":true}]");
+        ArrayContainer hunks = ContainerValues.diffArray(jackson, simple);
+        assertEquals(1, hunks.size());
+        assertEquals("insert", hunks.getObject(0).getString("op"));
+        assertEquals(JacksonContainerFactory.getInstance(), hunks.getContainerFactory());
+    }
+}
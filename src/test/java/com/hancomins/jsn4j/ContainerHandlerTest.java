@@ -0,0 +1,211 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.fastjson2.Fastjson2ContainerFactory;
+import com.hancomins.jsn4j.gson.GsonContainerFactory;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.orgjson.OrgJsonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContainerHandlerTest {
+
+    private static final String JSON = "{\"name\": \"한글\", \"count\": 3, \"ok\": true, \"none\": null, " +
+            "\"list\": [1, \"two\", [], {}], \"nested\": {\"deep\": {\"x\": [true, \"]}\"]}}, \"last\": \"end\"}";
+
+    private static final ContainerFactory[] FACTORIES = {
+            SimpleJsonContainerFactory.getInstance(),
+            JacksonContainerFactory.getInstance(),
+            GsonContainerFactory.getInstance(),
+            Fastjson2ContainerFactory.getInstance(),
+            OrgJsonContainerFactory.getInstance()
+    };
+
+    /** 콜백을 문자열로 기록하는 핸들러. 숫자는 구현체마다 타입이 다르므로 double 로 기록합니다. */
+    private static class RecordingHandler implements ContainerHandler {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public Action startObject() {
+            events.add("{");
+            return Action.CONTINUE;
+        }
+
+        @Override
+        public Action endObject() {
+            events.add("}");
+            return Action.CONTINUE;
+        }
+
+        @Override
+        public Action startArray() {
+            events.add("[");
+            return Action.CONTINUE;
+        }
+
+        @Override
+        public Action endArray() {
+            events.add("]");
+            return Action.CONTINUE;
+        }
+
+        @Override
+        public Action key(String key) {
+            events.add("key:" + key);
+            return Action.CONTINUE;
+        }
+
+        @Override
+        public Action value(Object value) {
+            events.add("value:" + (value instanceof Number ? ((Number) value).doubleValue() : value));
+            return Action.CONTINUE;
+        }
+
+        List<String> sorted() {
+            List<String> copy = new ArrayList<>(events);
+            Collections.sort(copy);
+            return copy;
+        }
+    }
+
+    @Test
+    public void testCallbacksAcrossImplementations() {
+        RecordingHandler expected = new RecordingHandler();
+        assertTrue(SimpleJsonContainerFactory.getInstance().getParser().parse(JSON, expected));
+        assertEquals("{", expected.events.get(0));
+        assertEquals("}", expected.events.get(expected.events.size() - 1));
+        assertTrue(expected.events.contains("value:한글"));
+        assertTrue(expected.events.contains("value:3.0"));
+        assertTrue(expected.events.contains("value:null"));
+        assertTrue(expected.events.contains("value:]}"));
+
+        for (ContainerFactory factory : FACTORIES) {
+            ContainerParser parser = factory.getParser();
+            RecordingHandler fromString = new RecordingHandler();
+            RecordingHandler fromReader = new RecordingHandler();
+            RecordingHandler fromStream = new RecordingHandler();
+            assertTrue(parser.parse(JSON, fromString));
+            assertTrue(parser.parse(new StringReader(JSON), fromReader));
+            assertTrue(parser.parse(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)), fromStream));
+            // org.json 은 키 순서를 보존하지 않으므로 정렬해서 비교합니다.
+            assertEquals(expected.sorted(), fromString.sorted(), factory.getJsn4jModuleName());
+            assertEquals(expected.sorted(), fromReader.sorted(), factory.getJsn4jModuleName());
+            assertEquals(expected.sorted(), fromStream.sorted(), factory.getJsn4jModuleName());
+        }
+    }
+
+    @Test
+    public void testSkipKey() {
+        for (ContainerFactory factory : FACTORIES) {
+            RecordingHandler handler = new RecordingHandler() {
+                @Override
+                public Action key(String key) {
+                    super.key(key);
+                    return "nested".equals(key) || "list".equals(key) ? Action.SKIP : Action.CONTINUE;
+                }
+            };
+            assertTrue(factory.getParser().parse(JSON, handler));
+            List<String> events = handler.events;
+            String name = factory.getJsn4jModuleName();
+            assertTrue(events.contains("key:nested"), name);
+            assertTrue(events.contains("key:last"), name);
+            assertFalse(events.contains("key:deep"), name);
+            assertFalse(events.contains("value:two"), name);
+            assertFalse(events.contains("["), name);
+            assertEquals(1, Collections.frequency(events, "{"), name);
+            assertEquals(1, Collections.frequency(events, "}"), name);
+        }
+    }
+
+    @Test
+    public void testSkipContainer() {
+        for (ContainerFactory factory : FACTORIES) {
+            RecordingHandler handler = new RecordingHandler() {
+                @Override
+                public Action startArray() {
+                    super.startArray();
+                    return Action.SKIP;
+                }
+            };
+            assertTrue(factory.getParser().parse(JSON, handler));
+            List<String> events = handler.events;
+            String name = factory.getJsn4jModuleName();
+            // 최상위 배열만 시작 콜백을 받고, 건너뛴 배열의 내용과 끝 콜백은 전달되지 않습니다.
+            assertEquals(2, Collections.frequency(events, "["), name);
+            assertEquals(0, Collections.frequency(events, "]"), name);
+            assertFalse(events.contains("value:two"), name);
+            assertFalse(events.contains("value:]}"), name);
+            assertTrue(events.contains("key:deep"), name);
+            assertTrue(events.contains("value:end"), name);
+        }
+
+        RecordingHandler root = new RecordingHandler() {
+            @Override
+            public Action startObject() {
+                super.startObject();
+                return Action.SKIP;
+            }
+        };
+        assertTrue(SimpleJsonContainerFactory.getInstance().getParser().parse(JSON, root));
+        assertEquals(Collections.singletonList("{"), root.events);
+    }
+
+    @Test
+    public void testStop() {
+        for (ContainerFactory factory : FACTORIES) {
+            RecordingHandler handler = new RecordingHandler() {
+                @Override
+                public Action value(Object value) {
+                    super.value(value);
+                    return Action.STOP;
+                }
+            };
+            assertFalse(factory.getParser().parse(JSON, handler));
+            long values = handler.events.stream().filter(e -> e.startsWith("value:")).count();
+            assertEquals(1, values, factory.getJsn4jModuleName());
+        }
+    }
+
+    @Test
+    public void testStopBeforeMalformedContent() {
+        // 스트리밍 구현은 STOP 이후의 입력을 읽지 않습니다.
+        String truncated = "[1, 2, {\"a\": ";
+        ContainerFactory[] streaming = {
+                SimpleJsonContainerFactory.getInstance(),
+                JacksonContainerFactory.getInstance()
+        };
+        for (ContainerFactory factory : streaming) {
+            int[] count = new int[1];
+            ContainerHandler handler = new ContainerHandler() {
+                @Override
+                public Action value(Object value) {
+                    return ++count[0] == 2 ? Action.STOP : Action.CONTINUE;
+                }
+            };
+            assertFalse(factory.getParser().parse(truncated, handler));
+            assertEquals(2, count[0]);
+        }
+    }
+
+    @Test
+    public void testMalformedSkippedContent() {
+        ContainerParser parser = SimpleJsonContainerFactory.getInstance().getParser();
+        ContainerHandler skipAll = new ContainerHandler() {
+            @Override
+            public Action key(String key) {
+                return Action.SKIP;
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> parser.parse("{\"a\": [1, 2}, \"b\": 1}", skipAll));
+        assertThrows(IllegalStateException.class, () -> parser.parse("{\"a\": 1} extra", skipAll));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("[]", (ContainerHandler) null));
+    }
+}
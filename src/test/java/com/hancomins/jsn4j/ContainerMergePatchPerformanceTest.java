@@ -0,0 +1,85 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleObject;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 약 10MB 문서에 작은 병합 패치를 적용하는 시간을 비교합니다.
+ * 기존 ContainerValues.merge 와 mergePatch 의 각 CloneMode, 그리고 Simple 패치를 Jackson 문서에 적용하는 경우를 측정합니다.
+ */
+public class ContainerMergePatchPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int SECTIONS = 34_000;
+    private static final int ITERATIONS = 200;
+
+    private static SimpleObject document() {
+        SimpleObject root = new SimpleObject();
+        for (int s = 0; s < SECTIONS; s++) {
+            ObjectContainer section = root.newAndPutObject("section" + s);
+            for (int f = 0; f < 12; f++) {
+                section.put("field" + f, "value-" + s + "-" + f);
+            }
+            ArrayContainer list = section.newAndPutArray("list");
+            for (int i = 0; i < 10; i++) {
+                list.put((long) i);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * 20 개 필드를 바꾸고 5 개 섹션을 지우며, 약 100KB 짜리 하위 트리 하나를 넣는 패치
+     */
+    private static SimpleObject patch(int round) {
+        SimpleObject patch = new SimpleObject();
+        for (int i = 0; i < 20; i++) {
+            patch.newAndPutObject("section" + ((round * 131 + i * 997) % SECTIONS)).put("field1", "patched-" + round);
+        }
+        for (int i = 0; i < 5; i++) {
+            patch.putNull("section" + ((round * 17 + i * 3001) % SECTIONS));
+        }
+        ArrayContainer snapshot = patch.newAndPutObject("snapshot").newAndPutArray("rows");
+        for (int i = 0; i < 2000; i++) {
+            snapshot.newAndPutObject().put("id", (long) i).put("label", "row-" + i).put("ok", true);
+        }
+        return patch;
+    }
+
+    private interface Apply {
+        void apply(ContainerValue target, SimpleObject patch);
+    }
+
+    private static void measure(String label, ContainerValue target, Apply apply) {
+        SimpleObject[] patches = new SimpleObject[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            patches[i] = patch(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            apply.apply(target, patches[i]);
+        }
+        System.out.printf("%-32s: %8.1f us/patch%n", label, (System.nanoTime() - start) / 1e3 / ITERATIONS);
+    }
+
+    @Test
+    public void smallPatchesOnLargeDocument() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        SimpleObject simple = document();
+        ObjectContainer jackson = simple.convertTo(JsonLibrary.JACKSON);
+        System.out.println("=== Merge patches into a " + simple.toString().length() / (1024 * 1024) + " MB document ===");
+        for (int round = 0; round < 3; round++) {
+            measure("merge (copies, no deletes)", simple, (target, patch) -> ContainerValues.merge(target, patch));
+            measure("mergePatch DEEP", simple, (target, patch) -> ContainerValues.mergePatch(target, patch, CloneMode.DEEP));
+            measure("mergePatch COPY_ON_WRITE", simple, (target, patch) -> ContainerValues.mergePatch(target, patch, CloneMode.COPY_ON_WRITE));
+            measure("mergePatch SHARE", simple, (target, patch) -> ContainerValues.mergePatch(target, patch, CloneMode.SHARE));
+            measure("Jackson target, mergePatch DEEP", jackson, (target, patch) -> ContainerValues.mergePatch(target, patch));
+            System.gc();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.gson.GsonContainerFactory;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleArray;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RFC 7386 JSON Merge Patch 테스트
+ */
+public class ContainerMergePatchTest {
+
+    /** RFC 7386 Appendix A 의 예제: 대상, 패치, 결과 */
+    private static final String[][] RFC_EXAMPLES = {
+            {"{\"a\":\"b\"}", "{\"a\":\"c\"}", "{\"a\":\"c\"}"},
+            {"{\"a\":\"b\"}", "{\"b\":\"c\"}", "{\"a\":\"b\",\"b\":\"c\"}"},
+            {"{\"a\":\"b\"}", "{\"a\":null}", "{}"},
+            {"{\"a\":\"b\",\"b\":\"c\"}", "{\"a\":null}", "{\"b\":\"c\"}"},
+            {"{\"a\":[\"b\"]}", "{\"a\":\"c\"}", "{\"a\":\"c\"}"},
+            {"{\"a\":\"c\"}", "{\"a\":[\"b\"]}", "{\"a\":[\"b\"]}"},
+            {"{\"a\":{\"b\":\"c\"}}", "{\"a\":{\"b\":\"d\",\"c\":null}}", "{\"a\":{\"b\":\"d\"}}"},
+            {"{\"a\":[{\"b\":\"c\"}]}", "{\"a\":[1]}", "{\"a\":[1]}"},
+            {"[\"a\",\"b\"]", "[\"c\",\"d\"]", "[\"c\",\"d\"]"},
+            {"{\"a\":\"b\"}", "[\"c\"]", "[\"c\"]"},
+            {"{\"a\":\"foo\"}", "null", "null"},
+            {"{\"a\":\"foo\"}", "\"bar\"", "\"bar\""},
+            {"{\"e\":null}", "{\"a\":1}", "{\"e\":null,\"a\":1}"},
+            {"[1,2]", "{\"a\":\"b\",\"c\":null}", "{\"a\":\"b\"}"},
+            {"{}", "{\"a\":{\"bb\":{\"ccc\":null}}}", "{\"a\":{\"bb\":{}}}"},
+    };
+
+    private static Stream<Arguments> cases() {
+        List<Arguments> cases = new ArrayList<>();
+        ContainerFactory[] factories = {SimpleJsonContainerFactory.getInstance(),
+                JacksonContainerFactory.getInstance(), GsonContainerFactory.getInstance()};
+        for (ContainerFactory factory : factories) {
+            for (CloneMode mode : CloneMode.values()) {
+                for (String[] example : RFC_EXAMPLES) {
+                    cases.add(Arguments.of(factory, mode, example[0], example[1], example[2]));
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    private static ContainerValue parse(ContainerFactory factory, String json) {
+        if (json.equals("null")) {
+            return PrimitiveValue.NULL;
+        } else if (json.startsWith("\"")) {
+            return PrimitiveValue.of(json.substring(1, json.length() - 1));
+        }
+        return factory.getParser().parse(json);
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    public void testRfcExamples(ContainerFactory factory, CloneMode mode, String target, String patch, String expected) {
+        ContainerValue targetValue = parse(factory, target);
+        ContainerValue result = ContainerValues.mergePatch(targetValue, parse(factory, patch), mode);
+        assertEquals(parse(factory, expected), result);
+        if (targetValue.isObject() && result.isObject()) {
+            assertSame(targetValue, result);
+        }
+    }
+
+    @Test
+    public void testModesMoveOrCopySubtrees() {
+        SimpleObject patch = new SimpleObject("{\"added\":{\"list\":[1,2]},\"array\":[{\"x\":1}],\"withNull\":{\"a\":1,\"b\":null}}");
+
+        SimpleObject deep = new SimpleObject("{\"keep\":true}");
+        ContainerValues.mergePatch(deep, patch, CloneMode.DEEP);
+        assertNotSame(patch.get("added"), deep.get("added"));
+        assertNotSame(patch.get("array"), deep.get("array"));
+
+        SimpleObject shared = new SimpleObject("{\"keep\":true}");
+        ContainerValues.mergePatch(shared, patch, CloneMode.SHARE);
+        assertSame(patch.get("added"), shared.get("added"));
+        assertSame(patch.get("array"), shared.get("array"));
+        // null 멤버가 있는 객체는 null 을 뺀 새 객체로 들어갑니다.
+        assertEquals(new SimpleObject("{\"a\":1}"), shared.get("withNull"));
+        assertTrue(patch.getObject("withNull").has("b"));
+
+        SimpleObject overlay = new SimpleObject("{\"keep\":true}");
+        ContainerValues.mergePatch(overlay, patch, CloneMode.COPY_ON_WRITE);
+        overlay.getObject("added").getArray("list").put(3L);
+        assertEquals(2, patch.getObject("added").getArray("list").size());
+
+        assertEquals(deep, shared);
+        assertEquals(new SimpleObject("{\"keep\":true,\"added\":{\"list\":[1,2,3]},\"array\":[{\"x\":1}],\"withNull\":{\"a\":1}}"), overlay);
+    }
+
+    @Test
+    public void testMergeIntoExistingObjectsInPlace() {
+        SimpleObject target = new SimpleObject("{\"config\":{\"cpu\":4,\"mem\":512,\"tags\":[\"a\"]},\"name\":\"n\"}");
+        ObjectContainer config = target.getObject("config");
+        SimpleObject patch = new SimpleObject("{\"config\":{\"cpu\":8,\"mem\":null,\"tags\":[\"b\"]},\"name\":null}");
+
+        assertSame(target, ContainerValues.mergePatch(target, patch, CloneMode.SHARE));
+        assertSame(config, target.getObject("config"));
+        assertEquals(new SimpleObject("{\"config\":{\"cpu\":8,\"tags\":[\"b\"]}}"), target);
+    }
+
+    @Test
+    public void testAcrossFactories() {
+        ObjectContainer jackson = JacksonContainerFactory.getInstance().getParser()
+                .parse("{\"name\":\"n\",\"meta\":{\"v\":1,\"old\":true},\"list\":[1]}").asObject();
+        SimpleObject patch = new SimpleObject("{\"name\":\"m\",\"meta\":{\"old\":null,\"w\":{\"x\":[true]}},\"list\":[2,3],\"extra\":{\"e\":null}}");
+
+        for (CloneMode mode : CloneMode.values()) {
+            ObjectContainer target = JacksonContainerFactory.getInstance().getParser().parse(jackson.toString()).asObject();
+            ContainerValue result = ContainerValues.mergePatch(target, patch, mode);
+            assertSame(target, result);
+            assertEquals(JacksonContainerFactory.getInstance(), target.getObject("meta").getObject("w").getContainerFactory());
+            assertEquals(new SimpleObject("{\"name\":\"m\",\"meta\":{\"v\":1,\"w\":{\"x\":[true]}},\"list\":[2,3],\"extra\":{}}").toString().length(),
+                    target.toString().length());
+            assertTrue(target.getObject("meta").getObject("w").getArray("x").getBoolean(0));
+            assertFalse(target.getObject("meta").has("old"));
+        }
+
+        // 객체가 아닌 대상은 대상의 구현체로 만든 새 문서가 됩니다.
+        ArrayContainer array = JacksonContainerFactory.getInstance().newArray();
+        ContainerValue replaced = ContainerValues.mergePatch(array, new SimpleArray("[1,{\"a\":null}]"));
+        assertTrue(replaced instanceof ArrayContainer);
+        assertEquals(JacksonContainerFactory.getInstance(), ((ArrayContainer) replaced).getContainerFactory());
+    }
+
+    @Test
+    public void testSelfPatchRemovesNullMembers() {
+        SimpleObject object = new SimpleObject("{\"a\":null,\"b\":{\"c\":null,\"d\":1},\"e\":[null]}");
+        assertSame(object, ContainerValues.mergePatch(object, object));
+        assertEquals(new SimpleObject("{\"b\":{\"d\":1},\"e\":[null]}"), object);
+    }
+
+    @Test
+    public void testShareModeForOtherOperations() {
+        SimpleObject source = new SimpleObject("{\"a\":{\"b\":1}}");
+        assertSame(source, ContainerValues.cloneContainer(source, CloneMode.SHARE));
+
+        SimpleObject target = new SimpleObject();
+        assertSame(source.getObject("a"), target.putCopy("a", source.getObject("a"), CloneMode.SHARE));
+        SimpleArray array = new SimpleArray();
+        assertSame(source.getObject("a"), array.putCopy(source.getObject("a"), CloneMode.SHARE));
+        assertEquals(ContainerValues.concat(source, target), ContainerValues.concat(source, target, CloneMode.SHARE));
+    }
+}
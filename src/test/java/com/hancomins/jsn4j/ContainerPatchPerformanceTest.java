@@ -0,0 +1,79 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.simple.SimpleArray;
+import com.hancomins.jsn4j.simple.SimpleObject;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 큰 문서의 일부만 바뀌었을 때, 문서 전체를 직렬화해 보내는 방식과
+ * ContainerValues.patch 로 만든 RFC 6902 패치를 보내고 applyPatch 로 반영하는 방식을 비교합니다.
+ */
+public class ContainerPatchPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int SECTIONS = 2000;
+    private static final int ITERATIONS = 50;
+
+    private static SimpleObject document() {
+        SimpleObject root = new SimpleObject();
+        for (int s = 0; s < SECTIONS; s++) {
+            ObjectContainer section = root.newAndPutObject("section" + s);
+            for (int f = 0; f < 20; f++) {
+                section.put("field" + f, "value-" + s + "-" + f);
+            }
+            ArrayContainer list = section.newAndPutArray("list");
+            for (int i = 0; i < 10; i++) {
+                list.put((long) i);
+            }
+        }
+        return root;
+    }
+
+    private static void change(ObjectContainer document, int round) {
+        for (int i = 0; i < 10; i++) {
+            ObjectContainer section = document.getObject("section" + ((round * 37 + i * 101) % SECTIONS));
+            section.put("field3", "changed-" + round);
+            section.getArray("list").put((long) round);
+        }
+        document.remove("section" + ((round * 13) % SECTIONS));
+    }
+
+    @Test
+    public void shipDeltaInsteadOfDocument() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        SimpleObject base = document();
+        System.out.println("=== Sync a " + base.toString().length() / 1024 + " KB document after 21 changes ===");
+        for (int round = 0; round < 5; round++) {
+            long fullNanos = 0, patchNanos = 0, fullBytes = 0, patchBytes = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                SimpleObject replica = document();
+                SimpleObject updated = document();
+                change(updated, i);
+
+                long start = System.nanoTime();
+                String full = updated.toString();
+                ContainerValue received = new SimpleObject(full);
+                fullNanos += System.nanoTime() - start;
+                fullBytes += full.length();
+
+                start = System.nanoTime();
+                String delta = ContainerValues.patch(base, updated).toString();
+                ArrayContainer operations = new SimpleArray(delta);
+                ContainerValues.applyPatch(replica, operations);
+                patchNanos += System.nanoTime() - start;
+                patchBytes += delta.length();
+
+                if (!received.equals(replica)) {
+                    throw new AssertionError("replica differs after patch");
+                }
+            }
+            System.out.printf("full document: %8.2f ms, %8d bytes | patch: %8.2f ms, %6d bytes%n",
+                    fullNanos / 1e6 / ITERATIONS, fullBytes / ITERATIONS,
+                    patchNanos / 1e6 / ITERATIONS, patchBytes / ITERATIONS);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.gson.GsonContainerFactory;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleArray;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RFC 6902 JSON Patch 생성과 적용 테스트
+ */
+public class ContainerPatchTest {
+
+    private static final String[][] PAIRS = {
+            {"{\"a\":1,\"b\":2}", "{\"a\":1,\"b\":3,\"c\":4}"},
+            {"{\"a\":{\"b\":{\"c\":1,\"d\":[1,2,3]}},\"e\":true}", "{\"a\":{\"b\":{\"c\":2,\"d\":[1,5]}}}"},
+            {"{\"list\":[1,2]}", "{\"list\":[1,2,{\"x\":null},[3]]}"},
+            {"{\"list\":[{\"id\":1},{\"id\":2},{\"id\":3}]}", "{\"list\":[{\"id\":1,\"on\":true}]}"},
+            {"{\"v\":{\"x\":1}}", "{\"v\":[1]}"},
+            {"{\"v\":\"text\"}", "{\"v\":null}"},
+            {"{\"a/b\":1,\"m~n\":{\"~\":2}}", "{\"a/b\":2,\"m~n\":{\"~\":3}}"},
+            {"[1,\"two\",{\"three\":3}]", "[\"one\",\"two\",{\"three\":3,\"four\":4},5]"},
+            {"{}", "{}"},
+    };
+
+    private static Stream<Arguments> cases() {
+        List<Arguments> cases = new ArrayList<>();
+        ContainerFactory[] factories = {SimpleJsonContainerFactory.getInstance(),
+                JacksonContainerFactory.getInstance(), GsonContainerFactory.getInstance()};
+        for (ContainerFactory factory : factories) {
+            for (String[] pair : PAIRS) {
+                cases.add(Arguments.of(factory, pair[0], pair[1]));
+            }
+        }
+        return cases.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    public void testPatchTurnsSourceIntoTarget(ContainerFactory factory, String from, String to) {
+        ContainerValue a = factory.getParser().parse(from);
+        ContainerValue b = factory.getParser().parse(to);
+        ArrayContainer operations = ContainerValues.patch(a, b);
+
+        ContainerValue target = factory.getParser().parse(from);
+        ContainerValue result = ContainerValues.applyPatch(target, operations);
+        assertSame(target, result);
+        assertEquals(b, result, operations.toString());
+        assertEquals(a, factory.getParser().parse(from));
+
+        // 직렬화해서 보낸 패치도 같은 결과를 냅니다. (Gson 의 writer 는 null 멤버를 생략하므로 Simple 로 옮겨 씁니다)
+        String json = operations.convertTo(JsonLibrary.SIMPLE).toString();
+        ArrayContainer shipped = SimpleJsonContainerFactory.getInstance().getParser().parse(json).asArray();
+        ContainerValue replayed = ContainerValues.applyPatch(factory.getParser().parse(from), shipped);
+        assertEquals(b.toString(), replayed.toString());
+    }
+
+    @Test
+    public void testEqualValuesProduceNoOperations() {
+        SimpleObject a = new SimpleObject("{\"a\":[1,{\"b\":null}],\"c\":\"d\"}");
+        assertTrue(ContainerValues.patch(a, new SimpleObject(a.toString())).isEmpty());
+        assertTrue(ContainerValues.patch(a, a).isEmpty());
+    }
+
+    @Test
+    public void testOperationsAreCompact() {
+        SimpleObject a = new SimpleObject("{\"keep\":1,\"old\":{\"payload\":[1,2,3]},\"gone\":true}");
+        SimpleObject b = new SimpleObject("{\"keep\":1,\"renamed\":{\"payload\":[1,2,3]},\"nested\":{\"x\":1}}");
+        ArrayContainer operations = ContainerValues.patch(a, b);
+
+        assertEquals(3, operations.size(), operations.toString());
+        assertEquals(new SimpleObject("{\"op\":\"move\",\"from\":\"/old\",\"path\":\"/renamed\"}"), operations.get(0));
+        assertEquals(new SimpleObject("{\"op\":\"add\",\"path\":\"/nested\",\"value\":{\"x\":1}}"), operations.get(1));
+        assertEquals(new SimpleObject("{\"op\":\"remove\",\"path\":\"/gone\"}"), operations.get(2));
+
+        SimpleArray arrays = new SimpleArray("[[1,2,3,4]]");
+        ArrayContainer shrink = ContainerValues.patch(arrays, new SimpleArray("[[1,2]]"));
+        assertEquals(2, shrink.size());
+        assertEquals("/0/2", shrink.getObject(0).getString("path"));
+        assertEquals("/0/2", shrink.getObject(1).getString("path"));
+
+        // 앞에 하나를 끼워 넣으면 나머지는 그대로 일치합니다.
+        ArrayContainer shifted = ContainerValues.patch(new SimpleArray("[{\"id\":1},{\"id\":2},3]"), new SimpleArray("[0,{\"id\":1},{\"id\":2},3]"));
+        assertEquals(new SimpleArray("[{\"op\":\"add\",\"path\":\"/0\",\"value\":0}]"), shifted);
+
+        ArrayContainer escaped = ContainerValues.patch(new SimpleObject("{\"a/b\":{\"c~d\":1}}"), new SimpleObject("{\"a/b\":{\"c~d\":2}}"));
+        assertEquals("/a~1b/c~0d", escaped.getObject(0).getString("path"));
+    }
+
+    @Test
+    public void testApplyRfcOperations() {
+        SimpleObject document = new SimpleObject("{\"foo\":[\"bar\",\"baz\"],\"obj\":{\"k\":1}}");
+        ArrayContainer operations = new SimpleArray("["
+                + "{\"op\":\"add\",\"path\":\"/foo/1\",\"value\":\"qux\"},"
+                + "{\"op\":\"add\",\"path\":\"/foo/-\",\"value\":\"end\"},"
+                + "{\"op\":\"test\",\"path\":\"/foo/0\",\"value\":\"bar\"},"
+                + "{\"op\":\"copy\",\"from\":\"/obj\",\"path\":\"/copied\"},"
+                + "{\"op\":\"move\",\"from\":\"/foo/0\",\"path\":\"/first\"},"
+                + "{\"op\":\"replace\",\"path\":\"/obj/k\",\"value\":2},"
+                + "{\"op\":\"remove\",\"path\":\"/foo/2\"}"
+                + "]");
+        ContainerValue result = ContainerValues.applyPatch(document, operations);
+
+        assertSame(document, result);
+        assertEquals(new SimpleObject("{\"foo\":[\"qux\",\"baz\"],\"obj\":{\"k\":2},\"copied\":{\"k\":1},\"first\":\"bar\"}"), document);
+        assertNotSame(document.getObject("obj"), document.getObject("copied"));
+    }
+
+    @Test
+    public void testReplaceRoot() {
+        SimpleObject document = new SimpleObject("{\"a\":1}");
+        ContainerValue result = ContainerValues.applyPatch(document,
+                new SimpleArray("[{\"op\":\"replace\",\"path\":\"\",\"value\":[1,2]}]"));
+        assertEquals(new SimpleArray("[1,2]"), result);
+
+        ArrayContainer operations = ContainerValues.patch(new SimpleObject("{\"a\":1}"), new SimpleArray("[1]"));
+        assertEquals(1, operations.size());
+        assertEquals("", operations.getObject(0).getString("path"));
+    }
+
+    @Test
+    public void testInvalidOperations() {
+        SimpleObject document = new SimpleObject("{\"a\":{\"b\":[1]}}");
+        assertThrows(IllegalStateException.class, () -> ContainerValues.applyPatch(document,
+                new SimpleArray("[{\"op\":\"test\",\"path\":\"/a/b/0\",\"value\":2}]")));
+        assertThrows(IllegalStateException.class, () -> ContainerValues.applyPatch(document,
+                new SimpleArray("[{\"op\":\"remove\",\"path\":\"/a/missing\"}]")));
+        assertThrows(IllegalStateException.class, () -> ContainerValues.applyPatch(document,
+                new SimpleArray("[{\"op\":\"add\",\"path\":\"/a/b/5\",\"value\":1}]")));
+        assertThrows(IllegalStateException.class, () -> ContainerValues.applyPatch(document,
+                new SimpleArray("[{\"op\":\"replace\",\"path\":\"/a/b/01\",\"value\":1}]")));
+        assertThrows(IllegalArgumentException.class, () -> ContainerValues.applyPatch(document,
+                new SimpleArray("[{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/a/b/c\"}]")));
+        assertThrows(IllegalArgumentException.class, () -> ContainerValues.applyPatch(document,
+                new SimpleArray("[{\"op\":\"add\",\"path\":\"/x\"}]")));
+        assertThrows(IllegalArgumentException.class, () -> ContainerValues.applyPatch(document,
+                new SimpleArray("[{\"op\":\"jump\",\"path\":\"/a\"}]")));
+        assertThrows(IllegalArgumentException.class, () -> ContainerValues.applyPatch(document,
+                new SimpleArray("[{\"op\":\"remove\",\"path\":\"a\"}]")));
+        assertEquals(new SimpleObject("{\"a\":{\"b\":[1]}}"), document);
+    }
+
+    @Test
+    public void testApplyAcrossFactories() {
+        ObjectContainer jackson = JacksonContainerFactory.getInstance().getParser()
+                .parse("{\"name\":\"n\",\"tags\":[\"a\"],\"meta\":{\"v\":1}}").asObject();
+        SimpleObject updated = new SimpleObject("{\"name\":\"m\",\"tags\":[\"a\",\"b\"],\"meta\":{\"v\":1,\"w\":{\"x\":true}}}");
+        ArrayContainer operations = ContainerValues.patch(jackson, updated);
+
+        ContainerValues.applyPatch(jackson, operations);
+        assertEquals("m", jackson.getString("name"));
+        assertEquals(2, jackson.getArray("tags").size());
+        assertTrue(jackson.getObject("meta").getObject("w").getBoolean("x"));
+        assertEquals(updated.toString().length(), jackson.toString().length());
+    }
+
+    @Test
+    public void testTestComparesNumbersByValue() {
+        // Simple 파서는 정수를 Long 으로, Jackson 은 Integer 로 만듭니다. test 연산은 숫자 타입이 아니라 값을 비교합니다.
+        String patch = "[{\"op\":\"test\",\"path\":\"/id\",\"value\":7},"
+                + "{\"op\":\"test\",\"path\":\"/nested\",\"value\":{\"list\":[1,2.50,{\"n\":3}],\"s\":\"x\"}},"
+                + "{\"op\":\"test\",\"path\":\"/price\",\"value\":1e2},"
+                + "{\"op\":\"replace\",\"path\":\"/id\",\"value\":8}]";
+        for (ContainerFactory factory : new ContainerFactory[]{JacksonContainerFactory.getInstance(), GsonContainerFactory.getInstance()}) {
+            SimpleObject document = new SimpleObject("{\"id\":7,\"nested\":{\"s\":\"x\",\"list\":[1.0,2.5,{\"n\":3}]},\"price\":100}");
+            ArrayContainer operations = factory.getParser().parse(patch).asArray();
+            ContainerValues.applyPatch(document, operations);
+            assertEquals(8L, document.getLong("id"), factory.getJsn4jModuleName());
+
+            ArrayContainer failing = factory.getParser().parse("[{\"op\":\"test\",\"path\":\"/nested/list\",\"value\":[1,2.51,{\"n\":3}]}]").asArray();
+            assertThrows(IllegalStateException.class, () -> ContainerValues.applyPatch(document, failing), factory.getJsn4jModuleName());
+            ArrayContainer typeMismatch = factory.getParser().parse("[{\"op\":\"test\",\"path\":\"/id\",\"value\":\"8\"}]").asArray();
+            assertThrows(IllegalStateException.class, () -> ContainerValues.applyPatch(document, typeMismatch), factory.getJsn4jModuleName());
+        }
+        assertTrue(JsonPatch.testEquals(PrimitiveValue.of(new BigInteger("12345678901234567890")),
+                PrimitiveValue.of(new BigDecimal("12345678901234567890.00"))));
+        assertFalse(JsonPatch.testEquals(PrimitiveValue.of(new BigInteger("12345678901234567891")),
+                PrimitiveValue.of(1.2345678901234567E19)));
+        assertTrue(JsonPatch.testEquals(PrimitiveValue.of(Double.NaN), PrimitiveValue.of(Float.NaN)));
+        assertTrue(JsonPatch.testEquals(null, PrimitiveValue.NULL));
+    }
+
+    @Test
+    public void testInsertShiftsElements() {
+        ArrayContainer jackson = JacksonContainerFactory.getInstance().getParser().parse("[1,2,3]").asArray();
+        jackson.insert(1, "x").insert(4, "end").insert(0, "start");
+        assertEquals("[\"start\",1,\"x\",2,3,\"end\"]", jackson.toString());
+        SimpleArray simple = new SimpleArray("[1,2,3]");
+        simple.insert(1, "x").insert(4, "end").insert(0, "start");
+        assertEquals(jackson.toString(), simple.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> simple.insert(7, 1));
+    }
+}
@@ -1,6 +1,7 @@
 package com.hancomins.jsn4j;
 
 import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleJsonWriter;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
@@ -194,4 +195,26 @@ class ContainerValuesTest {
         assertEquals("End", arrayContainer.get(2).raw());
     }
 
+    @Test
+    public void testEstimateSerializedSize() {
+        ObjectContainer obj = factory.newObject();
+        obj.put("name", "한글 text");
+        obj.put("count", -12345L);
+        obj.put("ok", true);
+        obj.put("none", null);
+        obj.put("list", factory.newArray().put(1).put("two").put(false).put(factory.newObject().put("deep", 0)));
+
+        assertEquals(obj.getWriter().write().length(), ContainerValues.estimateSerializedSize(obj));
+        assertEquals(SimpleJsonWriter.prettyPrint(obj, 2).length(), ContainerValues.estimateSerializedSize(obj, 2));
+        assertEquals(7, ContainerValues.estimateSerializedSize(new PrimitiveValue("hello")));
+        assertEquals(4, ContainerValues.estimateSerializedSize(null));
+    }
+
+    @Test
+    public void testEstimateSerializedSizeFallsBackForDoubles() {
+        ArrayContainer arr = factory.newArray().put(1.5).put(-2.25e10);
+        long estimate = ContainerValues.estimateSerializedSize(arr);
+        assertTrue(estimate >= arr.getWriter().write().length());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.fastjson2.Fastjson2ContainerFactory;
+import com.hancomins.jsn4j.gson.GsonContainerFactory;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.json5.Json5ContainerFactory;
+import com.hancomins.jsn4j.orgjson.OrgJsonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContainerWriterTest {
+
+    private static final String JSON = "{\"name\": \"한글 \\uD83D\\uDE00\", \"count\": 3, \"ok\": true, " +
+            "\"list\": [1, \"two\", [], {\"deep\": [false, \"x\\\"y\"]}], \"last\": \"end\"}";
+
+    private static final ContainerFactory[] FACTORIES = {
+            SimpleJsonContainerFactory.getInstance(),
+            JacksonContainerFactory.getInstance(),
+            GsonContainerFactory.getInstance(),
+            Fastjson2ContainerFactory.getInstance(),
+            OrgJsonContainerFactory.getInstance(),
+            Json5ContainerFactory.getInstance()
+    };
+
+    /** 작은 버퍼로 write(ByteBuffer) 를 반복 호출하여 전체 출력을 모읍니다. */
+    private static byte[] writeInChunks(ContainerWriter<?> writer, int bufferSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        boolean done;
+        int calls = 0;
+        do {
+            done = writer.write(buffer);
+            buffer.flip();
+            out.write(buffer.array(), buffer.position(), buffer.remaining());
+            buffer.clear();
+            assertTrue(++calls < 100000, "write(ByteBuffer) does not make progress");
+        } while (!done);
+        return out.toByteArray();
+    }
+
+    private static void assertAllSinks(ContainerWriter<?> writer, String name) throws IOException {
+        String expected = writer.write();
+        byte[] expectedBytes = expected.getBytes(StandardCharsets.UTF_8);
+
+        StringWriter stringWriter = new StringWriter();
+        writer.write(stringWriter);
+        assertEquals(expected, stringWriter.toString(), name + " Writer");
+
+        StringBuilder sb = new StringBuilder();
+        writer.write(sb);
+        assertEquals(expected, sb.toString(), name + " Appendable");
+
+        assertArrayEquals(expectedBytes, writeInChunks(writer, 7), name + " ByteBuffer(7)");
+        assertArrayEquals(expectedBytes, writeInChunks(writer, 4096), name + " ByteBuffer(4096)");
+
+        ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(channelOut);
+        writer.write(channel);
+        assertTrue(channel.isOpen(), name + " channel closed");
+        assertArrayEquals(expectedBytes, channelOut.toByteArray(), name + " WritableByteChannel");
+    }
+
+    @Test
+    public void testAllSinksMatchWrite() throws IOException {
+        for (ContainerFactory factory : FACTORIES) {
+            String name = factory.getJsn4jModuleName();
+            ContainerValue value = factory.getParser().parse(JSON);
+            ContainerWriter<?> writer = value.getWriter();
+            assertAllSinks(writer, name);
+            writer.enable("PRETTY_PRINT");
+            assertAllSinks(writer, name + " pretty");
+        }
+    }
+
+    @Test
+    public void testByteBufferResumeKeepsOnlyCurrentToken() throws IOException {
+        ArrayContainer array = SimpleJsonContainerFactory.getInstance().newArray();
+        for (int i = 0; i < 10000; i++) {
+            array.put(SimpleJsonContainerFactory.getInstance().newObject().put("id", i).put("text", "값-" + i));
+        }
+        ContainerWriter<?> writer = array.getWriter();
+        assertArrayEquals(writer.write().getBytes(StandardCharsets.UTF_8), writeInChunks(writer, 64));
+    }
+
+    @Test
+    public void testByteBufferStartsNewDocumentAfterCompletion() throws IOException {
+        ContainerWriter<?> writer = SimpleJsonContainerFactory.getInstance().getParser().parse("[1,2,3]").getWriter();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        assertTrue(writer.write(buffer));
+        assertTrue(writer.write(buffer));
+        buffer.flip();
+        assertEquals("[1,2,3][1,2,3]", StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+}
@@ -7,6 +7,15 @@ import com.hancomins.jsn4j.json5.Json5ContainerFactory;
 import com.hancomins.jsn4j.gson.GsonContainerFactory;
 import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -233,6 +242,64 @@ public class CrossImplementationTest {
 
     }
     
+    @Test
+    public void testParseBytesAndByteBuffer() {
+        String json = "{\"name\": \"한글 ✓ 𝄞\", \"list\": [1, \"a\\\"b\", {\"nested\": true}], \"none\": null}";
+        byte[] utf8 = json.getBytes(StandardCharsets.UTF_8);
+        // 앞뒤에 쓰레기 바이트를 붙여 offset / length 처리를 확인
+        byte[] padded = new byte[utf8.length + 8];
+        Arrays.fill(padded, (byte) 'x');
+        System.arraycopy(utf8, 0, padded, 4, utf8.length);
+
+        ContainerFactory[] factories = {
+                SimpleJsonContainerFactory.getInstance(),
+                JacksonContainerFactory.getInstance(),
+                Fastjson2ContainerFactory.getInstance(),
+                OrgJsonContainerFactory.getInstance(),
+                GsonContainerFactory.getInstance()
+        };
+        for (ContainerFactory factory : factories) {
+            ContainerParser parser = factory.getParser();
+            ContainerValue expected = parser.parse(json);
+
+            ContainerValue fromBytes = parser.parse(padded, 4, utf8.length);
+            assertTrue(ContainerValues.equals(expected, fromBytes), factory.getJsn4jModuleName());
+            assertEquals("한글 ✓ 𝄞", fromBytes.asObject().getString("name"));
+
+            ByteBuffer heap = ByteBuffer.wrap(padded, 4, utf8.length);
+            assertTrue(ContainerValues.equals(expected, parser.parse(heap)), factory.getJsn4jModuleName());
+            assertEquals(4, heap.position());
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length);
+            direct.put(utf8).flip();
+            assertTrue(ContainerValues.equals(expected, parser.parse(direct)), factory.getJsn4jModuleName());
+            assertEquals(0, direct.position());
+        }
+    }
+    
+    @Test
+    public void testParsePath(@TempDir Path tempDir) throws IOException {
+        String json = "{\"name\": \"한글 ✓ 𝄞\", \"list\": [1, \"a\\\"b\", {\"nested\": true}], \"none\": null}";
+        Path file = tempDir.resolve("document.json");
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+
+        ContainerFactory[] factories = {
+                SimpleJsonContainerFactory.getInstance(),
+                JacksonContainerFactory.getInstance(),
+                Fastjson2ContainerFactory.getInstance(),
+                OrgJsonContainerFactory.getInstance(),
+                GsonContainerFactory.getInstance()
+        };
+        for (ContainerFactory factory : factories) {
+            ContainerParser parser = factory.getParser();
+            ContainerValue fromFile = parser.parse(file);
+            assertTrue(ContainerValues.equals(parser.parse(json), fromFile), factory.getJsn4jModuleName());
+            assertEquals("한글 ✓ 𝄞", fromFile.asObject().getString("name"));
+        }
+        assertEquals("한글 ✓ 𝄞", Jsn4j.parse(file).asObject().getString("name"));
+        assertThrows(UncheckedIOException.class, () -> Jsn4j.parse(tempDir.resolve("missing.json")));
+    }
+
     private void verifyWithJackson(String json) {
         ContainerParser parser = JacksonContainerFactory.getInstance().getParser();
         ContainerValue parsed = parser.parse(json);
@@ -0,0 +1,190 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.fastjson2.Fastjson2ContainerFactory;
+import com.hancomins.jsn4j.gson.GsonContainerFactory;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.orgjson.OrgJsonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonEventReaderTest {
+
+    private static final String JSON = "{\"name\": \"한글\", \"count\": 3, \"ratio\": -1.5, \"ok\": true, \"no\": false, " +
+            "\"none\": null, \"list\": [1, \"two\", [], {}], \"nested\": {\"deep\": {\"x\": [true]}}, \"last\": \"end\"}";
+
+    private static final ContainerFactory[] FACTORIES = {
+            SimpleJsonContainerFactory.getInstance(),
+            JacksonContainerFactory.getInstance(),
+            GsonContainerFactory.getInstance(),
+            Fastjson2ContainerFactory.getInstance(),
+            OrgJsonContainerFactory.getInstance()
+    };
+
+    /** 이벤트와 값을 문자열로 기록합니다. 숫자는 구현체마다 타입이 다르므로 double 로 비교합니다. */
+    private static List<String> record(JsonEventReader reader) {
+        List<String> events = new ArrayList<>();
+        while (reader.hasNext()) {
+            JsonEvent event = reader.next();
+            switch (event) {
+                case FIELD_NAME: events.add("FIELD_NAME:" + reader.getFieldName()); break;
+                case VALUE_STRING: events.add("STRING:" + reader.getString()); break;
+                case VALUE_NUMBER: events.add("NUMBER:" + reader.getNumber().doubleValue()); break;
+                case VALUE_TRUE:
+                case VALUE_FALSE: events.add("BOOLEAN:" + reader.getBoolean()); break;
+                default: events.add(event.name() + "@" + reader.getDepth());
+            }
+        }
+        reader.close();
+        return events;
+    }
+
+    private static final List<String> EXPECTED = Arrays.asList(
+            "START_OBJECT@1",
+            "FIELD_NAME:name", "STRING:한글",
+            "FIELD_NAME:count", "NUMBER:3.0",
+            "FIELD_NAME:ratio", "NUMBER:-1.5",
+            "FIELD_NAME:ok", "BOOLEAN:true",
+            "FIELD_NAME:no", "BOOLEAN:false",
+            "FIELD_NAME:none", "VALUE_NULL@1",
+            "FIELD_NAME:list", "START_ARRAY@2", "NUMBER:1.0", "STRING:two", "START_ARRAY@3", "END_ARRAY@2",
+            "START_OBJECT@3", "END_OBJECT@2", "END_ARRAY@1",
+            "FIELD_NAME:nested", "START_OBJECT@2", "FIELD_NAME:deep", "START_OBJECT@3", "FIELD_NAME:x",
+            "START_ARRAY@4", "BOOLEAN:true", "END_ARRAY@3", "END_OBJECT@2", "END_OBJECT@1",
+            "FIELD_NAME:last", "STRING:end",
+            "END_OBJECT@0");
+
+    @Test
+    public void testAllImplementationsProduceSameEvents() {
+        for (ContainerFactory factory : FACTORIES) {
+            ContainerParser parser = factory.getParser();
+            String name = factory.getJsn4jModuleName();
+            if (factory == OrgJsonContainerFactory.getInstance()) {
+                // org.json 은 트리를 순회하는 기본 구현이므로 키 순서가 보장되지 않습니다.
+                assertEquals(sorted(EXPECTED), sorted(record(parser.newEventReader(JSON))), name);
+                continue;
+            }
+            assertEquals(EXPECTED, record(parser.newEventReader(JSON)), name);
+            assertEquals(EXPECTED, record(parser.newEventReader(new StringReader(JSON))), name);
+            assertEquals(EXPECTED, record(parser.newEventReader(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)))), name);
+        }
+    }
+
+    @Test
+    public void testTreeEventReader() {
+        ContainerValue tree = SimpleJsonContainerFactory.getInstance().getParser().parse(JSON);
+        assertEquals(sorted(EXPECTED), sorted(record(new ContainerValueEventReader(tree))));
+    }
+
+    private static List<String> sorted(List<String> events) {
+        List<String> copy = new ArrayList<>(events);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    @Test
+    public void testSkipChildren() {
+        for (ContainerFactory factory : FACTORIES) {
+            JsonEventReader reader = factory.getParser().newEventReader(JSON);
+            List<String> names = new ArrayList<>();
+            assertEquals(JsonEvent.START_OBJECT, reader.next());
+            while (reader.next() == JsonEvent.FIELD_NAME) {
+                names.add(reader.getFieldName());
+                JsonEvent value = reader.next();
+                if (value.isStructStart()) {
+                    reader.skipChildren();
+                    assertTrue(reader.getCurrentEvent().isStructEnd());
+                    assertEquals(1, reader.getDepth());
+                }
+            }
+            assertEquals(JsonEvent.END_OBJECT, reader.getCurrentEvent());
+            assertFalse(reader.hasNext());
+            assertEquals(9, names.size(), factory.getJsn4jModuleName());
+            assertTrue(names.contains("last"));
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testScalarRootAndEnd() {
+        for (ContainerFactory factory : FACTORIES) {
+            if (factory == OrgJsonContainerFactory.getInstance()) continue; // org.json 은 스칼라 루트를 지원하지 않음
+            JsonEventReader reader = factory.getParser().newEventReader("\"text\"");
+            assertTrue(reader.hasNext());
+            assertEquals(JsonEvent.VALUE_STRING, reader.next());
+            assertEquals("text", reader.getValue());
+            assertFalse(reader.hasNext());
+            assertThrows(NoSuchElementException.class, reader::next);
+            assertThrows(IllegalStateException.class, reader::getNumber);
+        }
+    }
+
+    @Test
+    public void testTrailingContentIsRejected() {
+        for (ContainerFactory factory : new ContainerFactory[] {SimpleJsonContainerFactory.getInstance(), JacksonContainerFactory.getInstance(), GsonContainerFactory.getInstance()}) {
+            JsonEventReader reader = factory.getParser().newEventReader("[1] [2]");
+            assertEquals(JsonEvent.START_ARRAY, reader.next());
+            assertEquals(JsonEvent.VALUE_NUMBER, reader.next());
+            assertEquals(JsonEvent.END_ARRAY, reader.next());
+            assertThrows(RuntimeException.class, reader::hasNext, factory.getJsn4jModuleName());
+        }
+    }
+
+    @Test
+    public void testStreamsLargeInputInConstantMemory() {
+        // 약 100MB 짜리 배열을 생성하면서 읽습니다. 트리를 만들지 않으므로 힙에 올라가지 않습니다.
+        final int records = 1_000_000;
+        InputStream generated = new InputStream() {
+            private final byte[] record = "{\"id\": 12345, \"name\": \"record\", \"tags\": [\"a\", \"b\"], \"payload\": {\"x\": 1.5}}".getBytes(StandardCharsets.UTF_8);
+            private int index = -1;
+            private int offset;
+
+            @Override
+            public int read() {
+                if (index == -1) {
+                    index = 0;
+                    return '[';
+                }
+                if (index >= records) {
+                    if (index == records) {
+                        index++;
+                        return ']';
+                    }
+                    return -1;
+                }
+                if (offset == record.length) {
+                    offset = 0;
+                    index++;
+                    return index < records ? ',' : read();
+                }
+                return record[offset++];
+            }
+        };
+        long ids = 0;
+        try (JsonEventReader reader = SimpleJsonContainerFactory.getInstance().getParser().newEventReader(generated)) {
+            while (reader.hasNext()) {
+                if (reader.next() == JsonEvent.FIELD_NAME) {
+                    if ("id".equals(reader.getFieldName())) {
+                        reader.next();
+                        ids += reader.getNumber().longValue();
+                    } else if ("payload".equals(reader.getFieldName())) {
+                        reader.next();
+                        reader.skipChildren();
+                    }
+                }
+            }
+        }
+        assertEquals(12345L * records, ids);
+    }
+}
@@ -0,0 +1,196 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.fastjson2.Fastjson2ContainerFactory;
+import com.hancomins.jsn4j.gson.GsonContainerFactory;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.orgjson.OrgJsonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NdjsonTest {
+
+    private static final ContainerFactory[] FACTORIES = {
+            SimpleJsonContainerFactory.getInstance(),
+            JacksonContainerFactory.getInstance(),
+            GsonContainerFactory.getInstance(),
+            Fastjson2ContainerFactory.getInstance(),
+            OrgJsonContainerFactory.getInstance()
+    };
+
+    private static byte[] records(ContainerFactory factory, int count) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonWriter writer = new NdjsonWriter(out)) {
+            writer.writeAll(IntStream.range(0, count).mapToObj(i -> {
+                ObjectContainer record = factory.newObject();
+                record.put("id", i);
+                record.put("name", "이름\n" + i);
+                record.newAndPutArray("tags").put("a").put(i % 3);
+                return record;
+            }));
+        }
+        return out.toByteArray();
+    }
+
+    private static List<Integer> ids(NdjsonReader reader) {
+        List<Integer> ids = new ArrayList<>();
+        for (ContainerValue value : reader) {
+            ObjectContainer record = value.asObject();
+            assertEquals("이름\n" + record.getInt("id"), record.getString("name"));
+            ids.add(record.getInt("id"));
+        }
+        return ids;
+    }
+
+    @Test
+    public void testRoundTripAcrossFactories() throws IOException {
+        List<Integer> expected = IntStream.range(0, 500).boxed().collect(Collectors.toList());
+        for (ContainerFactory writeFactory : FACTORIES) {
+            byte[] bytes = records(writeFactory, 500);
+            String text = new String(bytes, StandardCharsets.UTF_8);
+            assertEquals(500, text.split("\n").length, writeFactory.getJsn4jModuleName());
+            for (ContainerFactory readFactory : FACTORIES) {
+                try (NdjsonReader reader = new NdjsonReader(new ByteArrayInputStream(bytes), readFactory)) {
+                    assertEquals(expected, ids(reader), writeFactory.getJsn4jModuleName() + " -> " + readFactory.getJsn4jModuleName());
+                    assertEquals(500, reader.getLineNumber());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallelDecodeKeepsOrder() throws IOException {
+        byte[] bytes = records(SimpleJsonContainerFactory.getInstance(), 5000);
+        List<Integer> expected = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (ContainerFactory factory : FACTORIES) {
+                try (NdjsonReader reader = new NdjsonReader(new ByteArrayInputStream(bytes), factory)) {
+                    reader.setExecutor(executor, 64);
+                    assertEquals(expected, ids(reader), factory.getJsn4jModuleName());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLineHandling() throws IOException {
+        String ndjson = "{\"a\": 1}\r\n\n   \n[1, 2]\n\"text\"\r\n42\nnull\n{\"last\": true}";
+        for (ContainerFactory factory : FACTORIES) {
+            try (NdjsonReader reader = new NdjsonReader(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), factory)) {
+                List<ContainerValue> values = reader.stream().collect(Collectors.toList());
+                String name = factory.getJsn4jModuleName();
+                assertEquals(6, values.size(), name);
+                assertEquals(1, values.get(0).asObject().getInt("a"), name);
+                assertEquals(2, values.get(1).asArray().size(), name);
+                assertEquals("text", values.get(2).raw(), name);
+                assertEquals(42, ((Number) values.get(3).raw()).intValue(), name);
+                assertTrue(values.get(4).isNull(), name);
+                assertTrue(values.get(5).asObject().getBoolean("last"), name);
+                assertEquals(8, reader.getLineNumber());
+            }
+        }
+    }
+
+    @Test
+    public void testLongLinesAndEmptyInput() throws IOException {
+        StringBuilder sb = new StringBuilder("{\"big\": \"");
+        for (int i = 0; i < 200_000; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        sb.append("\"}\n{\"small\": 1}\n");
+        try (NdjsonReader reader = new NdjsonReader(new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)))) {
+            Iterator<ContainerValue> iterator = reader.iterator();
+            assertEquals(200_000, iterator.next().asObject().getString("big").length());
+            assertEquals(1, iterator.next().asObject().getInt("small"));
+            assertFalse(iterator.hasNext());
+            assertThrows(IllegalStateException.class, reader::iterator);
+        }
+        try (NdjsonReader reader = new NdjsonReader(new ByteArrayInputStream(new byte[0]))) {
+            assertFalse(reader.iterator().hasNext());
+        }
+    }
+
+    @Test
+    public void testErrorReportsLineNumber() {
+        byte[] bytes = "{\"a\": 1}\n\n{\"b\": }\n{\"c\": 3}\n".getBytes(StandardCharsets.UTF_8);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (boolean parallel : new boolean[]{false, true}) {
+                NdjsonReader reader = new NdjsonReader(new ByteArrayInputStream(bytes), SimpleJsonContainerFactory.getInstance());
+                if (parallel) {
+                    reader.setExecutor(executor, 4);
+                }
+                Iterator<ContainerValue> iterator = reader.iterator();
+                assertEquals(1, iterator.next().asObject().getInt("a"));
+                IllegalArgumentException error = assertThrows(IllegalArgumentException.class, iterator::next);
+                assertTrue(error.getMessage().contains("line 3"), error.getMessage());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWriterProducesSingleLines() throws IOException {
+        ObjectContainer pretty = SimpleJsonContainerFactory.getInstance().newObject();
+        pretty.put("text", "line1\nline2");
+        pretty.newAndPutObject("nested").put("x", 1L);
+        pretty.getWriter().putOption("PRETTY_PRINT", true);
+        assertTrue(pretty.getWriter().write().contains("\n"));
+
+        StringWriter out = new StringWriter();
+        NdjsonWriter writer = new NdjsonWriter(out);
+        writer.write(pretty).write(new PrimitiveValue("quote\"")).write(new PrimitiveValue(1.5)).write(null);
+        writer.flush();
+        String[] lines = out.toString().split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(ContainerValues.equals(pretty, Jsn4j.parse(lines[0])));
+        assertEquals("\"quote\\\"\"", lines[1]);
+        assertEquals("1.5", lines[2]);
+        assertEquals("null", lines[3]);
+    }
+
+    @Test
+    public void testLineIgnoresWriterFormatting() {
+        // 값의 Writer 가 들여쓰기, 탭, ' : ' 같은 서식을 쓰더라도 줄은 항상 압축된 JSON 입니다.
+        String compact = "{\"a\":1,\"b\":[true,null,\"x\\ty\"],\"c\":{\"d\":{}}}";
+        for (ContainerFactory factory : new ContainerFactory[]{SimpleJsonContainerFactory.getInstance(),
+                JacksonContainerFactory.getInstance(), Fastjson2ContainerFactory.getInstance()}) {
+            ContainerValue value = factory.getParser().parse(compact);
+            value.getWriter().enable("PRETTY_PRINT");
+            assertTrue(value.getWriter().write().contains("\n"), factory.getJsn4jModuleName());
+            assertEquals(compact, NdjsonWriter.toLine(value), factory.getJsn4jModuleName());
+        }
+        assertEquals("null", NdjsonWriter.toLine(null));
+        assertEquals("[]", NdjsonWriter.toLine(SimpleJsonContainerFactory.getInstance().newArray()));
+    }
+
+    @Test
+    public void testReadPath(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("records.ndjson");
+        Files.write(file, records(JacksonContainerFactory.getInstance(), 100));
+        try (NdjsonReader reader = new NdjsonReader(file, GsonContainerFactory.getInstance())) {
+            assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), ids(reader));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParallelArrayParser 의 코어 수에 따른 확장성 측정.
+ * 최상위 배열 문서를 병렬도 1, 2, 4, ... (가용 코어 수까지) 의 ForkJoinPool 로 파싱하여
+ * 순차 파싱 대비 속도 향상을 출력합니다.
+ */
+public class ParallelArrayParserPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int ITERATIONS = 10;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int RECORD_COUNT = 200000;
+
+    @Test
+    public void scaling() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        byte[] bytes = ParallelArrayParserTest.records(RECORD_COUNT).getBytes(StandardCharsets.UTF_8);
+        double megaBytes = bytes.length / 1024.0 / 1024.0;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("=== ParallelArrayParser Scaling ===");
+        System.out.printf("Document: %d records, %.2f MB, %d cores%n", RECORD_COUNT, megaBytes, cores);
+
+        for (ContainerFactory factory : new ContainerFactory[]{SimpleJsonContainerFactory.getInstance(), JacksonContainerFactory.getInstance()}) {
+            System.out.println("-- " + factory.getJsn4jModuleName());
+            ContainerParser sequential = factory.getParser();
+            double baseline = measure("sequential", () -> sequential.parse(bytes, 0, bytes.length), megaBytes, 0);
+            for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                try {
+                    ParallelArrayParser parser = new ParallelArrayParser(factory, pool);
+                    measure(threads + " thread(s)", () -> parser.parse(bytes, 0, bytes.length), megaBytes, baseline);
+                } finally {
+                    pool.shutdown();
+                }
+                if (threads == cores) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static double measure(String name, Supplier<ContainerValue> parse, double megaBytes, double baselineMs) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            parse.get();
+        }
+        System.gc();
+        long totalNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            ContainerValue value = parse.get();
+            totalNanos += System.nanoTime() - start;
+            assertTrue(value.asArray().size() >= RECORD_COUNT);
+        }
+        double avgMs = totalNanos / 1_000_000.0 / ITERATIONS;
+        String speedup = baselineMs > 0 ? String.format("  x%.2f", baselineMs / avgMs) : "";
+        System.out.printf("%-14s avg %8.2f ms  (%7.2f MB/s)%s%n", name, avgMs, megaBytes / (avgMs / 1000.0), speedup);
+        return avgMs;
+    }
+}
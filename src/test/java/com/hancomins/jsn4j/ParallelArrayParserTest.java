@@ -0,0 +1,139 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.fastjson2.Fastjson2ContainerFactory;
+import com.hancomins.jsn4j.gson.GsonContainerFactory;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.orgjson.OrgJsonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelArrayParserTest {
+
+    private static final ContainerFactory[] FACTORIES = {
+            SimpleJsonContainerFactory.getInstance(),
+            JacksonContainerFactory.getInstance(),
+            GsonContainerFactory.getInstance(),
+            Fastjson2ContainerFactory.getInstance(),
+            OrgJsonContainerFactory.getInstance()
+    };
+
+    static String records(int count) {
+        StringBuilder sb = new StringBuilder("[\n");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(",\n");
+            sb.append("  {\"id\": ").append(i)
+                    .append(", \"name\": \"이름 ").append(i).append(" ] } , \\\" [\"")
+                    .append(", \"tags\": [").append(i % 5).append(", {\"deep\": [[], {}]}]")
+                    .append(", \"ok\": ").append(i % 2 == 0).append('}');
+            if (i % 7 == 0) sb.append(", \"scalar ").append(i).append('"');
+            if (i % 11 == 0) sb.append(", ").append(i * 1.5);
+        }
+        sb.append("\n]\n");
+        return sb.toString();
+    }
+
+    @Test
+    public void testSameResultAsSequentialParse() {
+        String json = records(300);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ContainerFactory factory : FACTORIES) {
+                ParallelArrayParser parser = new ParallelArrayParser(factory, pool);
+                parser.setSplitSize(64);
+                ContainerValue expected = factory.getParser().parse(json);
+                ContainerValue parallel = parser.parse(bytes, 0, bytes.length);
+                String name = factory.getJsn4jModuleName();
+                assertTrue(parallel.isArray(), name);
+                assertEquals(expected.asArray().size(), parallel.asArray().size(), name);
+                assertTrue(ContainerValues.equals(expected, parallel), name);
+                assertEquals("이름 299 ] } , \" [", parallel.asArray().getObject(parallel.asArray().size() - 1).getString("name"), name);
+                assertSame(factory, ((ContainerFactoryProvidable) parallel).getContainerFactory(), name);
+
+                ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+                direct.put(bytes).flip();
+                assertTrue(ContainerValues.equals(expected, parser.parse(direct)), name);
+                assertEquals(0, direct.position());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDirectBufferScannedInBlocks() {
+        String json = records(300);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ContainerValue expected = SimpleJsonContainerFactory.getInstance().getParser().parse(json);
+        ParallelArrayParser parser = new ParallelArrayParser(SimpleJsonContainerFactory.getInstance());
+        parser.setSplitSize(64);
+        // 블록 경계가 문자열, 이스케이프, 요소 경계의 모든 위치에 걸치도록 여러 크기로 나눕니다.
+        for (int blockSize : new int[]{1, 2, 7, 64, 4096, bytes.length + 1}) {
+            parser.setScanBlockSize(blockSize);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 3);
+            direct.put(new byte[]{'x', 'y', 'z'}).put(bytes).flip();
+            direct.position(3);
+            assertTrue(ContainerValues.equals(expected, parser.parse(direct)), "block " + blockSize);
+            assertEquals(3, direct.position());
+        }
+        parser.setSplitSize(1);
+        parser.setScanBlockSize(5);
+        byte[] malformed = "[1, {\"a\": \"]\"}, 2,]".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(malformed.length);
+        direct.put(malformed).flip();
+        assertThrows(RuntimeException.class, () -> parser.parse(direct));
+    }
+
+    @Test
+    public void testFallsBackToSequentialParse() {
+        ParallelArrayParser parser = new ParallelArrayParser(SimpleJsonContainerFactory.getInstance());
+        parser.setSplitSize(1);
+        byte[] object = "{\"a\": [1, 2]}".getBytes(StandardCharsets.UTF_8);
+        assertEquals(2, parser.parse(object, 0, object.length).asObject().getArray("a").size());
+        byte[] scalar = " 42 ".getBytes(StandardCharsets.UTF_8);
+        assertEquals(42, ((Number) parser.parse(scalar, 0, scalar.length).raw()).intValue());
+        byte[] empty = " [ ] ".getBytes(StandardCharsets.UTF_8);
+        assertEquals(0, parser.parse(empty, 0, empty.length).asArray().size());
+
+        // 작은 입력은 나누지 않습니다.
+        ParallelArrayParser defaultParser = new ParallelArrayParser(SimpleJsonContainerFactory.getInstance());
+        byte[] small = "[1, 2, 3]".getBytes(StandardCharsets.UTF_8);
+        assertEquals(3, defaultParser.parse(small, 0, small.length).asArray().size());
+    }
+
+    @Test
+    public void testMalformedInput() {
+        ParallelArrayParser parser = new ParallelArrayParser(SimpleJsonContainerFactory.getInstance());
+        parser.setSplitSize(1);
+        String[] invalid = {"[1, 2", "[1,, 2]", "[1, 2,]", "[, 1]", "[1, 2] 3", "[1, {\"a\": 1]]", "[1, }", "[1, {\"a\": }]"};
+        for (String json : invalid) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            assertThrows(RuntimeException.class, () -> parser.parse(bytes, 0, bytes.length), json);
+        }
+    }
+
+    @Test
+    public void testParsePathAcrossMappings(@TempDir Path tempDir) throws IOException {
+        String json = records(500);
+        Path file = tempDir.resolve("dump.json");
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+        for (ContainerFactory factory : new ContainerFactory[]{SimpleJsonContainerFactory.getInstance(), JacksonContainerFactory.getInstance()}) {
+            ParallelArrayParser parser = new ParallelArrayParser(factory);
+            parser.setSplitSize(256);
+            // 매핑 구간 경계에 걸친 요소는 복사해서 파싱합니다.
+            parser.setMappingSize(1000);
+            parser.setScanBlockSize(300);
+            assertTrue(ContainerValues.equals(factory.getParser().parse(json), parser.parse(file)), factory.getJsn4jModuleName());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.simple.SimpleObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * 큰 스냅샷 두 개를 비교하는 ContainerValues 의 equals / diff / intersection / merge 와
+ * ParallelContainerValues 를 병렬도 1, 2, 4, ... (가용 코어 수까지) 의 ForkJoinPool 로 실행한 시간을 비교합니다.
+ */
+public class ParallelContainerValuesPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int ITERATIONS = 5;
+    private static final int RECORD_COUNT = 50_000;
+
+    private static SimpleObject snapshot() {
+        SimpleObject root = new SimpleObject();
+        root.newAndPutObject("meta").put("version", 1L).put("source", "nightly");
+        // merge 는 오브젝트만 재귀하므로 레코드를 id 로 색인한 오브젝트에 둡니다.
+        ObjectContainer records = root.newAndPutObject("records");
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            ObjectContainer record = records.newAndPutObject("r" + i);
+            record.put("id", (long) i).put("name", "record-" + i).put("price", i * 0.25).put("active", i % 2 == 0);
+            record.newAndPutObject("address").put("city", "city-" + (i % 100)).put("zip", (long) (i % 10_000));
+            record.newAndPutArray("tags").put("t" + (i % 7)).put("t" + (i % 11));
+        }
+        return root;
+    }
+
+    @Test
+    public void scaling() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        SimpleObject a = snapshot();
+        // equals 는 처음 다른 곳에서 멈추므로 같은 사본과 비교합니다.
+        SimpleObject same = new SimpleObject(a.toString());
+        SimpleObject b = new SimpleObject(a.toString());
+        // 1000 건 중 1 건씩 바꿉니다.
+        ObjectContainer changed = b.getObject("records");
+        for (int i = 0; i < RECORD_COUNT; i += 1000) {
+            changed.getObject("r" + i).put("price", -1.0);
+        }
+        // 병합 대상. 하위 오브젝트는 공유하지 않으므로 반복해서 병합해도 같은 양을 처리합니다.
+        SimpleObject target = new SimpleObject(a.toString());
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("=== ParallelContainerValues Scaling ===");
+        System.out.printf("Snapshot: %d records, %.1f MB, %d cores%n", RECORD_COUNT, a.toString().length() / 1024.0 / 1024.0, cores);
+
+        double[] baseline = new double[4];
+        baseline[0] = measure("equals    sequential", () -> ContainerValues.equals(a, same), 0);
+        baseline[1] = measure("diff      sequential", () -> ContainerValues.diff(a, b), 0);
+        baseline[2] = measure("intersect sequential", () -> ContainerValues.intersection(a, b, CloneMode.SHARE), 0);
+        baseline[3] = measure("merge     sequential", () -> {
+            ContainerValues.merge(target, b, CloneMode.SHARE);
+            return target;
+        }, 0);
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelContainerValues parallel = new ParallelContainerValues(pool);
+                String suffix = " " + threads + " thread(s)";
+                measure("equals   " + suffix, () -> parallel.equals(a, same), baseline[0]);
+                measure("diff     " + suffix, () -> parallel.diff(a, b), baseline[1]);
+                measure("intersect" + suffix, () -> parallel.intersection(a, b, CloneMode.SHARE), baseline[2]);
+                measure("merge    " + suffix, () -> {
+                    parallel.merge(target, b, CloneMode.SHARE);
+                    return target;
+                }, baseline[3]);
+            } finally {
+                pool.shutdown();
+            }
+            if (threads == cores) {
+                break;
+            }
+        }
+    }
+
+    private static double measure(String name, Supplier<Object> task, double baselineMs) {
+        task.get();
+        System.gc();
+        long totalNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.get();
+            totalNanos += System.nanoTime() - start;
+        }
+        double avgMs = totalNanos / 1_000_000.0 / ITERATIONS;
+        String speedup = baselineMs > 0 ? String.format("  x%.2f", baselineMs / avgMs) : "";
+        System.out.printf("%-32s avg %8.2f ms%s%n", name, avgMs, speedup);
+        return avgMs;
+    }
+}
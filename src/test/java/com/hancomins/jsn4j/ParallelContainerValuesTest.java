@@ -0,0 +1,204 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.gson.GsonContainerFactory;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleArray;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleObject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelContainerValuesTest {
+
+    private static final ContainerFactory[] FACTORIES = {
+            SimpleJsonContainerFactory.getInstance(),
+            JacksonContainerFactory.getInstance(),
+            GsonContainerFactory.getInstance()
+    };
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private static ContainerValue randomValue(Random random, int depth) {
+        int kind = random.nextInt(depth > 3 ? 5 : 8);
+        switch (kind) {
+            case 0: return PrimitiveValue.NULL;
+            case 1: return PrimitiveValue.of(random.nextInt(4));
+            case 2: return PrimitiveValue.of("s" + random.nextInt(4));
+            case 3: return PrimitiveValue.of(random.nextBoolean());
+            case 4: return PrimitiveValue.of(random.nextInt(3) * 0.5);
+            case 5:
+            case 6:
+                SimpleObject object = new SimpleObject();
+                for (int i = 0, n = random.nextInt(7); i < n; i++) {
+                    object.put("k" + random.nextInt(10), randomValue(random, depth + 1));
+                }
+                return object;
+            default:
+                SimpleArray array = new SimpleArray();
+                for (int i = 0, n = random.nextInt(7); i < n; i++) {
+                    array.put(randomValue(random, depth + 1));
+                }
+                return array;
+        }
+    }
+
+    /**
+     * 일부 값을 바꾸거나 지우고, 키와 요소를 더합니다.
+     */
+    private static void mutate(Random random, ContainerValue value, int depth) {
+        if (value instanceof ObjectContainer) {
+            ObjectContainer object = (ObjectContainer) value;
+            for (String key : new ArrayList<>(object.keySet())) {
+                int action = random.nextInt(10);
+                if (action == 0) {
+                    object.remove(key);
+                } else if (action == 1) {
+                    object.put(key, randomValue(random, depth + 1));
+                } else {
+                    mutate(random, object.get(key), depth + 1);
+                }
+            }
+            if (random.nextInt(4) == 0) {
+                object.put("n" + random.nextInt(3), randomValue(random, depth + 1));
+            }
+        } else if (value instanceof ArrayContainer) {
+            ArrayContainer array = (ArrayContainer) value;
+            for (int i = 0; i < array.size(); i++) {
+                if (random.nextInt(10) == 0) {
+                    array.put(i, randomValue(random, depth + 1));
+                } else {
+                    mutate(random, array.get(i), depth + 1);
+                }
+            }
+            if (random.nextInt(4) == 0) {
+                array.put(randomValue(random, depth + 1));
+            } else if (random.nextInt(4) == 0 && array.size() > 0) {
+                array.remove(array.size() - 1);
+            }
+        }
+    }
+
+    private static List<String[]> pairs() {
+        Random random = new Random(25);
+        List<String[]> pairs = new ArrayList<>();
+        while (pairs.size() < 150) {
+            ContainerValue a = randomValue(random, 0);
+            if (a.isPrimitive()) {
+                continue;
+            }
+            String source = a.toString();
+            mutate(random, a, 0);
+            pairs.add(new String[]{source, a.toString()});
+            pairs.add(new String[]{source, source});
+        }
+        return pairs;
+    }
+
+    private static ContainerValue parse(ContainerFactory factory, String json) {
+        return factory.getParser().parse(json);
+    }
+
+    @Test
+    public void testSameResultsAsSequential() {
+        List<String[]> pairs = pairs();
+        for (ContainerFactory factory : FACTORIES) {
+            for (int threshold : new int[]{1, 3, ParallelContainerValues.DEFAULT_SPLIT_THRESHOLD}) {
+                ParallelContainerValues parallel = new ParallelContainerValues(pool);
+                parallel.setSplitThreshold(threshold);
+                for (String[] pair : pairs) {
+                    String name = factory.getJsn4jModuleName() + "/" + threshold + ": " + pair[0] + " -> " + pair[1];
+                    ContainerValue a = parse(factory, pair[0]);
+                    ContainerValue b = parse(factory, pair[1]);
+
+                    assertEquals(ContainerValues.equals(a, b), parallel.equals(a, b), name);
+                    assertEquals(pair[0].equals(pair[1]), parallel.equals(a, b), name);
+                    assertTrue(parallel.equals(a, parse(factory, pair[0])), name);
+
+                    for (CloneMode mode : CloneMode.values()) {
+                        assertEquals(ContainerValues.diff(a, b, mode).toString(), parallel.diff(a, b, mode).toString(), name);
+                        assertEquals(ContainerValues.diff(b, a, mode).toString(), parallel.diff(b, a, mode).toString(), name);
+                        assertEquals(ContainerValues.intersection(a, b, mode).toString(), parallel.intersection(a, b, mode).toString(), name);
+
+                        ContainerValue sequentialTarget = parse(factory, pair[0]);
+                        ContainerValue parallelTarget = parse(factory, pair[0]);
+                        if (a.getValueType() == b.getValueType()) {
+                            ContainerValues.merge(sequentialTarget, b, mode);
+                            parallel.merge(parallelTarget, b, mode);
+                            assertEquals(sequentialTarget.toString(), parallelTarget.toString(), name);
+                        } else {
+                            assertThrows(IllegalArgumentException.class, () -> parallel.merge(parallelTarget, b, mode), name);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWideNodesAreSplit() {
+        SimpleArray a = new SimpleArray();
+        SimpleObject wide = new SimpleObject();
+        for (int i = 0; i < 20_000; i++) {
+            a.newAndPutObject().put("id", (long) i).put("name", "item-" + i).newAndPutArray("tags").put(i % 3L).put(i % 5L);
+            wide.put("key" + i, (long) i);
+        }
+        a.newAndPutObject().put("wide", wide);
+        SimpleArray b = new SimpleArray(a.toString());
+        ParallelContainerValues parallel = new ParallelContainerValues(pool);
+        assertTrue(parallel.equals(a, b));
+        assertTrue(parallel.diff(a, b).asArray().isEmpty());
+
+        b.getObject(12_345).getArray("tags").put(1, 99L);
+        b.getObject(20_000).getObject("wide").put("key19999", "changed");
+        b.getObject(20_000).getObject("wide").put("extra", true);
+        assertFalse(parallel.equals(a, b));
+        assertFalse(parallel.equals(b, a));
+        assertEquals(ContainerValues.diff(a, b).toString(), parallel.diff(a, b).toString());
+        assertEquals(new SimpleArray("[{\"tags\":[0]},{\"wide\":{\"key19999\":19999}}]"), parallel.diff(a, b));
+        assertEquals(ContainerValues.intersection(a, b).toString(), parallel.intersection(a, b).toString());
+
+        SimpleArray sequentialTarget = new SimpleArray(a.toString());
+        SimpleArray parallelTarget = new SimpleArray(a.toString());
+        ContainerValues.merge(sequentialTarget, b);
+        parallel.merge(parallelTarget, b);
+        assertEquals(sequentialTarget, parallelTarget);
+        assertEquals(b, parallelTarget);
+    }
+
+    @Test
+    public void testSelfMergeAndErrors() {
+        ParallelContainerValues parallel = new ParallelContainerValues(pool);
+        parallel.setSplitThreshold(1);
+        SimpleObject object = new SimpleObject("{\"a\":{\"b\":[1,2]},\"c\":3}");
+        parallel.merge(object, object);
+        assertEquals(new SimpleObject("{\"a\":{\"b\":[1,2]},\"c\":3}"), object);
+
+        assertThrows(IllegalArgumentException.class, () -> parallel.merge(object, new SimpleArray()));
+        assertThrows(UnsupportedOperationException.class, () -> parallel.merge(PrimitiveValue.of(1), PrimitiveValue.of(2)));
+        assertThrows(IllegalArgumentException.class, () -> parallel.setSplitThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelContainerValues(null));
+
+        assertTrue(parallel.equals(PrimitiveValue.of("x"), PrimitiveValue.of("x")));
+        assertTrue(parallel.diff(PrimitiveValue.of(1), PrimitiveValue.of(1)).isNull());
+        assertTrue(parallel.intersection(null, object).isNull());
+        assertEquals(ParallelContainerValues.DEFAULT_SPLIT_THRESHOLD, new ParallelContainerValues().getSplitThreshold());
+    }
+}
@@ -0,0 +1,103 @@
+package com.hancomins.jsn4j;
+
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveValueOfTest {
+
+    private static void assertSameConversions(PrimitiveValue expected, PrimitiveValue actual) {
+        assertEquals(expected.raw(), actual.raw());
+        assertEquals(expected.raw().getClass(), actual.raw().getClass());
+        assertEquals(expected.isNull(), actual.isNull());
+        assertEquals(expected.asShort(), actual.asShort());
+        assertEquals(expected.asInt(), actual.asInt());
+        assertEquals(expected.asLong(), actual.asLong());
+        assertEquals(expected.asFloat(), actual.asFloat());
+        assertEquals(expected.asDouble(), actual.asDouble());
+        assertEquals(expected.asBoolean(), actual.asBoolean());
+        assertEquals(expected.asBooleanOr(true), actual.asBooleanOr(true));
+        assertEquals(expected.asString(), actual.asString());
+        assertEquals(expected.toString(), actual.toString());
+        assertArrayEquals(expected.asByteArray(), actual.asByteArray());
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void testSpecializedValuesMatchBoxedValues() {
+        for (int value : new int[] {0, 1, -1, 127, 1023, 1024, -129, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertSameConversions(new PrimitiveValue(value), PrimitiveValue.of(value));
+        }
+        for (long value : new long[] {0L, -128L, 1023L, 5_000_000_000L, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            assertSameConversions(new PrimitiveValue(value), PrimitiveValue.of(value));
+        }
+        for (double value : new double[] {0.0, -0.0, 1.5, -2.75, 1e300, Double.NaN}) {
+            assertSameConversions(new PrimitiveValue(value), PrimitiveValue.of(value));
+        }
+    }
+
+    @Test
+    public void testNullValuesEqualAcrossImplementations() {
+        assertTrue(ContainerValues.equals(new PrimitiveValue(null), new PrimitiveValue(null)));
+        assertTrue(ContainerValues.equals(PrimitiveValue.NULL, new PrimitiveValue(null)));
+        assertFalse(ContainerValues.equals(PrimitiveValue.of(1L), new PrimitiveValue(null)));
+
+        String json = "{\"a\":null,\"b\":[\"x\",true,1.5],\"c\":{\"d\":null}}";
+        ContainerValue jackson = JacksonContainerFactory.getInstance().getParser().parse(json);
+        ContainerValue simple = SimpleJsonContainerFactory.getInstance().getParser().parse(json);
+        assertEquals(ContainerValues.hashCode(jackson), ContainerValues.hashCode(simple));
+        assertTrue(ContainerValues.equals(jackson, simple));
+        assertTrue(ContainerValues.equals(simple, jackson));
+    }
+
+    @Test
+    public void testIntAndLongStayDistinct() {
+        // 박싱된 Integer 와 Long 이 서로 다르듯, 전용 구현도 타입을 구분합니다.
+        assertNotEquals(PrimitiveValue.of(1), PrimitiveValue.of(1L));
+        assertNotEquals(PrimitiveValue.of(1L), PrimitiveValue.of(1.0));
+        assertEquals(PrimitiveValue.of(1), new PrimitiveValue(1));
+        assertNotEquals(PrimitiveValue.of(0.0), PrimitiveValue.of(-0.0));
+        assertEquals(PrimitiveValue.of(Double.NaN), PrimitiveValue.of(Double.NaN));
+    }
+
+    @Test
+    public void testSharedInstances() {
+        assertSame(PrimitiveValue.TRUE, PrimitiveValue.of(true));
+        assertSame(PrimitiveValue.FALSE, PrimitiveValue.of(Boolean.FALSE));
+        assertSame(PrimitiveValue.NULL, PrimitiveValue.of((Object) null));
+        assertTrue(PrimitiveValue.NULL.isNull());
+        assertSame(PrimitiveValue.of(42), PrimitiveValue.of(42));
+        assertSame(PrimitiveValue.of(-128L), PrimitiveValue.of(Long.valueOf(-128L)));
+        assertNotSame(PrimitiveValue.of(100_000), PrimitiveValue.of(100_000));
+    }
+
+    @Test
+    public void testOfObjectKeepsOtherTypes() {
+        assertEquals("text", PrimitiveValue.of("text").raw());
+        assertEquals(Float.class, PrimitiveValue.of((Object) 1.5f).raw().getClass());
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveValue.of(new Object()));
+    }
+
+    @Test
+    public void testContainersUseSpecializedValues() {
+        ObjectContainer object = new SimpleJsonContainerFactory().newObject();
+        object.put("count", 7).put("big", 10_000_000_000L).put("ratio", 0.25).put("flag", true).putNull("none");
+
+        assertSame(PrimitiveValue.of(7), object.get("count"));
+        assertSame(PrimitiveValue.TRUE, object.get("flag"));
+        assertSame(PrimitiveValue.NULL, object.get("none"));
+        assertEquals(10_000_000_000L, object.get("big").raw());
+        assertEquals(0.25, ((PrimitiveValue) object.get("ratio")).asDouble());
+        assertTrue(object.toString().contains("\"big\":10000000000"));
+
+        ObjectContainer parsed = new SimpleJsonContainerFactory().getParser().parse(object.toString()).asObject();
+        assertEquals(0.25, parsed.get("ratio").raw());
+        assertTrue(parsed.get("none").isNull());
+        assertSame(PrimitiveValue.TRUE, parsed.get("flag"));
+        assertEquals(7L, parsed.get("count").raw());
+    }
+}
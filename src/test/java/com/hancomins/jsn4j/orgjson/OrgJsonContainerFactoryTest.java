@@ -7,6 +7,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.io.StringReader;
 import java.util.*;
 
@@ -351,4 +354,21 @@ class OrgJsonContainerFactoryTest {
         arr.clear();
         assertEquals(0, arr.size());
     }
+
+    @Test
+    void testWriteToStreamMatchesWrite() throws IOException {
+        ObjectContainer obj = factory.newObject();
+        obj.put("name", "한글 é");
+        obj.put("list", factory.newArray().put(1).put("two"));
+        ContainerWriter<?> writer = obj.getWriter();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writer.write(baos);
+        assertEquals(writer.write(), new String(baos.toByteArray(), StandardCharsets.UTF_8));
+
+        writer.enable("PRETTY_PRINT");
+        baos.reset();
+        writer.write(baos);
+        assertEquals(writer.write(), new String(baos.toByteArray(), StandardCharsets.UTF_8));
+    }
 }
\ No newline at end of file
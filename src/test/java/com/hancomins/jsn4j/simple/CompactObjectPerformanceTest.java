@@ -0,0 +1,140 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+/**
+ * CompactObject 와 SimpleObject 의 힙 사용량과 조회 속도 비교.
+ * 필드 수별로 다수의 객체를 만들어 GC 후 힙 증가량으로 객체당 바이트를 구하고,
+ * 같은 키 인스턴스와 내용만 같은 키 인스턴스로 get 을 반복하여 조회 처리량을 출력합니다.
+ */
+public class CompactObjectPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int OBJECT_COUNT = 100000;
+    private static final int LOOKUP_ROUNDS = 200;
+    private static final int[] FIELD_COUNTS = {2, 4, 8, 16, 32};
+
+    private static String[] keys(int fields) {
+        String[] keys = new String[fields];
+        for (int i = 0; i < fields; i++) {
+            keys[i] = "field" + i;
+        }
+        return keys;
+    }
+
+    private static PrimitiveValue[] values(int fields) {
+        PrimitiveValue[] values = new PrimitiveValue[fields];
+        for (int i = 0; i < fields; i++) {
+            values[i] = new PrimitiveValue(i);
+        }
+        return values;
+    }
+
+    private static ObjectContainer fill(ObjectContainer object, String[] keys, PrimitiveValue[] values) {
+        for (int i = 0; i < keys.length; i++) {
+            object.put(keys[i], values[i]);
+        }
+        return object;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double bytesPerObject(String[] keys, Supplier<ObjectContainer> factory) {
+        // 키와 값 객체는 모든 객체가 공유하므로 증가량은 컨테이너 자체의 크기입니다.
+        PrimitiveValue[] values = values(keys.length);
+        ObjectContainer[] objects = new ObjectContainer[OBJECT_COUNT];
+        long before = usedMemory();
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            objects[i] = fill(factory.get(), keys, values);
+        }
+        long after = usedMemory();
+        long checksum = 0;
+        for (ObjectContainer object : objects) {
+            checksum += object.size();
+        }
+        if (checksum != (long) OBJECT_COUNT * keys.length) {
+            throw new IllegalStateException("Unexpected size");
+        }
+        return (after - before) / (double) OBJECT_COUNT;
+    }
+
+    @Test
+    public void heapFootprint() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        System.out.println("=== ObjectContainer Heap Footprint (bytes per object, shared keys and values) ===");
+        for (int fields : FIELD_COUNTS) {
+            String[] keys = keys(fields);
+            double simple = bytesPerObject(keys, SimpleObject::new);
+            double compact = bytesPerObject(keys, CompactObject::new);
+            System.out.printf("%2d fields  SimpleObject %8.1f  CompactObject %8.1f  (x%.2f)%n",
+                    fields, simple, compact, simple / compact);
+        }
+    }
+
+    @Test
+    public void lookup() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        System.out.println("=== ObjectContainer Lookup (get per field, same and equal key instances) ===");
+        for (int fields : FIELD_COUNTS) {
+            String[] keys = keys(fields);
+            PrimitiveValue[] values = values(fields);
+            ObjectContainer[] simple = new ObjectContainer[1000];
+            ObjectContainer[] compact = new ObjectContainer[1000];
+            for (int i = 0; i < simple.length; i++) {
+                simple[i] = fill(new SimpleObject(), keys, values);
+                compact[i] = fill(new CompactObject(), keys, values);
+            }
+            String[] equalKeys = new String[fields];
+            for (int i = 0; i < fields; i++) {
+                equalKeys[i] = new String(keys[i]);
+                equalKeys[i].hashCode();
+            }
+            measureLookup(simple, keys);
+            measureLookup(compact, keys);
+            measureLookup(simple, equalKeys);
+            measureLookup(compact, equalKeys);
+            System.gc();
+            double simpleNs = measureLookup(simple, keys);
+            double compactNs = measureLookup(compact, keys);
+            double simpleEqualNs = measureLookup(simple, equalKeys);
+            double compactEqualNs = measureLookup(compact, equalKeys);
+            System.out.printf("%2d fields  same key   SimpleObject %6.2f ns  CompactObject %6.2f ns  (x%.2f)%n",
+                    fields, simpleNs, compactNs, simpleNs / compactNs);
+            System.out.printf("%2d fields  equal key  SimpleObject %6.2f ns  CompactObject %6.2f ns  (x%.2f)%n",
+                    fields, simpleEqualNs, compactEqualNs, simpleEqualNs / compactEqualNs);
+        }
+    }
+
+    private static double measureLookup(ObjectContainer[] objects, String[] keys) {
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+            for (ObjectContainer object : objects) {
+                for (String key : keys) {
+                    checksum += object.get(key) != null ? 1 : 0;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (checksum != (long) LOOKUP_ROUNDS * objects.length * keys.length) {
+            throw new IllegalStateException("Unexpected lookup result");
+        }
+        return elapsed / (double) checksum;
+    }
+}
@@ -0,0 +1,112 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactObjectTest {
+
+    private static List<String> keys(ObjectContainer object) {
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, ContainerValue> entry : object) {
+            keys.add(entry.getKey());
+        }
+        return keys;
+    }
+
+    @Test
+    public void testKeepsInsertionOrder() {
+        CompactObject object = new CompactObject();
+        object.put("z", 1L).put("a", 2L).put("m", 3L);
+        object.put("a", 20L);
+        assertEquals(3, object.size());
+        assertEquals(20L, object.get("a").raw());
+        assertEquals("[z, a, m]", keys(object).toString());
+        assertEquals("{\"z\":1,\"a\":20,\"m\":3}", object.toString());
+    }
+
+    @Test
+    public void testSwitchesToIndexAndBack() {
+        CompactObject object = new CompactObject();
+        int count = 100;
+        for (int i = 0; i < count; i++) {
+            object.put("key" + i, (long) i);
+        }
+        assertEquals(count, object.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals((long) i, object.get("key" + i).raw());
+        }
+        assertNull(object.get("missing"));
+
+        for (int i = 0; i < count; i += 2) {
+            assertEquals((long) i, object.remove("key" + i).raw());
+        }
+        assertEquals(count / 2, object.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 2 == 1, object.containsKey("key" + i));
+        }
+        assertEquals("key1", keys(object).get(0));
+        assertEquals("key99", keys(object).get(count / 2 - 1));
+
+        while (object.size() > 3) {
+            object.remove(keys(object).get(0));
+        }
+        assertEquals("[key95, key97, key99]", keys(object).toString());
+        assertTrue(object.has("key97"));
+    }
+
+    @Test
+    public void testIteratorAndViews() {
+        CompactObject object = new CompactObject();
+        object.put("a", 1L).put("b", 2L).put("c", 3L);
+
+        Iterator<Map.Entry<String, ContainerValue>> it = object.iterator();
+        it.next();
+        Map.Entry<String, ContainerValue> entry = it.next();
+        entry.setValue(new PrimitiveValue(22L));
+        it.remove();
+        assertFalse(object.has("b"));
+        assertEquals("c", it.next().getKey());
+        assertFalse(it.hasNext());
+
+        assertTrue(object.keySet().contains("a"));
+        assertTrue(object.keySet().remove("a"));
+        assertEquals(1, object.entrySet().size());
+        object.clear();
+        assertTrue(object.isEmpty());
+    }
+
+    @Test
+    public void testNullKeyAndEquality() {
+        CompactObject object = new CompactObject();
+        object.put(null, "n");
+        object.put("x", "y");
+        assertEquals("n", object.get(null).raw());
+
+        SimpleObject simple = new SimpleObject();
+        simple.put(null, "n");
+        simple.put("x", "y");
+        assertTrue(ContainerValues.equals(object, simple));
+        assertEquals("n", object.remove(null).raw());
+        assertEquals(1, object.size());
+    }
+
+    @Test
+    public void testParserBuildsCompactObjects() {
+        SimpleJsonParser parser = new SimpleJsonParser();
+        parser.setCompactObjects(true);
+        String json = "{\"b\": 1, \"a\": {\"y\": [1, {\"k\": true}], \"x\": null}, \"c\": \"s\"}";
+        ContainerValue value = parser.parse(json);
+        assertTrue(value instanceof CompactObject);
+        assertTrue(value.asObject().get("a") instanceof CompactObject);
+        assertEquals("[b, a, c]", keys(value.asObject()).toString());
+        assertTrue(ContainerValues.equals(new SimpleJsonParser().parse(json), value));
+        assertEquals("{\"b\":1,\"a\":{\"y\":[1,{\"k\":true}],\"x\":null},\"c\":\"s\"}", value.toString());
+    }
+}
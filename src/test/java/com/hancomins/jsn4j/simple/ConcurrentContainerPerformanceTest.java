@@ -0,0 +1,123 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 여러 스레드가 하나의 상태 문서를 읽고 쓰는 경합 상황에서,
+ * 전역 락으로 감싼 SimpleObject/SimpleArray 와 ConcurrentObject/ConcurrentArray 의 처리량을 비교합니다.
+ */
+public class ConcurrentContainerPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int KEYS = 1000;
+    private static final int OPERATIONS_PER_THREAD = 500_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+    private interface Workload {
+        void run(int thread, int i);
+    }
+
+    private static double run(int threads, Workload workload) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    workload.run(thread, i);
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long nanos = System.nanoTime() - begin;
+        executor.shutdown();
+        return (double) threads * OPERATIONS_PER_THREAD / (nanos / 1e9) / 1e6;
+    }
+
+    /**
+     * 9 번 읽고 1 번 쓰는 비율로 객체의 키에 접근합니다.
+     */
+    private static void objectWorkload(ObjectContainer state, Object lock, int thread, int i) {
+        String key = "key" + ((i * 31 + thread) % KEYS);
+        if (i % 10 == 0) {
+            if (lock != null) {
+                synchronized (lock) {
+                    state.put(key, i);
+                }
+            } else {
+                state.put(key, i);
+            }
+        } else if (lock != null) {
+            synchronized (lock) {
+                state.get(key);
+            }
+        } else {
+            state.get(key);
+        }
+    }
+
+    /**
+     * 1000 번 읽을 때 한 번 요소를 바꾸는, 읽기 위주의 배열 접근.
+     */
+    private static void arrayWorkload(ArrayContainer state, Object lock, int thread, int i) {
+        int index = (i * 31 + thread) % KEYS;
+        if (i % 1000 == 0) {
+            if (lock != null) {
+                synchronized (lock) {
+                    state.put(index, i);
+                }
+            } else {
+                state.put(index, i);
+            }
+        } else if (lock != null) {
+            synchronized (lock) {
+                state.get(index);
+            }
+        } else {
+            state.get(index);
+        }
+    }
+
+    @Test
+    public void contention() throws Exception {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        System.out.println("available processors: " + Runtime.getRuntime().availableProcessors());
+        SimpleObject lockedObject = new SimpleObject();
+        ConcurrentObject concurrentObject = new ConcurrentObject();
+        SimpleArray lockedArray = new SimpleArray();
+        ConcurrentArray concurrentArray = new ConcurrentArray();
+        for (int i = 0; i < KEYS; i++) {
+            lockedObject.put("key" + i, i);
+            concurrentObject.put("key" + i, i);
+            lockedArray.put(i);
+            concurrentArray.put(i);
+        }
+        for (int round = 0; round < 2; round++) {
+            System.out.println("=== round " + round + " (million ops/s) ===");
+            for (int threads : THREAD_COUNTS) {
+                double locked = run(threads, (t, i) -> objectWorkload(lockedObject, lockedObject, t, i));
+                double concurrent = run(threads, (t, i) -> objectWorkload(concurrentObject, null, t, i));
+                double lockedArr = run(threads, (t, i) -> arrayWorkload(lockedArray, lockedArray, t, i));
+                double concurrentArr = run(threads, (t, i) -> arrayWorkload(concurrentArray, null, t, i));
+                System.out.printf("%d threads | object: locked %6.2f, concurrent %6.2f | array: locked %6.2f, concurrent %6.2f%n",
+                        threads, locked, concurrent, lockedArr, concurrentArr);
+            }
+        }
+    }
+}
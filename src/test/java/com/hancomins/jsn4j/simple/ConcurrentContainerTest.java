@@ -0,0 +1,250 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentContainerTest {
+
+    @Test
+    public void testNestedContainersStayConcurrent() {
+        ConcurrentObject root = new ConcurrentObject();
+        root.newAndPutObject("a").newAndPutArray("list").newAndPutObject().put("x", 1L);
+        Map<String, Object> map = new HashMap<>();
+        map.put("inner", Arrays.asList(1L, 2L));
+        root.put("map", map);
+
+        assertTrue(root.get("a") instanceof ConcurrentObject);
+        assertTrue(root.getObject("a").get("list") instanceof ConcurrentArray);
+        assertTrue(root.getObject("a").getArray("list").get(0) instanceof ConcurrentObject);
+        assertTrue(root.get("map") instanceof ConcurrentObject);
+        assertTrue(root.getObject("map").get("inner") instanceof ConcurrentArray);
+        assertSame(ConcurrentContainerFactory.getInstance(), root.getContainerFactory());
+        assertEquals(new SimpleObject(root.toString()), root);
+    }
+
+    @Test
+    public void testForeignContainersAreCopied() {
+        String json = "{\"a\":{\"list\":[1,{\"b\":[true]}]},\"c\":[[{}]]}";
+        SimpleObject simple = new SimpleObject(json);
+        ObjectContainer jackson = JacksonContainerFactory.getInstance().getParser().parse(json).asObject();
+
+        ConcurrentObject root = new ConcurrentObject();
+        root.put("simple", (ContainerValue) simple);
+        root.put("jackson", (Object) jackson);
+        root.putIfAbsent("array", simple.getArray("c"));
+        Map<String, Object> map = new HashMap<>();
+        map.put("inner", simple.getObject("a"));
+        root.put("map", map);
+        ArrayContainer array = root.computeArrayIfAbsent("appended");
+        array.put(simple).put(0, jackson).insert(1, simple.getArray("c"));
+        array.putAll(new SimpleArray("[{\"x\":[1]},[2]]"));
+        array.putAll(Arrays.asList(simple.getObject("a"), 3L));
+
+        assertAllConcurrent(root);
+        assertEquals(simple, root.getObject("simple"));
+        assertNotSame(simple, root.get("simple"));
+        assertTrue(ContainerValues.equals(jackson, root.getObject("jackson")));
+
+        // 저장한 뒤 원본을 바꿔도 동시성 트리에는 반영되지 않습니다.
+        simple.getObject("a").put("changed", true);
+        assertFalse(root.getObject("simple").getObject("a").has("changed"));
+    }
+
+    private static void assertAllConcurrent(ContainerValue value) {
+        if (value instanceof ObjectContainer) {
+            assertInstanceOf(ConcurrentObject.class, value);
+            for (Map.Entry<String, ContainerValue> entry : (ObjectContainer) value) {
+                assertAllConcurrent(entry.getValue());
+            }
+        } else if (value instanceof ArrayContainer) {
+            assertInstanceOf(ConcurrentArray.class, value);
+            for (ContainerValue item : (ArrayContainer) value) {
+                assertAllConcurrent(item);
+            }
+        }
+    }
+
+    @Test
+    public void testParserBuildsConcurrentTree() {
+        String json = "{\"name\":\"state\",\"counts\":[1,2,3],\"nested\":{\"flags\":[true,false],\"empty\":[]},\"list\":[{\"id\":1},[2]]}";
+        ObjectContainer parsed = ConcurrentContainerFactory.getInstance().getParser().parse(json).asObject();
+
+        assertTrue(parsed instanceof ConcurrentObject);
+        assertTrue(parsed.get("counts") instanceof ConcurrentArray);
+        assertTrue(parsed.getObject("nested").get("flags") instanceof ConcurrentArray);
+        assertTrue(parsed.getObject("nested").get("empty") instanceof ConcurrentArray);
+        assertTrue(parsed.getArray("list").get(0) instanceof ConcurrentObject);
+        assertEquals(new SimpleObject(json), parsed);
+
+        ObjectContainer cloned = ContainerValues.cloneContainer(parsed).asObject();
+        assertTrue(cloned instanceof ConcurrentObject);
+        assertEquals(parsed, cloned);
+    }
+
+    @Test
+    public void testArrayOperations() {
+        ConcurrentArray array = new ConcurrentArray();
+        array.put(1).put("two");
+        array.put(4, true);
+        assertEquals(5, array.size());
+        assertNull(array.get(2));
+        array.put(0, 10);
+        assertEquals(10, array.getInt(0));
+        assertEquals("two", array.remove(1).raw());
+        assertNull(array.remove(10));
+        array.putAll(Arrays.asList(5, 6));
+        assertEquals(6, array.size());
+        array.insert(1, "one").insert(7, "end");
+        assertEquals("[10,\"one\",null,null,true,5,6,\"end\"]", array.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> array.insert(9, 1));
+        assertEquals("end", array.remove(7).raw());
+        assertEquals("one", array.remove(1).raw());
+
+        Iterator<ContainerValue> snapshot = array.iterator();
+        array.clear();
+        int count = 0;
+        while (snapshot.hasNext()) {
+            snapshot.next();
+            ++count;
+        }
+        assertEquals(6, count);
+        assertTrue(array.isEmpty());
+    }
+
+    @Test
+    public void testNullKeyIsRejected() {
+        ConcurrentObject object = new ConcurrentObject();
+        assertThrows(IllegalArgumentException.class, () -> object.put(null, 1));
+        assertNull(object.get(null));
+        assertFalse(object.has(null));
+        object.put("value", (Object) null);
+        assertTrue(object.get("value").isNull());
+    }
+
+    @Test
+    public void testConcurrentWritersAndReaders() throws Exception {
+        ConcurrentObject state = new ConcurrentObject();
+        int threads = 8;
+        int perThread = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            futures.add(executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ObjectContainer session = state.computeObjectIfAbsent("session" + (i % 50));
+                        session.put("t" + thread + "-" + i, i);
+                        state.computeArrayIfAbsent("log").put(thread);
+                        if (i % 100 == 0) {
+                            // 쓰기가 진행되는 동안의 순회와 직렬화도 예외 없이 끝나야 합니다.
+                            for (Map.Entry<String, ContainerValue> entry : state) {
+                                assertNotNull(entry.getValue());
+                            }
+                            assertNotNull(state.toString());
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+
+        assertEquals(51, state.size());
+        int members = 0;
+        for (int s = 0; s < 50; s++) {
+            members += state.getObject("session" + s).size();
+        }
+        assertEquals(threads * perThread, members);
+        assertEquals(threads * perThread, state.getArray("log").size());
+    }
+
+    @Test
+    public void testIndexedPutsAndAppendsRunConcurrently() throws Exception {
+        ConcurrentArray array = new ConcurrentArray();
+        int appenders = 4;
+        int perThread = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(appenders + 1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Integer> indexes = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> {
+            try {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    // 끝보다 뒤의 인덱스에 써서 매번 null 로 채우는 경로를 지나게 합니다.
+                    int index = array.size() + 1 + i % 3;
+                    array.put(index, "at" + index);
+                    indexes.add(index);
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+            return null;
+        }));
+        for (int t = 0; t < appenders; t++) {
+            final int thread = t;
+            futures.add(executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        switch (i % 4) {
+                            case 0: array.put((long) thread); break;
+                            case 1: array.putAll(Arrays.asList((long) thread, (long) thread)); break;
+                            case 2: array.newAndPutObject(); break;
+                            default: array.newAndPutArray(); break;
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+
+        // 덧붙이기가 크기 확인과 null 채우기 사이에 끼어들면 값이 요청한 인덱스에서 밀려납니다.
+        for (int i = 0; i < array.size(); i++) {
+            ContainerValue value = array.get(i);
+            if (value != null && value.raw() instanceof String) {
+                assertEquals("at" + i, value.raw());
+            }
+        }
+        for (int index : indexes) {
+            assertEquals("at" + index, array.getString(index));
+        }
+    }
+
+    @Test
+    public void testRegisteredByModuleName() {
+        Jsn4j.registerContainerFactory(ConcurrentContainerFactory.getInstance());
+        assertSame(ConcurrentContainerFactory.getInstance(), Jsn4j.getContainerFactoryByName("concurrent"));
+    }
+}
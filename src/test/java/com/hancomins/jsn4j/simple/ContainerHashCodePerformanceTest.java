@@ -0,0 +1,122 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 거의 같은 이벤트가 반복해서 들어오는 스트림을 HashSet 으로 중복 제거하면서,
+ * 메모된 hashCode 와 매번 트리 전체를 계산하는 hashCode 의 처리 시간을 비교합니다.
+ */
+public class ContainerHashCodePerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int DISTINCT_EVENTS = 2000;
+    private static final int STREAM_LENGTH = 200_000;
+
+    /**
+     * 매번 ContainerValues.hashCode 로 트리 전체를 계산하는 키. 메모가 없던 때의 비용을 재현합니다.
+     */
+    private static final class UncachedKey {
+        private final ContainerValue value;
+
+        UncachedKey(ContainerValue value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return ContainerValues.hashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof UncachedKey && ContainerValues.equals(value, ((UncachedKey) o).value);
+        }
+    }
+
+    private static SimpleObject event(int id) {
+        SimpleObject event = new SimpleObject();
+        event.put("type", "metric");
+        event.put("source", "host-" + (id / 2 % 10));
+        ObjectContainer payload = event.newAndPutObject("payload");
+        for (int f = 0; f < 40; f++) {
+            payload.put("field" + f, "value-" + f);
+        }
+        ArrayContainer tags = payload.newAndPutArray("tags");
+        for (int t = 0; t < 10; t++) {
+            tags.put("tag" + t);
+        }
+        // 이벤트마다 다른 값은 깊은 곳의 하나뿐입니다.
+        payload.newAndPutObject("detail").put("seq", (long) (id / 2));
+        return event;
+    }
+
+    private static List<SimpleObject> stream() {
+        List<SimpleObject> distinct = new ArrayList<>(DISTINCT_EVENTS);
+        for (int i = 0; i < DISTINCT_EVENTS; i++) {
+            distinct.add(event(i));
+        }
+        Random random = new Random(42);
+        List<SimpleObject> stream = new ArrayList<>(STREAM_LENGTH);
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            stream.add(distinct.get(random.nextInt(DISTINCT_EVENTS)));
+        }
+        return stream;
+    }
+
+    @Test
+    public void deduplicateEvents() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        List<SimpleObject> stream = stream();
+        System.out.println("=== Deduplicate " + STREAM_LENGTH + " events (" + DISTINCT_EVENTS + " instances, "
+                + DISTINCT_EVENTS / 2 + " distinct values) ===");
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            Set<UncachedKey> uncached = new HashSet<>();
+            for (SimpleObject event : stream) {
+                uncached.add(new UncachedKey(event));
+            }
+            long uncachedNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Set<ContainerValue> cached = new HashSet<>();
+            for (SimpleObject event : stream) {
+                cached.add(event);
+            }
+            long cachedNanos = System.nanoTime() - start;
+
+            System.out.printf("uncached hashCode: %8.2f ns/event (%d), cached hashCode: %8.2f ns/event (%d)%n",
+                    (double) uncachedNanos / STREAM_LENGTH, uncached.size(),
+                    (double) cachedNanos / STREAM_LENGTH, cached.size());
+        }
+
+        SimpleObject a = event(0);
+        SimpleObject b = event(2);
+        for (int round = 0; round < 6; round++) {
+            if (round == 3) {
+                a.hashCode();
+                b.hashCode();
+            }
+            int iterations = 100_000;
+            long start = System.nanoTime();
+            int unequal = 0;
+            for (int i = 0; i < iterations; i++) {
+                if (!ContainerValues.equals(a, b)) {
+                    unequal++;
+                }
+            }
+            System.out.printf("equals of near-identical events, %-8s hashes: %8.2f ns/op (%d)%n",
+                    a.isHashCodeCached() ? "cached" : "uncached", (double) (System.nanoTime() - start) / iterations, unequal);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContainerHashCodeTest {
+
+    private static final String JSON = "{\"name\":\"event\",\"user\":{\"id\":7,\"roles\":[\"admin\",\"dev\"]},"
+            + "\"values\":[1,2.5,true,null,{\"k\":\"v\"}]}";
+
+    private static ObjectContainer jackson(ObjectContainer source) {
+        // 파서가 만드는 정수 타입이 구현체마다 다르므로 값을 그대로 옮겨 비교합니다.
+        ObjectContainer jackson = JacksonContainerFactory.getInstance().newObject();
+        ContainerValues.merge(jackson, source);
+        return jackson;
+    }
+
+    @Test
+    public void testEqualTreesHaveEqualHashesAcrossImplementations() {
+        SimpleObject simple = new SimpleObject(JSON);
+        ObjectContainer jackson = jackson(simple);
+        CompactObject compact = new CompactObject();
+        ContainerValues.merge(compact, simple);
+        PersistentObject persistent = simple.freeze();
+
+        assertEquals(simple, jackson);
+        assertEquals(simple, compact);
+        assertEquals(simple, persistent);
+        int expected = ContainerValues.hashCode(simple);
+        assertEquals(expected, simple.hashCode());
+        assertEquals(expected, jackson.hashCode());
+        assertEquals(expected, compact.hashCode());
+        assertEquals(expected, persistent.hashCode());
+        assertEquals(ContainerValues.hashCode(new SimpleArray("[1,[2],{}]")), new LongArray(new long[0]).put(1L).put(new SimpleArray("[2]")).put(new SimpleObject()).hashCode());
+    }
+
+    @Test
+    public void testMemoIsInvalidatedByNestedChanges() {
+        SimpleObject root = new SimpleObject(JSON);
+        int before = root.hashCode();
+        assertTrue(root.isHashCodeCached());
+
+        ArrayContainer roles = root.getObject("user").getArray("roles");
+        roles.put("ops");
+        assertFalse(root.isHashCodeCached());
+        assertNotEquals(before, root.hashCode());
+        assertEquals(ContainerValues.hashCode(new SimpleObject(root.toString())), root.hashCode());
+
+        roles.remove(2);
+        assertEquals(before, root.hashCode());
+
+        root.getArray("values").getObject(4).put("k", "w");
+        assertNotEquals(before, root.hashCode());
+        root.getArray("values").getObject(4).put("k", "v");
+        assertEquals(before, root.hashCode());
+    }
+
+    @Test
+    public void testMemoIsInvalidatedByViews() {
+        SimpleObject root = new SimpleObject(JSON);
+        SimpleObject user = (SimpleObject) root.getObject("user");
+        int before = root.hashCode();
+
+        for (Map.Entry<String, ContainerValue> entry : user) {
+            if (entry.getKey().equals("id")) {
+                entry.setValue(PrimitiveValue.of(8L));
+            }
+        }
+        assertNotEquals(before, root.hashCode());
+        assertEquals(8, root.getObject("user").getInt("id"));
+
+        root.hashCode();
+        user.keySet().remove("id");
+        assertFalse(root.isHashCodeCached());
+        assertFalse(root.getObject("user").has("id"));
+
+        root.hashCode();
+        Iterator<ContainerValue> iterator = user.getArray("roles").iterator();
+        iterator.next();
+        iterator.remove();
+        assertFalse(root.isHashCodeCached());
+        assertEquals(ContainerValues.hashCode(new SimpleObject(root.toString())), root.hashCode());
+
+        // keySet 의 반복자는 엔트리를 감싸지 않고 맵을 직접 순회하지만 제거는 같은 방식으로 반영합니다.
+        ArrayContainer roles = user.getArray("roles");
+        root.hashCode();
+        Iterator<String> keys = user.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().equals("roles")) {
+                keys.remove();
+            }
+        }
+        assertFalse(root.isHashCodeCached());
+        assertFalse(user.has("roles"));
+        int removed = root.hashCode();
+        roles.put("detached");
+        assertTrue(root.isHashCodeCached());
+        assertEquals(removed, root.hashCode());
+        assertEquals(ContainerValues.hashCode(new SimpleObject(root.toString())), root.hashCode());
+    }
+
+    @Test
+    public void testSharedChildIsNotMemoized() {
+        SimpleObject child = new SimpleObject();
+        child.put("a", 1L);
+        SimpleObject first = new SimpleObject();
+        SimpleObject second = new SimpleObject();
+        first.put("child", child);
+        first.hashCode();
+        assertTrue(first.isHashCodeCached());
+        second.put("child", child);
+        assertFalse(first.isHashCodeCached());
+
+        int firstHash = first.hashCode();
+        int secondHash = second.hashCode();
+        child.put("a", 2L);
+        assertNotEquals(firstHash, first.hashCode());
+        assertNotEquals(secondHash, second.hashCode());
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void testPrimitiveArrayAndPersistentChildren() {
+        SimpleObject root = new SimpleObject();
+        LongArray numbers = new LongArray(new long[] {1, 2, 3});
+        root.put("numbers", numbers);
+        root.put("frozen", new SimpleObject("{\"x\":1}").freeze());
+        int before = root.hashCode();
+        assertTrue(root.isHashCodeCached());
+
+        numbers.put(4L);
+        assertFalse(root.isHashCodeCached());
+        assertNotEquals(before, root.hashCode());
+
+        // 변경을 추적하지 않는 하위 컨테이너가 있으면 메모하지 않습니다.
+        root.put("concurrent", new ConcurrentObject());
+        root.hashCode();
+        assertFalse(root.isHashCodeCached());
+    }
+
+    @Test
+    public void testRemoveThroughIteratorAfterFallback() {
+        SimpleObject root = new SimpleObject();
+        LongArray numbers = new LongArray(new long[] {1, 2});
+        root.put("numbers", numbers);
+        // 다른 타입의 값을 넣으면 SimpleArray 로 전환됩니다.
+        numbers.put("x");
+        assertFalse(numbers.isPrimitiveBacked());
+        root.hashCode();
+        assertTrue(numbers.isHashCodeCached());
+        assertTrue(root.isHashCodeCached());
+
+        Iterator<ContainerValue> iterator = numbers.iterator();
+        iterator.next();
+        iterator.remove();
+        assertFalse(numbers.isHashCodeCached());
+        assertFalse(root.isHashCodeCached());
+
+        SimpleArray expected = new SimpleArray("[2,\"x\"]");
+        assertEquals(ContainerValues.hashCode(expected), numbers.hashCode());
+        assertEquals(expected, numbers);
+        assertEquals(new SimpleObject("{\"numbers\":[2,\"x\"]}"), root);
+    }
+
+    @Test
+    public void testHashSetDeduplicatesContainers() {
+        Set<ContainerValue> set = new HashSet<>();
+        set.add(new SimpleObject(JSON));
+        set.add(jackson(new SimpleObject(JSON)));
+        set.add(new SimpleObject(JSON).freeze());
+        assertEquals(1, set.size());
+
+        SimpleObject changed = new SimpleObject(JSON);
+        changed.getObject("user").put("id", 8L);
+        set.add(changed);
+        assertEquals(2, set.size());
+        assertTrue(set.contains(new SimpleObject(JSON)));
+    }
+
+    @Test
+    public void testEqualsStillComparesWhenHashesAreCached() {
+        SimpleObject a = new SimpleObject(JSON);
+        SimpleObject b = new SimpleObject(JSON);
+        a.hashCode();
+        b.hashCode();
+        assertEquals(a, b);
+
+        b.getArray("values").put(0, 2L);
+        b.hashCode();
+        assertTrue(a.isHashCodeCached() && b.isHashCodeCached());
+        assertNotEquals(a, b);
+        assertFalse(ContainerValues.equals(a, b));
+    }
+}
@@ -0,0 +1,96 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 큰 문서를 복제하여 일부만 고치는 작업과 concat 을 CloneMode.DEEP 과 CloneMode.COPY_ON_WRITE 로 수행하여
+ * 시간과 할당량을 비교합니다.
+ */
+public class CopyOnWriteContainerPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int SECTIONS = 200;
+    private static final int FIELDS_PER_SECTION = 50;
+    private static final int ITERATIONS = 2000;
+
+    private static SimpleObject document(String prefix) {
+        SimpleObject root = new SimpleObject();
+        for (int s = 0; s < SECTIONS; s++) {
+            ObjectContainer section = root.newAndPutObject(prefix + s);
+            for (int f = 0; f < FIELDS_PER_SECTION; f++) {
+                section.put("field" + f, "value-" + s + "-" + f);
+            }
+            ArrayContainer list = section.newAndPutArray("list");
+            for (int i = 0; i < 20; i++) {
+                list.put(i);
+            }
+        }
+        return root;
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static long cloneAndModify(SimpleObject template, CloneMode mode) {
+        long checksum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            ObjectContainer copy = ContainerValues.cloneContainer(template, mode).asObject();
+            copy.getObject("section" + (i % SECTIONS)).put("field1", i);
+            copy.getObject("section7").getArray("list").put(i);
+            copy.put("requestId", i);
+            checksum += copy.size();
+        }
+        return checksum;
+    }
+
+    private static long concat(SimpleObject a, SimpleObject b, CloneMode mode) {
+        long checksum = 0;
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            checksum += ContainerValues.concat(a, b, mode).asObject().size();
+        }
+        return checksum;
+    }
+
+    @Test
+    public void cloneModes() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        SimpleObject template = document("section");
+        SimpleObject other = document("other");
+        System.out.println("=== Clone template (" + SECTIONS * (FIELDS_PER_SECTION + 21) + " leaves) and change 3 places ===");
+        for (int round = 0; round < 3; round++) {
+            for (CloneMode mode : CloneMode.values()) {
+                long allocated = allocatedBytes();
+                long start = System.nanoTime();
+                long checksum = cloneAndModify(template, mode);
+                long nanos = System.nanoTime() - start;
+                long bytes = allocatedBytes() - allocated;
+                System.out.printf("cloneContainer %-13s: %8.2f us/op, %9d bytes/op (%d)%n",
+                        mode, nanos / 1e3 / ITERATIONS, bytes / ITERATIONS, checksum);
+            }
+            System.gc();
+        }
+        System.out.println("=== concat two documents ===");
+        for (int round = 0; round < 3; round++) {
+            for (CloneMode mode : CloneMode.values()) {
+                long allocated = allocatedBytes();
+                long start = System.nanoTime();
+                long checksum = concat(template, other, mode);
+                long nanos = System.nanoTime() - start;
+                long bytes = allocatedBytes() - allocated;
+                System.out.printf("concat %-13s: %8.2f us/op, %9d bytes/op (%d)%n",
+                        mode, nanos / 1e3 / (ITERATIONS / 10), bytes / (ITERATIONS / 10), checksum);
+            }
+            System.gc();
+        }
+    }
+}
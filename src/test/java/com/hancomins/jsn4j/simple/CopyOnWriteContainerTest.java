@@ -0,0 +1,194 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import com.hancomins.jsn4j.jackson.JacksonContainerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CopyOnWriteContainerTest {
+
+    private static SimpleObject sample() {
+        return new SimpleObject("{\"name\":\"server\",\"config\":{\"cpu\":4,\"tags\":[\"a\",\"b\"],\"limits\":{\"mem\":512}},"
+                + "\"items\":[{\"id\":1},{\"id\":2},3]}");
+    }
+
+    @Test
+    public void testCloneReadsThroughWithoutCopying() {
+        SimpleObject source = sample();
+        ObjectContainer clone = ContainerValues.cloneContainer(source, CloneMode.COPY_ON_WRITE).asObject();
+
+        assertTrue(clone instanceof CopyOnWriteObject);
+        assertEquals(source, clone);
+        assertEquals(clone, source);
+        assertSame(source.get("name"), clone.get("name"));
+        assertSame(clone.getObject("config"), clone.getObject("config"));
+        assertTrue(((CopyOnWriteObject) clone).isPristine());
+        assertEquals(source.toString().length(), clone.toString().length());
+    }
+
+    @Test
+    public void testNestedWriteCopiesOnlyItsPath() {
+        SimpleObject source = sample();
+        String before = source.toString();
+        ObjectContainer clone = ContainerValues.cloneContainer(source, CloneMode.COPY_ON_WRITE).asObject();
+
+        clone.getObject("config").getObject("limits").put("mem", 1024L);
+        clone.getObject("config").getArray("tags").put("c");
+        clone.getArray("items").getObject(0).remove("id");
+
+        assertEquals(before, source.toString());
+        assertEquals(512, source.getObject("config").getObject("limits").getInt("mem"));
+        assertEquals(1024, clone.getObject("config").getObject("limits").getInt("mem"));
+        assertEquals(3, clone.getObject("config").getArray("tags").size());
+        assertEquals(2, source.getObject("config").getArray("tags").size());
+        assertTrue(clone.getArray("items").getObject(0).isEmpty());
+        assertEquals(1, source.getArray("items").getObject(0).getInt("id"));
+
+        // 쓰기가 없었던 단계는 계속 원본을 읽습니다.
+        assertTrue(((CopyOnWriteObject) clone).isPristine());
+        assertFalse(((CopyOnWriteObject) clone.getObject("config").getObject("limits")).isPristine());
+        assertTrue(((CopyOnWriteArray) clone.getArray("items")).isPristine());
+        assertSame(source.get("name"), clone.get("name"));
+    }
+
+    @Test
+    public void testTopLevelWritesKeepNestedChanges() {
+        SimpleObject source = sample();
+        ObjectContainer clone = ContainerValues.cloneContainer(source, CloneMode.COPY_ON_WRITE).asObject();
+        clone.getObject("config").put("cpu", 8L);
+        clone.put("name", "copy").remove("items");
+
+        assertEquals(8, clone.getObject("config").getInt("cpu"));
+        assertEquals("copy", clone.getString("name"));
+        assertFalse(clone.has("items"));
+        assertEquals(2, clone.size());
+        assertEquals(4, source.getObject("config").getInt("cpu"));
+        assertTrue(source.has("items"));
+        assertEquals(clone, new SimpleObject(clone.toString()));
+    }
+
+    @Test
+    public void testIteratorWritesThrough() {
+        SimpleObject source = sample();
+        ObjectContainer clone = ContainerValues.cloneContainer(source, CloneMode.COPY_ON_WRITE).asObject();
+        Iterator<Map.Entry<String, ContainerValue>> iterator = clone.iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, ContainerValue> entry = iterator.next();
+            if (entry.getKey().equals("name")) {
+                iterator.remove();
+            } else if (entry.getValue().isObject()) {
+                entry.getValue().asObject().put("seen", true);
+            }
+        }
+        assertFalse(clone.has("name"));
+        assertTrue(clone.getObject("config").getBoolean("seen"));
+        assertTrue(source.has("name"));
+        assertFalse(source.getObject("config").has("seen"));
+
+        ArrayContainer items = clone.getArray("items");
+        Iterator<ContainerValue> arrayIterator = items.iterator();
+        arrayIterator.next();
+        arrayIterator.remove();
+        assertEquals(2, items.size());
+        assertEquals(2, items.getObject(0).getInt("id"));
+        assertEquals(3, source.getArray("items").size());
+    }
+
+    @Test
+    public void testPutCopyModes() {
+        SimpleObject source = sample();
+        SimpleObject target = new SimpleObject();
+        ObjectContainer deep = target.putCopy("deep", source.getObject("config"), CloneMode.DEEP);
+        ObjectContainer shared = target.putCopy("shared", source.getObject("config"), CloneMode.COPY_ON_WRITE);
+        ArrayContainer array = target.newAndPutArray("list");
+        ArrayContainer tags = array.putCopy(source.getObject("config").getArray("tags"), CloneMode.COPY_ON_WRITE);
+
+        assertTrue(deep instanceof SimpleObject);
+        assertTrue(shared instanceof CopyOnWriteObject);
+        assertSame(shared, target.get("shared"));
+        assertSame(tags, array.get(0));
+        shared.put("cpu", 1L);
+        tags.put("z");
+        assertEquals(4, source.getObject("config").getInt("cpu"));
+        assertEquals(2, source.getObject("config").getArray("tags").size());
+        assertEquals(source.getObject("config"), deep);
+
+        // 다른 구현체에 넣으면 그 구현체의 노드로 변환됩니다.
+        ObjectContainer jackson = JacksonContainerFactory.getInstance().newObject();
+        ObjectContainer converted = jackson.putCopy("config", source.getObject("config"), CloneMode.COPY_ON_WRITE);
+        converted.put("cpu", 2L);
+        assertEquals(2, jackson.getObject("config").getInt("cpu"));
+        assertEquals(4, source.getObject("config").getInt("cpu"));
+    }
+
+    @Test
+    public void testOperationsMatchDeepMode() {
+        SimpleObject a = sample();
+        SimpleObject b = new SimpleObject("{\"name\":\"server\",\"config\":{\"cpu\":2,\"tags\":[\"a\",\"x\"]},\"items\":[{\"id\":1}],\"extra\":[1,2]}");
+        String beforeA = a.toString();
+        String beforeB = b.toString();
+
+        assertEquals(ContainerValues.concat(a, b), ContainerValues.concat(a, b, CloneMode.COPY_ON_WRITE));
+        assertEquals(ContainerValues.diff(a, b), ContainerValues.diff(a, b, CloneMode.COPY_ON_WRITE));
+        assertEquals(ContainerValues.diff(b, a), ContainerValues.diff(b, a, CloneMode.COPY_ON_WRITE));
+        assertEquals(ContainerValues.intersection(a, b), ContainerValues.intersection(a, b, CloneMode.COPY_ON_WRITE));
+        assertEquals(ContainerValues.concat(a, a), ContainerValues.concat(a, a, CloneMode.COPY_ON_WRITE));
+
+        SimpleObject deepTarget = new SimpleObject(b.toString());
+        SimpleObject cowTarget = new SimpleObject(b.toString());
+        ContainerValues.merge(deepTarget, a);
+        ContainerValues.merge(cowTarget, a, CloneMode.COPY_ON_WRITE);
+        assertEquals(deepTarget, cowTarget);
+
+        // 결과를 수정해도 입력은 바뀌지 않습니다.
+        ObjectContainer concat = ContainerValues.concat(a, b, CloneMode.COPY_ON_WRITE).asObject();
+        concat.getObject("config").getObject("limits").put("mem", 0L);
+        concat.getArray("extra").put(3);
+        cowTarget.getObject("config").put("cpu", 0L);
+        assertEquals(beforeA, a.toString());
+        assertEquals(beforeB, b.toString());
+    }
+
+    @Test
+    public void testSelfMergeKeepsContent() {
+        SimpleObject object = sample();
+        SimpleObject expected = sample();
+        ContainerValues.merge(object, object);
+        assertEquals(expected, object);
+
+        SimpleArray array = new SimpleArray("[1,{\"a\":[2,3]},[4]]");
+        ContainerValues.merge(array, array);
+        assertEquals(new SimpleArray("[1,{\"a\":[2,3]},[4]]"), array);
+    }
+
+    @Test
+    public void testWrapsPersistentAndPrimitiveArrays() {
+        PersistentObject frozen = sample().freeze();
+        ObjectContainer clone = ContainerValues.cloneContainer(frozen, CloneMode.COPY_ON_WRITE).asObject();
+        clone.getObject("config").put("cpu", 16L);
+        assertEquals(16, clone.getObject("config").getInt("cpu"));
+        assertEquals(4, frozen.getObject("config").getInt("cpu"));
+
+        LongArray numbers = new LongArray(new long[] {1, 2, 3});
+        ArrayContainer numbersClone = ContainerValues.cloneContainer(numbers, CloneMode.COPY_ON_WRITE).asArray();
+        assertEquals(2L, numbersClone.getLong(1));
+        numbersClone.put(1, "two");
+        assertEquals("two", numbersClone.getString(1));
+        assertTrue(numbers.isPrimitiveBacked());
+        assertEquals(2L, numbers.getLong(1));
+    }
+
+    @Test
+    public void testFactoriesWithoutOverlayCopyDeeply() {
+        ObjectContainer jackson = JacksonContainerFactory.getInstance().getParser().parse("{\"a\":{\"b\":1}}").asObject();
+        ObjectContainer clone = ContainerValues.cloneContainer(jackson, CloneMode.COPY_ON_WRITE).asObject();
+        clone.getObject("a").put("b", 2);
+        assertEquals(1, jackson.getObject("a").getInt("b"));
+        assertEquals(2, clone.getObject("a").getInt("b"));
+        assertSame(PrimitiveValue.TRUE, ContainerValues.cloneContainer(PrimitiveValue.TRUE, CloneMode.COPY_ON_WRITE));
+    }
+}
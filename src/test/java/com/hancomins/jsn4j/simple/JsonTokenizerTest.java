@@ -0,0 +1,70 @@
+package com.hancomins.jsn4j.simple;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonTokenizerTest {
+
+    @Test
+    public void testTokensAcrossBufferBoundaries() {
+        // 버퍼 크기를 아주 작게 잡아 모든 토큰이 refill 경계에 걸치도록 합니다.
+        String json = "{\"longKeyName\": \"value with \\\"escape\\\" and \\u0048\\u0069\", \"n\": -12345.678e-2, \"big\": 1234567890}";
+        JsonTokenizer tokenizer = new JsonTokenizer(new StringReader(json), 3);
+        tokenizer.expect('{');
+        assertEquals("longKeyName", tokenizer.readString());
+        tokenizer.skipWhitespace();
+        tokenizer.expect(':');
+        tokenizer.skipWhitespace();
+        assertEquals("value with \"escape\" and Hi", tokenizer.readString());
+        tokenizer.expect(',');
+        tokenizer.skipWhitespace();
+        assertEquals("n", tokenizer.readString());
+        tokenizer.expect(':');
+        tokenizer.skipWhitespace();
+        assertEquals(-12345.678e-2, tokenizer.readNumber().doubleValue(), 0.0);
+        tokenizer.expect(',');
+        tokenizer.skipWhitespace();
+        assertEquals("big", tokenizer.readString());
+        tokenizer.expect(':');
+        tokenizer.skipWhitespace();
+        assertEquals(1234567890L, tokenizer.readNumber().longValue());
+        tokenizer.expect('}');
+        assertTrue(tokenizer.isEOF());
+    }
+
+    @Test
+    public void testSmallBufferParsesSameAsString() {
+        String json = SimpleJsonParserPerformanceTest.largeDocument(50);
+        SimpleJsonParser parser = new SimpleJsonParser();
+        assertEquals(parser.parse(json), parser.parse(new StringReader(json)));
+    }
+
+    @Test
+    public void testPositionInfoIsComputedOnError() {
+        String json = "{\n  \"key1\": \"value\",\n  \"key2\": invalid\n}";
+        JsonTokenizer tokenizer = new JsonTokenizer(new StringReader(json), 4);
+        tokenizer.expect('{');
+        tokenizer.skipWhitespace();
+        tokenizer.readString();
+        tokenizer.expect(':');
+        tokenizer.skipWhitespace();
+        tokenizer.readString();
+        tokenizer.expect(',');
+        tokenizer.skipWhitespace();
+        tokenizer.readString();
+        tokenizer.expect(':');
+        tokenizer.skipWhitespace();
+        assertEquals('i', tokenizer.peek());
+        assertEquals("at line 3, column 11 (position 31)", tokenizer.positionInfo());
+    }
+
+    @Test
+    public void testUnterminatedStringAcrossRefill() {
+        JsonTokenizer tokenizer = new JsonTokenizer(new StringReader("\"unclosed string"), 2);
+        IllegalStateException e = assertThrows(IllegalStateException.class, tokenizer::readString);
+        assertTrue(e.getMessage().contains("Unexpected EOF while reading string"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.ArrayContainer;
+import com.hancomins.jsn4j.ContainerValue;
+import com.hancomins.jsn4j.ObjectContainer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyCacheTest {
+
+    private static final String RECORDS = "[{\"id\": 1, \"이름\": \"a\", \"tag\\u0041\": 1}, " +
+            "{\"id\": 2, \"이름\": \"b\", \"tag\\u0041\": 2}, " +
+            "{\"id\": 3, \"이름\": \"c\", \"tag\\u0041\": 3}]";
+
+    private static List<String> keys(ContainerValue value) {
+        List<String> keys = new ArrayList<>();
+        ArrayContainer array = value.asArray();
+        for (int i = 0; i < array.size(); i++) {
+            ObjectContainer record = array.getObject(i);
+            keys.addAll(record.keySet());
+        }
+        return keys;
+    }
+
+    private static String key(ContainerValue value, int index, String name) {
+        for (String key : value.asArray().getObject(index).keySet()) {
+            if (key.equals(name)) return key;
+        }
+        throw new AssertionError(name);
+    }
+
+    @Test
+    public void testRepeatedKeysShareInstance() {
+        SimpleJsonParser parser = new SimpleJsonParser();
+        ContainerValue fromString = parser.parse(RECORDS);
+        assertSame(key(fromString, 0, "id"), key(fromString, 2, "id"));
+        assertSame(key(fromString, 0, "이름"), key(fromString, 1, "이름"));
+
+        byte[] bytes = RECORDS.getBytes(StandardCharsets.UTF_8);
+        ContainerValue fromBytes = parser.parse(bytes, 0, bytes.length);
+        assertSame(key(fromBytes, 0, "id"), key(fromBytes, 2, "id"));
+        assertSame(key(fromBytes, 0, "이름"), key(fromBytes, 1, "이름"));
+        assertEquals(keys(fromString), keys(fromBytes));
+        // Escaped keys bypass the cache but still decode correctly
+        assertEquals("tagA", key(fromBytes, 1, "tagA"));
+    }
+
+    @Test
+    public void testHitStatistics() {
+        KeyCache cache = new KeyCache();
+        SimpleJsonParser parser = new SimpleJsonParser();
+        parser.setKeyCache(cache);
+        parser.parse(RECORDS);
+        // 2 cacheable keys per record: 2 misses, then 4 hits
+        assertEquals(2, cache.getMisses());
+        assertEquals(4, cache.getHits());
+        assertEquals(4 / 6.0, cache.getHitRate(), 1e-9);
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0.0, cache.getHitRate(), 0.0);
+        parser.parse(RECORDS);
+        assertEquals(6, cache.getHits());
+    }
+
+    @Test
+    public void testBoundedAndConfigurable() {
+        KeyCache cache = new KeyCache(3, 4);
+        assertEquals(4, cache.getCapacity());
+        SimpleJsonParser parser = new SimpleJsonParser();
+        parser.setKeyCache(cache);
+        ContainerValue value = parser.parse("[{\"longKey\": 1}, {\"longKey\": 2}]");
+        // Longer than maxKeyLength: never cached
+        assertNotSame(key(value, 0, "longKey"), key(value, 1, "longKey"));
+        assertEquals(0, cache.getHits() + cache.getMisses());
+
+        parser.setKeyCache(null);
+        assertNull(parser.getKeyCache());
+        value = parser.parse("[{\"id\": 1}, {\"id\": 2}]");
+        assertNotSame(key(value, 0, "id"), key(value, 1, "id"));
+    }
+
+    @Test
+    public void testCollidingKeysReplaceEachOther() {
+        // "Aa" and "BB" share a hash code; both must still come back intact
+        KeyCache cache = new KeyCache(1, 16);
+        SimpleJsonParser parser = new SimpleJsonParser();
+        parser.setKeyCache(cache);
+        ObjectContainer obj = parser.parse("{\"Aa\": 1, \"BB\": 2, \"Aa2\": 3}").asObject();
+        assertEquals(1, obj.getInt("Aa"));
+        assertEquals(2, obj.getInt("BB"));
+        assertEquals(3, obj.getInt("Aa2"));
+        assertEquals(3, cache.getMisses());
+    }
+}
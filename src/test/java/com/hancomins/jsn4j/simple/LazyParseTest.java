@@ -0,0 +1,134 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyParseTest {
+
+    private static final String FIXTURE = SimpleJsonParserPerformanceTest.FIXTURE;
+
+    @Test
+    public void testLazyEqualsEager() {
+        SimpleJsonParser parser = new SimpleJsonParser();
+        String json = SimpleJsonParserPerformanceTest.largeDocument(50);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ContainerValue eager = parser.parse(json);
+
+        assertTrue(ContainerValues.equals(eager, parser.parseLazy(json)));
+        assertTrue(ContainerValues.equals(eager, parser.parseLazy(bytes, 0, bytes.length)));
+        assertTrue(ContainerValues.equals(eager, parser.parseLazy(new ByteArrayInputStream(bytes))));
+        assertTrue(ContainerValues.equals(parser.parse(FIXTURE), parser.parseLazy(FIXTURE)));
+        assertEquals(parser.parse(FIXTURE).toString(), parser.parseLazy(FIXTURE).toString());
+    }
+
+    @Test
+    public void testFieldAccess() {
+        SimpleJsonParser parser = new SimpleJsonParser();
+        byte[] bytes = ("  " + FIXTURE + "  ").getBytes(StandardCharsets.UTF_8);
+        ObjectContainer object = parser.parseLazy(bytes, 2, bytes.length - 4).asObject();
+
+        assertInstanceOf(SimpleObject.class, object);
+        assertEquals(10, object.size());
+        assertEquals("한글이름", object.getString("korean"));
+        assertEquals("hello \n world", object.getString("string"));
+        assertEquals(12345, object.getInt("number"));
+        assertEquals(-12.345, object.getDouble("decimal"));
+        assertTrue(object.getBoolean("booleanTrue"));
+        assertTrue(object.get("nullValue").isNull());
+        assertTrue(object.has("escapeTest"));
+        assertFalse(object.has("missing"));
+        assertNull(object.get("missing"));
+        assertEquals("deep", object.getObject("nestedObject").getObject("level1").getObject("level2").getString("message"));
+
+        ArrayContainer array = object.getArray("array");
+        assertEquals(5, array.size());
+        assertEquals(3, array.getInt(2));
+        assertTrue(array.getObject(3).getBoolean("a"));
+        assertEquals("end", array.getArray(4).getString(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(-1));
+    }
+
+    @Test
+    public void testValuesAreDecodedOnce() {
+        ObjectContainer object = new SimpleJsonParser().parseLazy(FIXTURE).asObject();
+        assertSame(object.get("nestedObject"), object.get("nestedObject"));
+        assertSame(object.get("string"), object.get("string"));
+        assertSame(object.getArray("array").get(3), object.getArray("array").get(3));
+
+        // Changes to a child are kept, also after the parent is fully decoded
+        object.getObject("nestedObject").put("added", 1);
+        object.getArray("array").put("tail");
+        object.put("new", "value");
+        assertEquals(11, object.size());
+        assertEquals(1, object.getObject("nestedObject").getInt("added"));
+        assertEquals(6, object.getArray("array").size());
+        assertEquals("tail", object.getArray("array").getString(5));
+        assertEquals("value", object.getString("new"));
+        assertEquals("한글이름", object.getString("korean"));
+    }
+
+    @Test
+    public void testModification() {
+        SimpleJsonParser parser = new SimpleJsonParser();
+        ObjectContainer object = parser.parseLazy("{\"a\": 1, \"b\": [1, 2, 3], \"c\": {}}").asObject();
+        assertEquals(1L, object.remove("a").raw());
+        assertEquals(2, object.size());
+        assertFalse(object.has("a"));
+
+        ArrayContainer array = object.getArray("b");
+        array.remove(0);
+        array.put(0, "x");
+        assertEquals(2, array.size());
+        assertEquals("x", array.getString(0));
+        assertEquals(3, array.getInt(1));
+
+        object.clear();
+        assertEquals(0, object.size());
+        assertNull(object.get("b"));
+
+        ArrayContainer cleared = parser.parseLazy("[1, 2]").asArray();
+        cleared.clear();
+        assertEquals(0, cleared.size());
+    }
+
+    @Test
+    public void testDuplicateKeysKeepLastValue() {
+        ObjectContainer object = new SimpleJsonParser().parseLazy("{\"k\": 1, \"other\": 2, \"k\": 3}").asObject();
+        assertEquals(2, object.size());
+        assertEquals(3, object.getInt("k"));
+        assertEquals(2, object.keySet().size());
+        assertEquals(3, object.getInt("k"));
+    }
+
+    @Test
+    public void testScalarRoot() {
+        SimpleJsonParser parser = new SimpleJsonParser();
+        assertEquals("text", parser.parseLazy("\"text\"").raw());
+        assertEquals(42L, parser.parseLazy(" 42 ").raw());
+        assertEquals(true, parser.parseLazy("true").raw());
+        assertTrue(parser.parseLazy("null").isNull());
+        assertEquals(0, parser.parseLazy("{}").asObject().size());
+        assertEquals(0, parser.parseLazy("[]").asArray().size());
+    }
+
+    @Test
+    public void testErrors() {
+        SimpleJsonParser parser = new SimpleJsonParser();
+        assertThrows(IllegalStateException.class, () -> parser.parseLazy("{\"a\": 1"));
+        assertThrows(IllegalStateException.class, () -> parser.parseLazy("[1, 2}"));
+        assertThrows(IllegalStateException.class, () -> parser.parseLazy("{\"a\": 1} extra"));
+        assertThrows(IllegalStateException.class, () -> parser.parseLazy("{a: 1}"));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseLazy("[tru]"));
+
+        // Scalars are only delimited by the structural pass; a malformed one fails on access
+        ObjectContainer object = parser.parseLazy("{\"ok\": 1, \"bad\": \"\\q\"}").asObject();
+        assertEquals(1, object.getInt("ok"));
+        assertThrows(IllegalStateException.class, () -> object.get("bad"));
+    }
+}
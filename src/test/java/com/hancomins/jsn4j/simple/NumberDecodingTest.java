@@ -0,0 +1,95 @@
+package com.hancomins.jsn4j.simple;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NumberDecodingTest {
+
+    /** 세 가지 토크나이저(String / Reader / UTF-8 바이트) 모두 같은 결과를 내는지 확인합니다. */
+    private static Number read(String literal) {
+        // 뒤에 구분자를 붙여 버퍼 끝이 아닌 곳에서 숫자가 끝나는 경우도 확인
+        String text = literal + ",";
+        Number fromString = new JsonTokenizer(text).readNumber();
+        Number fromReader = new JsonTokenizer(new StringReader(text), 3).readNumber();
+        Number fromBytes = new Utf8JsonTokenizer(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), 3).readNumber();
+        assertEquals(fromString, fromReader, literal);
+        assertEquals(fromString, fromBytes, literal);
+        return fromString;
+    }
+
+    @Test
+    public void testIntegersAreLongs() {
+        assertEquals(0L, read("0"));
+        assertEquals(-0L, read("-0"));
+        assertEquals(12345L, read("12345"));
+        assertEquals(-98765L, read("-98765"));
+        assertEquals(9007199254740993L, read("9007199254740993"));
+        assertEquals(999999999999999999L, read("999999999999999999"));
+        assertEquals(Long.MAX_VALUE, read("9223372036854775807"));
+        assertEquals(Long.MIN_VALUE, read("-9223372036854775808"));
+        assertEquals(7L, read("0000000000000000000000007"));
+    }
+
+    @Test
+    public void testIntegerOverflowPromotesToBigInteger() {
+        assertEquals(new BigInteger("9223372036854775808"), read("9223372036854775808"));
+        assertEquals(new BigInteger("-9223372036854775809"), read("-9223372036854775809"));
+        assertEquals(new BigInteger("1000000000000000000000"), read("1000000000000000000000"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), read("123456789012345678901234567890"));
+    }
+
+    @Test
+    public void testDoubles() {
+        String[] literals = {
+                "0.0", "-0.0", "1.5", "-12.345", "3.141592653589793", "1e22", "1e23", "123e30",
+                "1.7976931348623157e308", "4.9e-324", "2.2250738585072014E-308", "0.1", "0.000001",
+                "1.0000000000000000000000001", "9007199254740993.0", "12345678901234567890.5",
+                "0.00000000000000000000000000000000001", "1E+2", "1e-2", "-1.5e3"
+        };
+        for (String literal : literals) {
+            Number value = read(literal);
+            assertInstanceOf(Double.class, value, literal);
+            assertEquals(Double.parseDouble(literal), value.doubleValue(), 0.0, literal);
+        }
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(read("-0.0").doubleValue()));
+    }
+
+    @Test
+    public void testRandomDoublesRoundTrip() {
+        Random random = new Random(20240607L);
+        for (int i = 0; i < 20000; i++) {
+            double expected;
+            switch (i % 3) {
+                case 0: expected = random.nextDouble(); break;
+                case 1: expected = (random.nextLong() % 100000000L) / 1000.0; break;
+                default: expected = Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL); break;
+            }
+            String literal = Double.toString(expected);
+            assertEquals(expected, read(literal).doubleValue(), 0.0, literal);
+        }
+    }
+
+    @Test
+    public void testDoubleOverflowPromotesToBigDecimal() {
+        assertEquals(new BigDecimal("1e400"), read("1e400"));
+        assertEquals(new BigDecimal("-2.5E+999"), read("-2.5E+999"));
+        // Underflow is still a double (0.0), like Double.parseDouble
+        assertEquals(0.0, read("1e-400"));
+    }
+
+    @Test
+    public void testMalformedNumbers() {
+        assertThrows(IllegalStateException.class, () -> new JsonTokenizer("-a").readNumber());
+        assertThrows(IllegalStateException.class, () -> new JsonTokenizer("1.").readNumber());
+        assertThrows(IllegalStateException.class, () -> new JsonTokenizer("1e+").readNumber());
+        assertThrows(IllegalStateException.class, () -> new Utf8JsonTokenizer("1.e".getBytes(StandardCharsets.UTF_8), 0, 3).readNumber());
+    }
+}
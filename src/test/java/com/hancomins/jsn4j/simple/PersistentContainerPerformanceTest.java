@@ -0,0 +1,83 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 템플릿 문서를 복제한 뒤 필드 몇 개를 바꾸는 작업을
+ * ContainerValues.cloneContainer 와 PersistentObject.with 로 수행하여 시간과 할당량을 비교합니다.
+ */
+public class PersistentContainerPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int SECTIONS = 200;
+    private static final int FIELDS_PER_SECTION = 50;
+    private static final int ITERATIONS = 2000;
+
+    private static SimpleObject template() {
+        SimpleObject root = new SimpleObject();
+        for (int s = 0; s < SECTIONS; s++) {
+            ObjectContainer section = root.newAndPutObject("section" + s);
+            for (int f = 0; f < FIELDS_PER_SECTION; f++) {
+                section.put("field" + f, "value-" + s + "-" + f);
+            }
+            ArrayContainer list = section.newAndPutArray("list");
+            for (int i = 0; i < 20; i++) {
+                list.put(i);
+            }
+        }
+        return root;
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    @Test
+    public void cloneAndModify() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        SimpleObject template = template();
+        PersistentObject frozen = template.freeze();
+        System.out.println("=== Clone template (" + SECTIONS * (FIELDS_PER_SECTION + 21) + " leaves) and change 3 fields ===");
+        for (int round = 0; round < 3; round++) {
+            long checksum = 0;
+            long allocated = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                ObjectContainer copy = ContainerValues.cloneContainer(template).asObject();
+                copy.getObject("section" + (i % SECTIONS)).put("field1", i);
+                copy.getObject("section7").put("field2", "changed");
+                copy.put("requestId", i);
+                checksum += copy.size();
+            }
+            long cloneNanos = System.nanoTime() - start;
+            long cloneBytes = allocatedBytes() - allocated;
+
+            allocated = allocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                String name = "section" + (i % SECTIONS);
+                PersistentObject section = (PersistentObject) frozen.get(name);
+                PersistentObject section7 = (PersistentObject) frozen.get("section7");
+                PersistentObject copy = frozen.with(name, section.with("field1", i));
+                copy = copy.with("section7", section7.with("field2", "changed")).with("requestId", i);
+                checksum += copy.size();
+            }
+            long persistentNanos = System.nanoTime() - start;
+            long persistentBytes = allocatedBytes() - allocated;
+
+            System.out.printf("cloneContainer: %8.2f us/op, %9d bytes/op | PersistentObject.with: %6.2f us/op, %6d bytes/op (%d)%n",
+                    cloneNanos / 1e3 / ITERATIONS, cloneBytes / ITERATIONS,
+                    persistentNanos / 1e3 / ITERATIONS, persistentBytes / ITERATIONS, checksum);
+            System.gc();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentContainerTest {
+
+    @Test
+    public void testWithReturnsNewVersion() {
+        PersistentObject v1 = PersistentObject.EMPTY.with("a", 1).with("b", "text");
+        PersistentObject v2 = v1.with("a", 2).with("c", true);
+
+        assertEquals(2, v1.size());
+        assertEquals(1, v1.getInt("a"));
+        assertFalse(v1.has("c"));
+        assertEquals(3, v2.size());
+        assertEquals(2, v2.getInt("a"));
+        assertTrue(v2.getBoolean("c"));
+        assertSame(v1.get("b"), v2.get("b"));
+
+        assertSame(v2, v2.with("b", v2.get("b")));
+        assertSame(v2, v2.without("missing"));
+        PersistentObject v3 = v2.without("a");
+        assertEquals(2, v3.size());
+        assertFalse(v3.has("a"));
+        assertTrue(v2.has("a"));
+        assertSame(PersistentObject.EMPTY, v3.without("b").without("c"));
+    }
+
+    @Test
+    public void testMatchesHashMapUnderRandomChanges() {
+        Random random = new Random(7);
+        Map<String, Long> expected = new HashMap<>();
+        PersistentObject object = PersistentObject.EMPTY;
+        for (int i = 0; i < 20000; i++) {
+            String key = "k" + random.nextInt(3000);
+            if (random.nextInt(4) == 0) {
+                expected.remove(key);
+                object = object.without(key);
+            } else {
+                long value = random.nextLong();
+                expected.put(key, value);
+                object = object.with(key, value);
+            }
+        }
+        assertEquals(expected.size(), object.size());
+        for (Map.Entry<String, Long> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().longValue(), object.getLong(entry.getKey()));
+        }
+        Set<String> iterated = new HashSet<>();
+        for (Map.Entry<String, ContainerValue> entry : object) {
+            assertTrue(iterated.add(entry.getKey()));
+        }
+        assertEquals(expected.keySet(), iterated);
+        assertEquals(expected.keySet(), object.keySet());
+    }
+
+    @Test
+    public void testHashCollisions() {
+        // "Aa" 와 "BB" 는 String.hashCode 가 같습니다.
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        PersistentObject object = PersistentObject.EMPTY.with("Aa", 1).with("BB", 2).with("AaAa", 3).with("BBBB", 4).with(null, 5);
+        assertEquals(5, object.size());
+        assertEquals(1, object.getInt("Aa"));
+        assertEquals(2, object.getInt("BB"));
+        assertEquals(5, object.getInt(null));
+
+        PersistentObject removed = object.without("Aa");
+        assertFalse(removed.has("Aa"));
+        assertEquals(2, removed.getInt("BB"));
+        assertEquals(4, removed.size());
+        assertEquals(0, removed.without("BB").without("AaAa").without("BBBB").without(null).size());
+    }
+
+    @Test
+    public void testArrayWithAndPlus() {
+        PersistentArray array = PersistentArray.EMPTY;
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40000; i++) {
+            array = array.plus(i);
+            expected.add(i);
+        }
+        assertEquals(expected.size(), array.size());
+        PersistentArray updated = array;
+        for (int index : new int[] {0, 31, 32, 1023, 1024, 32767, 39999}) {
+            updated = updated.with(index, -index);
+        }
+        for (int i = 0; i < array.size(); i++) {
+            assertEquals(i, array.getInt(i));
+        }
+        assertEquals(-1024, updated.getInt(1024));
+        assertEquals(-39999, updated.getInt(39999));
+        assertEquals(33, updated.getInt(33));
+
+        int i = 0;
+        for (ContainerValue value : array) {
+            assertEquals(expected.get(i++).intValue(), ((PrimitiveValue) value).asInt());
+        }
+        assertEquals(40000, i);
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentArray.EMPTY.with(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentArray.EMPTY.get(0));
+    }
+
+    @Test
+    public void testArrayFreezeMatchesAppend() {
+        for (int size : new int[] {0, 1, 32, 33, 64, 1056, 1057, 33000}) {
+            SimpleArray source = new SimpleArray();
+            PersistentArray appended = PersistentArray.EMPTY;
+            for (int i = 0; i < size; i++) {
+                source.put((long) i);
+                appended = appended.plus((long) i);
+            }
+            PersistentArray frozen = source.freeze();
+            assertEquals(size, frozen.size());
+            assertEquals(appended, frozen);
+            // 동결한 배열에 이어서 추가해도 같은 결과여야 합니다.
+            assertEquals(appended.plus("x").plus("y"), frozen.plus("x").plus("y"));
+            if (size > 0) {
+                assertEquals(size - 1L, frozen.getLong(size - 1));
+                assertEquals(size - 1, frozen.without(0).size());
+            }
+        }
+    }
+
+    @Test
+    public void testFreezeAndThaw() {
+        SimpleObject source = (SimpleObject) new SimpleJsonParser().parse(
+                "{\"name\":\"template\",\"limits\":{\"cpu\":2,\"tags\":[\"a\",\"b\"]},\"ids\":[1,2,3]}").asObject();
+        PersistentObject frozen = source.freeze();
+        assertInstanceOf(PersistentObject.class, frozen.get("limits"));
+        assertInstanceOf(PersistentArray.class, frozen.getObject("limits").get("tags"));
+        assertEquals(source, frozen);
+        assertEquals(frozen, source);
+
+        // 원본을 바꿔도 동결된 사본은 바뀌지 않습니다.
+        source.getObject("limits").put("cpu", 8);
+        assertEquals(2, frozen.getObject("limits").getInt("cpu"));
+
+        PersistentObject limits = (PersistentObject) frozen.get("limits");
+        PersistentObject derived = frozen.with("limits", limits.with("cpu", 4L));
+        assertEquals(4, derived.getObject("limits").getInt("cpu"));
+        assertSame(frozen.get("ids"), derived.get("ids"));
+        assertSame(limits.get("tags"), derived.getObject("limits").get("tags"));
+
+        SimpleObject thawed = derived.thaw();
+        assertInstanceOf(SimpleObject.class, thawed.get("limits"));
+        assertInstanceOf(SimpleArray.class, thawed.getObject("limits").get("tags"));
+        thawed.getObject("limits").put("cpu", 16);
+        assertEquals(4, derived.getObject("limits").getInt("cpu"));
+        assertEquals(derived, new SimpleJsonParser().parse(derived.toString()));
+    }
+
+    @Test
+    public void testMutatorsThrow() {
+        PersistentObject object = PersistentObject.EMPTY.with("a", new SimpleArray().put(1));
+        assertThrows(UnsupportedOperationException.class, () -> object.put("b", 1));
+        assertThrows(UnsupportedOperationException.class, () -> object.remove("a"));
+        assertThrows(UnsupportedOperationException.class, object::clear);
+        assertThrows(UnsupportedOperationException.class, () -> object.newAndPutObject("c"));
+        assertThrows(UnsupportedOperationException.class, () -> object.getArray("a").put(2));
+        assertThrows(UnsupportedOperationException.class, () -> object.keySet().remove("a"));
+        Iterator<Map.Entry<String, ContainerValue>> iterator = object.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+}
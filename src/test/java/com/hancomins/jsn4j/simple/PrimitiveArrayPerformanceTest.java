@@ -0,0 +1,92 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 숫자 배열을 SimpleArray 와 LongArray / DoubleArray 로 파싱했을 때의 힙 사용량과
+ * 파싱, 전체 요소 합산 시간을 비교합니다.
+ */
+public class PrimitiveArrayPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int ELEMENT_COUNT = 1000000;
+    private static final int ROUNDS = 5;
+
+    private static String longJson() {
+        StringBuilder builder = new StringBuilder(ELEMENT_COUNT * 9);
+        builder.append('[');
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            if (i > 0) builder.append(',');
+            builder.append(1000000L + i * 7L);
+        }
+        return builder.append(']').toString();
+    }
+
+    private static String doubleJson() {
+        StringBuilder builder = new StringBuilder(ELEMENT_COUNT * 10);
+        builder.append('[');
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            if (i > 0) builder.append(',');
+            builder.append(i * 0.25 + 0.5);
+        }
+        return builder.append(']').toString();
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static SimpleJsonParser parser(boolean primitiveArrays) {
+        SimpleJsonParser parser = new SimpleJsonParser();
+        parser.setPrimitiveArrays(primitiveArrays);
+        return parser;
+    }
+
+    private static void run(String label, String json) {
+        for (boolean primitiveArrays : new boolean[] {false, true}) {
+            SimpleJsonParser parser = parser(primitiveArrays);
+            ArrayContainer array = null;
+            long parseNanos = Long.MAX_VALUE;
+            long before = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                array = null;
+                before = usedMemory();
+                long start = System.nanoTime();
+                array = parser.parse(json).asArray();
+                parseNanos = Math.min(parseNanos, System.nanoTime() - start);
+            }
+            long heap = usedMemory() - before;
+
+            long sumNanos = Long.MAX_VALUE;
+            double sum = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                sum = 0;
+                for (int i = 0, size = array.size(); i < size; i++) {
+                    sum += array.getDouble(i);
+                }
+                sumNanos = Math.min(sumNanos, System.nanoTime() - start);
+            }
+            System.out.printf("%-7s %-12s heap: %6.1f bytes/element, parse: %7.2f ms, sum: %6.2f ms (%.0f)%n",
+                    label, array.getClass().getSimpleName(), heap / (double) ELEMENT_COUNT,
+                    parseNanos / 1e6, sumNanos / 1e6, sum);
+        }
+    }
+
+    @Test
+    public void numericArrays() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        System.out.println("=== Numeric Array: SimpleArray vs primitive-backed (" + ELEMENT_COUNT + " elements) ===");
+        run("long", longJson());
+        run("double", doubleJson());
+    }
+}
@@ -0,0 +1,170 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveArrayTest {
+
+    private static ContainerValue parse(String json) {
+        return new SimpleJsonParser().parse(json);
+    }
+
+    @Test
+    public void testParserBuildsPrimitiveArrays() {
+        ContainerValue longs = parse("[1, -2, 3000000000]");
+        assertInstanceOf(LongArray.class, longs);
+        assertEquals(3000000000L, ((ArrayContainer) longs).getLong(2));
+        assertEquals(-2L, ((ArrayContainer) longs).get(1).raw());
+
+        ContainerValue doubles = parse("[0.5,1e3 , -2.25]");
+        assertInstanceOf(DoubleArray.class, doubles);
+        assertArrayEquals(new double[] {0.5, 1000.0, -2.25}, ((DoubleArray) doubles).toDoubleArray());
+
+        ContainerValue booleans = parse("[true,false,true]");
+        assertInstanceOf(BooleanArray.class, booleans);
+        assertSame(PrimitiveValue.FALSE, ((ArrayContainer) booleans).get(1));
+    }
+
+    @Test
+    public void testParserReturnsSimpleArrayForMixedArrays() {
+        assertInstanceOf(SimpleArray.class, parse("[1, 2.5]"));
+        assertInstanceOf(SimpleArray.class, parse("[1, null]"));
+        assertInstanceOf(SimpleArray.class, parse("[true, \"x\"]"));
+        assertInstanceOf(SimpleArray.class, parse("[\"x\", 1]"));
+        assertInstanceOf(SimpleArray.class, parse("[]"));
+
+        ArrayContainer mixed = parse("[1, 2, {\"a\": [3, 4]}, 5]").asArray();
+        assertEquals(4, mixed.size());
+        assertEquals(2L, mixed.get(1).raw());
+        assertInstanceOf(LongArray.class, mixed.getObject(2).get("a"));
+        assertEquals(5L, mixed.getLong(3));
+    }
+
+    @Test
+    public void testParsedArraysMatchGenericArrays() {
+        String json = "{\"ids\":[1,2,3],\"scores\":[0.5,1.5],\"flags\":[true,false],\"mixed\":[1,\"a\",true]}";
+        SimpleJsonParser generic = new SimpleJsonParser();
+        generic.setPrimitiveArrays(false);
+        ContainerValue expected = generic.parse(json);
+        ContainerValue actual = new SimpleJsonParser().parse(json);
+
+        assertInstanceOf(SimpleArray.class, expected.asObject().get("ids"));
+        assertEquals(expected, actual);
+        assertEquals(expected.asObject().get("ids").toString(), actual.asObject().get("ids").toString());
+        assertEquals("[0.5,1.5]", actual.asObject().get("scores").toString());
+    }
+
+    @Test
+    public void testInvalidArraysStillFail() {
+        assertThrows(RuntimeException.class, () -> parse("[1, 2"));
+        assertThrows(RuntimeException.class, () -> parse("[1 2]"));
+        assertThrows(RuntimeException.class, () -> parse("[tru]"));
+        assertThrows(RuntimeException.class, () -> parse("[1, tru]"));
+    }
+
+    @Test
+    public void testFallsBackOnDifferentType() {
+        LongArray array = new LongArray();
+        array.put(1L).put(2L);
+        assertTrue(array.isPrimitiveBacked());
+
+        array.put("three");
+        assertFalse(array.isPrimitiveBacked());
+        assertEquals(3, array.size());
+        assertEquals(2L, array.getLong(1));
+        assertEquals("three", array.getString(2));
+
+        array.put(4L);
+        assertEquals(4L, array.get(3).raw());
+        assertEquals("[1,2,\"three\",4]", array.toString());
+
+        array.clear();
+        assertTrue(array.isPrimitiveBacked());
+        assertEquals(0, array.size());
+    }
+
+    @Test
+    public void testIntegerAndFloatDoNotStayPrimitive() {
+        // raw() 의 타입이 바뀌지 않도록 Long, Double 이 아닌 숫자는 generic 표현으로 전환합니다.
+        LongArray longs = new LongArray();
+        longs.put(1);
+        assertFalse(longs.isPrimitiveBacked());
+        assertEquals(Integer.class, longs.get(0).raw().getClass());
+
+        DoubleArray doubles = new DoubleArray();
+        doubles.put(1.5).put(2.5f);
+        assertFalse(doubles.isPrimitiveBacked());
+        assertEquals(Double.class, doubles.get(0).raw().getClass());
+        assertEquals(Float.class, doubles.get(1).raw().getClass());
+    }
+
+    @Test
+    public void testIndexedPutAndRemove() {
+        DoubleArray array = new DoubleArray(new double[] {1.0, 2.0, 3.0});
+        array.put(1, 20.0);
+        array.put(3, 4.0);
+        assertArrayEquals(new double[] {1.0, 20.0, 3.0, 4.0}, array.toDoubleArray());
+
+        assertEquals(20.0, array.remove(1).raw());
+        assertNull(array.remove(10));
+        assertArrayEquals(new double[] {1.0, 3.0, 4.0}, array.toDoubleArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> array.getDouble(3));
+
+        // 끝을 건너뛰는 put 은 SimpleArray 와 같이 null 로 채웁니다.
+        array.put(5, 6.0);
+        assertFalse(array.isPrimitiveBacked());
+        assertEquals(6, array.size());
+        assertNull(array.get(3));
+        assertEquals(6.0, array.getDouble(5));
+    }
+
+    @Test
+    public void testInsertShiftsElements() {
+        LongArray longs = new LongArray(new long[] {1, 2, 3});
+        int hash = longs.hashCode();
+        longs.insert(1, 10L).insert(4, 40L).insert(0, 0L);
+        assertTrue(longs.isPrimitiveBacked());
+        assertArrayEquals(new long[] {0, 1, 10, 2, 3, 40}, longs.toLongArray());
+        assertNotEquals(hash, longs.hashCode());
+        assertEquals(new SimpleArray("[0,1,10,2,3,40]").hashCode(), longs.hashCode());
+        assertThrows(IndexOutOfBoundsException.class, () -> longs.insert(7, 1L));
+        assertThrows(IndexOutOfBoundsException.class, () -> longs.insert(-1, 1L));
+        assertTrue(longs.isPrimitiveBacked());
+
+        BooleanArray booleans = new BooleanArray(new boolean[] {true, true});
+        booleans.insert(1, false);
+        assertArrayEquals(new boolean[] {true, false, true}, booleans.toBooleanArray());
+
+        // 다른 타입을 끼워 넣으면 SimpleArray 로 전환한 뒤 끼워 넣습니다.
+        DoubleArray doubles = new DoubleArray(new double[] {1.5, 2.5});
+        doubles.insert(1, "x").insert(0, 0.5);
+        assertFalse(doubles.isPrimitiveBacked());
+        assertEquals("[0.5,1.5,\"x\",2.5]", doubles.toString());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        BooleanArray array = new BooleanArray(new boolean[] {true, false, true, false});
+        Iterator<ContainerValue> iterator = array.iterator();
+        while (iterator.hasNext()) {
+            if (!((PrimitiveValue) iterator.next()).asBoolean()) {
+                iterator.remove();
+            }
+        }
+        assertArrayEquals(new boolean[] {true, true}, array.toBooleanArray());
+        assertTrue(array.getBoolean(1));
+    }
+
+    @Test
+    public void testNewAndPutFallsBack() {
+        LongArray array = new LongArray(new long[] {7});
+        array.newAndPutObject().put("k", "v");
+        assertFalse(array.isPrimitiveBacked());
+        assertEquals(7L, array.getLong(0));
+        assertEquals("v", array.getObject(1).getString("k"));
+    }
+}
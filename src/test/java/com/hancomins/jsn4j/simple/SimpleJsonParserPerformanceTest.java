@@ -0,0 +1,213 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SimpleJsonParser 처리량 측정.
+ * 기존 테스트 픽스처(SimpleJsonParserTest의 복합 JSON)와 이를 반복한 대용량 문서를
+ * String / Reader / InputStream / byte[] 경로로 파싱하여 MB/s 를 출력합니다.
+ */
+public class SimpleJsonParserPerformanceTest {
+
+    private static final boolean ENABLE_PERFORMANCE_TEST = false; // 성능 테스트 활성화 여부
+
+    private static final int ITERATIONS = 20;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int RECORD_COUNT = 20000;
+
+    static final String FIXTURE = "{\n" +
+            "  \"string\": \"hello \\n world\",\n" +
+            "  \"number\": 12345,\n" +
+            "  \"decimal\": -12.345,\n" +
+            "  \"booleanTrue\": true,\n" +
+            "  \"booleanFalse\": false,\n" +
+            "  \"nullValue\": null,\n" +
+            "  \"nestedObject\": {\n" +
+            "    \"level1\": {\n" +
+            "      \"level2\": {\n" +
+            "        \"message\": \"deep\"\n" +
+            "      }\n" +
+            "    }\n" +
+            "  },\n" +
+            "  \"array\": [1, 2, 3, {\"a\": true}, [null, \"end\"]],\n" +
+            "  \"escapeTest\": \"\\\"\\\\/\\b\\f\\n\\r\\t\",\n" +
+            "  \"korean\": \"한글이름\"\n" +
+            "}";
+
+    static String largeDocument(int records) {
+        StringBuilder sb = new StringBuilder(records * FIXTURE.length() + 16);
+        sb.append('[');
+        for (int i = 0; i < records; i++) {
+            if (i > 0) sb.append(",\n");
+            sb.append(FIXTURE);
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * 숫자 위주의 텔레메트리 레코드 배열
+     */
+    static String telemetryDocument(int records) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(records * 220);
+        sb.append('[');
+        for (int i = 0; i < records; i++) {
+            if (i > 0) sb.append(",\n");
+            sb.append("{\"ts\": ").append(1718000000000L + i * 1000L)
+                    .append(", \"cpu\": ").append(Math.round(random.nextDouble() * 10000) / 100.0)
+                    .append(", \"mem\": ").append(random.nextDouble())
+                    .append(", \"temp\": ").append(-40 + random.nextInt(1000) / 10.0).append("e0")
+                    .append(", \"lat\": ").append(37.0 + random.nextDouble())
+                    .append(", \"lon\": ").append(126.0 + random.nextDouble())
+                    .append(", \"counters\": [");
+            for (int j = 0; j < 8; j++) {
+                if (j > 0) sb.append(", ");
+                sb.append(random.nextInt(100000));
+            }
+            sb.append("]}");
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    @Test
+    public void parseThroughput() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        SimpleJsonParser parser = new SimpleJsonParser();
+        String json = largeDocument(RECORD_COUNT);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        double megaBytes = bytes.length / 1024.0 / 1024.0;
+
+        System.out.println("=== SimpleJsonParser Throughput ===");
+        System.out.printf("Document: %d records, %.2f MB%n", RECORD_COUNT, megaBytes);
+
+        measure("parse(String)", () -> parser.parse(json), megaBytes);
+        measure("parse(Reader)", () -> parser.parse(new StringReader(json)), megaBytes);
+        measure("parse(InputStream)", () -> parser.parse(new ByteArrayInputStream(bytes)), megaBytes);
+        measure("parse(byte[])", () -> parser.parse(bytes, 0, bytes.length), megaBytes);
+    }
+
+    @Test
+    public void numericThroughput() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        SimpleJsonParser parser = new SimpleJsonParser();
+        String json = telemetryDocument(RECORD_COUNT);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        double megaBytes = bytes.length / 1024.0 / 1024.0;
+
+        System.out.println("=== SimpleJsonParser Numeric Throughput ===");
+        System.out.printf("Document: %d telemetry records, %.2f MB%n", RECORD_COUNT, megaBytes);
+
+        measure("parse(String)", () -> parser.parse(json), megaBytes);
+        measure("parse(byte[])", () -> parser.parse(bytes, 0, bytes.length), megaBytes);
+    }
+
+    /**
+     * 필드가 많은 레코드의 배열
+     */
+    static String wideDocument(int records, int fields) {
+        StringBuilder sb = new StringBuilder(records * fields * 24);
+        sb.append('[');
+        for (int i = 0; i < records; i++) {
+            if (i > 0) sb.append(",\n");
+            sb.append('{');
+            for (int f = 0; f < fields; f++) {
+                if (f > 0) sb.append(", ");
+                sb.append("\"field").append(f).append("\": ");
+                switch (f % 4) {
+                    case 0: sb.append(i * 31L + f); break;
+                    case 1: sb.append("\"value ").append(f).append('"'); break;
+                    case 2: sb.append("{\"x\": ").append(f).append(", \"y\": [1, 2]}"); break;
+                    default: sb.append(f * 0.5);
+                }
+            }
+            sb.append('}');
+        }
+        sb.append(']');
+        return sb.toString();
+    }
+
+    @Test
+    public void lazyFieldAccess() {
+        if(!ENABLE_PERFORMANCE_TEST) {
+            System.out.println("Performance test is disabled. Set ENABLE_PERFORMANCE_TEST to true to run.");
+            return;
+        }
+        SimpleJsonParser parser = new SimpleJsonParser();
+        String json = wideDocument(RECORD_COUNT / 4, 200);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        double megaBytes = bytes.length / 1024.0 / 1024.0;
+        String[] wanted = {"field0", "field1", "field42", "field100", "field199"};
+
+        System.out.println("=== SimpleJsonParser Lazy Field Access (5 of 200 fields) ===");
+        System.out.printf("Document: %d records, %.2f MB%n", RECORD_COUNT / 4, megaBytes);
+
+        Supplier<Long> eager = () -> readFields(parser.parse(bytes, 0, bytes.length), wanted);
+        Supplier<Long> lazy = () -> readFields(parser.parseLazy(bytes, 0, bytes.length), wanted);
+        assertEquals(eager.get(), lazy.get());
+        measureAccess("parse + get", eager, megaBytes);
+        measureAccess("parseLazy + get", lazy, megaBytes);
+    }
+
+    private static long readFields(ContainerValue value, String[] wanted) {
+        ArrayContainer array = value.asArray();
+        long checksum = 0;
+        for (int i = 0, n = array.size(); i < n; i++) {
+            ObjectContainer record = array.getObject(i);
+            for (String key : wanted) {
+                checksum += record.getString(key).length();
+            }
+        }
+        return checksum;
+    }
+
+    private static void measureAccess(String name, Supplier<Long> access, double megaBytes) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            access.get();
+        }
+        System.gc();
+        long totalNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            access.get();
+            totalNanos += System.nanoTime() - start;
+        }
+        printResult(name, totalNanos, megaBytes);
+    }
+
+    private static void measure(String name, Supplier<ContainerValue> parse, double megaBytes) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            parse.get();
+        }
+        System.gc();
+        long totalNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            ContainerValue value = parse.get();
+            totalNanos += System.nanoTime() - start;
+            assertEquals(RECORD_COUNT, value.asArray().size());
+        }
+        printResult(name, totalNanos, megaBytes);
+    }
+
+    private static void printResult(String name, long totalNanos, double megaBytes) {
+        double avgMs = totalNanos / 1_000_000.0 / ITERATIONS;
+        System.out.printf("%-20s avg %8.2f ms  (%7.2f MB/s)%n", name, avgMs, megaBytes / (avgMs / 1000.0));
+    }
+}
@@ -64,4 +64,32 @@ public class SimpleJsonWriterTest {
         String output = new String(baos.toByteArray(), "UTF-8");
         assertEquals("{\"x\":123}", output);
     }
+
+    @Test
+    public void testWriteToStreamMatchesWrite() throws IOException {
+        ObjectContainer obj = new SimpleObject();
+        obj.put("name", "한글 \uD83D\uDE00 \"quoted\"");
+        ArrayContainer items = new SimpleArray();
+        for (int i = 0; i < 2000; i++) {
+            items.put(new SimpleObject().put("id", i).put("text", "value-" + i + "-é"));
+        }
+        obj.put("items", items);
+
+        SimpleJsonWriter writer = new SimpleJsonWriter(obj);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writer.write(baos);
+        assertEquals(writer.write(), new String(baos.toByteArray(), "UTF-8"));
+
+        writer.putOption(SimpleJsonWriteOption.PRETTY_PRINT, true);
+        baos.reset();
+        writer.write(baos);
+        assertEquals(writer.write(), new String(baos.toByteArray(), "UTF-8"));
+    }
+
+    @Test
+    public void testEscapesControlCharacters() {
+        ObjectContainer obj = new SimpleObject();
+        obj.put("k\"ey", "tab\tnew\nline\u0001 \\ / 한글");
+        assertEquals("{\"k\\\"ey\":\"tab\\tnew\\nline\\u0001 \\\\ / 한글\"}", new SimpleJsonWriter(obj).write());
+    }
 }
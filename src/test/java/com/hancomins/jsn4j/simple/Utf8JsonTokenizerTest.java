@@ -0,0 +1,103 @@
+package com.hancomins.jsn4j.simple;
+
+import com.hancomins.jsn4j.ContainerValue;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Utf8JsonTokenizerTest {
+
+    private static Utf8JsonTokenizer tokenizer(String json, int bufferSize) {
+        return new Utf8JsonTokenizer(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), bufferSize);
+    }
+
+    @Test
+    public void testMultiByteCharactersAcrossBufferBoundaries() {
+        // 버퍼 크기를 1~5 로 바꿔가며 멀티바이트 문자가 refill 경계에 걸치는 모든 경우를 확인합니다.
+        String json = "{\"한글키\": \"값 ✓ 𝄞 \\\"escaped\\\" 끝\", \"ascii\": \"plain\", \"n\": -1.5e3}";
+        for (int bufferSize = 1; bufferSize <= 5; bufferSize++) {
+            Utf8JsonTokenizer tokenizer = tokenizer(json, bufferSize);
+            tokenizer.expect('{');
+            assertEquals("한글키", tokenizer.readString());
+            tokenizer.skipWhitespace();
+            tokenizer.expect(':');
+            tokenizer.skipWhitespace();
+            assertEquals("값 ✓ 𝄞 \"escaped\" 끝", tokenizer.readString());
+            tokenizer.expect(',');
+            tokenizer.skipWhitespace();
+            assertEquals("ascii", tokenizer.readString());
+            tokenizer.expect(':');
+            tokenizer.skipWhitespace();
+            assertEquals("plain", tokenizer.readString());
+            tokenizer.expect(',');
+            tokenizer.skipWhitespace();
+            assertEquals("n", tokenizer.readString());
+            tokenizer.expect(':');
+            tokenizer.skipWhitespace();
+            assertEquals(-1.5e3, tokenizer.readNumber().doubleValue(), 0.0);
+            tokenizer.expect('}');
+            assertTrue(tokenizer.isEOF());
+        }
+    }
+
+    @Test
+    public void testSameTreeAsCharTokenizer() {
+        String json = SimpleJsonParserPerformanceTest.largeDocument(50);
+        SimpleJsonParser parser = new SimpleJsonParser();
+        ContainerValue expected = parser.parse(json);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, parser.parse(new ByteArrayInputStream(bytes)));
+        assertEquals(expected, parser.parse(bytes, 0, bytes.length));
+    }
+
+    @Test
+    public void testUnicodeWhitespaceIsSkipped() {
+        // U+3000 (ideographic space) 는 Character.isWhitespace 기준 공백입니다.
+        Utf8JsonTokenizer tokenizer = tokenizer("　　[1]", 2);
+        tokenizer.skipWhitespace();
+        assertEquals('[', tokenizer.peek());
+    }
+
+    @Test
+    public void testPositionInfoCountsBytes() {
+        String json = "{\n  \"이름\": \"값\",\n  \"key2\": invalid\n}";
+        Utf8JsonTokenizer tokenizer = tokenizer(json, 4);
+        tokenizer.expect('{');
+        tokenizer.skipWhitespace();
+        tokenizer.readString();
+        tokenizer.expect(':');
+        tokenizer.skipWhitespace();
+        tokenizer.readString();
+        tokenizer.expect(',');
+        tokenizer.skipWhitespace();
+        tokenizer.readString();
+        tokenizer.expect(':');
+        tokenizer.skipWhitespace();
+        assertEquals('i', tokenizer.peek());
+        assertEquals("at line 3, column 11 (position 31)", tokenizer.positionInfo());
+    }
+
+    @Test
+    public void testSliceOfLargerArray() {
+        byte[] bytes = "xx[true, \"é\"]yy".getBytes(StandardCharsets.UTF_8);
+        Utf8JsonTokenizer tokenizer = new Utf8JsonTokenizer(bytes, 2, bytes.length - 4);
+        tokenizer.expect('[');
+        assertTrue(tokenizer.matchLiteral("true"));
+        tokenizer.expect(',');
+        tokenizer.skipWhitespace();
+        assertEquals("é", tokenizer.readString());
+        tokenizer.expect(']');
+        assertTrue(tokenizer.isEOF());
+        assertEquals("at line 1, column 13 (position 12)", tokenizer.positionInfo());
+    }
+
+    @Test
+    public void testUnterminatedString() {
+        Utf8JsonTokenizer tokenizer = tokenizer("\"한글 unclosed", 2);
+        IllegalStateException e = assertThrows(IllegalStateException.class, tokenizer::readString);
+        assertTrue(e.getMessage().contains("Unexpected EOF while reading string"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.hancomins.jsn4j.tool;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonStringEscaperTest {
+
+    private static String escape(String value, boolean escapeSlash) {
+        StringBuilder sb = new StringBuilder();
+        JsonStringEscaper.appendEscaped(sb, value, escapeSlash);
+        return sb.toString();
+    }
+
+    @Test
+    public void testNamedAndControlEscapes() {
+        assertEquals("a\\\"b\\\\c\\b\\f\\n\\r\\t\\u0001\\u001f/", escape("a\"b\\c\b\f\n\r\t\u0001\u001f/", false));
+        assertEquals("http:\\/\\/x", escape("http://x", true));
+        assertEquals("한글 😀 \u007f", escape("한글 😀 \u007f", true));
+    }
+
+    @Test
+    public void testRunsAreCopiedAroundEscapes() {
+        assertEquals("\\nstart middle\\tend\\n", escape("\nstart middle\tend\n", false));
+        assertEquals("", escape("", false));
+        assertEquals("\\\"", escape("\"", false));
+    }
+
+    @Test
+    public void testIndexOfEscape() {
+        assertEquals(-1, JsonStringEscaper.indexOfEscape("plain-key_1", true));
+        assertEquals(-1, JsonStringEscaper.indexOfEscape("a/b", false));
+        assertEquals(1, JsonStringEscaper.indexOfEscape("a/b", true));
+        assertEquals(3, JsonStringEscaper.indexOfEscape("abc\n", false));
+    }
+
+    @Test
+    public void testAppendableMatchesStringBuilder() throws IOException {
+        String value = "line1\nline2 \"quoted\" \\ / \u0000";
+        StringWriter writer = new StringWriter();
+        JsonStringEscaper.appendEscaped(writer, value, true);
+        assertEquals(escape(value, true), writer.toString());
+    }
+
+    @Test
+    public void testKeyCacheDoesNotLeakAcrossSlashRules() {
+        String key = "path/to";
+        StringBuilder sb = new StringBuilder();
+        JsonStringEscaper.appendEscapedKey(sb, key, false);
+        JsonStringEscaper.appendEscapedKey(sb, key, true);
+        assertEquals("path/topath\\/to", sb.toString());
+
+        String safe = "timestamp";
+        sb.setLength(0);
+        JsonStringEscaper.appendEscapedKey(sb, safe, true);
+        JsonStringEscaper.appendEscapedKey(sb, safe, true);
+        JsonStringEscaper.appendEscapedKey(sb, "tab\tkey", true);
+        assertEquals("timestamptimestamptab\\tkey", sb.toString());
+    }
+}
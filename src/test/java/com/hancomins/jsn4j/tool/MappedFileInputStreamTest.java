@@ -0,0 +1,83 @@
+package com.hancomins.jsn4j.tool;
+
+import com.hancomins.jsn4j.ContainerValue;
+import com.hancomins.jsn4j.simple.SimpleJsonContainerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedFileInputStreamTest {
+
+    private static Path write(Path dir, String content) throws IOException {
+        Path file = dir.resolve("data.json");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void testReadAcrossChunks(@TempDir Path tempDir) throws IOException {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\": ").append(i).append(", \"name\": \"이름").append(i).append("\"}");
+        }
+        sb.append(']');
+        String json = sb.toString();
+        Path file = write(tempDir, json);
+
+        // 작은 구간으로 매핑해 멀티바이트 문자와 토큰이 구간 경계에 걸치도록 합니다.
+        try (MappedFileInputStream input = new MappedFileInputStream(FileChannel.open(file, StandardOpenOption.READ), 7)) {
+            ContainerValue value = SimpleJsonContainerFactory.getInstance().getParser().parse(input);
+            assertEquals(500, value.asArray().size());
+            assertEquals("이름499", value.asArray().getObject(499).getString("name"));
+        }
+
+        try (MappedFileInputStream input = new MappedFileInputStream(FileChannel.open(file, StandardOpenOption.READ), 64)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] block = new byte[100];
+            int read;
+            while ((read = input.read(block, 0, block.length)) > 0) {
+                out.write(block, 0, read);
+            }
+            assertEquals(json, new String(out.toByteArray(), StandardCharsets.UTF_8));
+            assertEquals(-1, input.read());
+            assertEquals(0, input.available());
+        }
+    }
+
+    @Test
+    public void testSkipAndPosition(@TempDir Path tempDir) throws IOException {
+        Path file = write(tempDir, "0123456789abcdefghij");
+        try (MappedFileInputStream input = new MappedFileInputStream(FileChannel.open(file, StandardOpenOption.READ), 4)) {
+            assertEquals('0', input.read());
+            assertEquals(2, input.skip(2));
+            assertEquals('3', input.read());
+            assertEquals(4, input.position());
+            // 아직 매핑하지 않은 구간으로 건너뜀
+            assertEquals(10, input.skip(10));
+            assertEquals('e', input.read());
+            assertEquals(5, input.available());
+            assertEquals(5, input.skip(100));
+            assertEquals(-1, input.read());
+        }
+    }
+
+    @Test
+    public void testInvalidArguments(@TempDir Path tempDir) throws IOException {
+        Path file = write(tempDir, "{}");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(IllegalArgumentException.class, () -> new MappedFileInputStream(channel, 0));
+            assertThrows(IllegalArgumentException.class, () -> new MappedFileInputStream(channel, Integer.MAX_VALUE + 1L));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileInputStream(null));
+    }
+}
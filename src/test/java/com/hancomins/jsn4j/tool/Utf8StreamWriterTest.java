@@ -0,0 +1,87 @@
+package com.hancomins.jsn4j.tool;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Utf8StreamWriterTest {
+
+    private static final String MIXED = "ascii 한글 é € 😀 end";
+
+    @Test
+    public void testMatchesStringGetBytes() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8StreamWriter writer = new Utf8StreamWriter(out);
+        writer.write(MIXED);
+        writer.finish();
+        assertArrayEquals(MIXED.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void testSmallBufferFlushesInChunks() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append(MIXED).append(i);
+        }
+        String text = sb.toString();
+
+        int[] maxWrite = new int[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                maxWrite[0] = Math.max(maxWrite[0], len);
+                super.write(b, off, len);
+            }
+        };
+        Utf8StreamWriter writer = new Utf8StreamWriter(out, 16);
+        writer.write(text);
+        writer.finish();
+
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        assertTrue(maxWrite[0] <= 16);
+    }
+
+    @Test
+    public void testSurrogatePairSplitAcrossCalls() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8StreamWriter writer = new Utf8StreamWriter(out);
+        writer.append('[').append('\uD83D');
+        writer.flushBuffer();
+        writer.append('\uDE00').append(']');
+        writer.finish();
+        assertEquals("[😀]", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testUnpairedSurrogate() throws IOException {
+        String text = "a\uD83Db\uDE00c\uD83D";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8StreamWriter writer = new Utf8StreamWriter(out);
+        writer.write(text.toCharArray(), 0, text.length());
+        writer.finish();
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void testFinishDoesNotCloseStream() throws IOException {
+        boolean[] closed = new boolean[1];
+        OutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        Utf8StreamWriter writer = new Utf8StreamWriter(out);
+        writer.write("x");
+        writer.finish();
+        assertFalse(closed[0]);
+        writer.close();
+        assertTrue(closed[0]);
+    }
+}